@@ -21,6 +21,7 @@ import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.logging.formatters.HttpAccessLogFormatter;
 import org.ballerinalang.logging.formatters.HttpTraceLogFormatter;
 import org.ballerinalang.logging.formatters.JsonLogFormatter;
+import org.ballerinalang.logging.handlers.AsyncLogHandler;
 import org.ballerinalang.logging.util.BLogLevel;
 import org.ballerinalang.logging.util.BLogLevelMapper;
 
@@ -35,6 +36,7 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
@@ -42,8 +44,12 @@ import java.util.logging.SocketHandler;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import static org.ballerinalang.logging.util.Constants.ASYNC_LOG_BUFFER_SIZE;
+import static org.ballerinalang.logging.util.Constants.ASYNC_LOG_ENABLED;
+import static org.ballerinalang.logging.util.Constants.ASYNC_LOG_OVERFLOW_POLICY;
 import static org.ballerinalang.logging.util.Constants.BALLERINA_USER_LOG_LEVEL;
 import static org.ballerinalang.logging.util.Constants.CONSOLE_LOGGER;
+import static org.ballerinalang.logging.util.Constants.DEFAULT_ASYNC_LOG_BUFFER_SIZE;
 import static org.ballerinalang.logging.util.Constants.HTTP_ACCESS_LOG;
 import static org.ballerinalang.logging.util.Constants.HTTP_ACCESS_LOG_CONSOLE;
 import static org.ballerinalang.logging.util.Constants.HTTP_ACCESS_LOG_FILE;
@@ -70,6 +76,7 @@ public class BLogManager extends LogManager {
     private BLogLevel ballerinaUserLogLevel = BLogLevel.INFO; // default to INFO
     private Logger httpTraceLogger;
     private Logger httpAccessLogger;
+    private Logger ballerinaRootLogger;
 
     @Override
     public void readConfiguration(InputStream ins) throws IOException, SecurityException {
@@ -104,6 +111,7 @@ public class BLogManager extends LogManager {
 
         setHttpTraceLogHandler();
         setHttpAccessLogHandler();
+        setAsyncUserLogHandlers();
 
         // have to set default console logger level here since ballerina config is not initialized at the time of the
         // logger initialization
@@ -233,6 +241,40 @@ public class BLogManager extends LogManager {
         }
     }
 
+    /**
+     * Wraps the handlers of the Ballerina user level root logger with {@link AsyncLogHandler}s, if asynchronous
+     * logging is enabled.
+     */
+    public void setAsyncUserLogHandlers() {
+        ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+        if (!Boolean.parseBoolean(configRegistry.getAsString(ASYNC_LOG_ENABLED))) {
+            return;
+        }
+        if (ballerinaRootLogger == null) {
+            // keep a reference to prevent this logger from being garbage collected
+            ballerinaRootLogger = Logger.getLogger(BALLERINA_ROOT_LOGGER_NAME);
+        }
+
+        int bufferSize = DEFAULT_ASYNC_LOG_BUFFER_SIZE;
+        String configuredBufferSize = configRegistry.getAsString(ASYNC_LOG_BUFFER_SIZE);
+        if (configuredBufferSize != null && !configuredBufferSize.trim().isEmpty()) {
+            bufferSize = Integer.parseInt(configuredBufferSize.trim());
+        }
+        AsyncLogHandler.OverflowPolicy overflowPolicy = AsyncLogHandler.OverflowPolicy.BLOCK;
+        String configuredOverflowPolicy = configRegistry.getAsString(ASYNC_LOG_OVERFLOW_POLICY);
+        if (configuredOverflowPolicy != null && !configuredOverflowPolicy.trim().isEmpty()) {
+            overflowPolicy = AsyncLogHandler.OverflowPolicy.toOverflowPolicy(configuredOverflowPolicy);
+        }
+
+        for (Handler handler : ballerinaRootLogger.getHandlers()) {
+            if (handler instanceof AsyncLogHandler) {
+                continue;
+            }
+            ballerinaRootLogger.removeHandler(handler);
+            ballerinaRootLogger.addHandler(new AsyncLogHandler(handler, bufferSize, overflowPolicy));
+        }
+    }
+
     private String substituteVariables(String value) {
         Matcher matcher = varPattern.matcher(value);
         boolean found = matcher.find();
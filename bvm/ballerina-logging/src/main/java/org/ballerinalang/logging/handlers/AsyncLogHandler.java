@@ -0,0 +1,172 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.logging.handlers;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A log handler which hands the log records over to a bounded buffer, from which a single background thread
+ * publishes them to the wrapped handler. Logging threads therefore do not wait on the formatting and the I/O of the
+ * wrapped handler unless the buffer is full, in which case the {@link OverflowPolicy} decides what happens.
+ *
+ * @since 2.0.0
+ */
+public final class AsyncLogHandler extends Handler {
+
+    private static final LogRecord SHUTDOWN_RECORD = new LogRecord(Level.OFF, "");
+
+    private final Handler delegate;
+    private final BlockingQueue<LogRecord> buffer;
+    private final OverflowPolicy overflowPolicy;
+    private final AtomicLong droppedRecordCount = new AtomicLong();
+    private final Thread writer;
+    // Held shared while a record is enqueued and exclusively while closing, so that no record is enqueued after the
+    // shutdown record, where the writer thread would never get to it.
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private volatile boolean closed = false;
+
+    public AsyncLogHandler(Handler delegate, int bufferSize, OverflowPolicy overflowPolicy) {
+        this.delegate = delegate;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.overflowPolicy = overflowPolicy;
+        setLevel(delegate.getLevel());
+        this.writer = new Thread(this::writeRecords, "ballerina-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (!delegate.isLoggable(record)) {
+            return;
+        }
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            if (overflowPolicy == OverflowPolicy.DROP) {
+                if (!buffer.offer(record)) {
+                    droppedRecordCount.incrementAndGet();
+                }
+                return;
+            }
+            buffer.put(record);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            droppedRecordCount.incrementAndGet();
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Flushes the wrapped handler. Records which are still in the buffer are published when the writer thread gets
+     * to them, or when this handler is closed.
+     */
+    @Override
+    public void flush() {
+        delegate.flush();
+    }
+
+    /**
+     * Publishes the buffered records to the wrapped handler and closes it.
+     */
+    @Override
+    public void close() {
+        closeLock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            // The writer thread keeps draining the buffer, so a publisher blocked on a full buffer does not keep the
+            // lock forever, and there is room for the shutdown record.
+            buffer.put(SHUTDOWN_RECORD);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        delegate.close();
+    }
+
+    /**
+     * Returns the number of records which were not published because the buffer was full.
+     *
+     * @return number of dropped records
+     */
+    public long getDroppedRecordCount() {
+        return droppedRecordCount.get();
+    }
+
+    private void writeRecords() {
+        while (true) {
+            LogRecord record;
+            try {
+                record = buffer.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (record == SHUTDOWN_RECORD) {
+                delegate.flush();
+                return;
+            }
+            try {
+                delegate.publish(record);
+                if (buffer.isEmpty()) {
+                    delegate.flush();
+                }
+            } catch (RuntimeException e) {
+                reportError("failed to publish log record", e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+
+    /**
+     * Decides what happens to a log record when the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Wait until the writer thread makes room in the buffer.
+         */
+        BLOCK,
+        /**
+         * Drop the record.
+         */
+        DROP;
+
+        public static OverflowPolicy toOverflowPolicy(String policy) {
+            return valueOf(policy.trim().toUpperCase());
+        }
+    }
+}
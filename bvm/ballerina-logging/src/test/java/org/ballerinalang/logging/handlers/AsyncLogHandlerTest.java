@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.logging.handlers;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Test cases for AsyncLogHandler.
+ */
+public class AsyncLogHandlerTest {
+
+    @Test(description = "Test that buffered records are published in order before the handler closes")
+    public void testPublishInOrder() {
+        RecordingHandler recordingHandler = new RecordingHandler(null);
+        AsyncLogHandler asyncLogHandler = new AsyncLogHandler(recordingHandler, 16,
+                AsyncLogHandler.OverflowPolicy.BLOCK);
+        for (int i = 0; i < 1000; i++) {
+            asyncLogHandler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        asyncLogHandler.close();
+
+        Assert.assertEquals(recordingHandler.messages.size(), 1000);
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals(recordingHandler.messages.get(i), "message " + i);
+        }
+        Assert.assertTrue(recordingHandler.closed);
+        Assert.assertEquals(asyncLogHandler.getDroppedRecordCount(), 0);
+    }
+
+    @Test(description = "Test that records are dropped when the buffer is full and the overflow policy is DROP")
+    public void testDropOnOverflow() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler recordingHandler = new RecordingHandler(release);
+        AsyncLogHandler asyncLogHandler = new AsyncLogHandler(recordingHandler, 4,
+                AsyncLogHandler.OverflowPolicy.DROP);
+        // The writer thread takes the first record and waits on the latch, while the rest fill the buffer.
+        asyncLogHandler.publish(new LogRecord(Level.INFO, "first"));
+        recordingHandler.publishing.await();
+        for (int i = 0; i < 10; i++) {
+            asyncLogHandler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        release.countDown();
+        asyncLogHandler.close();
+
+        Assert.assertEquals(asyncLogHandler.getDroppedRecordCount(), 6);
+        Assert.assertEquals(recordingHandler.messages.size(), 5);
+        Assert.assertEquals(recordingHandler.messages.get(0), "first");
+        Assert.assertEquals(recordingHandler.messages.get(4), "message 3");
+    }
+
+    @Test(description = "Test that records which are not loggable by the wrapped handler are not buffered")
+    public void testLevelOfWrappedHandler() {
+        RecordingHandler recordingHandler = new RecordingHandler(null);
+        recordingHandler.setLevel(Level.WARNING);
+        AsyncLogHandler asyncLogHandler = new AsyncLogHandler(recordingHandler, 16,
+                AsyncLogHandler.OverflowPolicy.BLOCK);
+        asyncLogHandler.publish(new LogRecord(Level.INFO, "info"));
+        asyncLogHandler.publish(new LogRecord(Level.SEVERE, "error"));
+        asyncLogHandler.close();
+
+        Assert.assertEquals(recordingHandler.messages, Collections.singletonList("error"));
+    }
+
+    @Test(description = "Test that publishing while the handler closes neither blocks nor loses accepted records",
+          timeOut = 60000)
+    public void testPublishWhileClosing() throws InterruptedException {
+        for (int round = 0; round < 50; round++) {
+            RecordingHandler recordingHandler = new RecordingHandler(null);
+            AsyncLogHandler asyncLogHandler = new AsyncLogHandler(recordingHandler, 2,
+                    AsyncLogHandler.OverflowPolicy.BLOCK);
+            CountDownLatch started = new CountDownLatch(4);
+            List<Thread> publishers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                Thread publisher = new Thread(() -> {
+                    started.countDown();
+                    for (int j = 0; j < 1000; j++) {
+                        asyncLogHandler.publish(new LogRecord(Level.INFO, "message " + j));
+                    }
+                });
+                publisher.start();
+                publishers.add(publisher);
+            }
+            started.await();
+            asyncLogHandler.close();
+            int publishedOnClose = recordingHandler.messages.size();
+            for (Thread publisher : publishers) {
+                publisher.join();
+            }
+
+            // Every record accepted before the close was published by then, and none was accepted afterwards.
+            Assert.assertTrue(recordingHandler.closed);
+            Assert.assertEquals(recordingHandler.messages.size(), publishedOnClose);
+        }
+    }
+
+    private static class RecordingHandler extends Handler {
+
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch publishing = new CountDownLatch(1);
+        private final CountDownLatch release;
+        private volatile boolean closed = false;
+
+        RecordingHandler(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            if (!isLoggable(record)) {
+                return;
+            }
+            messages.add(record.getMessage());
+            publishing.countDown();
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -21,44 +21,157 @@ import org.ballerinalang.jvm.scheduling.State;
 import org.ballerinalang.jvm.scheduling.Strand;
 
 import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * {@code VarLock} represents lock object for variables in jvm.
+ * <p>
+ * A lock is either held exclusively by a single strand (which may re-enter it), or shared by any number of strands
+ * running lock blocks that only read the locked variables. Shared holders never yield while holding the lock, since
+ * such blocks do not contain calls.
+ * <p>
+ * Waiting strands are served in arrival order. A new shared acquisition is refused while any strand is waiting, so
+ * readers cannot starve a waiting writer. When the lock is released, it is handed over to the first waiting writer,
+ * or to all the readers waiting ahead of the next writer, before the waiting strands are unblocked. A strand which
+ * was handed the lock gets it when it retries the lock instruction.
  *
  * @since 1.0.0
  */
 public class BLock {
 
+    private static final LongAdder totalAcquiredCount = new LongAdder();
+
+    private static final LongAdder totalContendedCount = new LongAdder();
+
     private ArrayDeque<Strand> current;
 
-    private ArrayDeque<Strand> waitingForLock;
+    private ArrayDeque<Waiter> waitingForLock;
+
+    private Set<Strand> handedOver;
+
+    private int sharedHolders;
+
+    private long acquiredCount;
+
+    private long contendedCount;
+
+    private final AtomicInteger heldLocks;
 
     public BLock() {
+        this(new AtomicInteger());
+    }
+
+    BLock(AtomicInteger heldLocks) {
         this.current = new ArrayDeque<>();
         this.waitingForLock = new ArrayDeque<>();
+        this.handedOver = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.heldLocks = heldLocks;
     }
 
     public synchronized boolean lock(Strand strand) {
-        if (isLockFree() || lockedBySameContext(strand)) {
+        if (this.handedOver.remove(strand)) {
+            return true;
+        }
+
+        if (isLockFree() && this.sharedHolders == 0 && this.waitingForLock.isEmpty()) {
+            acquireExclusive(strand);
+            return true;
+        }
+
+        if (!isLockFree() && lockedBySameContext(strand)) {
             this.current.offerLast(strand);
+            countAcquisition();
             return true;
         }
 
-        this.waitingForLock.offerLast(strand);
+        waitForLock(strand, false);
+        return false;
+    }
+
+    public synchronized boolean lockShared(Strand strand) {
+        if (this.handedOver.remove(strand)) {
+            return true;
+        }
+
+        if ((isLockFree() && this.waitingForLock.isEmpty()) || (!isLockFree() && lockedBySameContext(strand))) {
+            this.sharedHolders++;
+            countAcquisition();
+            return true;
+        }
+
+        waitForLock(strand, true);
+        return false;
+    }
+
+    private void acquireExclusive(Strand strand) {
+        this.heldLocks.incrementAndGet();
+        this.current.offerLast(strand);
+        countAcquisition();
+    }
+
+    private void countAcquisition() {
+        this.acquiredCount++;
+        totalAcquiredCount.increment();
+    }
+
+    private void waitForLock(Strand strand, boolean shared) {
+        this.contendedCount++;
+        totalContendedCount.increment();
+        this.waitingForLock.offerLast(new Waiter(strand, shared));
 
         // Strand state change
         strand.setState(State.BLOCK_AND_YIELD);
         strand.blockedOnExtern = false;
-        return false;
     }
 
     public synchronized void unlock() {
         //current cannot be empty as unlock cannot be called without lock being called first.
         this.current.removeLast();
-        if (!waitingForLock.isEmpty()) {
-            Strand strand = this.waitingForLock.removeFirst();
-            strand.scheduler.unblockStrand(strand);
+        if (this.current.isEmpty()) {
+            this.heldLocks.decrementAndGet();
+            if (this.sharedHolders == 0) {
+                handOverToWaitingStrands();
+            }
+        }
+    }
+
+    public synchronized void unlockShared() {
+        this.sharedHolders--;
+        if (this.sharedHolders == 0 && isLockFree()) {
+            handOverToWaitingStrands();
+        }
+    }
+
+    private void handOverToWaitingStrands() {
+        Waiter first = this.waitingForLock.pollFirst();
+        if (first == null) {
+            return;
+        }
+
+        if (!first.shared) {
+            acquireExclusive(first.strand);
+            handOver(first.strand);
+            return;
         }
+
+        this.sharedHolders++;
+        countAcquisition();
+        handOver(first.strand);
+        while (!this.waitingForLock.isEmpty() && this.waitingForLock.peekFirst().shared) {
+            Strand reader = this.waitingForLock.removeFirst().strand;
+            this.sharedHolders++;
+            countAcquisition();
+            handOver(reader);
+        }
+    }
+
+    private void handOver(Strand strand) {
+        this.handedOver.add(strand);
+        strand.scheduler.unblockStrand(strand);
     }
 
     public boolean isLockFree() {
@@ -68,4 +181,54 @@ public class BLock {
     public boolean lockedBySameContext(Strand ctx) {
         return this.current.getLast() == ctx;
     }
+
+    /**
+     * Returns the number of times this lock was acquired, in either mode.
+     *
+     * @return acquired count
+     */
+    public synchronized long getAcquiredCount() {
+        return this.acquiredCount;
+    }
+
+    /**
+     * Returns the number of times a strand had to wait for this lock.
+     *
+     * @return contended count
+     */
+    public synchronized long getContendedCount() {
+        return this.contendedCount;
+    }
+
+    /**
+     * Returns the number of times any lock was acquired, in either mode.
+     *
+     * @return acquired count of all the locks
+     */
+    public static long getTotalAcquiredCount() {
+        return totalAcquiredCount.sum();
+    }
+
+    /**
+     * Returns the number of times a strand had to wait for any lock.
+     *
+     * @return contended count of all the locks
+     */
+    public static long getTotalContendedCount() {
+        return totalContendedCount.sum();
+    }
+
+    /**
+     * A strand waiting for the lock, along with the mode it is waiting for.
+     */
+    private static class Waiter {
+
+        final Strand strand;
+        final boolean shared;
+
+        Waiter(Strand strand, boolean shared) {
+            this.strand = strand;
+            this.shared = shared;
+        }
+    }
 }
@@ -21,8 +21,10 @@ package org.ballerinalang.jvm;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  *
@@ -35,21 +37,29 @@ public class BLockStore {
      */
     private  Map<String, BLock> globalLockMap;
 
+    /**
+     * The number of locks of this store currently held exclusively by some strand.
+     */
+    private final AtomicInteger heldLocks = new AtomicInteger();
+
     public BLockStore() {
         globalLockMap = new ConcurrentHashMap<>();
     }
 
     public void addLockToMap(String lockName) {
-        globalLockMap.put(lockName, new BLock());
+        globalLockMap.put(lockName, new BLock(heldLocks));
     }
 
     public BLock getLockFromMap(String lockName) {
         return globalLockMap.computeIfAbsent(lockName, (k) -> {
-            return new BLock();
+            return new BLock(heldLocks);
         });
     }
 
     public void panicIfInLock(String lockName, Strand strand) {
+        if (heldLocks.get() == 0) {
+            return;
+        }
         for (BLock lock : globalLockMap.values()) {
             if (lock.isLockFree()) {
                 continue;
@@ -59,4 +69,13 @@ public class BLockStore {
             }
         }
     }
+
+    /**
+     * Returns the locks of this store, which can be used to read the contention details of each lock.
+     *
+     * @return an unmodifiable view of the locks by name
+     */
+    public Map<String, BLock> getLocks() {
+        return Collections.unmodifiableMap(globalLockMap);
+    }
 }
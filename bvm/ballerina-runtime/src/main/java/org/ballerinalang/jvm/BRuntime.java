@@ -76,6 +76,63 @@ public class BRuntime {
         return future;
     }
 
+    /**
+     * Execute a blocking task, such as a JDBC or file I/O call, of an extern function.
+     * <p>
+     * When blocking extern offloading is enabled through the BALLERINA_OFFLOAD_BLOCKING_EXTERN environment variable,
+     * the task is run on a virtual thread (or on an elastic pool of platform threads where virtual threads are not
+     * available) and the current strand yields its scheduler thread until the task completes. The extern function
+     * should return the value returned by this method, which becomes the result of the extern call once the strand
+     * is resumed. Otherwise the task is run inline on the current strand.
+     *
+     * @param blockingTask task to be executed.
+     * @return result of the task when run inline, null when offloaded.
+     */
+    public static Object executeBlocking(Supplier<Object> blockingTask) {
+        return executeBlocking(blockingTask, BRuntime::createBlockingTaskError);
+    }
+
+    /**
+     * Execute a blocking task of an extern function, as in {@link #executeBlocking(Supplier)}, mapping a failure of an
+     * offloaded task to a result of the extern function.
+     * <p>
+     * The result of an offloaded task is the result of the extern call, so it must be of the return type of the extern
+     * function. Extern functions which do not return an error value, or which return a specific error type, should map
+     * the failure to such a value with the given error handler.
+     *
+     * @param blockingTask task to be executed.
+     * @param errorHandler function which maps a failure of the offloaded task to the result of the extern call.
+     * @return result of the task when run inline, null when offloaded.
+     */
+    public static Object executeBlocking(Supplier<Object> blockingTask, Function<Throwable, Object> errorHandler) {
+        if (!BlockingExternExecutor.ENABLED) {
+            return blockingTask.get();
+        }
+        Strand strand = Scheduler.getStrand();
+        strand.blockedOnExtern = true;
+        strand.setState(State.BLOCK_AND_YIELD);
+        strand.setReturnValues(null);
+        BlockingExternExecutor.getExecutor().execute(() -> {
+            Object result;
+            try {
+                result = blockingTask.get();
+            } catch (Throwable t) {
+                result = errorHandler.apply(t);
+            }
+            strand.setReturnValues(result);
+            strand.scheduler.unblockStrand(strand);
+        });
+        return null;
+    }
+
+    private static Object createBlockingTaskError(Throwable t) {
+        if (t instanceof ErrorValue) {
+            return t;
+        }
+        String message = t.getMessage();
+        return BallerinaErrors.createError(message != null ? message : t.getClass().getName());
+    }
+
     /**
      * Invoke Function Pointer asynchronously. This will schedule the function and block the strand.
      *
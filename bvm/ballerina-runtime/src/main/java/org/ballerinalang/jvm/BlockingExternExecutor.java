@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.util.BLangConstants;
+
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds the executor which runs blocking extern calls off the strand worker threads.
+ * <p>
+ * Virtual threads are used when the running JVM provides them. Otherwise an elastic pool of daemon platform threads
+ * is used, so that blocking calls never occupy a thread of the scheduler pool.
+ *
+ * @since 2.0.0
+ */
+class BlockingExternExecutor {
+
+    private static final String VIRTUAL_THREAD_EXECUTOR_FACTORY = "newVirtualThreadPerTaskExecutor";
+    private static final String BLOCKING_THREAD_NAME_PREFIX = "jbal-blocking-exec-";
+
+    static final boolean ENABLED =
+            Boolean.parseBoolean(System.getenv(BLangConstants.BALLERINA_OFFLOAD_BLOCKING_EXTERN_ENV_VAR));
+
+    private static volatile ExecutorService executor;
+
+    private BlockingExternExecutor() {
+    }
+
+    static ExecutorService getExecutor() {
+        if (executor == null) {
+            synchronized (BlockingExternExecutor.class) {
+                if (executor == null) {
+                    executor = createExecutor();
+                }
+            }
+        }
+        return executor;
+    }
+
+    private static ExecutorService createExecutor() {
+        try {
+            Method factory = Executors.class.getMethod(VIRTUAL_THREAD_EXECUTOR_FACTORY);
+            return (ExecutorService) factory.invoke(null);
+        } catch (NoSuchMethodException e) {
+            // Virtual threads are not available in this JVM.
+        } catch (Throwable t) {
+            PrintStream err = System.err;
+            err.println("ballerina: unable to create virtual thread executor, falling back to platform threads: " +
+                                t.getMessage());
+        }
+        return Executors.newCachedThreadPool(new BlockingThreadFactory());
+    }
+
+    private static class BlockingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, BLOCKING_THREAD_NAME_PREFIX + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
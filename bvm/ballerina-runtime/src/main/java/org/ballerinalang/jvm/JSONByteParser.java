@@ -0,0 +1,667 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.jvm.commons.ArrayState;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.api.BString;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * A JSON parser which reads UTF-8 encoded JSON directly from a {@link ByteBuffer}.
+ * <p>
+ * Unlike {@link JSONParser}, this does not decode the input into characters up front. It can also bind the content
+ * directly to a target type, such as a record type, without building the intermediate json value. Only well formed
+ * documents which can be bound to the target type without ambiguity are handled here. Anything else is handed over to
+ * {@link JSONParser} and the given converter, so that the results and the errors are the same as parsing the content
+ * as json and converting it afterwards.
+ * <p>
+ * Objects and arrays are parsed recursively, so the nesting depth of a document is limited to
+ * {@value #DEFAULT_MAX_DEPTH} levels by default. The limit can be changed with the {@value #MAX_DEPTH_CONFIG}
+ * configuration and deeper documents are rejected with a parsing error.
+ *
+ * @since 2.0.0
+ */
+@SuppressWarnings("unchecked")
+public class JSONByteParser {
+
+    public static final String MAX_DEPTH_CONFIG = "b7a.json.max.depth";
+    public static final int DEFAULT_MAX_DEPTH = 512;
+
+    private static final SyntaxException SYNTAX_EXCEPTION = new SyntaxException();
+    private static final TypeMismatchException TYPE_MISMATCH_EXCEPTION = new TypeMismatchException();
+
+    private static final int MAX_FAST_PATH_DIGITS = 18;
+
+    private final byte[] bytes;
+    private final int end;
+    private final int maxDepth;
+    private int pos;
+    private int depth;
+    private char[] charBuff;
+
+    private JSONByteParser(byte[] bytes, int start, int end, int maxDepth) {
+        this.bytes = bytes;
+        this.pos = start;
+        this.end = end;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content in the given buffer and returns a json.
+     *
+     * @param buffer buffer which contains the JSON content, from its position up to its limit
+     * @return JSON structure
+     * @throws BallerinaException for any parsing error
+     */
+    public static Object parse(ByteBuffer buffer) throws BallerinaException {
+        return parse(buffer, getMaxDepth());
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content in the given buffer and returns a json.
+     *
+     * @param buffer   buffer which contains the JSON content, from its position up to its limit
+     * @param maxDepth maximum nesting depth of objects and arrays in the content
+     * @return JSON structure
+     * @throws BallerinaException for any parsing error, or if the content is nested deeper than the given depth
+     */
+    public static Object parse(ByteBuffer buffer, int maxDepth) throws BallerinaException {
+        JSONByteParser parser = createParser(buffer, maxDepth);
+        int start = parser.pos;
+        try {
+            return parser.parseDocument(null);
+        } catch (SyntaxException | TypeMismatchException e) {
+            return JSONParser.parse(new String(parser.bytes, start, parser.end - start, StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content in the given buffer and binds it to the given type.
+     * <p>
+     * When the content cannot be bound directly, it is parsed as json and the given converter is used to convert the
+     * json to the target type.
+     *
+     * @param buffer     buffer which contains the JSON content, from its position up to its limit
+     * @param targetType type to bind the content to
+     * @param converter  function which converts a json value to the given type
+     * @return value of the target type, or the result of the converter
+     * @throws BallerinaException for any parsing error, or if the content is nested deeper than the maximum depth
+     */
+    public static Object parse(ByteBuffer buffer, BType targetType, BiFunction<BType, Object, Object> converter)
+            throws BallerinaException {
+        JSONByteParser parser = createParser(buffer, getMaxDepth());
+        int start = parser.pos;
+        try {
+            return parser.parseDocument(targetType);
+        } catch (SyntaxException | TypeMismatchException e) {
+            Object json = JSONParser.parse(new String(parser.bytes, start, parser.end - start,
+                                                      StandardCharsets.UTF_8));
+            return converter.apply(targetType, json);
+        }
+    }
+
+    private static JSONByteParser createParser(ByteBuffer buffer, int maxDepth) {
+        if (buffer.hasArray()) {
+            int start = buffer.arrayOffset() + buffer.position();
+            return new JSONByteParser(buffer.array(), start, start + buffer.remaining(), maxDepth);
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return new JSONByteParser(bytes, 0, bytes.length, maxDepth);
+    }
+
+    private static int getMaxDepth() {
+        String maxDepth = ConfigRegistry.getInstance().getConfigOrDefault(MAX_DEPTH_CONFIG, null);
+        if (maxDepth == null) {
+            return DEFAULT_MAX_DEPTH;
+        }
+        try {
+            return Integer.parseInt(maxDepth);
+        } catch (NumberFormatException e) {
+            throw new BallerinaException("invalid value for " + MAX_DEPTH_CONFIG + ": " + maxDepth);
+        }
+    }
+
+    private Object parseDocument(BType targetType) throws SyntaxException, TypeMismatchException {
+        skipWhitespace();
+        Object value = targetType == null ? parseJson() : bind(targetType);
+        skipWhitespace();
+        if (pos != end) {
+            throw SYNTAX_EXCEPTION;
+        }
+        return value;
+    }
+
+    // Generic json values
+
+    private Object parseJson() throws SyntaxException {
+        Object value;
+        switch (peek()) {
+            case '{':
+                enterNested();
+                value = parseJsonObject();
+                depth--;
+                return value;
+            case '[':
+                enterNested();
+                value = parseJsonArray();
+                depth--;
+                return value;
+            case '"':
+                return StringUtils.fromString(parseString());
+            default:
+                return parseScalar();
+        }
+    }
+
+    private MapValueImpl<BString, Object> parseJsonObject() throws SyntaxException {
+        MapValueImpl<BString, Object> map = new MapValueImpl<>(new BMapType(BTypes.typeJSON));
+        pos++;
+        skipWhitespace();
+        if (peek() == '}') {
+            pos++;
+            return map;
+        }
+        while (true) {
+            BString key = StringUtils.fromString(parseFieldName());
+            map.put(key, parseJson());
+            if (endOfMember('}')) {
+                return map;
+            }
+        }
+    }
+
+    private ArrayValue parseJsonArray() throws SyntaxException {
+        ArrayValue array = new ArrayValueImpl(new BArrayType(BTypes.typeJSON));
+        pos++;
+        skipWhitespace();
+        if (peek() == ']') {
+            pos++;
+            return array;
+        }
+        while (true) {
+            skipWhitespace();
+            array.append(parseJson());
+            if (endOfMember(']')) {
+                return array;
+            }
+        }
+    }
+
+    // Binding to a target type
+
+    private Object bind(BType type) throws SyntaxException, TypeMismatchException {
+        Object value;
+        switch (type.getTag()) {
+            case TypeTags.JSON_TAG:
+                return parseJson();
+            case TypeTags.RECORD_TYPE_TAG:
+                enterNested();
+                value = bindRecord((BRecordType) type);
+                depth--;
+                return value;
+            case TypeTags.MAP_TAG:
+                enterNested();
+                value = bindMap((BMapType) type);
+                depth--;
+                return value;
+            case TypeTags.ARRAY_TAG:
+                enterNested();
+                value = bindArray((BArrayType) type);
+                depth--;
+                return value;
+            case TypeTags.UNION_TAG:
+                return bindOptional((BUnionType) type);
+            case TypeTags.INT_TAG:
+            case TypeTags.BYTE_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.BOOLEAN_TAG:
+                return bindSimpleValue(type);
+            default:
+                throw TYPE_MISMATCH_EXCEPTION;
+        }
+    }
+
+    private MapValue<BString, Object> bindRecord(BRecordType recordType)
+            throws SyntaxException, TypeMismatchException {
+        if (peek() != '{' || recordType.isReadOnly()) {
+            throw TYPE_MISMATCH_EXCEPTION;
+        }
+        Map<String, BField> fields = recordType.getFields();
+        MapValue<BString, Object> record = BallerinaValues.createRecordValue(recordType.getPackage(),
+                                                                             recordType.getName());
+        Set<String> fieldNames = new HashSet<>();
+        pos++;
+        skipWhitespace();
+        if (peek() == '}') {
+            pos++;
+        } else {
+            while (true) {
+                String fieldName = parseFieldName();
+                BField field = fields.get(fieldName);
+                BType fieldType;
+                if (field != null) {
+                    fieldType = field.getFieldType();
+                } else if (!recordType.sealed && recordType.restFieldType != null) {
+                    fieldType = recordType.restFieldType;
+                } else {
+                    throw TYPE_MISMATCH_EXCEPTION;
+                }
+                record.put(StringUtils.fromString(fieldName), bind(fieldType));
+                fieldNames.add(fieldName);
+                if (endOfMember('}')) {
+                    break;
+                }
+            }
+        }
+        for (BField field : fields.values()) {
+            if (Flags.isFlagOn(field.flags, Flags.REQUIRED) && !fieldNames.contains(field.getFieldName())) {
+                throw TYPE_MISMATCH_EXCEPTION;
+            }
+        }
+        return record;
+    }
+
+    private MapValueImpl<BString, Object> bindMap(BMapType mapType) throws SyntaxException, TypeMismatchException {
+        if (peek() != '{' || mapType.isReadOnly()) {
+            throw TYPE_MISMATCH_EXCEPTION;
+        }
+        BType constraintType = mapType.getConstrainedType();
+        MapValueImpl<BString, Object> map = new MapValueImpl<>(mapType);
+        pos++;
+        skipWhitespace();
+        if (peek() == '}') {
+            pos++;
+            return map;
+        }
+        while (true) {
+            BString key = StringUtils.fromString(parseFieldName());
+            map.put(key, bind(constraintType));
+            if (endOfMember('}')) {
+                return map;
+            }
+        }
+    }
+
+    private ArrayValue bindArray(BArrayType arrayType) throws SyntaxException, TypeMismatchException {
+        if (peek() != '[' || arrayType.getState() != ArrayState.UNSEALED || arrayType.isReadOnly()) {
+            throw TYPE_MISMATCH_EXCEPTION;
+        }
+        BType elementType = arrayType.getElementType();
+        ArrayValue array = new ArrayValueImpl(arrayType);
+        pos++;
+        skipWhitespace();
+        if (peek() == ']') {
+            pos++;
+            return array;
+        }
+        long index = 0;
+        while (true) {
+            skipWhitespace();
+            if (elementType.getTag() == TypeTags.INT_TAG && isIntegerToken()) {
+                array.add(index++, parseLong());
+            } else {
+                array.add(index++, bind(elementType));
+            }
+            if (endOfMember(']')) {
+                return array;
+            }
+        }
+    }
+
+    private Object bindOptional(BUnionType unionType) throws SyntaxException, TypeMismatchException {
+        List<BType> memberTypes = unionType.getMemberTypes();
+        if (memberTypes.size() != 2) {
+            throw TYPE_MISMATCH_EXCEPTION;
+        }
+        BType nonNilType;
+        if (memberTypes.get(0).getTag() == TypeTags.NULL_TAG) {
+            nonNilType = memberTypes.get(1);
+        } else if (memberTypes.get(1).getTag() == TypeTags.NULL_TAG) {
+            nonNilType = memberTypes.get(0);
+        } else {
+            throw TYPE_MISMATCH_EXCEPTION;
+        }
+        if (peek() == 'n') {
+            Object value = parseScalar();
+            if (value != null) {
+                throw SYNTAX_EXCEPTION;
+            }
+            return null;
+        }
+        return bind(nonNilType);
+    }
+
+    private Object bindSimpleValue(BType type) throws SyntaxException, TypeMismatchException {
+        Object value;
+        byte ch = peek();
+        if (ch == '"') {
+            value = StringUtils.fromString(parseString());
+        } else if (ch == '{' || ch == '[') {
+            throw TYPE_MISMATCH_EXCEPTION;
+        } else if (type.getTag() == TypeTags.INT_TAG && isIntegerToken()) {
+            return parseLong();
+        } else {
+            value = parseScalar();
+        }
+        if (value == null) {
+            throw TYPE_MISMATCH_EXCEPTION;
+        }
+        if (TypeChecker.checkIsType(value, type)) {
+            return value;
+        }
+        if (!(value instanceof Number) || TypeConverter.getConvertibleTypes(value, type).isEmpty()) {
+            throw TYPE_MISMATCH_EXCEPTION;
+        }
+        return TypeConverter.convertValues(type, value);
+    }
+
+    /**
+     * Accounts for an object or an array being entered. The depth error is thrown as is, rather than reparsing the
+     * content with {@link JSONParser}, since converting such a value afterwards would recurse as deep as the content.
+     */
+    private void enterNested() {
+        if (++depth > maxDepth) {
+            throw new BallerinaException("JSON nesting depth exceeds the maximum of " + maxDepth);
+        }
+    }
+
+    // Tokens
+
+    private String parseFieldName() throws SyntaxException {
+        skipWhitespace();
+        if (peek() != '"') {
+            throw SYNTAX_EXCEPTION;
+        }
+        String fieldName = parseString();
+        skipWhitespace();
+        if (peek() != ':') {
+            throw SYNTAX_EXCEPTION;
+        }
+        pos++;
+        skipWhitespace();
+        return fieldName;
+    }
+
+    /**
+     * Consumes the separator after an object field or an array element.
+     *
+     * @return true if the closing character of the object or the array was found
+     */
+    private boolean endOfMember(char closingChar) throws SyntaxException {
+        skipWhitespace();
+        byte ch = peek();
+        pos++;
+        if (ch == ',') {
+            return false;
+        }
+        if (ch == closingChar) {
+            return true;
+        }
+        throw SYNTAX_EXCEPTION;
+    }
+
+    private String parseString() throws SyntaxException {
+        int start = ++pos;
+        boolean ascii = true;
+        for (int i = start; i < end; i++) {
+            byte b = bytes[i];
+            if (b == '"') {
+                pos = i + 1;
+                return new String(bytes, start, i - start,
+                                  ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+            } else if (b == '\\') {
+                return parseEscapedString(start);
+            } else if (b < 0) {
+                ascii = false;
+            }
+        }
+        throw SYNTAX_EXCEPTION;
+    }
+
+    private String parseEscapedString(int start) throws SyntaxException {
+        if (charBuff == null || charBuff.length < end - start) {
+            charBuff = new char[Math.max(64, end - start)];
+        }
+        int length = 0;
+        int i = start;
+        while (i < end) {
+            int b = bytes[i++];
+            if (b == '"') {
+                pos = i;
+                return new String(charBuff, 0, length);
+            } else if (b == '\\') {
+                if (i >= end) {
+                    throw SYNTAX_EXCEPTION;
+                }
+                switch (bytes[i++]) {
+                    case '"':
+                        charBuff[length++] = '"';
+                        break;
+                    case '\\':
+                        charBuff[length++] = '\\';
+                        break;
+                    case '/':
+                        charBuff[length++] = '/';
+                        break;
+                    case 'b':
+                        charBuff[length++] = '\b';
+                        break;
+                    case 'f':
+                        charBuff[length++] = '\f';
+                        break;
+                    case 'n':
+                        charBuff[length++] = '\n';
+                        break;
+                    case 'r':
+                        charBuff[length++] = '\r';
+                        break;
+                    case 't':
+                        charBuff[length++] = '\t';
+                        break;
+                    case 'u':
+                        if (i + 4 > end) {
+                            throw SYNTAX_EXCEPTION;
+                        }
+                        charBuff[length++] = (char) ((hexValue(bytes[i]) << 12) | (hexValue(bytes[i + 1]) << 8) |
+                                (hexValue(bytes[i + 2]) << 4) | hexValue(bytes[i + 3]));
+                        i += 4;
+                        break;
+                    default:
+                        throw SYNTAX_EXCEPTION;
+                }
+            } else if (b >= 0) {
+                charBuff[length++] = (char) b;
+            } else {
+                // Multi byte UTF-8 sequence. Malformed input is left to the fallback parser.
+                int codePoint;
+                int continuationBytes;
+                if ((b & 0xE0) == 0xC0) {
+                    codePoint = b & 0x1F;
+                    continuationBytes = 1;
+                } else if ((b & 0xF0) == 0xE0) {
+                    codePoint = b & 0x0F;
+                    continuationBytes = 2;
+                } else if ((b & 0xF8) == 0xF0) {
+                    codePoint = b & 0x07;
+                    continuationBytes = 3;
+                } else {
+                    throw SYNTAX_EXCEPTION;
+                }
+                if (i + continuationBytes > end) {
+                    throw SYNTAX_EXCEPTION;
+                }
+                for (int j = 0; j < continuationBytes; j++) {
+                    int c = bytes[i++];
+                    if ((c & 0xC0) != 0x80) {
+                        throw SYNTAX_EXCEPTION;
+                    }
+                    codePoint = (codePoint << 6) | (c & 0x3F);
+                }
+                if (!Character.isValidCodePoint(codePoint)) {
+                    throw SYNTAX_EXCEPTION;
+                }
+                length += Character.toChars(codePoint, charBuff, length);
+            }
+        }
+        throw SYNTAX_EXCEPTION;
+    }
+
+    private static int hexValue(byte b) throws SyntaxException {
+        if (b >= '0' && b <= '9') {
+            return b - '0';
+        } else if (b >= 'a' && b <= 'f') {
+            return b - 'a' + 10;
+        } else if (b >= 'A' && b <= 'F') {
+            return b - 'A' + 10;
+        }
+        throw SYNTAX_EXCEPTION;
+    }
+
+    private boolean isIntegerToken() {
+        int i = pos;
+        if (i < end && bytes[i] == '-') {
+            i++;
+        }
+        int digitsStart = i;
+        while (i < end && bytes[i] >= '0' && bytes[i] <= '9') {
+            i++;
+        }
+        int digits = i - digitsStart;
+        return digits > 0 && digits <= MAX_FAST_PATH_DIGITS && (i == end || isDelimiter(bytes[i]));
+    }
+
+    private long parseLong() {
+        boolean negative = bytes[pos] == '-';
+        if (negative) {
+            pos++;
+        }
+        long value = 0;
+        while (pos < end && bytes[pos] >= '0' && bytes[pos] <= '9') {
+            value = value * 10 + (bytes[pos++] - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses a number, boolean or null literal, following the same rules as {@link JSONParser}.
+     */
+    private Object parseScalar() throws SyntaxException {
+        if (isIntegerToken()) {
+            return parseLong();
+        }
+        int start = pos;
+        while (pos < end && !isDelimiter(bytes[pos])) {
+            if (bytes[pos] < 0) {
+                throw SYNTAX_EXCEPTION;
+            }
+            pos++;
+        }
+        if (pos == start) {
+            throw SYNTAX_EXCEPTION;
+        }
+        String token = new String(bytes, start, pos - start, StandardCharsets.ISO_8859_1);
+        try {
+            if (token.indexOf('.') >= 0) {
+                return Double.parseDouble(token);
+            }
+            switch (token) {
+                case "true":
+                    return Boolean.TRUE;
+                case "false":
+                    return Boolean.FALSE;
+                case "null":
+                    return null;
+                default:
+                    return Long.parseLong(token);
+            }
+        } catch (NumberFormatException e) {
+            throw SYNTAX_EXCEPTION;
+        }
+    }
+
+    private static boolean isDelimiter(byte b) {
+        return b == ',' || b == '}' || b == ']' || isWhitespace(b);
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+    }
+
+    private void skipWhitespace() {
+        while (pos < end && isWhitespace(bytes[pos])) {
+            pos++;
+        }
+    }
+
+    private byte peek() throws SyntaxException {
+        if (pos >= end) {
+            throw SYNTAX_EXCEPTION;
+        }
+        return bytes[pos];
+    }
+
+    /**
+     * Signals content which is not handled by this parser. The error is reported by reparsing with
+     * {@link JSONParser}. Preallocated and stackless since it only drives the fallback.
+     */
+    private static class SyntaxException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        SyntaxException() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Signals content which cannot be bound directly to the target type.
+     */
+    private static class TypeMismatchException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        TypeMismatchException() {
+            super(null, null, false, false);
+        }
+    }
+}
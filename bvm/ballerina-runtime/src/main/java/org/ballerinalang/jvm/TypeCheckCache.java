@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.types.BType;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of structural type check results, keyed on the identity of the source and target types.
+ * <p>
+ * The cache is a fixed size, direct mapped table. A colliding pair simply replaces the existing entry, so lookups
+ * never lock and never allocate. Entries are immutable, hence a racy read sees either a complete entry or none.
+ *
+ * @since 2.0.0
+ */
+public class TypeCheckCache {
+
+    private static final int CACHE_SIZE = 4096;
+    private static final int INDEX_MASK = CACHE_SIZE - 1;
+
+    private static final Entry[] entries = new Entry[CACHE_SIZE];
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    private TypeCheckCache() {
+    }
+
+    /**
+     * Get the cached result of checking whether the source type is a subtype of the target type.
+     *
+     * @param sourceType source type
+     * @param targetType target type
+     * @return the cached result, or null if the pair is not in the cache
+     */
+    static Boolean get(BType sourceType, BType targetType) {
+        Entry entry = entries[indexOf(sourceType, targetType)];
+        if (entry != null && entry.sourceType == sourceType && entry.targetType == targetType) {
+            hits.increment();
+            return entry.result;
+        }
+        misses.increment();
+        return null;
+    }
+
+    static void put(BType sourceType, BType targetType, boolean result) {
+        entries[indexOf(sourceType, targetType)] = new Entry(sourceType, targetType, result);
+    }
+
+    public static long getHitCount() {
+        return hits.sum();
+    }
+
+    public static long getMissCount() {
+        return misses.sum();
+    }
+
+    private static int indexOf(BType sourceType, BType targetType) {
+        int hash = System.identityHashCode(sourceType) * 31 + System.identityHashCode(targetType);
+        return (hash ^ (hash >>> 16)) & INDEX_MASK;
+    }
+
+    private static class Entry {
+        final BType sourceType;
+        final BType targetType;
+        final boolean result;
+
+        Entry(BType sourceType, BType targetType, boolean result) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.result = result;
+        }
+    }
+}
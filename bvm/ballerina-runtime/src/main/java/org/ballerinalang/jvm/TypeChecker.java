@@ -634,8 +634,10 @@ public class TypeChecker {
             case TypeTags.XML_PI_TAG:
                 return targetTypeTag == sourceTypeTag;
             default:
-                return checkIsRecursiveType(sourceType, targetType,
-                        unresolvedTypes == null ? new ArrayList<>() : unresolvedTypes);
+                if (unresolvedTypes != null) {
+                    return checkIsRecursiveType(sourceType, targetType, unresolvedTypes);
+                }
+                return checkIsRecursiveTypeCached(sourceType, targetType);
         }
     }
 
@@ -651,6 +653,20 @@ public class TypeChecker {
         return checkIsType(sourceTypedesc.getConstraint(), targetType.getConstraint(), unresolvedTypes);
     }
 
+    /**
+     * Only top level checks are cached, since results computed while a recursive type pair is still being resolved
+     * are provisional.
+     */
+    private static boolean checkIsRecursiveTypeCached(BType sourceType, BType targetType) {
+        Boolean cachedResult = TypeCheckCache.get(sourceType, targetType);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+        boolean result = checkIsRecursiveType(sourceType, targetType, new ArrayList<>());
+        TypeCheckCache.put(sourceType, targetType, result);
+        return result;
+    }
+
     private static boolean checkIsRecursiveType(BType sourceType, BType targetType, List<TypePair> unresolvedTypes) {
         switch (targetType.getTag()) {
             case TypeTags.MAP_TAG:
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.values.XMLValue;
+
+import java.io.Closeable;
+import java.io.Reader;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+/**
+ * Pull based reader, which reads the elements matching a given path from an XML document one at a time.
+ * <p>
+ * The path is a {@code /} separated list of element local names starting from the root element, such as
+ * {@code catalog/book}, where a {@code *} segment matches any name. Only the matching elements are built as Ballerina
+ * xml values; the rest of the document is skipped while reading. Hence the memory used is bounded by the size of the
+ * largest matching element, rather than the size of the document.
+ *
+ * @since 2.0.0
+ */
+public class XMLElementStreamReader implements Closeable {
+
+    private static final String PATH_SEPARATOR = "/";
+    private static final String ANY_NAME = "*";
+
+    private final XMLStreamReader xmlStreamReader;
+    private final XMLTreeBuilder treeBuilder;
+    private final String[] path;
+    // Depth of the element being read, and the number of its enclosing elements which match the path
+    private int depth;
+    private int matchedDepth;
+
+    public XMLElementStreamReader(Reader reader, String path) {
+        this.path = parsePath(path);
+        try {
+            this.xmlStreamReader = XMLTreeBuilder.xmlInputFactory.createXMLStreamReader(reader);
+        } catch (XMLStreamException e) {
+            throw BallerinaErrors.createError("failed to create xml: " + e.getMessage());
+        }
+        this.treeBuilder = new XMLTreeBuilder(xmlStreamReader);
+    }
+
+    private static String[] parsePath(String path) {
+        String trimmedPath = path.trim();
+        while (trimmedPath.startsWith(PATH_SEPARATOR)) {
+            trimmedPath = trimmedPath.substring(1);
+        }
+        if (trimmedPath.isEmpty()) {
+            throw BallerinaErrors.createError("invalid xml element path: '" + path + "'");
+        }
+
+        String[] names = trimmedPath.split(PATH_SEPARATOR);
+        for (String name : names) {
+            if (name.isEmpty()) {
+                throw BallerinaErrors.createError("invalid xml element path: '" + path + "'");
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Reads the next element matching the path.
+     *
+     * @return the next matching element, or null if there are no more matching elements in the document
+     */
+    public XMLValue next() {
+        try {
+            while (xmlStreamReader.hasNext()) {
+                int event = xmlStreamReader.next();
+                if (event == START_ELEMENT) {
+                    depth++;
+                    if (!isNextInPath(xmlStreamReader.getLocalName())) {
+                        continue;
+                    }
+                    matchedDepth = depth;
+                    if (matchedDepth == path.length) {
+                        // The builder consumes the element up to its end tag.
+                        XMLValue element = treeBuilder.parseElement();
+                        depth--;
+                        matchedDepth--;
+                        return element;
+                    }
+                } else if (event == END_ELEMENT) {
+                    if (matchedDepth == depth) {
+                        matchedDepth--;
+                    }
+                    depth--;
+                }
+            }
+            return null;
+        } catch (XMLStreamException e) {
+            throw BallerinaErrors.createError("failed to read xml: " + e.getMessage());
+        }
+    }
+
+    private boolean isNextInPath(String localName) {
+        if (matchedDepth != depth - 1 || depth > path.length) {
+            return false;
+        }
+        String name = path[depth - 1];
+        return ANY_NAME.equals(name) || name.equals(localName);
+    }
+
+    @Override
+    public void close() {
+        try {
+            xmlStreamReader.close();
+        } catch (XMLStreamException e) {
+            throw BallerinaErrors.createError("failed to close the xml reader: " + e.getMessage());
+        }
+    }
+}
@@ -61,7 +61,7 @@ import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
 public class XMLTreeBuilder {
 
     // XMLInputFactory2
-    private static final XMLInputFactory xmlInputFactory;
+    static final XMLInputFactory xmlInputFactory;
 
     static {
         xmlInputFactory = XMLInputFactory.newInstance();
@@ -72,6 +72,10 @@ public class XMLTreeBuilder {
     private Map<String, String> namespaces; // xml ns declarations from Bal source [xmlns "http://ns.com" as ns]
     private Deque<XMLSequence> seqDeque;
     private Deque<List<BXML>> siblingDeque;
+    // Element names and attribute names repeat throughout a document, hence they are shared by the nodes of a document
+    // instead of creating new ones for each node.
+    private final Map<QName, QName> elementNames = new HashMap<>();
+    private final Map<String, BString> internedStrings = new HashMap<>();
 
     public XMLTreeBuilder(String str) {
         this(new StringReader(str));
@@ -93,6 +97,18 @@ public class XMLTreeBuilder {
         }
     }
 
+    /**
+     * Creates a builder for the elements of a document, which is already being read through the given reader.
+     *
+     * @param xmlStreamReader reader of the document
+     */
+    XMLTreeBuilder(XMLStreamReader xmlStreamReader) {
+        this.namespaces = new HashMap<>();
+        this.seqDeque = new ArrayDeque<>();
+        this.siblingDeque = new ArrayDeque<>();
+        this.xmlStreamReader = xmlStreamReader;
+    }
+
     private void handleXMLStreamException(Exception e) {
         // todo: do e.getMessage contain all the information? verify
         throw new BallerinaException(e.getMessage(), e);
@@ -135,6 +151,46 @@ public class XMLTreeBuilder {
         return null;
     }
 
+    /**
+     * Builds the element at the current {@code START_ELEMENT} event of the reader, along with its content. The reader
+     * is left at the matching {@code END_ELEMENT} event, hence the rest of the document can be read as usual.
+     *
+     * @return the element
+     * @throws XMLStreamException if the content of the element is not well formed
+     */
+    XMLValue parseElement() throws XMLStreamException {
+        List<BXML> siblings = new ArrayList<>(1);
+        siblingDeque.push(siblings);
+        readElement(xmlStreamReader);
+        int depth = 1;
+        while (depth > 0) {
+            switch (xmlStreamReader.next()) {
+                case START_ELEMENT:
+                    readElement(xmlStreamReader);
+                    depth++;
+                    break;
+                case END_ELEMENT:
+                    endElement();
+                    depth--;
+                    break;
+                case PROCESSING_INSTRUCTION:
+                    readPI(xmlStreamReader);
+                    break;
+                case COMMENT:
+                    readComment(xmlStreamReader);
+                    break;
+                case CDATA:
+                case CHARACTERS:
+                    readText(xmlStreamReader);
+                    break;
+                default:
+                    break;
+            }
+        }
+        siblingDeque.pop();
+        return (XMLValue) siblings.get(0);
+    }
+
     private void handleDTD(XMLStreamReader xmlStreamReader) {
         // ignore
     }
@@ -166,9 +222,7 @@ public class XMLTreeBuilder {
 
     private void readElement(XMLStreamReader xmlStreamReader) {
         QName elemName = xmlStreamReader.getName();
-        XMLQName name = new XMLQName(elemName.getLocalPart(),
-                elemName.getNamespaceURI(), elemName.getPrefix());
-        XMLItem xmlItem = (XMLItem) XMLFactory.createXMLElement(name, name, null);
+        XMLItem xmlItem = new XMLItem(getElementName(elemName), false);
 
         seqDeque.push(xmlItem.getChildrenSeq());
 
@@ -176,6 +230,30 @@ public class XMLTreeBuilder {
         populateAttributeMap(xmlStreamReader, xmlItem, elemName);
         siblingDeque.push(xmlItem.getChildrenSeq().getChildrenList());
     }
+
+    private QName getElementName(QName elemName) {
+        // QName equality does not consider the prefix, hence the prefix is compared separately.
+        QName name = elementNames.get(elemName);
+        if (name != null && name.getPrefix().equals(elemName.getPrefix())) {
+            return name;
+        }
+
+        XMLQName xmlQName = new XMLQName(elemName.getLocalPart(), elemName.getNamespaceURI(), elemName.getPrefix());
+        XMLValidator.validateXMLQName(xmlQName);
+        name = new QName(elemName.getNamespaceURI(), elemName.getLocalPart(), elemName.getPrefix());
+        elementNames.put(name, name);
+        return name;
+    }
+
+    private BString intern(String value) {
+        BString bString = internedStrings.get(value);
+        if (bString == null) {
+            bString = StringUtils.fromString(value);
+            internedStrings.put(value, bString);
+        }
+        return bString;
+    }
+
     // need to duplicate the same in xmlItem.setAttribute
 
     // todo: need to write a comment explaining each step
@@ -186,7 +264,7 @@ public class XMLTreeBuilder {
         int count = xmlStreamReader.getAttributeCount();
         for (int i = 0; i < count; i++) {
             QName attributeName = xmlStreamReader.getAttributeName(i);
-            attributesMap.put(StringUtils.fromString(attributeName.toString()),
+            attributesMap.put(intern(attributeName.toString()),
                               StringUtils.fromString(xmlStreamReader.getAttributeValue(i)));
             if (!attributeName.getPrefix().isEmpty()) {
                 usedNS.add(attributeName);
@@ -203,8 +281,8 @@ public class XMLTreeBuilder {
                 namespaceURI = namespaces.getOrDefault(prefix, "");
             }
 
-            BString xmlnsPrefix = StringUtils.fromString(XMLItem.XMLNS_URL_PREFIX + prefix);
-            attributesMap.put(xmlnsPrefix, StringUtils.fromString(namespaceURI));
+            BString xmlnsPrefix = intern(XMLItem.XMLNS_URL_PREFIX + prefix);
+            attributesMap.put(xmlnsPrefix, intern(namespaceURI));
         }
 
         int namespaceCount = xmlStreamReader.getNamespaceCount();
@@ -212,11 +290,9 @@ public class XMLTreeBuilder {
             String uri = xmlStreamReader.getNamespaceURI(i);
             String prefix = xmlStreamReader.getNamespacePrefix(i);
             if (prefix == null || prefix.isEmpty()) {
-                attributesMap.put(StringUtils.fromString(XMLItem.XMLNS_URL_PREFIX + "xmlns"),
-                                  StringUtils.fromString(uri));
+                attributesMap.put(intern(XMLItem.XMLNS_URL_PREFIX + "xmlns"), intern(uri));
             } else {
-                attributesMap.put(StringUtils.fromString(XMLItem.XMLNS_URL_PREFIX + prefix),
-                                  StringUtils.fromString(uri));
+                attributesMap.put(intern(XMLItem.XMLNS_URL_PREFIX + prefix), intern(uri));
             }
         }
     }
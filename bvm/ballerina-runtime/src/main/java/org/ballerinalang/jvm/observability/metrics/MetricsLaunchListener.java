@@ -18,6 +18,8 @@
 package org.ballerinalang.jvm.observability.metrics;
 
 import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.jvm.BLock;
+import org.ballerinalang.jvm.TypeCheckCache;
 import org.ballerinalang.jvm.launch.LaunchListener;
 import org.ballerinalang.jvm.observability.ObserveUtils;
 import org.ballerinalang.jvm.observability.metrics.noop.NoOpMetricProvider;
@@ -112,6 +114,18 @@ public class MetricsLaunchListener implements LaunchListener {
     }
 
     private void registerBallerinaMetrics() {
+        final String typeCheckCachePrefix = "ballerina_type_check_cache_";
+        PolledGauge.builder(typeCheckCachePrefix + "hit_count", TypeCheckCache.class,
+                cache -> TypeCheckCache.getHitCount())
+                .description("Number of runtime type checks served from the type check cache").register();
+        PolledGauge.builder(typeCheckCachePrefix + "miss_count", TypeCheckCache.class,
+                cache -> TypeCheckCache.getMissCount())
+                .description("Number of runtime type checks which missed the type check cache").register();
+        final String lockPrefix = "ballerina_lock_";
+        PolledGauge.builder(lockPrefix + "acquired_count", BLock.class, lock -> BLock.getTotalAcquiredCount())
+                .description("Number of times a lock statement acquired its lock").register();
+        PolledGauge.builder(lockPrefix + "contended_count", BLock.class, lock -> BLock.getTotalContendedCount())
+                .description("Number of times a lock statement had to wait for its lock").register();
 //        final BLangScheduler.SchedulerStats schedulerStats = BLangScheduler.getStats();
 //        final String prefix = "ballerina_scheduler_";
 //        PolledGauge.builder(prefix + "ready_worker_count", schedulerStats,
@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+import static org.ballerinalang.jvm.scheduling.State.BLOCK_AND_YIELD;
+
+/**
+ * A worker data channel which is only used by async sends, i.e. there are no sync sends or flushes over it. The
+ * compiler identifies such channels. Each instance is used by a single sender strand and a single receiver strand,
+ * see {@link WDChannels#getAsyncWorkerDataChannel(String, Strand, boolean)}.
+ * <p>
+ * Such a channel has a single sender which never waits for the receiver, hence the sender adds the data to the queue
+ * without taking the channel lock. The lock is only taken to wake up the receiver, if it is waiting for data. Data
+ * sent while the receiver is running does not cause any wake up. The receiver takes data without the lock while the
+ * queue is not empty, and takes the lock only to wait for data.
+ *
+ * @since 2.0.0
+ */
+public class AsyncWorkerDataChannel extends WorkerDataChannel {
+
+    // The only sender and receiver of this channel, guarded by the lock of the holding WDChannels.
+    Strand boundSender;
+    Strand boundReceiver;
+
+    public AsyncWorkerDataChannel(String channelName) {
+        super(channelName);
+    }
+
+    /**
+     * Checks whether both the sender and the receiver of this channel are done, after which the channel is not used.
+     *
+     * @return true if the channel is no longer used
+     */
+    boolean isDone() {
+        return boundSender != null && boundReceiver != null && boundSender.getState() == State.DONE &&
+                boundReceiver.getState() == State.DONE;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void sendData(Object data, Strand sender) {
+        this.channel.offer(new WorkerResult(data));
+        this.senderCounter++;
+        if (this.receiver == null) {
+            return;
+        }
+
+        try {
+            acquireChannelLock();
+            if (this.receiver != null) {
+                this.receiver.scheduler.unblockStrand(this.receiver);
+                this.receiver = null;
+            }
+        } finally {
+            releaseChannelLock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Object tryTakeData(Strand strand) throws Throwable {
+        WorkerResult result = this.channel.poll();
+        if (result != null) {
+            this.receiverCounter++;
+            return result.value;
+        }
+
+        try {
+            acquireChannelLock();
+            // The receiver is set before checking the queue again. Hence either the data sent in the meantime is
+            // found here, or the sender finds the receiver and wakes it up.
+            this.receiver = strand;
+            result = this.channel.poll();
+            if (result != null) {
+                this.receiver = null;
+                this.receiverCounter++;
+                return result.value;
+            } else if (this.panic != null && this.senderCounter == this.receiverCounter + 1) {
+                this.receiver = null;
+                this.receiverCounter++;
+                throw this.panic;
+            } else if (this.error != null && this.senderCounter == this.receiverCounter + 1) {
+                this.receiver = null;
+                this.receiverCounter++;
+                return this.error;
+            }
+
+            strand.setState(BLOCK_AND_YIELD);
+            return null;
+        } finally {
+            releaseChannelLock();
+        }
+    }
+}
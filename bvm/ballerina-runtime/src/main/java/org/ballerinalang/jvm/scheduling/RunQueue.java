@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+/**
+ * Holds the {@link ItemGroup}s that are ready to be executed by the {@link Scheduler} worker threads.
+ *
+ * @since 2.0.0
+ */
+interface RunQueue {
+
+    /**
+     * Called once by each worker thread before it starts taking groups from the queue.
+     *
+     * @param workerId index of the worker thread, starting from zero
+     */
+    default void registerWorker(int workerId) {
+    }
+
+    /**
+     * Adds a group which is ready for execution.
+     *
+     * @param group item group to be executed
+     */
+    void add(ItemGroup group);
+
+    /**
+     * Retrieves the next group to be executed by the given worker, waiting if necessary.
+     *
+     * @param workerId index of the worker thread which is asking for work
+     * @return next group to be executed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    ItemGroup take(int workerId) throws InterruptedException;
+
+    int size();
+}
@@ -32,8 +32,6 @@ import java.io.PrintStream;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -58,7 +56,7 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunQueue runnableList;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
 
@@ -66,6 +64,8 @@ public class Scheduler {
 
     private static String poolSizeConf = System.getenv(BLangConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    private static String schedulerModeConf = System.getenv(BLangConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR);
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      * Default is 100.
@@ -88,11 +88,33 @@ public class Scheduler {
         }
         this.numThreads = poolSize;
         this.immortal = immortal;
+        this.runnableList = createRunQueue(isWorkStealingMode(schedulerModeConf), numThreads);
     }
 
     public Scheduler(int numThreads, boolean immortal) {
+        this(numThreads, immortal, isWorkStealingMode(schedulerModeConf));
+    }
+
+    /**
+     * Creates a scheduler with the given run queue mode.
+     *
+     * @param numThreads number of worker threads.
+     * @param immortal whether the scheduler should keep running after all the strands are completed.
+     * @param workStealing if true, each worker keeps its own run queue and steals from others when idle;
+     *                     otherwise all the workers share a single run queue.
+     */
+    public Scheduler(int numThreads, boolean immortal, boolean workStealing) {
         this.numThreads = numThreads;
         this.immortal = immortal;
+        this.runnableList = createRunQueue(workStealing, numThreads);
+    }
+
+    private static boolean isWorkStealingMode(String mode) {
+        return BLangConstants.WORK_STEALING_SCHEDULER_MODE.equalsIgnoreCase(mode);
+    }
+
+    private static RunQueue createRunQueue(boolean workStealing, int numThreads) {
+        return workStealing ? new WorkStealingRunQueue(numThreads) : new SharedRunQueue();
     }
 
     public static Strand getStrand() {
@@ -217,9 +239,10 @@ public class Scheduler {
     public void start() {
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
         for (int i = 0; i < numThreads - 1; i++) {
-            new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
+            final int workerId = i;
+            new Thread(() -> runSafely(workerId), "jbal-strand-exec-" + i).start();
         }
-        this.runSafely();
+        this.runSafely(numThreads - 1);
         try {
             this.mainBlockSem.acquire();
         } catch (InterruptedException e) {
@@ -230,9 +253,9 @@ public class Scheduler {
     /**
      * Defensive programming to prevent unforeseen errors.
      */
-    private void runSafely() {
+    private void runSafely(int workerId) {
         try {
-            run();
+            run(workerId);
         } catch (Throwable t) {
             RuntimeUtils.printCrashLog(t);
         }
@@ -241,12 +264,13 @@ public class Scheduler {
     /**
      * Executes tasks that are submitted to the Scheduler.
      */
-    private void run() {
+    private void run(int workerId) {
+        runnableList.registerWorker(workerId);
         while (true) {
             SchedulerItem item;
             ItemGroup group;
             try {
-                group = runnableList.take();
+                group = runnableList.take(workerId);
             } catch (InterruptedException ignored) {
                 continue;
             }
@@ -408,9 +432,9 @@ public class Scheduler {
             WorkerDataChannel wdChannel;
 
             if (details.channelInSameStrand) {
-                wdChannel = item.future.strand.wdChannels.getWorkerDataChannel(details.name);
+                wdChannel = item.future.strand.wdChannels.getWorkerDataChannel(details, item.future.strand);
             } else {
-                wdChannel = item.future.strand.parent.wdChannels.getWorkerDataChannel(details.name);
+                wdChannel = item.future.strand.parent.wdChannels.getWorkerDataChannel(details, item.future.strand);
             }
 
             if (details.send) {
@@ -520,6 +544,12 @@ class ItemGroup {
      */
     AtomicBoolean scheduled = new AtomicBoolean(false);
 
+    /**
+     * Index of the worker thread which last picked this group. Used to keep rescheduled groups on the same worker
+     * when the work stealing run queue is in use.
+     */
+    volatile int lastWorker = -1;
+
     public static final ItemGroup POISON_PILL = new ItemGroup();
 
     public ItemGroup(SchedulerItem item) {
@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An unbounded queue for a single producer and a single consumer, which does not use locks.
+ * <p>
+ * Items are kept in fixed size segments linked to each other. The producer fills the last segment and links a new one
+ * when it is full, while the consumer drains the first segment and moves to the next one. An item is published with
+ * a volatile write to its slot, hence an item seen by the consumer is fully visible to it.
+ *
+ * @param <E> type of the items
+ * @since 2.0.0
+ */
+final class SpscQueue<E> {
+
+    private static final int SEGMENT_SIZE = 32;
+
+    // Accessed only by the producer.
+    private Segment<E> producerSegment;
+    private int producerIndex;
+
+    // Accessed only by the consumer.
+    private Segment<E> consumerSegment;
+    private int consumerIndex;
+
+    SpscQueue() {
+        Segment<E> segment = new Segment<>();
+        this.producerSegment = segment;
+        this.consumerSegment = segment;
+    }
+
+    /**
+     * Add an item to the end of the queue. Should only be called by the producer.
+     *
+     * @param item item to add
+     */
+    void offer(E item) {
+        Objects.requireNonNull(item);
+        if (producerIndex == SEGMENT_SIZE) {
+            Segment<E> next = new Segment<>();
+            producerSegment.next = next;
+            producerSegment = next;
+            producerIndex = 0;
+        }
+        producerSegment.items.set(producerIndex++, item);
+    }
+
+    /**
+     * Return the item at the head of the queue without removing it. Should only be called by the consumer.
+     *
+     * @return item at the head, or null if the queue is empty
+     */
+    E peek() {
+        if (consumerIndex == SEGMENT_SIZE) {
+            Segment<E> next = consumerSegment.next;
+            if (next == null) {
+                return null;
+            }
+            consumerSegment = next;
+            consumerIndex = 0;
+        }
+        return consumerSegment.items.get(consumerIndex);
+    }
+
+    /**
+     * Remove and return the item at the head of the queue. Should only be called by the consumer.
+     *
+     * @return item at the head, or null if the queue is empty
+     */
+    E poll() {
+        E item = peek();
+        if (item != null) {
+            // The slot is never reused, clearing it only lets the item be collected.
+            consumerSegment.items.lazySet(consumerIndex++, null);
+        }
+        return item;
+    }
+
+    private static final class Segment<E> {
+        private final AtomicReferenceArray<E> items = new AtomicReferenceArray<>(SEGMENT_SIZE);
+        private volatile Segment<E> next;
+    }
+}
@@ -264,9 +264,9 @@ public class Strand {
     private WorkerDataChannel getWorkerDataChannel(ChannelDetails channel) {
         WorkerDataChannel dataChannel;
         if (channel.channelInSameStrand) {
-            dataChannel = this.wdChannels.getWorkerDataChannel(channel.name);
+            dataChannel = this.wdChannels.getWorkerDataChannel(channel, this);
         } else {
-            dataChannel = this.parent.wdChannels.getWorkerDataChannel(channel.name);
+            dataChannel = this.parent.wdChannels.getWorkerDataChannel(channel, this);
         }
         return dataChannel;
     }
@@ -17,7 +17,12 @@
 */
 package org.ballerinalang.jvm.scheduling;
 
+import org.ballerinalang.jvm.values.ChannelDetails;
+
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -28,6 +33,8 @@ import java.util.Map;
 public class WDChannels {
 
     private Map<String, WorkerDataChannel> wDChannels;
+    // Channels which are only used by async sends, kept apart since a channel name is not unique across functions.
+    private Map<String, List<AsyncWorkerDataChannel>> asyncWDChannels;
 
     //TODO try to generalize this to a normal data channel, in that case we won't need these classes.
     public WDChannels() {
@@ -44,4 +51,58 @@ public class WDChannels {
         }
         return channel;
     }
+
+    /**
+     * Returns the async channel of the given name for the given sender or receiver strand.
+     * <p>
+     * An async channel is lock-free, so it must only be used by a single sender and a single receiver. Workers of the
+     * same name may run more than once against this holder, e.g. when the function which starts them is called again
+     * before its workers are done, or when a fork is in a loop. Hence each channel instance is bound to the first
+     * sender strand and the first receiver strand which use it, and a strand which finds the channel bound to another
+     * strand gets a channel of its own.
+     *
+     * @param name   channel name
+     * @param strand sender or receiver strand
+     * @param send   whether the strand is the sender of the channel
+     * @return worker data channel bound to the given strand
+     */
+    public synchronized WorkerDataChannel getAsyncWorkerDataChannel(String name, Strand strand, boolean send) {
+        if (this.asyncWDChannels == null) {
+            this.asyncWDChannels = new HashMap<>();
+        }
+        List<AsyncWorkerDataChannel> channels = this.asyncWDChannels.computeIfAbsent(name, key -> new ArrayList<>());
+        AsyncWorkerDataChannel unboundChannel = null;
+        Iterator<AsyncWorkerDataChannel> iterator = channels.iterator();
+        while (iterator.hasNext()) {
+            AsyncWorkerDataChannel channel = iterator.next();
+            Strand boundStrand = send ? channel.boundSender : channel.boundReceiver;
+            if (boundStrand == strand) {
+                return channel;
+            }
+            if (boundStrand == null) {
+                if (unboundChannel == null) {
+                    unboundChannel = channel;
+                }
+            } else if (channel.isDone()) {
+                iterator.remove();
+            }
+        }
+        if (unboundChannel == null) {
+            unboundChannel = new AsyncWorkerDataChannel(name);
+            channels.add(unboundChannel);
+        }
+        if (send) {
+            unboundChannel.boundSender = strand;
+        } else {
+            unboundChannel.boundReceiver = strand;
+        }
+        return unboundChannel;
+    }
+
+    public WorkerDataChannel getWorkerDataChannel(ChannelDetails channel, Strand strand) {
+        if (channel.asyncOnly) {
+            return getAsyncWorkerDataChannel(channel.name, strand, channel.send);
+        }
+        return getWorkerDataChannel(channel.name);
+    }
 }
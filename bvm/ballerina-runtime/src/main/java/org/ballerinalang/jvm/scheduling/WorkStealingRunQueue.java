@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.ballerinalang.jvm.scheduling.ItemGroup.POISON_PILL;
+
+/**
+ * {@link RunQueue} which keeps a local deque per worker thread and lets idle workers steal from the others.
+ * <p>
+ * Groups scheduled from a worker thread go to that worker's deque and a group which gets rescheduled goes back to
+ * the deque of the worker which last executed it. Groups scheduled from non-worker threads and poison pills go to a
+ * shared injection queue. Workers only park when there is nothing to run in any of the queues.
+ *
+ * @since 2.0.0
+ */
+class WorkStealingRunQueue implements RunQueue {
+
+    /**
+     * Number of local takes after which the injection queue gets checked first, so that groups submitted from
+     * non-worker threads are not starved by strands which keep yielding into the local deque.
+     */
+    private static final int INJECTION_QUEUE_CHECK_INTERVAL = 61;
+
+    private final Deque<ItemGroup>[] localQueues;
+    private final Queue<ItemGroup> injectionQueue = new ConcurrentLinkedQueue<>();
+    private final int[] takeCounts;
+    private final ThreadLocal<Integer> currentWorker = new ThreadLocal<>();
+
+    private final ReentrantLock idleLock = new ReentrantLock();
+    private final Condition workAvailable = idleLock.newCondition();
+    private final AtomicInteger idleWorkers = new AtomicInteger();
+
+    @SuppressWarnings("unchecked")
+    WorkStealingRunQueue(int numWorkers) {
+        this.localQueues = new Deque[numWorkers];
+        for (int i = 0; i < numWorkers; i++) {
+            this.localQueues[i] = new ConcurrentLinkedDeque<>();
+        }
+        this.takeCounts = new int[numWorkers];
+    }
+
+    @Override
+    public void registerWorker(int workerId) {
+        currentWorker.set(workerId);
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        int target = -1;
+        if (group != POISON_PILL) {
+            target = group.lastWorker;
+            if (target < 0) {
+                Integer worker = currentWorker.get();
+                target = worker == null ? -1 : worker;
+            }
+        }
+
+        if (target >= 0) {
+            localQueues[target].addLast(group);
+        } else {
+            injectionQueue.add(group);
+        }
+        signalWork();
+    }
+
+    @Override
+    public ItemGroup take(int workerId) throws InterruptedException {
+        while (true) {
+            ItemGroup group = poll(workerId);
+            if (group != null) {
+                return group;
+            }
+
+            idleLock.lockInterruptibly();
+            try {
+                idleWorkers.incrementAndGet();
+                try {
+                    // Recheck after registering as idle, since a producer only signals when it sees an idle worker.
+                    group = poll(workerId);
+                    if (group == null) {
+                        workAvailable.await();
+                    }
+                } finally {
+                    idleWorkers.decrementAndGet();
+                }
+            } finally {
+                idleLock.unlock();
+            }
+
+            if (group != null) {
+                return group;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = injectionQueue.size();
+        for (Deque<ItemGroup> localQueue : localQueues) {
+            size += localQueue.size();
+        }
+        return size;
+    }
+
+    private ItemGroup poll(int workerId) {
+        ItemGroup group;
+        if (++takeCounts[workerId] % INJECTION_QUEUE_CHECK_INTERVAL == 0) {
+            group = injectionQueue.poll();
+            if (group != null) {
+                return claim(group, workerId);
+            }
+        }
+
+        group = localQueues[workerId].pollFirst();
+        if (group != null) {
+            return claim(group, workerId);
+        }
+
+        group = injectionQueue.poll();
+        if (group != null) {
+            return claim(group, workerId);
+        }
+
+        int numWorkers = localQueues.length;
+        for (int i = 1; i < numWorkers; i++) {
+            group = localQueues[(workerId + i) % numWorkers].pollLast();
+            if (group != null) {
+                return claim(group, workerId);
+            }
+        }
+        return null;
+    }
+
+    private ItemGroup claim(ItemGroup group, int workerId) {
+        if (group != POISON_PILL) {
+            group.lastWorker = workerId;
+        }
+        return group;
+    }
+
+    private void signalWork() {
+        if (idleWorkers.get() == 0) {
+            return;
+        }
+
+        idleLock.lock();
+        try {
+            workAvailable.signal();
+        } finally {
+            idleLock.unlock();
+        }
+    }
+}
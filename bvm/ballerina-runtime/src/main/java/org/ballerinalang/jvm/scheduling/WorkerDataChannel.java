@@ -19,8 +19,6 @@ package org.ballerinalang.jvm.scheduling;
 
 import org.ballerinalang.jvm.values.ErrorValue;
 
-import java.util.LinkedList;
-import java.util.Queue;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -34,21 +32,23 @@ import static org.ballerinalang.jvm.scheduling.State.BLOCK_AND_YIELD;
  */
 public class WorkerDataChannel {
 
-    private Strand receiver;
+    // Read by the sender without holding the channel lock in async worker data channels, hence volatile.
+    volatile Strand receiver;
     private WaitingSender waitingSender;
     private WaitingSender flushSender;
-    private ErrorValue error;
-    private Throwable panic;
-    private int senderCounter;
-    private int receiverCounter;
+    ErrorValue error;
+    Throwable panic;
+    int senderCounter;
+    int receiverCounter;
     private boolean reschedule;
 
     private Lock channelLock;
 
     public String chnlName;
 
+    // Guarded by the channel lock, except for the send and take fast paths of async worker data channels.
     @SuppressWarnings("rawtypes")
-    private Queue<WorkerResult> channel = new LinkedList<>();
+    SpscQueue<WorkerResult> channel = new SpscQueue<>();
 
     public WorkerDataChannel() {
         this.channelLock = new ReentrantLock();
@@ -74,7 +74,7 @@ public class WorkerDataChannel {
     public void sendData(Object data, Strand sender) {
         try {
             acquireChannelLock();
-            this.channel.add(new WorkerResult(data));
+            this.channel.offer(new WorkerResult(data));
             this.senderCounter++;
             if (this.receiver != null) {
                 this.receiver.scheduler.unblockStrand(this.receiver);
@@ -97,7 +97,7 @@ public class WorkerDataChannel {
             acquireChannelLock();
             if (!reschedule) {
                 // this is a new message, not a reschedule
-                this.channel.add(new WorkerResult(data, true));
+                this.channel.offer(new WorkerResult(data, true));
                 this.senderCounter++;
                 this.waitingSender = new WaitingSender(strand, -1);
 
@@ -142,7 +142,7 @@ public class WorkerDataChannel {
             WorkerResult result = this.channel.peek();
             if (result != null) {
                 this.receiverCounter++;
-                this.channel.remove();
+                this.channel.poll();
 
                 if (result.isSync) {
                     // sync sender will pick the this.error as result, which is null
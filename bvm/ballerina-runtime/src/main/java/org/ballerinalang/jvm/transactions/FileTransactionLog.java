@@ -0,0 +1,302 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm.transactions;
+
+import org.ballerinalang.config.ConfigRegistry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import static org.ballerinalang.jvm.transactions.TransactionConstants.DEFAULT_TRANSACTION_LOG_PATH;
+import static org.ballerinalang.jvm.transactions.TransactionConstants.TRANSACTION_LOG_PATH_CONFIG;
+
+/**
+ * {@code FileTransactionLog} is a {@link TransactionLog} kept in an append-only file.
+ * <p>
+ * Each record is written as its length, a CRC32 checksum and the record. A record which is partially written due to
+ * a crash fails the checksum, and is discarded along with everything after it during the recovery.
+ * <p>
+ * Appends are group committed. The records appended while a batch is being synced to the disk are written and synced
+ * together in the next batch, by whichever appending thread gets to do it first. Hence a single sync makes a number of
+ * concurrent transactions durable.
+ * <p>
+ * The log is compacted to only contain the records of the transactions which are not completed, during the recovery
+ * and when the log grows beyond its maximum size.
+ *
+ * @since 2.0.0
+ */
+public class FileTransactionLog implements TransactionLog {
+
+    public static final String NAME = "file";
+    public static final String LOG_FILE_NAME = "transaction.log";
+    private static final String COMPACTED_LOG_FILE_NAME = "transaction.log.compacted";
+    private static final long DEFAULT_MAX_LOG_SIZE = 16 * 1024 * 1024;
+    // The state, two ids and two parts of the xid, each written with a short length, the xid format, the number of
+    // resource managers and whether the transaction is remotely coordinated.
+    private static final int MAX_RECORD_SIZE = Byte.BYTES + 4 * (Short.BYTES + 0xFFFF) + 2 * Integer.BYTES + Byte.BYTES;
+
+    private final Path directory;
+    private final Path logFile;
+    private final long maxLogSize;
+    private FileChannel channel;
+
+    // Records waiting to be written, and the number of records appended so far. Guarded by this.
+    private List<TransactionLogRecord> pendingRecords = new ArrayList<>();
+    private long appendedCount;
+
+    // The following are guarded by the flush lock, which is held while a batch is written.
+    private final Object flushLock = new Object();
+    private long durableCount;
+    private IOException failure;
+    // Last record of each transaction which is not completed, which are kept when the log is compacted.
+    private final Map<String, TransactionLogRecord> activeRecords = new LinkedHashMap<>();
+
+    public FileTransactionLog() {
+        this(Paths.get(ConfigRegistry.getInstance().getConfigOrDefault(TRANSACTION_LOG_PATH_CONFIG,
+                                                                       DEFAULT_TRANSACTION_LOG_PATH)),
+             DEFAULT_MAX_LOG_SIZE);
+    }
+
+    public FileTransactionLog(Path directory, long maxLogSize) {
+        this.directory = directory;
+        this.logFile = directory.resolve(LOG_FILE_NAME);
+        this.maxLogSize = maxLogSize;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public List<TransactionLogRecord> recover() throws IOException {
+        synchronized (flushLock) {
+            Files.createDirectories(directory);
+            if (Files.exists(logFile)) {
+                readLog();
+            }
+            compact();
+            return new ArrayList<>(activeRecords.values());
+        }
+    }
+
+    @Override
+    public void append(TransactionLogRecord record) throws IOException {
+        long sequence;
+        synchronized (this) {
+            pendingRecords.add(record);
+            sequence = ++appendedCount;
+        }
+        if (record.getState() == TransactionLogRecord.State.COMPLETED) {
+            // Written along with the next batch.
+            return;
+        }
+
+        synchronized (flushLock) {
+            if (failure != null) {
+                throw new IOException("transaction log is not writable", failure);
+            }
+            if (durableCount >= sequence) {
+                // Written by another thread along with its batch.
+                return;
+            }
+            flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (flushLock) {
+            if (channel == null) {
+                return;
+            }
+            if (failure == null) {
+                flush();
+            }
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void flush() throws IOException {
+        if (channel == null) {
+            throw new IOException("transaction log is not recovered");
+        }
+        List<TransactionLogRecord> batch;
+        long batchEnd;
+        synchronized (this) {
+            batch = pendingRecords;
+            pendingRecords = new ArrayList<>();
+            batchEnd = appendedCount;
+        }
+
+        try {
+            write(channel, batch);
+            channel.force(false);
+        } catch (IOException e) {
+            // The state of the file is not known after a failed write, hence nothing is written after that.
+            failure = e;
+            throw e;
+        }
+        durableCount = batchEnd;
+        for (TransactionLogRecord record : batch) {
+            updateActiveRecords(record);
+        }
+
+        if (channel.size() > maxLogSize) {
+            compact();
+        }
+    }
+
+    private void readLog() throws IOException {
+        long validLength = 0;
+        try (DataInputStream in = new DataInputStream(Channels.newInputStream(FileChannel.open(logFile)))) {
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                if (length < 0 || length > MAX_RECORD_SIZE) {
+                    break;
+                }
+                long checksum = in.readInt() & 0xFFFFFFFFL;
+                byte[] bytes = new byte[length];
+                in.readFully(bytes);
+                if (checksum(bytes) != checksum) {
+                    break;
+                }
+                updateActiveRecords(decode(bytes));
+                validLength += Integer.BYTES * 2 + length;
+            }
+        } catch (EOFException e) {
+            // A record partially written before a crash. It is dropped along with anything after it.
+        }
+
+        if (validLength < Files.size(logFile)) {
+            try (FileChannel logChannel = FileChannel.open(logFile, StandardOpenOption.WRITE)) {
+                logChannel.truncate(validLength);
+                logChannel.force(false);
+            }
+        }
+    }
+
+    private void updateActiveRecords(TransactionLogRecord record) {
+        if (record.getState() == TransactionLogRecord.State.COMPLETED) {
+            activeRecords.remove(record.getCombinedId());
+        } else {
+            activeRecords.put(record.getCombinedId(), record);
+        }
+    }
+
+    private void compact() throws IOException {
+        Path compactedFile = directory.resolve(COMPACTED_LOG_FILE_NAME);
+        try (FileChannel compacted = FileChannel.open(compactedFile, StandardOpenOption.CREATE,
+                                                      StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(compacted, activeRecords.values());
+            compacted.force(false);
+        }
+
+        if (channel != null) {
+            channel.close();
+        }
+        Files.move(compactedFile, logFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = FileChannel.open(logFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private static void write(FileChannel fileChannel, Iterable<TransactionLogRecord> records) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(buffer);
+        for (TransactionLogRecord record : records) {
+            byte[] bytes = encode(record);
+            out.writeInt(bytes.length);
+            out.writeInt((int) checksum(bytes));
+            out.write(bytes);
+        }
+
+        ByteBuffer byteBuffer = ByteBuffer.wrap(buffer.toByteArray());
+        while (byteBuffer.hasRemaining()) {
+            fileChannel.write(byteBuffer);
+        }
+    }
+
+    private static byte[] encode(TransactionLogRecord record) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(buffer);
+        out.writeByte(record.getState().ordinal());
+        out.writeUTF(record.getTransactionId());
+        out.writeUTF(record.getTransactionBlockId());
+        XATransactionID xid = record.getXid();
+        out.writeInt(xid.getFormatId());
+        writeBytes(out, xid.getGlobalTransactionId());
+        writeBytes(out, xid.getBranchQualifier());
+        out.writeInt(record.getResourceManagerCount());
+        out.writeBoolean(record.isRemotelyCoordinated());
+        return buffer.toByteArray();
+    }
+
+    private static TransactionLogRecord decode(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        TransactionLogRecord.State state = TransactionLogRecord.State.values()[in.readByte()];
+        String transactionId = in.readUTF();
+        String transactionBlockId = in.readUTF();
+        int formatId = in.readInt();
+        byte[] globalTransactionId = readBytes(in);
+        byte[] branchQualifier = readBytes(in);
+        int resourceManagerCount = in.readInt();
+        boolean remotelyCoordinated = in.readBoolean();
+        return new TransactionLogRecord(transactionId, transactionBlockId, state,
+                                        new XATransactionID(formatId, branchQualifier, globalTransactionId),
+                                        resourceManagerCount, remotelyCoordinated);
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readUnsignedShort()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static long checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        return crc.getValue();
+    }
+}
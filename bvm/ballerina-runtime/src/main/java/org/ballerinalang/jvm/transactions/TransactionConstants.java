@@ -58,4 +58,10 @@ public class TransactionConstants {
     public static final BString REGISTER_AT_URL = StringUtils.fromString("registerAtURL");
 
     public static final String ANN_NAME_TRX_PARTICIPANT_CONFIG = "Participant";
+
+    // Transaction log configurations
+    public static final String TRANSACTION_LOG_ENABLED_CONFIG = "b7a.transactions.log.enabled";
+    public static final String TRANSACTION_LOG_TYPE_CONFIG = "b7a.transactions.log.type";
+    public static final String TRANSACTION_LOG_PATH_CONFIG = "b7a.transactions.log.path";
+    public static final String DEFAULT_TRANSACTION_LOG_PATH = "transaction-log";
 }
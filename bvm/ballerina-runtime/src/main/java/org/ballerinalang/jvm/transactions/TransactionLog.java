@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm.transactions;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * {@code TransactionLog} is a write-ahead log of the states of the XA transactions, used to recover the prepared
+ * transactions after a crash. An implementation is picked by its name, among the implementations registered as
+ * services of this interface.
+ *
+ * @since 2.0.0
+ */
+public interface TransactionLog extends Closeable {
+
+    /**
+     * Returns the name of the transaction log, which is used to select it in the configuration.
+     *
+     * @return name of the transaction log
+     */
+    String getName();
+
+    /**
+     * Opens the transaction log and returns the records of the transactions which were not completed before the
+     * previous run stopped. This is called once, before any record is appended.
+     *
+     * @return the last record of each transaction which is not completed
+     * @throws IOException if the log cannot be read
+     */
+    List<TransactionLogRecord> recover() throws IOException;
+
+    /**
+     * Appends a record to the log. The record is durable when this returns, except for a record of the
+     * {@link TransactionLogRecord.State#COMPLETED} state, which may be written later since losing it only causes the
+     * transaction to be resolved again.
+     *
+     * @param record record to append
+     * @throws IOException if the record cannot be written
+     */
+    void append(TransactionLogRecord record) throws IOException;
+}
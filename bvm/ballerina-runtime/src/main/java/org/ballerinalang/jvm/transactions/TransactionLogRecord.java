@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm.transactions;
+
+import javax.transaction.xa.Xid;
+
+/**
+ * {@code TransactionLogRecord} represents a state change of a transaction, written to the {@link TransactionLog}.
+ *
+ * @since 2.0.0
+ */
+public class TransactionLogRecord {
+
+    /**
+     * States of a transaction which are logged.
+     */
+    public enum State {
+        // The resources of the transaction are being prepared, and the outcome is not decided.
+        PREPARED,
+        // The transaction is decided to be committed.
+        COMMITTING,
+        // The resources of the transaction are committed or rolled back.
+        COMPLETED
+    }
+
+    private final String transactionId;
+    private final String transactionBlockId;
+    private final State state;
+    private final XATransactionID xid;
+    private final int resourceManagerCount;
+    private final boolean remotelyCoordinated;
+
+    public TransactionLogRecord(String transactionId, String transactionBlockId, State state, Xid xid) {
+        this(transactionId, transactionBlockId, state, xid, 1, false);
+    }
+
+    /**
+     * Creates a record of a transaction.
+     *
+     * @param transactionId        the global transaction id
+     * @param transactionBlockId   the block id of the transaction
+     * @param state                state of the transaction
+     * @param xid                  xid of the transaction
+     * @param resourceManagerCount number of resource managers the transaction is prepared in
+     * @param remotelyCoordinated  whether the outcome of the transaction is decided by a remote coordinator
+     */
+    public TransactionLogRecord(String transactionId, String transactionBlockId, State state, Xid xid,
+                                int resourceManagerCount, boolean remotelyCoordinated) {
+        this.transactionId = transactionId;
+        this.transactionBlockId = transactionBlockId;
+        this.state = state;
+        this.xid = XATransactionID.from(xid);
+        this.resourceManagerCount = resourceManagerCount;
+        this.remotelyCoordinated = remotelyCoordinated;
+    }
+
+    public String getTransactionId() {
+        return transactionId;
+    }
+
+    public String getTransactionBlockId() {
+        return transactionBlockId;
+    }
+
+    public String getCombinedId() {
+        return transactionId + ":" + transactionBlockId;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public XATransactionID getXid() {
+        return xid;
+    }
+
+    public int getResourceManagerCount() {
+        return resourceManagerCount;
+    }
+
+    public boolean isRemotelyCoordinated() {
+        return remotelyCoordinated;
+    }
+
+    @Override
+    public String toString() {
+        return getCombinedId() + " " + state;
+    }
+}
@@ -17,6 +17,7 @@
  */
 package org.ballerinalang.jvm.transactions;
 
+import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.jvm.StringUtils;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.util.exceptions.BallerinaException;
@@ -24,10 +25,14 @@ import org.ballerinalang.jvm.values.FPValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
 
@@ -35,8 +40,12 @@ import javax.transaction.xa.XAException;
 import javax.transaction.xa.XAResource;
 import javax.transaction.xa.Xid;
 
+import static javax.transaction.xa.XAResource.TMENDRSCAN;
 import static javax.transaction.xa.XAResource.TMNOFLAGS;
+import static javax.transaction.xa.XAResource.TMSTARTRSCAN;
 import static javax.transaction.xa.XAResource.TMSUCCESS;
+import static org.ballerinalang.jvm.transactions.TransactionConstants.TRANSACTION_LOG_ENABLED_CONFIG;
+import static org.ballerinalang.jvm.transactions.TransactionConstants.TRANSACTION_LOG_TYPE_CONFIG;
 
 /**
  * {@code TransactionResourceManager} registry for transaction contexts.
@@ -57,11 +66,73 @@ public class TransactionResourceManager {
     private ConcurrentSkipListSet<String> failedLocalParticipantSet = new ConcurrentSkipListSet<>();
     private ConcurrentHashMap<String, ConcurrentSkipListSet<String>> localParticipants = new ConcurrentHashMap<>();
 
+    // Write-ahead log of the XA transactions, which is null unless it is enabled.
+    private TransactionLog transactionLog;
+    // Transactions found incomplete in the transaction log, which are resolved as their XA resources are registered.
+    private Map<XATransactionID, InDoubtTransaction> inDoubtTransactions = new ConcurrentHashMap<>();
+    // A resource of each resource manager scanned for the in doubt transactions, which are kept until none is left.
+    private List<XAResource> recoveredResources = new ArrayList<>();
+    // Global ids of the transactions this node participates in, whose outcome is decided by a remote coordinator.
+    private Set<String> remoteParticipations = ConcurrentHashMap.newKeySet();
+
     private TransactionResourceManager() {
+        this(loadTransactionLog());
+        if (transactionLog != null) {
+            Runtime.getRuntime().addShutdownHook(new Thread(this::closeTransactionLog));
+        }
+    }
+
+    TransactionResourceManager(TransactionLog txLog) {
         resourceRegistry = new HashMap<>();
         xidRegistry = new HashMap<>();
         committedFuncRegistry = new HashMap<>();
         abortedFuncRegistry = new HashMap<>();
+        if (txLog != null) {
+            initTransactionLog(txLog);
+        }
+    }
+
+    private static TransactionLog loadTransactionLog() {
+        ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+        if (!configRegistry.getAsBoolean(TRANSACTION_LOG_ENABLED_CONFIG)) {
+            return null;
+        }
+
+        String logType = configRegistry.getConfigOrDefault(TRANSACTION_LOG_TYPE_CONFIG, FileTransactionLog.NAME);
+        TransactionLog txLog = null;
+        for (TransactionLog candidate : ServiceLoader.load(TransactionLog.class)) {
+            if (candidate.getName().equalsIgnoreCase(logType)) {
+                txLog = candidate;
+                break;
+            }
+        }
+        if (txLog == null) {
+            log.error("no transaction log found for type " + logType);
+        }
+        return txLog;
+    }
+
+    private void initTransactionLog(TransactionLog txLog) {
+        try {
+            for (TransactionLogRecord record : txLog.recover()) {
+                inDoubtTransactions.put(record.getXid(), new InDoubtTransaction(record));
+            }
+        } catch (IOException e) {
+            log.error("error in recovering the transaction log: " + e.getMessage(), e);
+            return;
+        }
+        transactionLog = txLog;
+        if (!inDoubtTransactions.isEmpty()) {
+            log.info(String.format("Transactions recovered from the transaction log: %d", inDoubtTransactions.size()));
+        }
+    }
+
+    private void closeTransactionLog() {
+        try {
+            transactionLog.close();
+        } catch (IOException e) {
+            log.error("error in closing the transaction log: " + e.getMessage(), e);
+        }
     }
 
     public static TransactionResourceManager getInstance() {
@@ -123,6 +194,25 @@ public class TransactionResourceManager {
      */
     public void registerParticipation(String gTransactionId, String transactionBlockId, FPValue committed,
                                       FPValue aborted, Strand strand) {
+        registerParticipation(gTransactionId, transactionBlockId, committed, aborted, strand, false);
+    }
+
+    /**
+     * Register a participation in a global transaction.
+     *
+     * @param gTransactionId     global transaction id
+     * @param transactionBlockId participant identifier
+     * @param committed          function pointer to invoke when this transaction committed
+     * @param aborted            function pointer to invoke when this transaction aborted
+     * @param strand             ballerina strand of the participant
+     * @param remote             whether the transaction is coordinated by a remote coordinator
+     * @since 2.0.0
+     */
+    public void registerParticipation(String gTransactionId, String transactionBlockId, FPValue committed,
+                                      FPValue aborted, Strand strand, boolean remote) {
+        if (remote) {
+            remoteParticipations.add(gTransactionId);
+        }
         localParticipants.computeIfAbsent(gTransactionId, gid -> new ConcurrentSkipListSet<>()).add(transactionBlockId);
 
         TransactionLocalContext transactionLocalContext = strand.transactionLocalContext;
@@ -140,13 +230,19 @@ public class TransactionResourceManager {
      */
     public boolean prepare(String transactionId, String transactionBlockId) {
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
+        Xid xid = xidRegistry.get(combinedId);
         List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
+        // Logged before preparing the resources, so that a resource prepared before a crash is resolved when it is
+        // recovered.
+        if (xid != null && !appendToLog(createRecord(transactionId, transactionBlockId,
+                                                     TransactionLogRecord.State.PREPARED, xid, txContextList))) {
+            return false;
+        }
         if (txContextList != null) {
             for (BallerinaTransactionContext ctx : txContextList) {
                 try {
                     XAResource xaResource = ctx.getXAResource();
                     if (xaResource != null) {
-                        Xid xid = xidRegistry.get(combinedId);
                         xaResource.prepare(xid);
                     }
                 } catch (Throwable e) {
@@ -176,13 +272,29 @@ public class TransactionResourceManager {
     public boolean notifyCommit(Strand strand, String transactionId, String transactionBlockId) {
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
         boolean commitSuccess = true;
+        Xid xid = xidRegistry.get(combinedId);
         List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
+        if (xid == null && !inDoubtTransactions.isEmpty()) {
+            // The transaction may have been prepared before a restart, and decided by its coordinator since.
+            commitSuccess = resolveInDoubtTransaction(combinedId, true);
+        }
+        // The decision is logged before committing any resource, so that the rest are committed on recovery.
+        if (xid != null && !appendToLog(createRecord(transactionId, transactionBlockId,
+                                                     TransactionLogRecord.State.COMMITTING, xid, txContextList))) {
+            if (remoteParticipations.contains(transactionId)) {
+                // The outcome is decided by the remote coordinator, hence the resources are left prepared for it to
+                // retry the commit.
+                return false;
+            }
+            // Without a durable decision, a crash while committing could leave the resources partially committed.
+            notifyAbort(transactionId, transactionBlockId);
+            return false;
+        }
         if (txContextList != null) {
             for (BallerinaTransactionContext ctx : txContextList) {
                 try {
                     XAResource xaResource = ctx.getXAResource();
                     if (xaResource != null) {
-                        Xid xid = xidRegistry.get(combinedId);
                         xaResource.commit(xid, false);
                     } else {
                         ctx.commit();
@@ -195,11 +307,16 @@ public class TransactionResourceManager {
                 }
             }
         }
+        if (xid != null && commitSuccess) {
+            appendToLog(new TransactionLogRecord(transactionId, transactionBlockId,
+                                                 TransactionLogRecord.State.COMPLETED, xid));
+        }
         invokeCommittedFunction(strand, transactionId, transactionBlockId);
         removeContextsFromRegistry(combinedId, transactionId);
         failedResourceParticipantSet.remove(transactionId);
         failedLocalParticipantSet.remove(transactionId);
         localParticipants.remove(transactionId);
+        remoteParticipations.remove(transactionId);
         return commitSuccess;
     }
 
@@ -213,12 +330,16 @@ public class TransactionResourceManager {
     public boolean notifyAbort(String transactionId, String transactionBlockId) {
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
         boolean abortSuccess = true;
+        Xid xid = xidRegistry.get(combinedId);
+        if (xid == null && !inDoubtTransactions.isEmpty()) {
+            // The transaction may have been prepared before a restart, and decided by its coordinator since.
+            abortSuccess = resolveInDoubtTransaction(combinedId, false);
+        }
         List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
         if (txContextList != null) {
             for (BallerinaTransactionContext ctx : txContextList) {
                 try {
                     XAResource xaResource = ctx.getXAResource();
-                    Xid xid = xidRegistry.get(combinedId);
                     if (xaResource != null) {
                         ctx.getXAResource().rollback(xid);
                     } else {
@@ -232,6 +353,12 @@ public class TransactionResourceManager {
                 }
             }
         }
+        if (xid != null && abortSuccess) {
+            // A transaction which is not decided to be committed is rolled back on recovery, hence only the
+            // completion of the rollback is logged.
+            appendToLog(new TransactionLogRecord(transactionId, transactionBlockId,
+                                                 TransactionLogRecord.State.COMPLETED, xid));
+        }
         //For the retry  attempt failures the aborted function should not be invoked. It should invoked only when the
         //whole transaction aborts after all the retry attempts.
 
@@ -243,6 +370,7 @@ public class TransactionResourceManager {
         failedResourceParticipantSet.remove(transactionId);
         failedLocalParticipantSet.remove(transactionId);
         localParticipants.remove(transactionId);
+        remoteParticipations.remove(transactionId);
         return abortSuccess;
     }
 
@@ -261,6 +389,9 @@ public class TransactionResourceManager {
             xid = XIDGenerator.createXID();
             xidRegistry.put(combinedId, xid);
         }
+        if (!inDoubtTransactions.isEmpty()) {
+            recover(xaResource);
+        }
         try {
             xaResource.start(xid, TMNOFLAGS);
         } catch (XAException e) {
@@ -296,6 +427,192 @@ public class TransactionResourceManager {
         }
     }
 
+    /**
+     * This method resolves the transactions recovered from the transaction log, which are prepared in the given XA
+     * resource. The transactions which were decided to be committed are committed. The rest are rolled back, except
+     * for those decided by a remote coordinator, which are left prepared until the coordinator notifies the outcome.
+     * <p>
+     * A resource manager which does not report a transaction has already resolved it, or was never prepared in it
+     * since it crashed before preparing. Hence a transaction is completed in the log once as many resource managers
+     * as it was prepared in are scanned, and none of them still holds it prepared. Until then it is kept in doubt,
+     * since a resource manager which is not registered yet may still hold it.
+     *
+     * @param xaResource the XA resource to recover
+     */
+    public synchronized void recover(XAResource xaResource) {
+        if (inDoubtTransactions.isEmpty() || isRecovered(xaResource)) {
+            return;
+        }
+
+        Xid[] xids;
+        try {
+            xids = xaResource.recover(TMSTARTRSCAN | TMENDRSCAN);
+        } catch (XAException e) {
+            // The resource manager is scanned again when another of its resources is registered.
+            log.error("error in recovering the XA resource: " + e.getMessage(), e);
+            return;
+        }
+        recoveredResources.add(xaResource);
+        for (InDoubtTransaction inDoubtTransaction : inDoubtTransactions.values()) {
+            inDoubtTransaction.scannedResourceManagers++;
+        }
+
+        for (Xid xid : xids == null ? new Xid[0] : xids) {
+            InDoubtTransaction inDoubtTransaction = inDoubtTransactions.get(XATransactionID.from(xid));
+            if (inDoubtTransaction == null) {
+                // Prepared by another transaction manager.
+                continue;
+            }
+            TransactionLogRecord record = inDoubtTransaction.record;
+            boolean commit = record.getState() == TransactionLogRecord.State.COMMITTING;
+            if (!commit && record.isRemotelyCoordinated()) {
+                inDoubtTransaction.preparedResources.add(xaResource);
+                log.info(String.format("Transaction %s is left prepared until its coordinator decides the outcome",
+                                       record.getCombinedId()));
+                continue;
+            }
+            if (!resolve(inDoubtTransaction, xaResource, commit)) {
+                inDoubtTransaction.preparedResources.add(xaResource);
+            }
+        }
+        // Resolves the transactions which are not reported by this resource manager as well.
+        for (InDoubtTransaction inDoubtTransaction : new ArrayList<>(inDoubtTransactions.values())) {
+            completeIfResolved(inDoubtTransaction);
+        }
+    }
+
+    /**
+     * Resolves a transaction recovered from the transaction log with the outcome notified by its coordinator.
+     *
+     * @param combinedId the combined id of the transaction
+     * @param commit     whether the transaction is committed
+     * @return false if the transaction could not be resolved in a resource manager
+     */
+    private synchronized boolean resolveInDoubtTransaction(String combinedId, boolean commit) {
+        for (InDoubtTransaction inDoubtTransaction : inDoubtTransactions.values()) {
+            TransactionLogRecord record = inDoubtTransaction.record;
+            if (!record.getCombinedId().equals(combinedId)) {
+                continue;
+            }
+            if (commit && record.getState() != TransactionLogRecord.State.COMMITTING ||
+                    !commit && record.isRemotelyCoordinated()) {
+                // The outcome is logged first, so that the resource managers which are not registered yet resolve
+                // the transaction the same way when they are recovered.
+                TransactionLogRecord decided = new TransactionLogRecord(
+                        record.getTransactionId(), record.getTransactionBlockId(),
+                        commit ? TransactionLogRecord.State.COMMITTING : TransactionLogRecord.State.PREPARED,
+                        record.getXid(), record.getResourceManagerCount(), false);
+                if (!appendToLog(decided)) {
+                    return false;
+                }
+                inDoubtTransaction.record = decided;
+            }
+            boolean success = true;
+            for (Iterator<XAResource> iterator = inDoubtTransaction.preparedResources.iterator();
+                 iterator.hasNext();) {
+                if (resolve(inDoubtTransaction, iterator.next(), commit)) {
+                    iterator.remove();
+                } else {
+                    success = false;
+                }
+            }
+            completeIfResolved(inDoubtTransaction);
+            return success;
+        }
+        return true;
+    }
+
+    private boolean resolve(InDoubtTransaction inDoubtTransaction, XAResource xaResource, boolean commit) {
+        TransactionLogRecord record = inDoubtTransaction.record;
+        try {
+            if (commit) {
+                xaResource.commit(record.getXid(), false);
+            } else {
+                xaResource.rollback(record.getXid());
+            }
+        } catch (XAException e) {
+            log.error("error in recovering the transaction, " + record.getCombinedId() + ":" + e.getMessage(), e);
+            return false;
+        }
+        log.info(String.format("Recovered transaction %s: %s", record.getCombinedId(),
+                               commit ? "committed" : "rolled back"));
+        return true;
+    }
+
+    private void completeIfResolved(InDoubtTransaction inDoubtTransaction) {
+        TransactionLogRecord record = inDoubtTransaction.record;
+        // The same xid is prepared in each resource manager of the transaction.
+        if (inDoubtTransaction.scannedResourceManagers < record.getResourceManagerCount() ||
+                !inDoubtTransaction.preparedResources.isEmpty()) {
+            return;
+        }
+        inDoubtTransactions.remove(record.getXid());
+        appendToLog(new TransactionLogRecord(record.getTransactionId(), record.getTransactionBlockId(),
+                                             TransactionLogRecord.State.COMPLETED, record.getXid()));
+        if (inDoubtTransactions.isEmpty()) {
+            // Nothing is left to recover.
+            recoveredResources.clear();
+        }
+    }
+
+    private boolean isRecovered(XAResource xaResource) {
+        for (Iterator<XAResource> iterator = recoveredResources.iterator(); iterator.hasNext();) {
+            XAResource recovered = iterator.next();
+            try {
+                if (recovered == xaResource || recovered.isSameRM(xaResource)) {
+                    return true;
+                }
+            } catch (XAException e) {
+                // The resource is no longer usable, e.g. its connection is closed.
+                iterator.remove();
+            }
+        }
+        return false;
+    }
+
+    private TransactionLogRecord createRecord(String transactionId, String transactionBlockId,
+                                              TransactionLogRecord.State state, Xid xid,
+                                              List<BallerinaTransactionContext> txContextList) {
+        // Resources of the same resource manager share the prepared xid, hence they are resolved together.
+        List<XAResource> resourceManagers = new ArrayList<>();
+        if (txContextList != null) {
+            for (BallerinaTransactionContext ctx : txContextList) {
+                XAResource xaResource = ctx.getXAResource();
+                if (xaResource != null && !isSameResourceManager(resourceManagers, xaResource)) {
+                    resourceManagers.add(xaResource);
+                }
+            }
+        }
+        return new TransactionLogRecord(transactionId, transactionBlockId, state, xid, resourceManagers.size(),
+                                        remoteParticipations.contains(transactionId));
+    }
+
+    private static boolean isSameResourceManager(List<XAResource> resourceManagers, XAResource xaResource) {
+        for (XAResource resourceManager : resourceManagers) {
+            try {
+                if (resourceManager.isSameRM(xaResource)) {
+                    return true;
+                }
+            } catch (XAException e) {
+                // Counted as a separate resource manager, which keeps the transaction in doubt longer at worst.
+            }
+        }
+        return false;
+    }
+
+    private boolean appendToLog(TransactionLogRecord record) {
+        if (transactionLog == null) {
+            return true;
+        }
+        try {
+            transactionLog.append(record);
+            return true;
+        } catch (IOException e) {
+            log.error("error in writing the transaction log, " + record.getCombinedId() + ":" + e.getMessage(), e);
+            return false;
+        }
+    }
+
     void rollbackTransaction(String transactionId, String transactionBlockId) {
         endXATransaction(transactionId, transactionBlockId);
         notifyAbort(transactionId, transactionBlockId);
@@ -330,4 +647,21 @@ public class TransactionResourceManager {
             failedLocalParticipantSet.add(gTransactionId);
         }
     }
+
+    /**
+     * A transaction recovered from the transaction log, which is not resolved in all of its resource managers yet.
+     */
+    private static class InDoubtTransaction {
+
+        private TransactionLogRecord record;
+        // Resource managers scanned for the transaction, which no longer hold it unless they are prepared resources.
+        private int scannedResourceManagers;
+        // Resources in which the transaction is left prepared until its remote coordinator decides the outcome, or
+        // could not be resolved.
+        private final List<XAResource> preparedResources = new ArrayList<>();
+
+        InDoubtTransaction(TransactionLogRecord record) {
+            this.record = record;
+        }
+    }
 }
@@ -17,6 +17,8 @@
 */
 package org.ballerinalang.jvm.transactions;
 
+import java.util.Arrays;
+
 import javax.transaction.xa.Xid;
 
 /**
@@ -50,4 +52,35 @@ public class XATransactionID implements Xid {
     public byte[] getBranchQualifier() {
         return branchQualifier;
     }
+
+    /**
+     * Returns an {@code XATransactionID} equal to the given xid, which can be an xid created by a resource manager.
+     *
+     * @param xid xid
+     * @return an {@code XATransactionID} of the same id
+     */
+    public static XATransactionID from(Xid xid) {
+        if (xid instanceof XATransactionID) {
+            return (XATransactionID) xid;
+        }
+        return new XATransactionID(xid.getFormatId(), xid.getBranchQualifier(), xid.getGlobalTransactionId());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof XATransactionID)) {
+            return false;
+        }
+        XATransactionID other = (XATransactionID) o;
+        return formatId == other.formatId && Arrays.equals(branchQualifier, other.branchQualifier) &&
+                Arrays.equals(globalTransactionId, other.globalTransactionId);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * formatId + Arrays.hashCode(branchQualifier)) + Arrays.hashCode(globalTransactionId);
+    }
 }
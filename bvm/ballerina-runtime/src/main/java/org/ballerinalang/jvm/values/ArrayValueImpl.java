@@ -823,6 +823,48 @@ public class ArrayValueImpl extends AbstractArrayValue {
         return this.elementType;
     }
 
+    /**
+     * Reorders the members of the array so that the member at index {@code order[i]} moves to index {@code i}. The
+     * members are moved within the backing array of the element type, without boxing them.
+     *
+     * @param order member indexes in their new order, one for each member of the array
+     */
+    public void reorder(int[] order) {
+        handleImmutableArrayValue();
+        Object values = getArrayFromType(this.elementType.getTag());
+        if (values instanceof long[]) {
+            long[] members = Arrays.copyOf((long[]) values, size);
+            for (int i = 0; i < size; i++) {
+                intValues[i] = members[order[i]];
+            }
+        } else if (values instanceof double[]) {
+            double[] members = Arrays.copyOf((double[]) values, size);
+            for (int i = 0; i < size; i++) {
+                floatValues[i] = members[order[i]];
+            }
+        } else if (values instanceof boolean[]) {
+            boolean[] members = Arrays.copyOf((boolean[]) values, size);
+            for (int i = 0; i < size; i++) {
+                booleanValues[i] = members[order[i]];
+            }
+        } else if (values instanceof byte[]) {
+            byte[] members = Arrays.copyOf((byte[]) values, size);
+            for (int i = 0; i < size; i++) {
+                byteValues[i] = members[order[i]];
+            }
+        } else if (values instanceof BString[]) {
+            BString[] members = Arrays.copyOf((BString[]) values, size);
+            for (int i = 0; i < size; i++) {
+                bStringValues[i] = members[order[i]];
+            }
+        } else {
+            Object[] members = Arrays.copyOf(refValues, size);
+            for (int i = 0; i < size; i++) {
+                refValues[i] = members[order[i]];
+            }
+        }
+    }
+
     // Protected methods
 
     @Override
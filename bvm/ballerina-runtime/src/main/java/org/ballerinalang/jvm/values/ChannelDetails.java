@@ -27,11 +27,17 @@
      public String name;
      public boolean channelInSameStrand;
      public boolean send;
+     public boolean asyncOnly;
 
      public ChannelDetails(String name, boolean channelInSameStrand, boolean send) {
+         this(name, channelInSameStrand, send, false);
+     }
+
+     public ChannelDetails(String name, boolean channelInSameStrand, boolean send, boolean asyncOnly) {
          this.name = name;
          this.channelInSameStrand = channelInSameStrand;
          this.send = send;
+         this.asyncOnly = asyncOnly;
      }
 
      @Override
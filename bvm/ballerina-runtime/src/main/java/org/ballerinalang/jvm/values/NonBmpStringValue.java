@@ -20,8 +20,6 @@
  import org.ballerinalang.jvm.StringUtils;
  import org.ballerinalang.jvm.values.api.BString;
 
- import java.util.Arrays;
-
  /**
   * Represent ballerina strings containing at least one non basic multilingual plane unicode character.
   *
@@ -69,17 +67,7 @@
 
     @Override
     public BString concat(BString str) {
-        if (str instanceof NonBmpStringValue) {
-            NonBmpStringValue other = (NonBmpStringValue) str;
-            int[] both = Arrays.copyOf(surrogates, surrogates.length + other.surrogates.length);
-            System.arraycopy(other.surrogates, 0, both, surrogates.length, other.surrogates.length);
-            return new NonBmpStringValue(this.value + other.value, both);
-        } else if (str instanceof BmpStringValue) {
-            BmpStringValue other = (BmpStringValue) str;
-            return new NonBmpStringValue(this.value + other.getValue(), surrogates);
-        } else {
-            throw new RuntimeException("not impl yet");
-        }
+        return RopeStringValue.concat(this, str);
     }
 
      @Override
@@ -119,13 +107,7 @@
          if (index < 0) {
              return null;
          }
-         for (int i = 0; i < index; i++) {
-             char c = value.charAt(i);
-             if (Character.isHighSurrogate(c)) {
-                 index--;
-             }
-         }
-         return index;
+         return toCodePointIndex((int) index);
      }
 
      @Override
@@ -135,13 +117,7 @@
          if (index < 0) {
              return null;
          }
-         for (int i = 0; i < index; i++) {
-             char c = value.charAt(i);
-             if (Character.isHighSurrogate(c)) {
-                 index--;
-             }
-         }
-         return index;
+         return toCodePointIndex((int) index);
      }
      @Override
      public BString substring(int beginIndex, int endIndex) {
@@ -150,6 +126,16 @@
          return StringUtils.fromString(value.substring(beginOffset, endOffset));
      }
 
+     private long toCodePointIndex(int charIndex) {
+         long index = charIndex;
+         for (int i = 0; i < charIndex; i++) {
+             if (Character.isHighSurrogate(value.charAt(i))) {
+                 index--;
+             }
+         }
+         return index;
+     }
+
      private int getOffset(int fromIndex) {
          int offset = fromIndex;
          for (int surrogate : surrogates) {
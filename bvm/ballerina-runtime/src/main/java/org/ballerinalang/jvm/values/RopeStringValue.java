@@ -0,0 +1,179 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm.values;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.values.api.BString;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Represent ballerina strings built by concatenation, whose characters are copied into a single string only when
+ * the string value is first needed. This keeps repeated concatenation in loops linear instead of quadratic.
+ *
+ * @since 2.0.0
+ */
+public class RopeStringValue implements StringValue {
+
+    // Concatenations shorter than this many chars are cheaper to copy eagerly than to keep as rope nodes.
+    static final int MIN_ROPE_LENGTH = 256;
+
+    // Both children are released once the rope is flattened; readers fall back to the flattened value then.
+    private volatile BString left;
+    private volatile BString right;
+    private volatile BString flattened;
+    private final int charLength;
+    private final int length;
+
+    RopeStringValue(BString left, BString right) {
+        this.left = left;
+        this.right = right;
+        this.charLength = charLength(left) + charLength(right);
+        this.length = left.length() + right.length();
+    }
+
+    /**
+     * Concatenates two strings, deferring the copy of their characters if the result is long enough.
+     *
+     * @param left  the first string
+     * @param right the string appended to the first
+     * @return the concatenated string
+     */
+    static BString concat(BString left, BString right) {
+        if (charLength(left) + charLength(right) < MIN_ROPE_LENGTH) {
+            return StringUtils.fromString(left.getValue() + right.getValue());
+        }
+        if (left instanceof RopeStringValue && !(right instanceof RopeStringValue)) {
+            // Fold a short appended string into the last leaf, so that appending small pieces in a loop does not
+            // create a rope node per piece.
+            RopeStringValue rope = (RopeStringValue) left;
+            BString ropeLeft = rope.left;
+            BString ropeRight = rope.right;
+            if (ropeLeft != null && ropeRight != null && !(ropeRight instanceof RopeStringValue) &&
+                    charLength(ropeRight) + charLength(right) < MIN_ROPE_LENGTH) {
+                return new RopeStringValue(ropeLeft,
+                                           StringUtils.fromString(ropeRight.getValue() + right.getValue()));
+            }
+        }
+        return new RopeStringValue(left, right);
+    }
+
+    private static int charLength(BString str) {
+        if (str instanceof RopeStringValue) {
+            return ((RopeStringValue) str).charLength;
+        }
+        return str.getValue().length();
+    }
+
+    @Override
+    public String getValue() {
+        return flatten().getValue();
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return flatten().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        return concat(this, str);
+    }
+
+    @Override
+    public String stringValue() {
+        return getValue();
+    }
+
+    @Override
+    public int hashCode() {
+        return getValue().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object str) {
+        if (str == this) {
+            return true;
+        }
+        if (str instanceof BString) {
+            return ((BString) str).getValue().equals(getValue());
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        return flatten().indexOf(str, fromIndex);
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        return flatten().lastIndexOf(str, fromIndex);
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return flatten().substring(beginIndex, endIndex);
+    }
+
+    private BString flatten() {
+        BString value = flattened;
+        if (value != null) {
+            return value;
+        }
+
+        // Ropes built in loops are deeply left-nested, hence walk them with an explicit stack instead of recursion.
+        StringBuilder builder = new StringBuilder(charLength);
+        Deque<BString> pending = new ArrayDeque<>();
+        pending.push(this);
+        while (!pending.isEmpty()) {
+            BString str = pending.pop();
+            if (!(str instanceof RopeStringValue)) {
+                builder.append(str.getValue());
+                continue;
+            }
+            RopeStringValue rope = (RopeStringValue) str;
+            BString ropeLeft = rope.left;
+            BString ropeRight = rope.right;
+            if (ropeLeft == null || ropeRight == null) {
+                builder.append(rope.flattened.getValue());
+                continue;
+            }
+            pending.push(ropeRight);
+            pending.push(ropeLeft);
+        }
+
+        // Concurrent flattening of a shared value only repeats the work, as both produce an equal value.
+        value = StringUtils.fromString(builder.toString());
+        flattened = value;
+        left = null;
+        right = null;
+        return value;
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.jvm.values;
+
+import org.ballerinalang.jvm.TypeChecker;
+
+import java.util.Arrays;
+
+/**
+ * Storage engine of {@link TableValueImpl}.
+ * <p>
+ * Rows are kept in insertion order in compact parallel arrays of keys, values and key hashes. An open addressing
+ * index maps the hash of a key to the position of its row, so a lookup hashes the key once and probes an int array.
+ * A removed row leaves a hole in the row arrays until the holes are compacted away on a later insertion.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of rows
+ * @since 2.0.0
+ */
+class TableRowStore<K, V> {
+
+    private static final int INITIAL_ROW_CAPACITY = 8;
+    private static final int EMPTY_SLOT = 0;
+    private static final int DELETED_SLOT = -1;
+
+    private Object[] rowKeys;
+    private Object[] rowValues;
+    private long[] rowHashes;
+    private int rowCount;
+    private int size;
+
+    // Slot value is the row position + 1, so that a zeroed array is an empty index.
+    private int[] index;
+    private int usedSlots;
+    private final boolean indexed;
+
+    TableRowStore(boolean indexed) {
+        this.indexed = indexed;
+        clear();
+    }
+
+    void clear() {
+        this.rowKeys = indexed ? new Object[INITIAL_ROW_CAPACITY] : null;
+        this.rowValues = new Object[INITIAL_ROW_CAPACITY];
+        this.rowHashes = indexed ? new long[INITIAL_ROW_CAPACITY] : null;
+        this.index = indexed ? new int[INITIAL_ROW_CAPACITY * 2] : null;
+        this.rowCount = 0;
+        this.size = 0;
+        this.usedSlots = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of row positions in use, including the positions of removed rows.
+     *
+     * @return the exclusive upper bound of row positions
+     */
+    int rowCount() {
+        return rowCount;
+    }
+
+    boolean isLive(int row) {
+        return rowValues[row] != null;
+    }
+
+    K keyAt(int row) {
+        return (K) (indexed ? rowKeys[row] : rowValues[row]);
+    }
+
+    V valueAt(int row) {
+        return (V) rowValues[row];
+    }
+
+    /**
+     * Finds the row position of the given key.
+     *
+     * @param key  key of the row
+     * @param hash hash of the key
+     * @return the row position, or -1 if there is no row for the key
+     */
+    int find(Object key, long hash) {
+        int mask = index.length - 1;
+        for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+            int entry = index[slot];
+            if (entry == EMPTY_SLOT) {
+                return -1;
+            }
+            if (entry != DELETED_SLOT) {
+                int row = entry - 1;
+                if (rowHashes[row] == hash && TypeChecker.isEqual(rowKeys[row], key)) {
+                    return row;
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a row or replaces the value of the existing row with the same key, keeping its position.
+     *
+     * @param key   key of the row
+     * @param hash  hash of the key
+     * @param value row value
+     * @return the previous value of the row, or null if the row is new
+     */
+    V put(K key, long hash, V value) {
+        int row = find(key, hash);
+        if (row >= 0) {
+            V oldValue = (V) rowValues[row];
+            rowKeys[row] = key;
+            rowValues[row] = value;
+            return oldValue;
+        }
+        append(key, hash, value);
+        return null;
+    }
+
+    /**
+     * Appends a row without a key.
+     *
+     * @param value row value
+     */
+    void append(V value) {
+        ensureRowCapacity();
+        rowValues[rowCount++] = value;
+        size++;
+    }
+
+    V remove(Object key, long hash) {
+        int mask = index.length - 1;
+        for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+            int entry = index[slot];
+            if (entry == EMPTY_SLOT) {
+                return null;
+            }
+            if (entry != DELETED_SLOT) {
+                int row = entry - 1;
+                if (rowHashes[row] == hash && TypeChecker.isEqual(rowKeys[row], key)) {
+                    V oldValue = (V) rowValues[row];
+                    index[slot] = DELETED_SLOT;
+                    rowKeys[row] = null;
+                    rowValues[row] = null;
+                    size--;
+                    return oldValue;
+                }
+            }
+        }
+    }
+
+    private void append(K key, long hash, V value) {
+        ensureRowCapacity();
+        int row = rowCount++;
+        rowKeys[row] = key;
+        rowValues[row] = value;
+        rowHashes[row] = hash;
+        size++;
+
+        // Keep the load factor of the index, including deleted slots, at or below one half.
+        if ((usedSlots + 1) * 2 > index.length) {
+            rebuildIndex();
+        } else {
+            insertIntoIndex(hash, row);
+            usedSlots++;
+        }
+    }
+
+    private void ensureRowCapacity() {
+        if (rowCount < rowValues.length) {
+            return;
+        }
+        if (size < rowCount / 2) {
+            compact();
+            return;
+        }
+        int newCapacity = rowValues.length * 2;
+        rowValues = Arrays.copyOf(rowValues, newCapacity);
+        if (indexed) {
+            rowKeys = Arrays.copyOf(rowKeys, newCapacity);
+            rowHashes = Arrays.copyOf(rowHashes, newCapacity);
+        }
+    }
+
+    /**
+     * Moves the live rows to the front of the row arrays, preserving their order.
+     */
+    private void compact() {
+        int target = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (rowValues[row] == null) {
+                continue;
+            }
+            rowValues[target] = rowValues[row];
+            if (indexed) {
+                rowKeys[target] = rowKeys[row];
+                rowHashes[target] = rowHashes[row];
+            }
+            target++;
+        }
+        Arrays.fill(rowValues, target, rowCount, null);
+        if (indexed) {
+            Arrays.fill(rowKeys, target, rowCount, null);
+        }
+        rowCount = target;
+        if (indexed) {
+            rebuildIndex();
+        }
+    }
+
+    private void rebuildIndex() {
+        int capacity = INITIAL_ROW_CAPACITY * 2;
+        while (capacity < size * 4) {
+            capacity <<= 1;
+        }
+        index = new int[capacity];
+        usedSlots = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (rowValues[row] != null) {
+                insertIntoIndex(rowHashes[row], row);
+                usedSlots++;
+            }
+        }
+    }
+
+    private void insertIntoIndex(long hash, int row) {
+        int mask = index.length - 1;
+        int slot = spread(hash) & mask;
+        while (index[slot] > 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = row + 1;
+    }
+
+    private static int spread(long hash) {
+        int h = (int) (hash ^ (hash >>> 32));
+        return h ^ (h >>> 16);
+    }
+}
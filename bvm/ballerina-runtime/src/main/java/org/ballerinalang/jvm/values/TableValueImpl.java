@@ -31,21 +31,19 @@ import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.util.exceptions.BLangFreezeException;
 import org.ballerinalang.jvm.values.api.BIterator;
+import org.ballerinalang.jvm.values.api.BString;
 import org.ballerinalang.jvm.values.api.BValueCreator;
 
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static org.ballerinalang.jvm.util.BLangConstants.TABLE_LANG_LIB;
 import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.OPERATION_NOT_SUPPORTED_IDENTIFIER;
@@ -64,17 +62,13 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     private BTableType type;
     private BType iteratorNextReturnType;
-    private ConcurrentHashMap<Long, Map.Entry<K, V>> entries;
-    private LinkedHashMap<Long, V> values;
-    private LinkedHashMap<Long, K> keys;
+    private TableRowStore<K, V> rows;
     private String[] fieldNames;
     private ValueHolder valueHolder;
     private long maxIntKey = 0;
 
-    //These are required to achieve the iterator behavior
-    private LinkedHashMap<Long, Long> indexToKeyMap;
-    private LinkedHashMap<Long, Long> keyToIndexMap;
-    private long noOfAddedEntries = 0;
+    // Secondary indexes on individual key fields, built on demand and dropped on mutation.
+    private Map<String, Map<Long, List<Integer>>> keyFieldIndexes;
 
     private boolean nextKeySupported;
     public static final String IS_STRING_VALUE_PROP = "ballerina.bstring";
@@ -83,15 +77,12 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     public TableValueImpl(BTableType type) {
         this.type = type;
 
-        this.entries = new ConcurrentHashMap<>();
-        this.keys = new LinkedHashMap<>();
-        this.values = new LinkedHashMap<>();
-        this.keyToIndexMap = new LinkedHashMap<>();
-        this.indexToKeyMap = new LinkedHashMap<>();
         this.fieldNames = type.getFieldNames();
         if (type.getFieldNames() != null) {
+            this.rows = new TableRowStore<>(true);
             this.valueHolder = new KeyHashValueHolder();
         } else {
+            this.rows = new TableRowStore<>(false);
             this.valueHolder = new ValueHolder();
         }
     }
@@ -201,20 +192,31 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
-        return new LinkedHashSet<>(entries.values());
+        Set<Map.Entry<K, V>> entrySet = new LinkedHashSet<>(rows.size());
+        for (int row = 0; row < rows.rowCount(); row++) {
+            if (rows.isLive(row)) {
+                entrySet.add(new AbstractMap.SimpleEntry<>(rows.keyAt(row), rows.valueAt(row)));
+            }
+        }
+        return entrySet;
     }
 
     @Override
     public Collection<V> values() {
-        return values.values();
+        List<V> values = new ArrayList<>(rows.size());
+        for (int row = 0; row < rows.rowCount(); row++) {
+            if (rows.isLive(row)) {
+                values.add(rows.valueAt(row));
+            }
+        }
+        return values;
     }
 
     @Override
     public void clear() {
         handleFrozenTableValue();
-        entries.clear();
-        keys.clear();
-        values.clear();
+        rows.clear();
+        keyFieldIndexes = null;
     }
 
     @Override
@@ -239,7 +241,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                     "Defined key sequence is not supported with nextKey(). "
                             + "The key sequence should only have an Integer field.");
         }
-        return keys.size() == 0 ? 0 : (this.maxIntKey + 1);
+        return rows.size() == 0 ? 0 : (this.maxIntKey + 1);
     }
 
     public BType getKeyType() {
@@ -266,17 +268,71 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        return (K[]) keys.values().toArray(new Object[]{});
+        if (fieldNames == null) {
+            return (K[]) new Object[]{};
+        }
+        Object[] keys = new Object[rows.size()];
+        int i = 0;
+        for (int row = 0; row < rows.rowCount(); row++) {
+            if (rows.isLive(row)) {
+                keys[i++] = rows.keyAt(row);
+            }
+        }
+        return (K[]) keys;
+    }
+
+    /**
+     * Returns the rows whose value for the given key field is equal to the given value. This uses a secondary
+     * index on the key field, which is built on first use and discarded when the table is mutated.
+     *
+     * @param fieldName  name of one of the key fields of the table
+     * @param fieldValue value to look up
+     * @return the matching rows in insertion order
+     */
+    public List<V> getByKeyField(String fieldName, Object fieldValue) {
+        if (fieldNames == null || !Arrays.asList(fieldNames).contains(fieldName)) {
+            throw BallerinaErrors.createError(TABLE_KEY_NOT_FOUND_ERROR, "'" + fieldName + "' is not a key field");
+        }
+        if (keyFieldIndexes == null) {
+            keyFieldIndexes = new HashMap<>();
+        }
+        Map<Long, List<Integer>> keyFieldIndex = keyFieldIndexes.computeIfAbsent(fieldName, this::buildKeyFieldIndex);
+
+        List<V> matches = new ArrayList<>();
+        List<Integer> candidates = keyFieldIndex.get(TableUtils.hash(fieldValue, null));
+        if (candidates == null) {
+            return matches;
+        }
+        BString field = StringUtils.fromString(fieldName);
+        for (int row : candidates) {
+            V value = rows.valueAt(row);
+            if (TypeChecker.isEqual(((MapValue) value).get(field), fieldValue)) {
+                matches.add(value);
+            }
+        }
+        return matches;
+    }
+
+    private Map<Long, List<Integer>> buildKeyFieldIndex(String fieldName) {
+        BString field = StringUtils.fromString(fieldName);
+        Map<Long, List<Integer>> keyFieldIndex = new HashMap<>();
+        for (int row = 0; row < rows.rowCount(); row++) {
+            if (rows.isLive(row)) {
+                Object fieldValue = ((MapValue) rows.valueAt(row)).get(field);
+                keyFieldIndex.computeIfAbsent(TableUtils.hash(fieldValue, null), hash -> new ArrayList<>()).add(row);
+            }
+        }
+        return keyFieldIndex;
     }
 
     @Override
     public int size() {
-        return entries.size();
+        return rows.size();
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return rows.size() == 0;
     }
 
     @Override
@@ -291,15 +347,9 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     public String stringValue() {
-        Iterator<Map.Entry<Long, V>> itr = values.entrySet().iterator();
-        return createStringValueDataEntry(itr);
-    }
-
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, V>> itr) {
         StringJoiner sj = new StringJoiner("\n");
-        while (itr.hasNext()) {
-            Map.Entry<Long, V> struct = itr.next();
-            sj.add(struct.getValue().toString());
+        for (V value : values()) {
+            sj.add(value.toString());
         }
         return sj.toString();
     }
@@ -328,7 +378,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     private class TableIterator<K, V> implements IteratorValue {
-        private long cursor;
+        private int cursor;
 
         TableIterator() {
             this.cursor = 0;
@@ -336,10 +386,9 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         @Override
         public Object next() {
-            Long hash = indexToKeyMap.get(cursor);
-            Map.Entry<K, V> next = (Map.Entry<K, V>) entries.get(hash);
-            V value = next.getValue();
-            K key = next.getKey();
+            skipRemovedRows();
+            V value = (V) rows.valueAt(cursor);
+            K key = (K) rows.keyAt(cursor);
 
             List<BType> types = new ArrayList<>();
             types.add(TypeChecker.getType(key));
@@ -355,17 +404,21 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         @Override
         public boolean hasNext() {
-           return cursor < noOfAddedEntries;
+            skipRemovedRows();
+            return cursor < rows.rowCount();
+        }
+
+        private void skipRemovedRows() {
+            while (cursor < rows.rowCount() && !rows.isLive(cursor)) {
+                cursor++;
+            }
         }
     }
 
     private class ValueHolder {
 
         public void addData(V data) {
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(data, data);
-            UUID uuid = UUID.randomUUID();
-            entries.put((long) uuid.hashCode(), entry);
-            values.put((long) uuid.hashCode(), data);
+            rows.append(data);
         }
 
         public V getData(K key) {
@@ -377,10 +430,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
 
         public V putData(V data) {
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(data, data);
-            UUID uuid = UUID.randomUUID();
-            entries.put((long) uuid.hashCode(), entry);
-            return values.put((long) uuid.hashCode(), data);
+            rows.append(data);
+            return null;
         }
 
         public V remove(K key) {
@@ -418,58 +469,48 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                         key + "'");
             }
 
-            if (nextKeySupported && (keys.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
+            if (nextKeySupported && (rows.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
                 maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
             }
 
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-            Long hash = TableUtils.hash(key, null);
-            putData(key, data, entry, hash);
+            putData(key, data, TableUtils.hash(key, null));
         }
 
         public V getData(K key) {
-            return values.get(TableUtils.hash(key, null));
+            int row = rows.find(key, TableUtils.hash(key, null));
+            return row < 0 ? null : rows.valueAt(row);
         }
 
         public V putData(K key, V data) {
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
             Object actualKey = this.keyWrapper.wrapKey((MapValue) data);
-            Long actualHash = TableUtils.hash(actualKey, null);
-            Long hash = TableUtils.hash(key, null);
+            long hash = TableUtils.hash(key, null);
 
-            if (!hash.equals(actualHash)) {
+            if (hash != TableUtils.hash(actualKey, null)) {
                 throw BallerinaErrors.createError(TABLE_KEY_NOT_FOUND_ERROR, "The key '" +
                         key + "' not found in value " + data.toString());
             }
 
-            return putData(key, data, entry, hash);
+            return putData(key, data, hash);
         }
 
-        private V putData(K key, V data, Map.Entry<K, V> entry, Long hash) {
-            entries.put(hash, entry);
-            keys.put(hash, key);
-            updateIndexKeyMappings(hash);
-            return values.put(hash, data);
+        private V putData(K key, V data, long hash) {
+            keyFieldIndexes = null;
+            return rows.put(key, hash, data);
         }
 
         public V putData(V data) {
             MapValue dataMap = (MapValue) data;
             K key = this.keyWrapper.wrapKey(dataMap);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
-            return putData((K) key, data, entry, hash);
+            return putData(key, data, TableUtils.hash(key, null));
         }
 
         public V remove(K key) {
-            Long hash = TableUtils.hash(key, null);
-            entries.remove(hash);
-            keys.remove(hash);
-            indexToKeyMap.remove(keyToIndexMap.remove(hash));
-            return values.remove(hash);
+            keyFieldIndexes = null;
+            return rows.remove(key, TableUtils.hash(key, null));
         }
 
         public boolean containsKey(K key) {
-            return keys.containsKey(TableUtils.hash(key, null));
+            return rows.find(key, TableUtils.hash(key, null)) >= 0;
         }
 
         public BType getKeyType() {
@@ -519,15 +560,6 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
     }
 
-    // This method updates the indexes and the order required by the iterators
-    private void updateIndexKeyMappings(Long hash) {
-        if (!keyToIndexMap.containsKey(hash)) {
-            keyToIndexMap.put(hash, noOfAddedEntries);
-            indexToKeyMap.put(noOfAddedEntries, hash);
-            noOfAddedEntries++;
-        }
-    }
-
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -67,7 +67,8 @@ public final class XMLItem extends XMLValue {
     private QName name;
     private XMLSequence children;
     private AttributeMapValueImpl attributes;
-    // Keep track of probable parents of xml element to detect probable cycles in xml.
+    // Keep track of probable parents of xml element to detect probable cycles in xml. Created on the first use, since
+    // elements built by parsing xml never get their parents tracked.
     private List<WeakReference<XMLItem>> probableParents;
 
     public XMLItem(QName name, XMLSequence children) {
@@ -78,7 +79,6 @@ public final class XMLItem extends XMLValue {
         }
         attributes = new AttributeMapValueImpl(false);
         addDefaultNamespaceAttribute(name, attributes);
-        probableParents = new ArrayList<>();
         this.type = BTypes.typeElement;
     }
 
@@ -101,7 +101,6 @@ public final class XMLItem extends XMLValue {
         }
         attributes = new AttributeMapValueImpl(readonly);
         addDefaultNamespaceAttribute(name, attributes);
-        probableParents = new ArrayList<>();
 
         this.type = readonly ? BTypes.typeReadonlyElement : BTypes.typeElement;
     }
@@ -263,6 +262,11 @@ public final class XMLItem extends XMLValue {
      */
     @Override
     public XMLValue children() {
+        // Only an immutable children sequence is shared. The children of a mutable element, which includes parsed
+        // xml, are copied since the returned sequence must not change when the element is modified later.
+        if (children.type.isReadOnly()) {
+            return children;
+        }
         return new XMLSequence(new ArrayList<>(children.getChildrenList()));
     }
 
@@ -344,11 +348,18 @@ public final class XMLItem extends XMLValue {
     // xml literal syntax, or after ensuring the new xml tree is not cyclic.
     private void addParent(BXML child, XMLItem thisElem) {
         if (child.getNodeType() == ELEMENT) {
-            ((XMLItem) child).probableParents.add(new WeakReference<>(thisElem));
+            XMLItem childElem = (XMLItem) child;
+            if (childElem.probableParents == null) {
+                childElem.probableParents = new ArrayList<>(1);
+            }
+            childElem.probableParents.add(new WeakReference<>(thisElem));
         }
     }
 
     private void ensureAcyclicGraph(BXML newSubTree, XMLItem current) {
+        if (current.probableParents == null) {
+            return;
+        }
         for (WeakReference<XMLItem> probableParentRef : current.probableParents) {
             XMLItem parent = probableParentRef.get();
             // probable parent is the actual parent.
@@ -587,6 +598,9 @@ public final class XMLItem extends XMLValue {
         }
 
         XMLItem item = (XMLItem) removedItem;
+        if (item.probableParents == null) {
+            return;
+        }
         for (Iterator<WeakReference<XMLItem>> iterator = item.probableParents.iterator(); iterator.hasNext();) {
             WeakReference<XMLItem> probableParent = iterator.next();
             XMLItem parent = probableParent.get();
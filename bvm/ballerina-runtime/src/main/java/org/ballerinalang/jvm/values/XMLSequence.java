@@ -231,6 +231,11 @@ public final class XMLSequence extends XMLValue {
         if (children.size() == 1) {
             return (XMLValue) children.get(0).children();
         }
+        // Only an immutable sequence is shared, a mutable one is copied so that later changes are not visible through
+        // the returned sequence.
+        if (this.type.isReadOnly()) {
+            return this;
+        }
         return new XMLSequence(new ArrayList<>(children));
     }
 
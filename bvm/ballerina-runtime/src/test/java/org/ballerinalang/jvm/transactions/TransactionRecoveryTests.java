@@ -0,0 +1,252 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+package org.ballerinalang.jvm.transactions;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+
+import static org.ballerinalang.jvm.transactions.TransactionLogRecord.State.COMMITTING;
+import static org.ballerinalang.jvm.transactions.TransactionLogRecord.State.COMPLETED;
+import static org.ballerinalang.jvm.transactions.TransactionLogRecord.State.PREPARED;
+
+/**
+ * Test cases for the recovery of the transactions found in doubt in the transaction log by
+ * {@link TransactionResourceManager}.
+ */
+public class TransactionRecoveryTests {
+
+    @Test
+    public void testRollbackTransactionNotPreparedInResourceManager() {
+        TransactionLogRecord record = record("tx1", PREPARED, 2, false);
+        InMemoryTransactionLog txLog = new InMemoryTransactionLog(record);
+        TransactionResourceManager resourceManager = new TransactionResourceManager(txLog);
+
+        FakeXAResource prepared = new FakeXAResource(record.getXid());
+        resourceManager.recover(prepared);
+        Assert.assertEquals(prepared.rolledBack, Arrays.asList(record.getXid()));
+        Assert.assertTrue(txLog.appended.isEmpty());
+
+        // The second resource manager crashed before the transaction was prepared in it.
+        FakeXAResource notPrepared = new FakeXAResource();
+        resourceManager.recover(notPrepared);
+        Assert.assertTrue(notPrepared.rolledBack.isEmpty());
+        assertCompleted(txLog, record);
+    }
+
+    @Test
+    public void testCommitTransactionPartiallyCommitted() {
+        TransactionLogRecord record = record("tx1", COMMITTING, 2, false);
+        InMemoryTransactionLog txLog = new InMemoryTransactionLog(record);
+        TransactionResourceManager resourceManager = new TransactionResourceManager(txLog);
+
+        // The first resource manager committed the transaction before the crash.
+        FakeXAResource committed = new FakeXAResource();
+        resourceManager.recover(committed);
+        Assert.assertTrue(txLog.appended.isEmpty());
+
+        FakeXAResource prepared = new FakeXAResource(record.getXid());
+        resourceManager.recover(prepared);
+        Assert.assertEquals(prepared.committed, Arrays.asList(record.getXid()));
+        assertCompleted(txLog, record);
+    }
+
+    @Test
+    public void testResourceManagerScannedOnce() {
+        TransactionLogRecord record = record("tx1", PREPARED, 2, false);
+        InMemoryTransactionLog txLog = new InMemoryTransactionLog(record);
+        TransactionResourceManager resourceManager = new TransactionResourceManager(txLog);
+
+        FakeXAResource first = new FakeXAResource();
+        resourceManager.recover(first);
+        // Another resource of the same resource manager does not count as another resource manager.
+        FakeXAResource second = new FakeXAResource(first);
+        resourceManager.recover(second);
+        Assert.assertEquals(second.scans, 0);
+        Assert.assertTrue(txLog.appended.isEmpty());
+
+        resourceManager.recover(new FakeXAResource());
+        assertCompleted(txLog, record);
+    }
+
+    @Test
+    public void testTransactionKeptInDoubtWhenResolveFails() {
+        TransactionLogRecord record = record("tx1", COMMITTING, 1, false);
+        InMemoryTransactionLog txLog = new InMemoryTransactionLog(record);
+        TransactionResourceManager resourceManager = new TransactionResourceManager(txLog);
+
+        FakeXAResource failing = new FakeXAResource(record.getXid());
+        failing.failResolve = true;
+        resourceManager.recover(failing);
+        Assert.assertTrue(txLog.appended.isEmpty());
+    }
+
+    @Test
+    public void testRemotelyCoordinatedTransactionLeftPrepared() {
+        TransactionLogRecord record = record("tx1", PREPARED, 2, true);
+        InMemoryTransactionLog txLog = new InMemoryTransactionLog(record);
+        TransactionResourceManager resourceManager = new TransactionResourceManager(txLog);
+
+        FakeXAResource prepared = new FakeXAResource(record.getXid());
+        resourceManager.recover(prepared);
+        resourceManager.recover(new FakeXAResource());
+        Assert.assertTrue(prepared.rolledBack.isEmpty());
+        Assert.assertTrue(txLog.appended.isEmpty());
+
+        Assert.assertTrue(resourceManager.notifyAbort(record.getTransactionId(), record.getTransactionBlockId()));
+        Assert.assertEquals(prepared.rolledBack, Arrays.asList(record.getXid()));
+        Assert.assertEquals(txLog.appended.size(), 2);
+        Assert.assertEquals(txLog.appended.get(0).getState(), PREPARED);
+        Assert.assertFalse(txLog.appended.get(0).isRemotelyCoordinated());
+        Assert.assertEquals(txLog.appended.get(1).getState(), COMPLETED);
+    }
+
+    private static void assertCompleted(InMemoryTransactionLog txLog, TransactionLogRecord record) {
+        Assert.assertEquals(txLog.appended.size(), 1);
+        TransactionLogRecord completed = txLog.appended.get(0);
+        Assert.assertEquals(completed.getState(), COMPLETED);
+        Assert.assertEquals(completed.getXid(), record.getXid());
+    }
+
+    private static TransactionLogRecord record(String transactionId, TransactionLogRecord.State state,
+                                               int resourceManagerCount, boolean remote) {
+        XATransactionID xid = new XATransactionID(1, transactionId.getBytes(), transactionId.getBytes());
+        return new TransactionLogRecord(transactionId, "block", state, xid, resourceManagerCount, remote);
+    }
+
+    /**
+     * A transaction log which keeps the appended records in memory.
+     */
+    private static class InMemoryTransactionLog implements TransactionLog {
+
+        private final List<TransactionLogRecord> recovered;
+        private final List<TransactionLogRecord> appended = new ArrayList<>();
+
+        InMemoryTransactionLog(TransactionLogRecord... recovered) {
+            this.recovered = Arrays.asList(recovered);
+        }
+
+        @Override
+        public String getName() {
+            return "memory";
+        }
+
+        @Override
+        public List<TransactionLogRecord> recover() {
+            return recovered;
+        }
+
+        @Override
+        public void append(TransactionLogRecord record) {
+            appended.add(record);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * An XA resource of a resource manager which holds the given xids prepared.
+     */
+    private static class FakeXAResource implements XAResource {
+
+        private final FakeXAResource resourceManager;
+        private final List<Xid> preparedXids;
+        private final List<Xid> committed = new ArrayList<>();
+        private final List<Xid> rolledBack = new ArrayList<>();
+        private boolean failResolve;
+        private int scans;
+
+        FakeXAResource(Xid... preparedXids) {
+            this.resourceManager = this;
+            this.preparedXids = new ArrayList<>(Arrays.asList(preparedXids));
+        }
+
+        FakeXAResource(FakeXAResource other) {
+            this.resourceManager = other.resourceManager;
+            this.preparedXids = other.preparedXids;
+        }
+
+        @Override
+        public Xid[] recover(int flag) {
+            scans++;
+            return preparedXids.toArray(new Xid[0]);
+        }
+
+        @Override
+        public void commit(Xid xid, boolean onePhase) throws XAException {
+            resolve(xid, committed);
+        }
+
+        @Override
+        public void rollback(Xid xid) throws XAException {
+            resolve(xid, rolledBack);
+        }
+
+        private void resolve(Xid xid, List<Xid> resolved) throws XAException {
+            if (failResolve) {
+                throw new XAException(XAException.XAER_RMFAIL);
+            }
+            if (!preparedXids.remove(xid)) {
+                throw new XAException(XAException.XAER_NOTA);
+            }
+            resolved.add(xid);
+        }
+
+        @Override
+        public boolean isSameRM(XAResource xaResource) {
+            return xaResource instanceof FakeXAResource &&
+                    ((FakeXAResource) xaResource).resourceManager == resourceManager;
+        }
+
+        @Override
+        public void start(Xid xid, int flags) {
+        }
+
+        @Override
+        public void end(Xid xid, int flags) {
+        }
+
+        @Override
+        public int prepare(Xid xid) {
+            return XA_OK;
+        }
+
+        @Override
+        public void forget(Xid xid) {
+        }
+
+        @Override
+        public int getTransactionTimeout() {
+            return 0;
+        }
+
+        @Override
+        public boolean setTransactionTimeout(int seconds) {
+            return false;
+        }
+    }
+}
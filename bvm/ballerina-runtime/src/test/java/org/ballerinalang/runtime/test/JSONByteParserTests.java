@@ -0,0 +1,154 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.JSONByteParser;
+import org.ballerinalang.jvm.JSONParser;
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test cases for {@link JSONByteParser}.
+ */
+public class JSONByteParserTests {
+
+    @DataProvider(name = "jsonDocuments")
+    public Object[][] jsonDocuments() {
+        return new Object[][]{
+                {"{\"name\":\"Anne\", \"age\":25, \"height\":1.75, \"married\":false, \"spouse\":null}"},
+                {"[1, -2, 3.5, \"four\", true, {\"five\": [5]}, []]"},
+                {"{\"escaped\":\"tab\\tquote\\\"unicode\\u00e9\", \"utf8\":\"\u0dc3\u0dd2\u0d82\\n\ud83d\ude00\"}"},
+                {"  \"string\"  "},
+                {"12345678901234567890"},
+                {"{\"single\": 'quoted'}"}
+        };
+    }
+
+    @Test(dataProvider = "jsonDocuments")
+    public void testParseMatchesJSONParser(String document) {
+        Object expected = JSONParser.parse(document);
+        Object actual = JSONByteParser.parse(ByteBuffer.wrap(document.getBytes(StandardCharsets.UTF_8)));
+        Assert.assertEquals(toJsonString(actual), toJsonString(expected));
+    }
+
+    @Test
+    public void testParseErrorMatchesJSONParser() {
+        String document = "{\"name\": ballerina}";
+        String expectedMessage = null;
+        try {
+            JSONParser.parse(document);
+        } catch (BallerinaException e) {
+            expectedMessage = e.getMessage();
+        }
+        try {
+            JSONByteParser.parse(ByteBuffer.wrap(document.getBytes(StandardCharsets.UTF_8)));
+            Assert.fail("expected a parsing error");
+        } catch (BallerinaException e) {
+            Assert.assertEquals(e.getMessage(), expectedMessage);
+        }
+    }
+
+    @Test
+    public void testBindToTypedValues() {
+        String document = "{\"a\": [1, 2, 3], \"b\": [4]}";
+        BMapType targetType = new BMapType(new BArrayType(BTypes.typeInt));
+        Object value = JSONByteParser.parse(ByteBuffer.wrap(document.getBytes(StandardCharsets.UTF_8)), targetType,
+                (type, json) -> {
+                    Assert.fail("converter should not be used");
+                    return null;
+                });
+        MapValue<?, ?> map = (MapValue<?, ?>) value;
+        Assert.assertSame(map.getType(), targetType);
+        ArrayValue array = (ArrayValue) map.get(StringUtils.fromString("a"));
+        Assert.assertEquals(array.getElementType().getTag(), BTypes.typeInt.getTag());
+        Assert.assertEquals(array.getInt(2), 3);
+    }
+
+    @Test
+    public void testFallbackToConverter() {
+        String document = "{\"a\": \"not an int\"}";
+        BMapType targetType = new BMapType(BTypes.typeInt);
+        Object value = JSONByteParser.parse(ByteBuffer.wrap(document.getBytes(StandardCharsets.UTF_8)), targetType,
+                (type, json) -> toJsonString(json));
+        Assert.assertEquals(value, "{\"a\":\"not an int\"}");
+    }
+
+    @Test
+    public void testMaxDepth() {
+        String document = nested(5);
+        Object value = JSONByteParser.parse(ByteBuffer.wrap(document.getBytes(StandardCharsets.UTF_8)), 5);
+        Assert.assertEquals(toJsonString(value), "[[[[{\"a\":1}]]]]");
+        try {
+            JSONByteParser.parse(ByteBuffer.wrap(document.getBytes(StandardCharsets.UTF_8)), 4);
+            Assert.fail("expected a parsing error");
+        } catch (BallerinaException e) {
+            Assert.assertEquals(e.getMessage(), "JSON nesting depth exceeds the maximum of 4");
+        }
+    }
+
+    @Test
+    public void testDeeplyNestedDocument() {
+        String document = nested(100000);
+        try {
+            JSONByteParser.parse(ByteBuffer.wrap(document.getBytes(StandardCharsets.UTF_8)));
+            Assert.fail("expected a parsing error");
+        } catch (BallerinaException e) {
+            Assert.assertEquals(e.getMessage(),
+                                "JSON nesting depth exceeds the maximum of " + JSONByteParser.DEFAULT_MAX_DEPTH);
+        }
+        try {
+            JSONByteParser.parse(ByteBuffer.wrap(document.getBytes(StandardCharsets.UTF_8)),
+                                 new BArrayType(BTypes.typeJSON), (type, json) -> {
+                        Assert.fail("converter should not be used");
+                        return null;
+                    });
+            Assert.fail("expected a parsing error");
+        } catch (BallerinaException e) {
+            Assert.assertEquals(e.getMessage(),
+                                "JSON nesting depth exceeds the maximum of " + JSONByteParser.DEFAULT_MAX_DEPTH);
+        }
+    }
+
+    private static String nested(int depth) {
+        StringBuilder document = new StringBuilder();
+        for (int i = 1; i < depth; i++) {
+            document.append('[');
+        }
+        document.append("{\"a\":1}");
+        for (int i = 1; i < depth; i++) {
+            document.append(']');
+        }
+        return document.toString();
+    }
+
+    private static String toJsonString(Object value) {
+        return org.ballerinalang.jvm.values.utils.StringUtils.getJsonString(value);
+    }
+}
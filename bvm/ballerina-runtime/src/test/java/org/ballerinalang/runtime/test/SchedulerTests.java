@@ -0,0 +1,69 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BTypes;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Test cases for {@link Scheduler} run queue modes.
+ */
+public class SchedulerTests {
+
+    private static final int PARENT_STRANDS = 200;
+    private static final int CHILD_STRANDS = 50;
+
+    @DataProvider(name = "schedulerModes")
+    public Object[][] schedulerModes() {
+        return new Object[][]{{false}, {true}};
+    }
+
+    @Test(dataProvider = "schedulerModes")
+    public void testAllStrandsComplete(boolean workStealing) {
+        Scheduler scheduler = new Scheduler(4, false, workStealing);
+        AtomicInteger completed = new AtomicInteger();
+
+        Function<Object[], Object> child = params -> {
+            completed.incrementAndGet();
+            return null;
+        };
+        Function<Object[], Object> parent = params -> {
+            Strand strand = (Strand) params[0];
+            for (int i = 0; i < CHILD_STRANDS; i++) {
+                scheduler.schedule(new Object[1], child, strand, null, null, BTypes.typeNull);
+            }
+            completed.incrementAndGet();
+            return null;
+        };
+
+        for (int i = 0; i < PARENT_STRANDS; i++) {
+            scheduler.schedule(new Object[1], parent, null, null, null, BTypes.typeNull);
+        }
+        scheduler.start();
+
+        Assert.assertEquals(completed.get(), PARENT_STRANDS * (CHILD_STRANDS + 1));
+    }
+}
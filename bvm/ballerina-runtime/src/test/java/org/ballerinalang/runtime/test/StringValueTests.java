@@ -1,6 +1,9 @@
 package org.ballerinalang.runtime.test;
 
+import org.ballerinalang.jvm.StringUtils;
 import org.ballerinalang.jvm.values.NonBmpStringValue;
+import org.ballerinalang.jvm.values.RopeStringValue;
+import org.ballerinalang.jvm.values.api.BString;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -40,4 +43,44 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testConcatInLoop() {
+        BString str = StringUtils.fromString("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            String piece = i % 100 == 0 ? UNICODE_STR : "item" + i + ",";
+            str = str.concat(StringUtils.fromString(piece));
+            expected.append(piece);
+        }
+
+        Assert.assertTrue(str instanceof RopeStringValue);
+        BString flat = StringUtils.fromString(expected.toString());
+        Assert.assertEquals(str.length(), flat.length());
+        Assert.assertEquals(str.getValue(), expected.toString());
+        Assert.assertEquals(str, flat);
+        Assert.assertEquals(str.hashCode(), flat.hashCode());
+    }
+
+    @Test
+    void testRopeStringOperations() {
+        BString str = StringUtils.fromString("");
+        for (int i = 0; i < 20; i++) {
+            str = str.concat(SUBJECT);
+        }
+
+        Assert.assertTrue(str instanceof RopeStringValue);
+        Assert.assertEquals(str.length(), 320);
+        Assert.assertEquals(str.getCodePoint(17), 0x1F6F8);
+        Assert.assertEquals(str.getCodePoint(31), 'r');
+        Assert.assertEquals(str.indexOf(StringUtils.fromString("Frav"), 20), Long.valueOf(26));
+        Assert.assertEquals(str.lastIndexOf(StringUtils.fromString("C"), 319), Long.valueOf(304));
+        Assert.assertEquals(str.substring(14, 18).getValue(), "\uD83D\uDC7DrC\uD83D\uDEF8");
+    }
+
+    @Test
+    void testShortConcatIsNotRope() {
+        BString str = StringUtils.fromString("foo").concat(StringUtils.fromString("bar"));
+        Assert.assertFalse(str instanceof RopeStringValue);
+        Assert.assertEquals(str.getValue(), "foobar");
+    }
 }
@@ -0,0 +1,115 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BTableType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.TableValueImpl;
+import org.ballerinalang.jvm.values.api.BString;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test cases for {@link TableValueImpl}.
+ */
+public class TableValueTests {
+
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString DEPT = StringUtils.fromString("dept");
+
+    @Test
+    public void testRemoveAndReAddPreservesOrder() {
+        TableValueImpl<Object, MapValueImpl<BString, Object>> table = createTable("id");
+        for (long i = 0; i < 100; i++) {
+            table.add(createRow(i, i % 3));
+        }
+        for (long i = 0; i < 100; i += 2) {
+            table.remove(i);
+        }
+        table.add(createRow(0, 0));
+
+        Assert.assertEquals(table.size(), 51);
+        Assert.assertTrue(table.containsKey(0L));
+        Assert.assertFalse(table.containsKey(2L));
+        Assert.assertEquals(table.get(99L).get(ID), 99L);
+
+        List<Object> ids = new ArrayList<>();
+        for (MapValueImpl<BString, Object> row : table.values()) {
+            ids.add(row.get(ID));
+        }
+        Assert.assertEquals(ids.get(0), 1L);
+        Assert.assertEquals(ids.get(ids.size() - 1), 0L);
+        Assert.assertEquals(table.getKeys().length, 51);
+    }
+
+    @Test
+    public void testPutReplacesRowInPlace() {
+        TableValueImpl<Object, MapValueImpl<BString, Object>> table = createTable("id");
+        table.add(createRow(1, 10));
+        table.add(createRow(2, 20));
+        table.put(createRow(1, 30));
+
+        Assert.assertEquals(table.size(), 2);
+        Assert.assertEquals(Arrays.asList(table.getKeys()), Arrays.asList(1L, 2L));
+        Assert.assertEquals(table.get(1L).get(DEPT), 30L);
+    }
+
+    @Test
+    public void testLookupByKeyField() {
+        TableValueImpl<Object, MapValueImpl<BString, Object>> table = createTable("id", "dept");
+        for (long i = 0; i < 30; i++) {
+            table.add(createRow(i, i % 3));
+        }
+        Assert.assertEquals(table.getByKeyField("dept", 1L).size(), 10);
+
+        table.add(createRow(30, 1));
+        Assert.assertEquals(table.getByKeyField("dept", 1L).size(), 11);
+        Assert.assertTrue(table.getByKeyField("dept", 5L).isEmpty());
+    }
+
+    @Test
+    public void testKeylessTableIteration() {
+        TableValueImpl<Object, MapValueImpl<BString, Object>> table =
+                new TableValueImpl<>(new BTableType(new BMapType(BTypes.typeInt), false));
+        table.add(createRow(1, 1));
+        table.add(createRow(1, 1));
+
+        Assert.assertEquals(table.size(), 2);
+        Assert.assertEquals(table.values().size(), 2);
+        Assert.assertEquals(table.getKeys().length, 0);
+    }
+
+    private static TableValueImpl<Object, MapValueImpl<BString, Object>> createTable(String... keyFields) {
+        return new TableValueImpl<>(new BTableType(new BMapType(BTypes.typeInt), keyFields, false));
+    }
+
+    private static MapValueImpl<BString, Object> createRow(long id, long dept) {
+        MapValueImpl<BString, Object> row = new MapValueImpl<>(new BMapType(BTypes.typeInt));
+        row.put(ID, id);
+        row.put(DEPT, dept);
+        return row;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.transactions.FileTransactionLog;
+import org.ballerinalang.jvm.transactions.TransactionLogRecord;
+import org.ballerinalang.jvm.transactions.XATransactionID;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.ballerinalang.jvm.transactions.TransactionLogRecord.State.COMMITTING;
+import static org.ballerinalang.jvm.transactions.TransactionLogRecord.State.COMPLETED;
+import static org.ballerinalang.jvm.transactions.TransactionLogRecord.State.PREPARED;
+
+/**
+ * Test cases for {@link FileTransactionLog}.
+ */
+public class TransactionLogTests {
+
+    private static final long MAX_LOG_SIZE = 1024 * 1024;
+
+    private Path logDirectory;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        logDirectory = Files.createTempDirectory("transaction-log");
+    }
+
+    @AfterMethod
+    public void cleanup() throws IOException {
+        try (Stream<Path> paths = Files.walk(logDirectory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    public void testRecoverIncompleteTransactions() throws IOException {
+        try (FileTransactionLog log = new FileTransactionLog(logDirectory, MAX_LOG_SIZE)) {
+            Assert.assertTrue(log.recover().isEmpty());
+            log.append(record("tx1", PREPARED, 1));
+            log.append(record("tx2", PREPARED, 2));
+            log.append(record("tx2", COMMITTING, 2));
+            log.append(record("tx3", PREPARED, 3));
+            log.append(record("tx3", COMMITTING, 3));
+            log.append(record("tx3", COMPLETED, 3));
+        }
+
+        try (FileTransactionLog log = new FileTransactionLog(logDirectory, MAX_LOG_SIZE)) {
+            List<TransactionLogRecord> records = log.recover();
+            Assert.assertEquals(records.size(), 2);
+            Assert.assertEquals(records.get(0).getCombinedId(), "tx1:block");
+            Assert.assertEquals(records.get(0).getState(), PREPARED);
+            Assert.assertEquals(records.get(0).getXid(), xid(1));
+            Assert.assertEquals(records.get(1).getCombinedId(), "tx2:block");
+            Assert.assertEquals(records.get(1).getState(), COMMITTING);
+            Assert.assertEquals(records.get(1).getXid(), xid(2));
+        }
+    }
+
+    @Test
+    public void testRecoverResourceManagerCountAndCoordination() throws IOException {
+        try (FileTransactionLog log = new FileTransactionLog(logDirectory, MAX_LOG_SIZE)) {
+            log.recover();
+            log.append(new TransactionLogRecord("tx1", "block", PREPARED, xid(1), 3, true));
+            log.append(record("tx2", PREPARED, 2));
+        }
+
+        try (FileTransactionLog log = new FileTransactionLog(logDirectory, MAX_LOG_SIZE)) {
+            List<TransactionLogRecord> records = log.recover();
+            Assert.assertEquals(records.size(), 2);
+            Assert.assertEquals(records.get(0).getResourceManagerCount(), 3);
+            Assert.assertTrue(records.get(0).isRemotelyCoordinated());
+            Assert.assertEquals(records.get(1).getResourceManagerCount(), 1);
+            Assert.assertFalse(records.get(1).isRemotelyCoordinated());
+        }
+    }
+
+    @Test
+    public void testPartiallyWrittenRecordIsDiscarded() throws IOException {
+        try (FileTransactionLog log = new FileTransactionLog(logDirectory, MAX_LOG_SIZE)) {
+            log.recover();
+            log.append(record("tx1", PREPARED, 1));
+        }
+        Path logFile = logDirectory.resolve(FileTransactionLog.LOG_FILE_NAME);
+        long validSize = Files.size(logFile);
+        // A record length, followed by a part of the record.
+        Files.write(logFile, new byte[]{0, 0, 0, 64, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        try (FileTransactionLog log = new FileTransactionLog(logDirectory, MAX_LOG_SIZE)) {
+            List<TransactionLogRecord> records = log.recover();
+            Assert.assertEquals(records.size(), 1);
+            Assert.assertEquals(records.get(0).getCombinedId(), "tx1:block");
+            Assert.assertEquals(Files.size(logFile), validSize);
+
+            log.append(record("tx2", PREPARED, 2));
+        }
+
+        try (FileTransactionLog log = new FileTransactionLog(logDirectory, MAX_LOG_SIZE)) {
+            Assert.assertEquals(log.recover().size(), 2);
+        }
+    }
+
+    @Test
+    public void testConcurrentAppendsWithCompaction() throws Exception {
+        int threads = 8;
+        int transactionsPerThread = 250;
+        // Small enough for the log to be compacted a number of times.
+        try (FileTransactionLog log = new FileTransactionLog(logDirectory, 16 * 1024)) {
+            log.recover();
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                int thread = i;
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < transactionsPerThread; j++) {
+                        String transactionId = "tx" + thread + "-" + j;
+                        int id = thread * transactionsPerThread + j;
+                        log.append(record(transactionId, PREPARED, id));
+                        log.append(record(transactionId, COMMITTING, id));
+                        // The last transaction of each thread is left incomplete.
+                        if (j < transactionsPerThread - 1) {
+                            log.append(record(transactionId, COMPLETED, id));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+        }
+
+        try (FileTransactionLog log = new FileTransactionLog(logDirectory, 16 * 1024)) {
+            List<TransactionLogRecord> records = log.recover();
+            Assert.assertEquals(records.size(), threads);
+            for (TransactionLogRecord record : records) {
+                Assert.assertEquals(record.getState(), COMMITTING);
+                Assert.assertTrue(record.getTransactionId().endsWith("-" + (transactionsPerThread - 1)));
+            }
+        }
+    }
+
+    private static TransactionLogRecord record(String transactionId, TransactionLogRecord.State state, int id) {
+        return new TransactionLogRecord(transactionId, "block", state, xid(id));
+    }
+
+    private static XATransactionID xid(int id) {
+        return new XATransactionID(id, new byte[]{(byte) id, 1}, new byte[]{(byte) (id >> 8), 2});
+    }
+}
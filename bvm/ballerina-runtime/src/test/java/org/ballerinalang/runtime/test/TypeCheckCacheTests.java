@@ -0,0 +1,58 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.TypeCheckCache;
+import org.ballerinalang.jvm.TypeChecker;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for {@link TypeCheckCache}.
+ */
+public class TypeCheckCacheTests {
+
+    @Test
+    public void testRepeatedTypeCheckHitsCache() {
+        BArrayType sourceType = new BArrayType(BTypes.typeInt);
+        BArrayType targetType = new BArrayType(BTypes.typeAnydata);
+
+        long misses = TypeCheckCache.getMissCount();
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+        Assert.assertEquals(TypeCheckCache.getMissCount(), misses + 1);
+
+        long hits = TypeCheckCache.getHitCount();
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+        Assert.assertEquals(TypeCheckCache.getHitCount(), hits + 1);
+    }
+
+    @Test
+    public void testNegativeResultIsCached() {
+        BMapType sourceType = new BMapType(BTypes.typeString);
+        BMapType targetType = new BMapType(BTypes.typeInt);
+
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, targetType));
+        long hits = TypeCheckCache.getHitCount();
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, targetType));
+        Assert.assertEquals(TypeCheckCache.getHitCount(), hits + 1);
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.packerina.buildcontext;
+
+import org.ballerinalang.compiler.BLangCompilerException;
+import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Fingerprints of the modules built into the target directory, used to skip compiling modules which are unchanged
+ * since the previous build. An unchanged module is loaded from the bir file of the previous build and its bir and jar
+ * files are reused.
+ * <p>
+ * A module is unchanged when the hash of its sources (including tests and resources) is the same as in the previous
+ * build. Any change in the compiler version, compiler options, Ballerina.toml or Ballerina.lock rebuilds all modules.
+ * The imports and the entry point of each module are recorded as well, since they are not known until the module is
+ * compiled.
+ *
+ * @since 2.0.0
+ */
+public class BuildCache {
+
+    public static final String BUILD_CACHE_FILE_NAME = "build_cache.properties";
+
+    private static final String BUILD_KEY = "build";
+    private static final String LOCK_KEY = "lock";
+    private static final String SOURCES_SUFFIX = ".sources";
+    private static final String IMPORTS_SUFFIX = ".imports";
+    private static final String ENTRY_POINT_SUFFIX = ".entrypoint";
+
+    private final Path cacheFile;
+    private final Properties previous = new Properties();
+    private final Properties current = new Properties();
+    private final Set<PackageID> reusableModules = new HashSet<>();
+    private Path lockFile;
+    private boolean invalidated;
+    private boolean lockChanged;
+
+    public BuildCache(Path cacheFile) {
+        this.cacheFile = cacheFile;
+        if (Files.exists(cacheFile)) {
+            try (InputStream inputStream = Files.newInputStream(cacheFile)) {
+                previous.load(inputStream);
+            } catch (IOException | IllegalArgumentException e) {
+                // A corrupted cache only means that every module is rebuilt.
+                previous.clear();
+            }
+        }
+    }
+
+    /**
+     * Records the fingerprint of the build environment. A changed fingerprint invalidates all modules.
+     *
+     * @param buildFingerprint compiler version, options and project manifest hash
+     */
+    public void setBuildFingerprint(String buildFingerprint) {
+        current.setProperty(BUILD_KEY, buildFingerprint);
+        invalidated = !buildFingerprint.equals(previous.getProperty(BUILD_KEY));
+    }
+
+    /**
+     * Sets the lock file of the project. The lock file is rewritten after the modules are compiled, hence it is
+     * compared with the lock file as it was at the end of the previous build and recorded again on {@link #save}.
+     *
+     * @param lockFile path to Ballerina.lock
+     */
+    public void setLockFile(Path lockFile) {
+        this.lockFile = lockFile;
+        lockChanged = !hashPath(lockFile).equals(previous.getProperty(LOCK_KEY));
+    }
+
+    /**
+     * Records the source hash of a module and checks it against the previous build.
+     *
+     * @param moduleID   module ID
+     * @param sourceHash hash of the module sources
+     * @return the reason for rebuilding the module, or null if the module is unchanged
+     */
+    public String update(PackageID moduleID, String sourceHash) {
+        String key = getKey(moduleID);
+        current.setProperty(key + SOURCES_SUFFIX, sourceHash);
+
+        String previousSourceHash = previous.getProperty(key + SOURCES_SUFFIX);
+        if (previousSourceHash == null) {
+            return "not built before";
+        }
+        if (invalidated) {
+            return "build configuration changed";
+        }
+        if (lockChanged) {
+            return "dependencies changed";
+        }
+        if (!previousSourceHash.equals(sourceHash)) {
+            return "sources changed";
+        }
+        return null;
+    }
+
+    /**
+     * Marks the module as unchanged, so that it is loaded from the bir file of the previous build and its bir and jar
+     * files are reused.
+     *
+     * @param moduleID module ID
+     */
+    public void setReusable(PackageID moduleID) {
+        reusableModules.add(moduleID);
+    }
+
+    /**
+     * Returns true if the module is loaded from the bir file of the previous build and its bir and jar files are
+     * reused.
+     *
+     * @param moduleID module ID
+     * @return true if the module is unchanged
+     */
+    public boolean isReusable(PackageID moduleID) {
+        return reusableModules.contains(moduleID);
+    }
+
+    /**
+     * Returns the imports of the module in the previous build.
+     *
+     * @param moduleID module ID
+     * @return imported module IDs, in the form org/name/version
+     */
+    public List<String> getImports(PackageID moduleID) {
+        String imports = previous.getProperty(getKey(moduleID) + IMPORTS_SUFFIX, "");
+        return imports.isEmpty() ? Collections.emptyList() : Arrays.asList(imports.split(","));
+    }
+
+    /**
+     * Returns true if the module had an entry point in the previous build.
+     *
+     * @param moduleID module ID
+     * @return true if the module has a main function or services
+     */
+    public boolean hasEntryPoint(PackageID moduleID) {
+        return Boolean.parseBoolean(previous.getProperty(getKey(moduleID) + ENTRY_POINT_SUFFIX));
+    }
+
+    /**
+     * Returns the keys of the modules which were in the previous build but not in this one.
+     *
+     * @return keys of the removed modules, in the form org/name/version
+     */
+    public List<String> getRemovedModules() {
+        List<String> removed = new ArrayList<>();
+        for (String property : previous.stringPropertyNames()) {
+            if (property.endsWith(SOURCES_SUFFIX) && !current.containsKey(property)) {
+                removed.add(property.substring(0, property.length() - SOURCES_SUFFIX.length()));
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Persists the fingerprints of this build, along with the imports and the entry point of the built modules.
+     *
+     * @param modules built modules
+     */
+    public void save(List<BLangPackage> modules) {
+        for (BLangPackage module : modules) {
+            String key = getKey(module.packageID);
+            current.setProperty(key + IMPORTS_SUFFIX, module.symbol.imports.stream()
+                    .map(importSymbol -> getKey(importSymbol.pkgID))
+                    .distinct()
+                    .collect(Collectors.joining(",")));
+            current.setProperty(key + ENTRY_POINT_SUFFIX, Boolean.toString(module.symbol.entryPointExists));
+        }
+        if (lockFile != null) {
+            current.setProperty(LOCK_KEY, hashPath(lockFile));
+        }
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            try (OutputStream outputStream = Files.newOutputStream(cacheFile)) {
+                current.store(outputStream, "Ballerina build cache");
+            }
+        } catch (IOException e) {
+            throw new BLangCompilerException("error writing build cache: " + cacheFile, e);
+        }
+    }
+
+    /**
+     * Returns the key of a module in the build cache.
+     *
+     * @param moduleID module ID
+     * @return module key, in the form org/name/version
+     */
+    public static String getKey(PackageID moduleID) {
+        return moduleID.orgName.value + "/" + moduleID.name.value + "/" + moduleID.version.value;
+    }
+
+    /**
+     * Hashes a file or all the files of a directory tree. File paths relative to the given path are part of the hash.
+     *
+     * @param path file or directory to hash
+     * @return hex encoded hash
+     */
+    public static String hashPath(Path path) {
+        MessageDigest digest = newDigest();
+        if (!Files.exists(path)) {
+            return toHex(digest.digest());
+        }
+        try (Stream<Path> paths = Files.walk(path)) {
+            List<Path> files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+            for (Path file : files) {
+                digest.update(path.relativize(file).toString().replace('\\', '/').getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                digest.update(Files.readAllBytes(file));
+                digest.update((byte) 0);
+            }
+        } catch (IOException e) {
+            throw new BLangCompilerException("error reading sources: " + path, e);
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Hashes the given strings in order.
+     *
+     * @param values values to hash
+     * @return hex encoded hash
+     */
+    public static String hash(List<String> values) {
+        MessageDigest digest = newDigest();
+        for (String value : values) {
+            digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return toHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new BLangCompilerException("SHA-256 is not supported", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
@@ -40,7 +40,9 @@ public enum BuildContextField {
 
     JAR_RESOLVER("jarResolver"),
     
-    BIR_CACHE_DIR("birCacheDir");
+    BIR_CACHE_DIR("birCacheDir"),
+
+    BUILD_CACHE("buildCache");
     
     public final String name;
     
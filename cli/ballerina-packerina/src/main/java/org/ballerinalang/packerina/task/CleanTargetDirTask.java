@@ -19,14 +19,19 @@
 package org.ballerinalang.packerina.task;
 
 import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.packerina.buildcontext.BuildCache;
 import org.ballerinalang.packerina.buildcontext.BuildContext;
 import org.ballerinalang.packerina.buildcontext.BuildContextField;
 import org.ballerinalang.packerina.buildcontext.sourcecontext.SingleModuleContext;
 import org.ballerinalang.packerina.buildcontext.sourcecontext.SourceType;
 import org.wso2.ballerinalang.compiler.SourceDirectoryManager;
+import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.ballerinalang.packerina.utils.FileUtils.deleteDirectory;
 import static org.ballerinalang.tool.LauncherUtils.createLauncherException;
@@ -35,6 +40,16 @@ import static org.ballerinalang.tool.LauncherUtils.createLauncherException;
  * Cleans up the target directory.
  */
 public class CleanTargetDirTask implements Task {
+    private boolean keepBuildCache;
+
+    public CleanTargetDirTask(boolean keepBuildCache) {
+        this.keepBuildCache = keepBuildCache;
+    }
+
+    public CleanTargetDirTask() {
+        this(false);
+    }
+
     @Override
     public void execute(BuildContext buildContext) {
         Path targetDir = buildContext.get(BuildContextField.TARGET_DIR);
@@ -51,6 +66,8 @@ public class CleanTargetDirTask implements Task {
                 deleteResource(buildContext.getTestBirPathFromTargetCache(packageID));
                 deleteResource(buildContext.getJarPathFromTargetCache(packageID));
                 deleteResource(buildContext.getTestJarPathFromTargetCache(packageID));
+            } else if (keepBuildCache && buildContext.getSourceType() == SourceType.ALL_MODULES) {
+                cleanTargetKeepingBuildCache(targetDir);
             } else {
                 deleteResource(targetDir);
             }
@@ -59,6 +76,34 @@ public class CleanTargetDirTask implements Task {
         }
     }
 
+    /**
+     * Deletes the target directory except the bir and jar caches and the build cache, which are validated against the
+     * sources by the {@link ValidateBuildCacheTask}.
+     */
+    private void cleanTargetKeepingBuildCache(Path targetDir) throws IOException {
+        if (!Files.exists(targetDir)) {
+            return;
+        }
+        try (Stream<Path> targetEntries = Files.list(targetDir)) {
+            for (Path entry : targetEntries.collect(Collectors.toList())) {
+                if (!entry.getFileName().toString().equals(ProjectDirConstants.CACHES_DIR_NAME)) {
+                    deleteResource(entry);
+                    continue;
+                }
+                try (Stream<Path> cacheEntries = Files.list(entry)) {
+                    for (Path cacheEntry : cacheEntries.collect(Collectors.toList())) {
+                        String name = cacheEntry.getFileName().toString();
+                        if (!name.equals(ProjectDirConstants.BIR_CACHE_DIR_NAME)
+                                && !name.equals(ProjectDirConstants.JAR_CACHE_DIR_NAME)
+                                && !name.equals(BuildCache.BUILD_CACHE_FILE_NAME)) {
+                            deleteResource(cacheEntry);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
     private void deleteResource(Path path) throws IOException {
         if (path != null && path.toFile().exists()) {
             deleteDirectory(path);
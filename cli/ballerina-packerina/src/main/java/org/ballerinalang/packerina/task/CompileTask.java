@@ -20,6 +20,7 @@ package org.ballerinalang.packerina.task;
 
 import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.packerina.NativeDependencyResolverImpl;
+import org.ballerinalang.packerina.buildcontext.BuildCache;
 import org.ballerinalang.packerina.buildcontext.BuildContext;
 import org.ballerinalang.packerina.buildcontext.BuildContextField;
 import org.ballerinalang.packerina.buildcontext.sourcecontext.MultiModuleContext;
@@ -81,8 +82,13 @@ public class CompileTask implements Task {
                 throw createLauncherException("no modules found to compile.");
             }
             multiModuleContext.setModules(compiledModules);
+            BuildCache buildCache = buildContext.get(BuildContextField.BUILD_CACHE);
             for (BLangPackage bLangPackage: compiledModules) {
                 buildContext.moduleDependencyPathMap.put(bLangPackage.packageID, new ExecutableJar());
+                // Entry points are not read from the bir files of unchanged modules.
+                if (buildCache != null && buildCache.isReusable(bLangPackage.packageID)) {
+                    bLangPackage.symbol.entryPointExists = buildCache.hasEntryPoint(bLangPackage.packageID);
+                }
             }
         }
         
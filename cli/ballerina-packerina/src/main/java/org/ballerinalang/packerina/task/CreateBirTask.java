@@ -19,6 +19,7 @@
 package org.ballerinalang.packerina.task;
 
 import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.packerina.buildcontext.BuildCache;
 import org.ballerinalang.packerina.buildcontext.BuildContext;
 import org.ballerinalang.packerina.buildcontext.BuildContextField;
 import org.ballerinalang.packerina.writer.BirFileWriter;
@@ -51,11 +52,16 @@ public class CreateBirTask implements Task {
         BirFileWriter birFileWriter = BirFileWriter.getInstance(context);
         List<BLangPackage> modules = buildContext.getModules();
         for (BLangPackage module : modules) {
-            birFileWriter.write(module, buildContext.getBirPathFromTargetCache(module.packageID));
+            Path birPath = buildContext.getBirPathFromTargetCache(module.packageID);
+            if (!isCached(buildContext, module.packageID, birPath)) {
+                birFileWriter.write(module, birPath);
+            }
             // If the module has a testable package we will create the bir beside it
             if (module.testablePkgs.size() > 0) {
-                birFileWriter.write(module.testablePkgs.get(0),
-                        buildContext.getTestBirPathFromTargetCache(module.packageID));
+                Path testBirPath = buildContext.getTestBirPathFromTargetCache(module.packageID);
+                if (!isCached(buildContext, module.packageID, testBirPath)) {
+                    birFileWriter.write(module.testablePkgs.get(0), testBirPath);
+                }
             }
             BLangPackage bLangPackage = packageCache.get(module.packageID);
             if (bLangPackage == null) {
@@ -90,7 +96,9 @@ public class CreateBirTask implements Task {
                     buildContext.getImportPathDependency(id).isPresent()) {
                 // If so fetch from project bir cache
                 importBir = buildContext.getBirPathFromTargetCache(id);
-                birWriter.writeBIRToPath(bPackageSymbol.birPackageFile, id, importBir);
+                if (!isCached(buildContext, id, importBir)) {
+                    birWriter.writeBIRToPath(bPackageSymbol.birPackageFile, id, importBir);
+                }
             } else {
                 // If not fetch from home bir cache.
                 importBir = buildContext.getBirPathFromHomeCache(id);
@@ -104,4 +112,9 @@ public class CreateBirTask implements Task {
             writeImportBir(buildContext, bPackageSymbol.imports, project, birWriter, balHomePath);
         }
     }
+
+    private boolean isCached(BuildContext buildContext, PackageID moduleID, Path birPath) {
+        BuildCache buildCache = buildContext.get(BuildContextField.BUILD_CACHE);
+        return buildCache != null && buildCache.isReusable(moduleID) && Files.exists(birPath);
+    }
 }
@@ -20,6 +20,7 @@ package org.ballerinalang.packerina.task;
 
 import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.packerina.buildcontext.BuildCache;
 import org.ballerinalang.packerina.buildcontext.BuildContext;
 import org.ballerinalang.packerina.buildcontext.BuildContextField;
 import org.ballerinalang.packerina.writer.JarFileWriter;
@@ -112,9 +113,19 @@ public class CreateJarTask implements Task {
                 }
             }
         }
+        // Jars of changed modules are in place, record the fingerprints of this build.
+        BuildCache buildCache = buildContext.get(BuildContextField.BUILD_CACHE);
+        if (buildCache != null) {
+            buildCache.save(moduleBirMap);
+        }
         ConfigRegistry.getInstance().setInitialized(false);
     }
 
+    private boolean isCached(BuildContext buildContext, PackageID moduleID, Path jarPath) {
+        BuildCache buildCache = buildContext.get(BuildContextField.BUILD_CACHE);
+        return buildCache != null && buildCache.isReusable(moduleID) && Files.exists(jarPath);
+    }
+
     private void writeImportJar(JarFileWriter jarFileWriter, List<BPackageSymbol> imports, Path sourceRoot,
                                 BuildContext buildContext, Path runtimeJar, Set<PackageID> alreadyImportedModuleSet,
                                 String balHomePath) {
@@ -149,7 +160,9 @@ public class CreateJarTask implements Task {
                 if (!skipCopyLibsFromDist) {
                     moduleDependencySet.add(runtimeJar);
                 }
-                jarFileWriter.write(bimport, jarFilePath);
+                if (!isCached(buildContext, id, jarFilePath)) {
+                    jarFileWriter.write(bimport, jarFilePath);
+                }
             }
         }
     }
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.packerina.task;
+
+import org.ballerinalang.compiler.plugins.CompilerPlugin;
+import org.ballerinalang.compiler.plugins.SupportedAnnotationPackages;
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.packerina.buildcontext.BuildCache;
+import org.ballerinalang.packerina.buildcontext.BuildContext;
+import org.ballerinalang.packerina.buildcontext.BuildContextField;
+import org.ballerinalang.packerina.buildcontext.sourcecontext.SourceType;
+import org.ballerinalang.toml.model.Dependency;
+import org.ballerinalang.toml.parser.ManifestProcessor;
+import org.wso2.ballerinalang.compiler.PackageLoader;
+import org.wso2.ballerinalang.compiler.SourceDirectoryManager;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.ballerinalang.compiler.CompilerOptionName.EXPERIMENTAL_FEATURES_ENABLED;
+import static org.ballerinalang.compiler.CompilerOptionName.NEW_PARSER_ENABLED;
+import static org.ballerinalang.compiler.CompilerOptionName.SKIP_TESTS;
+import static org.ballerinalang.packerina.utils.FileUtils.deleteDirectory;
+import static org.ballerinalang.tool.LauncherUtils.createLauncherException;
+
+/**
+ * Compares the modules of the build with the build cache of the previous build. Unchanged modules are not compiled
+ * again but loaded from the bir files of the previous build, and their bir and jar files are reused. The bir and jar
+ * files of changed modules are removed so that they are generated again.
+ * <p>
+ * Modules whose tests are run and modules importing a module processed by a compiler plugin are always compiled, as
+ * the tests and the compiler plugins need the syntax tree of the module.
+ *
+ * @since 2.0.0
+ */
+public class ValidateBuildCacheTask implements Task {
+
+    @Override
+    public void execute(BuildContext buildContext) {
+        if (buildContext.getSourceType() != SourceType.ALL_MODULES) {
+            return;
+        }
+        Path sourceRoot = buildContext.get(BuildContextField.SOURCE_ROOT);
+        Path targetDir = buildContext.get(BuildContextField.TARGET_DIR);
+        CompilerContext context = buildContext.get(BuildContextField.COMPILER_CONTEXT);
+        CompilerOptions options = CompilerOptions.getInstance(context);
+
+        Path cachesDir = targetDir.resolve(ProjectDirConstants.CACHES_DIR_NAME);
+        BuildCache buildCache = new BuildCache(cachesDir.resolve(BuildCache.BUILD_CACHE_FILE_NAME));
+        List<String> fingerprint = new ArrayList<>(Arrays.asList(RepoUtils.getBallerinaVersion(),
+                options.get(EXPERIMENTAL_FEATURES_ENABLED), options.get(NEW_PARSER_ENABLED), options.get(SKIP_TESTS),
+                BuildCache.hashPath(sourceRoot.resolve(ProjectDirConstants.MANIFEST_FILE_NAME))));
+        // Modules imported from balo files by path are not versioned by the lock file.
+        for (Dependency dependency : ManifestProcessor.getInstance(context).getManifest().getDependencies()) {
+            if (dependency.getMetadata() != null && dependency.getMetadata().getPath() != null) {
+                fingerprint.add(BuildCache.hashPath(sourceRoot.resolve(dependency.getMetadata().getPath())));
+            }
+        }
+        buildCache.setBuildFingerprint(BuildCache.hash(fingerprint));
+        buildCache.setLockFile(buildContext.getLockFilePath());
+
+        List<PackageID> modules = SourceDirectoryManager.getInstance(context).listSourceFilesAndPackages()
+                .collect(Collectors.toList());
+        Set<String> pluginModules = getCompilerPluginModules();
+        Map<PackageID, String> rebuildReasons = new LinkedHashMap<>();
+        for (PackageID moduleID : modules) {
+            Path moduleDir = sourceRoot.resolve(ProjectDirConstants.SOURCE_DIR_NAME).resolve(moduleID.name.value);
+            String reason = buildCache.update(moduleID, BuildCache.hashPath(moduleDir));
+            if (reason == null) {
+                reason = getRebuildReason(buildContext, buildCache, moduleID, moduleDir, pluginModules);
+            }
+            rebuildReasons.put(moduleID, reason);
+        }
+        // A module importing a rebuilt module is rebuilt as well.
+        Map<String, PackageID> moduleKeys = new HashMap<>();
+        modules.forEach(moduleID -> moduleKeys.put(getModuleName(BuildCache.getKey(moduleID)), moduleID));
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (PackageID moduleID : modules) {
+                if (rebuildReasons.get(moduleID) != null) {
+                    continue;
+                }
+                for (String importKey : buildCache.getImports(moduleID)) {
+                    PackageID importID = moduleKeys.get(getModuleName(importKey));
+                    if (importID != null && rebuildReasons.get(importID) != null) {
+                        rebuildReasons.put(moduleID, "dependencies changed");
+                        changed = true;
+                        break;
+                    }
+                }
+            }
+        }
+
+        Map<PackageID, Path> cachedModules = new HashMap<>();
+        for (Map.Entry<PackageID, String> module : rebuildReasons.entrySet()) {
+            PackageID moduleID = module.getKey();
+            if (module.getValue() == null) {
+                buildCache.setReusable(moduleID);
+                cachedModules.put(moduleID, buildContext.getBirPathFromTargetCache(moduleID));
+                continue;
+            }
+            try {
+                Files.deleteIfExists(buildContext.getBirPathFromTargetCache(moduleID));
+                Files.deleteIfExists(buildContext.getTestBirPathFromTargetCache(moduleID));
+                Files.deleteIfExists(buildContext.getJarPathFromTargetCache(moduleID));
+                Files.deleteIfExists(buildContext.getTestJarPathFromTargetCache(moduleID));
+            } catch (IOException e) {
+                throw createLauncherException("unable to remove the cached artifacts of module " + moduleID + ": ", e);
+            }
+        }
+        removeStaleModules(buildCache, cachesDir);
+        PackageLoader.getInstance(context).setCachedModules(cachedModules);
+        buildContext.put(BuildContextField.BUILD_CACHE, buildCache);
+
+        // Nothing to report on a clean build.
+        if (cachedModules.isEmpty()) {
+            return;
+        }
+        buildContext.out().println();
+        buildContext.out().println("Checking build cache");
+        for (Map.Entry<PackageID, String> module : rebuildReasons.entrySet()) {
+            if (module.getValue() == null) {
+                buildContext.out().println("\t" + module.getKey() + " - up to date");
+            }
+        }
+        for (Map.Entry<PackageID, String> module : rebuildReasons.entrySet()) {
+            if (module.getValue() != null) {
+                buildContext.out().println("\t" + module.getKey() + " - rebuilding, " + module.getValue());
+            }
+        }
+    }
+
+    /**
+     * Checks whether an unchanged module can be loaded from the bir file of the previous build.
+     */
+    private String getRebuildReason(BuildContext buildContext, BuildCache buildCache, PackageID moduleID,
+                                    Path moduleDir, Set<String> pluginModules) {
+        if (!buildContext.skipTests() && Files.exists(moduleDir.resolve(ProjectDirConstants.TEST_DIR_NAME))) {
+            return "tests are run";
+        }
+        for (String importKey : buildCache.getImports(moduleID)) {
+            if (pluginModules.contains(getModuleName(importKey))) {
+                return "processed by compiler plugins";
+            }
+        }
+        if (Files.notExists(buildContext.getBirPathFromTargetCache(moduleID)) ||
+                Files.notExists(buildContext.getJarPathFromTargetCache(moduleID))) {
+            return "cached artifacts not found";
+        }
+        return null;
+    }
+
+    /**
+     * Returns the modules whose annotations are processed by the available compiler plugins, in the form org/name.
+     */
+    private Set<String> getCompilerPluginModules() {
+        Set<String> pluginModules = new HashSet<>();
+        for (CompilerPlugin plugin : ServiceLoader.load(CompilerPlugin.class)) {
+            SupportedAnnotationPackages supportedAnnotationPackages =
+                    plugin.getClass().getAnnotation(SupportedAnnotationPackages.class);
+            if (supportedAnnotationPackages != null) {
+                pluginModules.addAll(Arrays.asList(supportedAnnotationPackages.value()));
+            }
+        }
+        return pluginModules;
+    }
+
+    /**
+     * Strips the version off a module key of the build cache.
+     */
+    private String getModuleName(String moduleKey) {
+        return moduleKey.substring(0, moduleKey.lastIndexOf('/'));
+    }
+
+    private void removeStaleModules(BuildCache buildCache, Path cachesDir) {
+        for (String module : buildCache.getRemovedModules()) {
+            try {
+                deleteIfExists(cachesDir.resolve(ProjectDirConstants.BIR_CACHE_DIR_NAME).resolve(module));
+                deleteIfExists(cachesDir.resolve(ProjectDirConstants.JAR_CACHE_DIR_NAME).resolve(module));
+            } catch (IOException e) {
+                throw createLauncherException("unable to remove the cached artifacts of module " + module + ": ", e);
+            }
+        }
+    }
+
+    private void deleteIfExists(Path path) throws IOException {
+        if (Files.exists(path)) {
+            deleteDirectory(path);
+        }
+    }
+}
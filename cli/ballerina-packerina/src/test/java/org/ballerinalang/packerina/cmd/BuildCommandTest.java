@@ -528,6 +528,60 @@ public class BuildCommandTest extends CommandTest {
     }
     
     @Test(dependsOnMethods = {"testBuildOutput"})
+    public void testBuildCache() throws IOException {
+        Path target = this.testResources.resolve("valid-project").resolve(ProjectDirConstants.TARGET_DIR_NAME);
+        Assert.assertTrue(Files.exists(target.resolve(ProjectDirConstants.CACHES_DIR_NAME).resolve(
+                "build_cache.properties")), "Check if the build cache is created");
+        readOutput(true);
+
+        // Build the project again without any changes
+        String[] compileArgs = {"--all", "--skip-tests"};
+        BuildCommand buildCommand = new BuildCommand(this.testResources.resolve("valid-project"), printStream,
+                printStream, false, true);
+        new CommandLine(buildCommand).parse(compileArgs);
+        buildCommand.execute();
+
+        String buildLog = readOutput(true);
+        Assert.assertTrue(buildLog.contains("Checking build cache"));
+        Assert.assertTrue(buildLog.contains("testOrg/mymodule:0.1.0 - up to date"));
+        Assert.assertFalse(buildLog.contains("Compiling source"), "Check if unchanged modules are not compiled");
+        Assert.assertTrue(Files.exists(target.resolve(ProjectDirConstants.BIN_DIR_NAME)
+                .resolve("mymodule" + BLANG_COMPILED_JAR_EXT)), "Check if the executable is created");
+    }
+
+    @Test(dependsOnMethods = {"testBuildCache"})
+    public void testBuildCacheWithChangedModule() throws IOException {
+        Path target = this.testResources.resolve("valid-project").resolve(ProjectDirConstants.TARGET_DIR_NAME);
+        Path mainBal = this.testResources.resolve("valid-project").resolve("src").resolve("mymodule")
+                .resolve("main.bal");
+        byte[] mainBalContent = Files.readAllBytes(mainBal);
+        readOutput(true);
+        try {
+            Files.write(mainBal, "\n// changed\n".getBytes(), StandardOpenOption.APPEND);
+
+            // Build the project again after changing the module importing myimport
+            String[] compileArgs = {"--all", "--skip-tests"};
+            BuildCommand buildCommand = new BuildCommand(this.testResources.resolve("valid-project"), printStream,
+                    printStream, false, true);
+            new CommandLine(buildCommand).parse(compileArgs);
+            buildCommand.execute();
+        } finally {
+            Files.write(mainBal, mainBalContent);
+        }
+
+        String buildLog = readOutput(true);
+        Assert.assertTrue(buildLog.contains("testOrg/mymodule:0.1.0 - rebuilding, sources changed"));
+        Assert.assertTrue(buildLog.contains("testOrg/myimport:0.1.0 - up to date"));
+        Assert.assertTrue(buildLog.contains("Compiling source"));
+        String compileLog = buildLog.substring(buildLog.indexOf("Compiling source"));
+        Assert.assertTrue(compileLog.contains("testOrg/mymodule:0.1.0"), "Check if the changed module is compiled");
+        Assert.assertFalse(compileLog.contains("testOrg/myimport:0.1.0"),
+                "Check if the unchanged imported module is not compiled");
+        Assert.assertTrue(Files.exists(target.resolve(ProjectDirConstants.BIN_DIR_NAME)
+                .resolve("mymodule" + BLANG_COMPILED_JAR_EXT)), "Check if the executable is created");
+    }
+
+    @Test(dependsOnMethods = {"testBuildOutput", "testBuildCache", "testBuildCacheWithChangedModule"})
     public void testCleanCommand() {
         CleanCommand cleanCommand = new CleanCommand(Paths.get(System.getProperty("user.dir")), false);
         new CommandLine(cleanCommand).parse("--sourceroot", this.testResources.resolve("valid-project").toString());
@@ -133,7 +133,10 @@ public class Compiler {
             return new ArrayList<>();
         }
         
-        this.outStream.println("Compiling source");
+        // Modules unchanged since a previous build are loaded from the BIR files of that build.
+        if (pkgList.stream().anyMatch(pkgId -> !this.pkgLoader.isCachedPackage(pkgId))) {
+            this.outStream.println("Compiling source");
+        }
         List<BLangPackage> compiledPackages = compilePackages(pkgList);
         // If it is a build and dlog is not empty, compilation should fail
         if (isBuild && this.dlog.getErrorCount() > 0) {
@@ -153,7 +156,12 @@ public class Compiler {
         // 2) Define all package level symbols for all the packages including imported packages in the AST
         List<BLangPackage> packages = new ArrayList<>();
         for (PackageID pkgId : pkgIdList) {
-            BLangPackage bLangPackage = this.pkgLoader.loadEntryPackage(pkgId, null, this.outStream);
+            BLangPackage bLangPackage;
+            if (this.pkgLoader.isCachedPackage(pkgId)) {
+                bLangPackage = this.pkgLoader.loadCachedPackage(pkgId);
+            } else {
+                bLangPackage = this.pkgLoader.loadEntryPackage(pkgId, null, this.outStream);
+            }
             if (bLangPackage != null) {
                 // skip the packages that were not loaded properly
                 packages.add(bLangPackage);
@@ -167,6 +175,10 @@ public class Compiler {
                 dlog.resetErrorCount();
             }
         }
+
+        // 4) Generate the code of the compiled packages, independent packages are generated in parallel.
+        this.compilerDriver.generateCode();
+        dlog.resetErrorCount();
         return packages;
     }
 
@@ -41,8 +41,16 @@ import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.compiler.util.Constants;
 import org.wso2.ballerinalang.compiler.util.diagnotic.BLangDiagnosticLogHelper;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.ballerinalang.compiler.CompilerOptionName.TOOLING_COMPILATION;
 import static org.ballerinalang.model.elements.PackageID.ANNOTATIONS;
@@ -95,6 +103,7 @@ public class CompilerDriver {
     private final CodeGenerator codeGenerator;
     private final CompilerPhase compilerPhase;
     private final DataflowAnalyzer dataflowAnalyzer;
+    private final List<BLangPackage> codeGenPackages = new ArrayList<>();
     private boolean isToolingCompilation;
 
 
@@ -281,7 +290,71 @@ public class CompilerDriver {
             return;
         }
 
-        codeGen(pkgNode);
+        // Code generation is deferred until all the modules are compiled, see generateCode.
+        codeGenPackages.add(pkgNode);
+    }
+
+    /**
+     * Generates the code of the modules compiled so far.
+     * <p>
+     * The code generator of a module reads the BIR of the imported modules, which is rewritten when the code of the
+     * imported module is generated. Hence a module is scheduled once the code of all the modules it imports is
+     * generated, while the independent modules of the dependency graph are generated in parallel.
+     */
+    void generateCode() {
+        if (codeGenPackages.isEmpty()) {
+            return;
+        }
+        // Modules are added after their imports are compiled, hence the list is in dependency order.
+        List<BLangPackage> packages = new ArrayList<>(codeGenPackages);
+        codeGenPackages.clear();
+        if (packages.size() == 1) {
+            codeGen(packages.get(0));
+            return;
+        }
+
+        // BIR dumps are printed up front and in dependency order, rather than from the parallel tasks.
+        packages.forEach(codeGenerator::dumpBIR);
+
+        ForkJoinPool codeGenPool = new ForkJoinPool(Math.min(packages.size(),
+                Runtime.getRuntime().availableProcessors()));
+        Map<PackageID, CompletableFuture<Void>> codeGenTasks = new HashMap<>();
+        try {
+            for (BLangPackage pkgNode : packages) {
+                Set<PackageID> imports = new HashSet<>();
+                collectImports(pkgNode.symbol, imports);
+                pkgNode.getTestablePkgs().forEach(testablePkg -> collectImports(testablePkg.symbol, imports));
+                CompletableFuture<?>[] dependencies = imports.stream()
+                        .map(codeGenTasks::get)
+                        .filter(Objects::nonNull)
+                        .toArray(CompletableFuture[]::new);
+                codeGenTasks.put(pkgNode.packageID, CompletableFuture.allOf(dependencies)
+                        .thenRunAsync(() -> codeGenerator.generateJars(pkgNode), codeGenPool));
+            }
+            CompletableFuture.allOf(codeGenTasks.values().toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        } finally {
+            codeGenPool.shutdown();
+        }
+    }
+
+    private void collectImports(BPackageSymbol packageSymbol, Set<PackageID> imports) {
+        if (packageSymbol == null) {
+            return;
+        }
+        for (BPackageSymbol importSymbol : packageSymbol.imports) {
+            if (importSymbol != null && imports.add(importSymbol.pkgID)) {
+                collectImports(importSymbol, imports);
+            }
+        }
     }
 
     private BLangPackage codeGen(BLangPackage pkgNode) {
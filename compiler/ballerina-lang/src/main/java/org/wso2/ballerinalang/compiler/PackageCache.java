@@ -23,13 +23,17 @@ import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.Names;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A cache of parsed package nodes.
+ * <p>
+ * The cache is safe for concurrent access, since the code of independent modules is generated in parallel.
  *
  * @since 0.965.0
  */
@@ -55,8 +59,8 @@ public class PackageCache {
 
     protected PackageCache(CompilerContext context) {
         context.put(PACKAGE_CACHE_KEY, this);
-        this.packageMap = new HashMap<>();
-        this.packageSymbolMap = new HashMap<>();
+        this.packageMap = Collections.synchronizedMap(new HashMap<>());
+        this.packageSymbolMap = new ConcurrentHashMap<>();
     }
 
     public BLangPackage get(PackageID packageID) {
@@ -92,7 +96,8 @@ public class PackageCache {
         if (versionMap != null) {
             if (packageElements.length > 1) {
                 return versionMap.get(packageElements[1]);
-            } else {
+            }
+            synchronized (versionMap) {
                 Iterator<BPackageSymbol> itr = versionMap.values().iterator();
                 if (itr.hasNext()) {
                     return itr.next();
@@ -104,8 +109,8 @@ public class PackageCache {
 
     public void putSymbol(PackageID packageID, BPackageSymbol packageSymbol) {
         String[] packageElements = packageID.toString().split(Names.VERSION_SEPARATOR.value);
-        Map<String, BPackageSymbol> versionMap =
-                packageSymbolMap.computeIfAbsent(packageElements[0], k -> new LinkedHashMap<>());
+        Map<String, BPackageSymbol> versionMap = packageSymbolMap.computeIfAbsent(packageElements[0],
+                k -> Collections.synchronizedMap(new LinkedHashMap<>()));
         if (packageElements.length > 1) {
             versionMap.put(packageElements[1], packageSymbol);
         } else {
@@ -17,8 +17,10 @@
  */
 package org.wso2.ballerinalang.compiler;
 
+import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.compiler.CompilerOptionName;
 import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.repository.CompiledPackage;
 import org.ballerinalang.repository.CompilerInput;
@@ -64,6 +66,7 @@ import org.wso2.ballerinalang.compiler.util.ProjectDirs;
 import org.wso2.ballerinalang.compiler.util.diagnotic.BLangDiagnosticLogHelper;
 import org.wso2.ballerinalang.util.RepoUtils;
 
+import java.io.IOException;
 import java.io.PrintStream;
 import java.net.URI;
 import java.nio.file.Files;
@@ -71,6 +74,7 @@ import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -126,6 +130,8 @@ public class PackageLoader {
      * Holds the manifests of modules resolved by dependency paths.
      */
     private Map<PackageID, Manifest> dependencyManifests = new HashMap<>();
+    // Project modules which are unchanged since a previous build, with the BIR files written by that build.
+    private final Map<PackageID, Path> cachedModules = new HashMap<>();
 
     public static PackageLoader getInstance(CompilerContext context) {
         PackageLoader loader = context.get(PACKAGE_LOADER_KEY);
@@ -386,6 +392,48 @@ public class PackageLoader {
         return packageNode;
     }
 
+    /**
+     * Sets the project modules which are unchanged since a previous build. These modules are not compiled again, but
+     * loaded from the BIR files of that build, the same way as the compiled dependencies.
+     *
+     * @param cachedModules the BIR file of each unchanged module
+     */
+    public void setCachedModules(Map<PackageID, Path> cachedModules) {
+        this.cachedModules.clear();
+        this.cachedModules.putAll(cachedModules);
+    }
+
+    /**
+     * Returns true if the given project module is loaded from the BIR file of a previous build.
+     *
+     * @param pkgId module ID
+     * @return true if the module is unchanged since a previous build
+     */
+    public boolean isCachedPackage(PackageID pkgId) {
+        return getCachedPackageID(pkgId) != null;
+    }
+
+    /**
+     * Loads a project module which is unchanged since a previous build from the BIR file of that build. The returned
+     * package only holds the symbol of the module, and it is marked as compiled so that the compiler phases are not
+     * run on it again.
+     *
+     * @param pkgId module ID
+     * @return the package of the module
+     */
+    public BLangPackage loadCachedPackage(PackageID pkgId) {
+        BLangPackage bLangPackage = packageCache.get(pkgId);
+        if (bLangPackage != null) {
+            return bLangPackage;
+        }
+
+        bLangPackage = (BLangPackage) TreeBuilder.createPackageNode();
+        bLangPackage.symbol = loadPackageSymbol(pkgId, null, null);
+        bLangPackage.completedPhases.addAll(EnumSet.allOf(CompilerPhase.class));
+        this.packageCache.put(pkgId, bLangPackage);
+        return bLangPackage;
+    }
+
     public BLangPackage loadPackage(PackageID pkgId) {
         // TODO Remove this method()
         BLangPackage bLangPackage = packageCache.get(pkgId);
@@ -425,6 +473,11 @@ public class PackageLoader {
             return packageSymbol;
         }
 
+        PackageID cachedPkgId = getCachedPackageID(packageId);
+        if (cachedPkgId != null) {
+            return loadCachedPackageAndDefine(cachedPkgId);
+        }
+
         PackageEntity pkgEntity = loadPackageEntity(packageId, enclPackageId, encPkgRepoHierarchy);
 
         if (pkgEntity == null) {
@@ -517,6 +570,35 @@ public class PackageLoader {
         return pkgSymbol;
     }
 
+    private BPackageSymbol loadCachedPackageAndDefine(PackageID pkgId) {
+        BPackageSymbol pkgSymbol = this.packageCache.getSymbol(pkgId);
+        if (pkgSymbol != null) {
+            return pkgSymbol;
+        }
+
+        Path birFile = this.cachedModules.get(pkgId);
+        byte[] pkgBinaryContent;
+        try {
+            pkgBinaryContent = Files.readAllBytes(birFile);
+        } catch (IOException e) {
+            throw new BLangCompilerException("error reading the compiled module(bir) of '" + pkgId + "' from '" +
+                                                     birFile + "': " + e.getMessage(), e);
+        }
+        pkgSymbol = this.birPackageSymbolEnter.definePackage(pkgId, this.repos, pkgBinaryContent);
+        this.packageCache.putSymbol(pkgSymbol.pkgID, pkgSymbol);
+        return pkgSymbol;
+    }
+
+    private PackageID getCachedPackageID(PackageID pkgId) {
+        // Imports of project modules may not specify the version.
+        for (PackageID cachedPkgId : this.cachedModules.keySet()) {
+            if (cachedPkgId.orgName.equals(pkgId.orgName) && cachedPkgId.name.equals(pkgId.name)) {
+                return cachedPkgId;
+            }
+        }
+        return null;
+    }
+
     private CompiledPackage createInMemoryCompiledPackage(BLangPackage pkgNode) {
         PackageID packageID = pkgNode.packageID;
         InMemoryCompiledPackage compiledPackage = new InMemoryCompiledPackage(packageID);
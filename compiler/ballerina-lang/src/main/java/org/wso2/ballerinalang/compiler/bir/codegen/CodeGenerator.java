@@ -107,9 +107,30 @@ public class CodeGenerator {
 
     public BLangPackage generate(BLangPackage bLangPackage) {
 
+        dumpBIR(bLangPackage);
+        return generateJars(bLangPackage);
+    }
+
+    /**
+     * Prints the BIR of the given module, if the BIR dump is enabled. This has to be done before the code of the
+     * module is generated, since code generation rewrites the BIR.
+     *
+     * @param bLangPackage module to be dumped
+     */
+    public void dumpBIR(BLangPackage bLangPackage) {
+
         if (dumbBIR) {
             birEmitter.emit(bLangPackage.symbol.bir);
         }
+    }
+
+    /**
+     * Generates the jars of the given module and its test module, without dumping the BIR.
+     *
+     * @param bLangPackage module to be generated
+     * @return the given module
+     */
+    public BLangPackage generateJars(BLangPackage bLangPackage) {
 
         // find module dependencies path
         Set<Path> moduleDependencies = findDependencies(bLangPackage.packageID);
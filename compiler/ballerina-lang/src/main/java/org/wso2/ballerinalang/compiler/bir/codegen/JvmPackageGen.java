@@ -42,6 +42,7 @@ import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.NewInstance;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarScope;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
@@ -57,6 +58,7 @@ import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 import org.wso2.ballerinalang.compiler.util.diagnotic.BLangDiagnosticLogHelper;
+import org.wso2.ballerinalang.compiler.util.diagnotic.DiagnosticPos;
 import org.wso2.ballerinalang.util.Flags;
 
 import java.util.ArrayList;
@@ -68,7 +70,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
@@ -77,24 +81,30 @@ import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
 import static org.objectweb.asm.Opcodes.ALOAD;
 import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.ICONST_0;
 import static org.objectweb.asm.Opcodes.ICONST_1;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
 import static org.objectweb.asm.Opcodes.NEW;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.V1_8;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CURRENT_MODULE_INIT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FILE_NAME_PERIOD_SEPERATOR;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GLOBAL_LOCK_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JAVA_PACKAGE_SEPERATOR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JAVA_THREAD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_FIELD_PREFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_STORE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_INIT_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_STARTED;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_START_ATTEMPTED;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_STOP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRING_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.VALUE_CREATOR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmDesugarPhase.addDefaultableBooleanVarsToSignature;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmDesugarPhase.rewriteRecordInits;
@@ -134,6 +144,9 @@ public class JvmPackageGen {
     private Map<String, String> globalVarClassMap;
     private Map<String, PackageID> dependentModules;
     private BLangDiagnosticLogHelper dlog;
+    // Errors are counted per module, since the shared diagnostic log also counts the errors of the modules which are
+    // generated in parallel.
+    private final AtomicInteger errorCount = new AtomicInteger();
 
     JvmPackageGen(SymbolTable symbolTable, PackageCache packageCache, BLangDiagnosticLogHelper dlog) {
 
@@ -216,16 +229,48 @@ public class JvmPackageGen {
         generateField(cw, bType, varName, true);
     }
 
-    private static void generateLockForVariable(ClassWriter cw) {
+    private static void generateLockForVariable(ClassWriter cw, Set<Integer> lockIds) {
 
         String lockStoreClass = "L" + LOCK_STORE + ";";
         FieldVisitor fv;
         fv = cw.visitField(ACC_PUBLIC + ACC_FINAL + ACC_STATIC, "LOCK_STORE", lockStoreClass, null, null);
         fv.visitEnd();
+
+        // A field per lock, so that lock statements do not have to look up the lock by name.
+        String lockClass = "L" + LOCK_VALUE + ";";
+        for (Integer lockId : lockIds) {
+            fv = cw.visitField(ACC_PUBLIC + ACC_FINAL + ACC_STATIC, LOCK_FIELD_PREFIX + lockId, lockClass, null,
+                    null);
+            fv.visitEnd();
+        }
+    }
+
+    private static Set<Integer> getLockIds(BIRPackage module) {
+
+        Set<Integer> lockIds = new TreeSet<>();
+        for (BIRTypeDefinition typeDef : module.typeDefs) {
+            if (typeDef != null && typeDef.attachedFuncs != null) {
+                typeDef.attachedFuncs.forEach(func -> addLockIds(func, lockIds));
+            }
+        }
+        module.functions.forEach(func -> addLockIds(func, lockIds));
+        return lockIds;
+    }
+
+    private static void addLockIds(BIRFunction func, Set<Integer> lockIds) {
+
+        if (func == null) {
+            return;
+        }
+        for (BIRNode.BIRBasicBlock basicBlock : func.basicBlocks) {
+            if (basicBlock.terminator instanceof BIRTerminator.Lock) {
+                lockIds.add(((BIRTerminator.Lock) basicBlock.terminator).lockId);
+            }
+        }
     }
 
     private static void generateStaticInitializer(ClassWriter cw, String className,
-                                                  boolean serviceEPAvailable) {
+                                                  boolean serviceEPAvailable, Set<Integer> lockIds) {
 
         MethodVisitor mv = cw.visitMethod(ACC_STATIC, "<clinit>", "()V", null, null);
 
@@ -235,6 +280,16 @@ public class JvmPackageGen {
         mv.visitMethodInsn(INVOKESPECIAL, LOCK_STORE, "<init>", "()V", false);
         mv.visitFieldInsn(PUTSTATIC, className, "LOCK_STORE", lockStoreClass);
 
+        // Resolve the locks through the lock store, which keeps track of them for async call checks.
+        String lockClass = "L" + LOCK_VALUE + ";";
+        for (Integer lockId : lockIds) {
+            mv.visitFieldInsn(GETSTATIC, className, "LOCK_STORE", lockStoreClass);
+            mv.visitLdcInsn(GLOBAL_LOCK_NAME + lockId);
+            mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_STORE, "getLockFromMap",
+                    String.format("(L%s;)L%s;", STRING_VALUE, LOCK_VALUE), false);
+            mv.visitFieldInsn(PUTSTATIC, className, LOCK_FIELD_PREFIX + lockId, lockClass);
+        }
+
         setServiceEPAvailableField(cw, mv, serviceEPAvailable, className);
         setModuleStatusField(cw, mv, className);
 
@@ -429,7 +484,7 @@ public class JvmPackageGen {
             BPackageSymbol pkgSymbol = packageCache.getSymbol(getBvmAlias(importModule.org.value,
                     importModule.name.value));
             generateDependencyList(pkgSymbol, interopValidator);
-            if (dlog.getErrorCount() > 0) {
+            if (errorCount.get() > 0) {
                 return new CompiledJarFile(Collections.emptyMap());
             }
         }
@@ -437,7 +492,7 @@ public class JvmPackageGen {
         String moduleInitClass = getModuleLevelClassName(orgName, moduleName, version, MODULE_INIT_CLASS_NAME);
         Map<String, JavaClass> jvmClassMapping = generateClassNameMapping(module, pkgName, moduleInitClass,
                 interopValidator, isEntry);
-        if (!isEntry || dlog.getErrorCount() > 0) {
+        if (!isEntry || errorCount.get() > 0) {
             return new CompiledJarFile(Collections.emptyMap());
         }
 
@@ -512,8 +567,9 @@ public class JvmPackageGen {
                 }
                 jvmMethodGen.generateLambdaForPackageInits(cw, module, mainClass, moduleClass, moduleImports);
 
-                generateLockForVariable(cw);
-                generateStaticInitializer(cw, moduleClass, serviceEPAvailable);
+                Set<Integer> lockIds = getLockIds(module);
+                generateLockForVariable(cw, lockIds);
+                generateStaticInitializer(cw, moduleClass, serviceEPAvailable, lockIds);
                 generateCreateTypesMethod(cw, module.typeDefs, moduleInitClass, symbolTable);
                 jvmMethodGen.generateModuleInitializer(cw, module, moduleInitClass);
                 jvmMethodGen.generateExecutionStopMethod(cw, moduleInitClass, module, moduleImports,
@@ -595,7 +651,11 @@ public class JvmPackageGen {
             String functionName = initFunc.name.value;
             JavaClass klass = new JavaClass(initFunc.pos.src.cUnitName);
             klass.functions.add(0, initFunc);
-            jvmMethodGen.addInitAndTypeInitInstructions(module, initFunc);
+            // The init function is only rewritten when generating the module itself. The BIR of an imported module
+            // is shared by all of its importers, which only need the function signatures.
+            if (isEntry) {
+                jvmMethodGen.addInitAndTypeInitInstructions(module, initFunc);
+            }
             jvmClassMap.put(initClass, klass);
             birFunctionMap.put(pkgName + functionName, getFunctionWrapper(initFunc, orgName, moduleName,
                     version, initClass));
@@ -660,7 +720,7 @@ public class JvmPackageGen {
                                 birModuleClassName);
                     }
                 } catch (JInteropException e) {
-                    dlog.error(birFunc.pos, e.getCode(), e.getMessage());
+                    logError(birFunc.pos, e.getCode(), e.getMessage());
                     continue;
                 }
                 birFunctionMap.put(pkgName + birFuncName, birFuncWrapperOrError);
@@ -723,6 +783,12 @@ public class JvmPackageGen {
         return jvmClassMap;
     }
 
+    private void logError(DiagnosticPos pos, DiagnosticCode code, Object... args) {
+
+        errorCount.incrementAndGet();
+        dlog.error(pos, code, args);
+    }
+
     public String lookupExternClassName(String pkgName, String functionName) {
 
         return externClassMap.get(cleanupName(pkgName) + "/" + functionName);
@@ -736,10 +802,10 @@ public class JvmPackageGen {
         } catch (MethodTooLargeException e) {
             String funcName = e.getMethodName();
             BIRFunction func = findFunction(node, funcName);
-            dlog.error(func.pos, DiagnosticCode.METHOD_TOO_LARGE, func.name.value);
+            logError(func.pos, DiagnosticCode.METHOD_TOO_LARGE, func.name.value);
             result = new byte[0];
         } catch (ClassTooLargeException e) {
-            dlog.error(node.pos, DiagnosticCode.FILE_TOO_LARGE, e.getClassName());
+            logError(node.pos, DiagnosticCode.FILE_TOO_LARGE, e.getClassName());
             result = new byte[0];
         } catch (Exception e) {
             throw new BLangCompilerException(e.getMessage(), e);
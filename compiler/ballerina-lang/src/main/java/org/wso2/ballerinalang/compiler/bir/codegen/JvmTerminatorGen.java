@@ -99,6 +99,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUTURE_VA
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GLOBAL_LOCK_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.HANDLE_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LIST;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_FIELD_PREFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_STORE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP;
@@ -202,7 +203,13 @@ public class JvmTerminatorGen {
                 mv.visitInsn(ICONST_0);
             }
 
-            mv.visitMethodInsn(INVOKESPECIAL, CHANNEL_DETAILS, "<init>", String.format("(L%s;ZZ)V", STRING_VALUE),
+            if (ch.asyncOnly) {
+                mv.visitInsn(ICONST_1);
+            } else {
+                mv.visitInsn(ICONST_0);
+            }
+
+            mv.visitMethodInsn(INVOKESPECIAL, CHANNEL_DETAILS, "<init>", String.format("(L%s;ZZZ)V", STRING_VALUE),
                     false);
             mv.visitInsn(AASTORE);
         }
@@ -298,15 +305,13 @@ public class JvmTerminatorGen {
     private void genLockTerm(BIRTerminator.Lock lockIns, String funcName, int localVarOffset) {
 
         Label gotoLabel = this.labelGen.getLabel(funcName + lockIns.lockedBB.id.value);
-        String lockStore = "L" + LOCK_STORE + ";";
+        // locks are resolved once in the module init class, hence load the lock directly from its field
         String initClassName = jvmPackageGen.lookupGlobalVarClassName(this.currentPackageName, "LOCK_STORE");
-        String lockName = GLOBAL_LOCK_NAME + lockIns.lockId;
-        this.mv.visitFieldInsn(GETSTATIC, initClassName, "LOCK_STORE", lockStore);
-        this.mv.visitLdcInsn(lockName);
-        this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_STORE, "getLockFromMap",
-                String.format("(L%s;)L%s;", STRING_VALUE, LOCK_VALUE), false);
+        this.mv.visitFieldInsn(GETSTATIC, initClassName, LOCK_FIELD_PREFIX + lockIns.lockId,
+                String.format("L%s;", LOCK_VALUE));
         this.mv.visitVarInsn(ALOAD, localVarOffset);
-        this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_VALUE, "lock", String.format("(L%s;)Z", STRAND), false);
+        String lockMethod = lockIns.readOnly ? "lockShared" : "lock";
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_VALUE, lockMethod, String.format("(L%s;)Z", STRAND), false);
         this.mv.visitInsn(POP);
         genYieldCheckForLock(this.mv, this.labelGen, funcName, localVarOffset);
         this.mv.visitJumpInsn(GOTO, gotoLabel);
@@ -317,14 +322,12 @@ public class JvmTerminatorGen {
         Label gotoLabel = this.labelGen.getLabel(funcName + unlockIns.unlockBB.id.value);
 
         // unlocked in the same order https://yarchive.net/comp/linux/lock_ordering.html
-        String lockStore = "L" + LOCK_STORE + ";";
-        String lockName = GLOBAL_LOCK_NAME + unlockIns.relatedLock.lockId;
+        BIRTerminator.Lock relatedLock = unlockIns.relatedLock;
         String initClassName = jvmPackageGen.lookupGlobalVarClassName(this.currentPackageName, "LOCK_STORE");
-        this.mv.visitFieldInsn(GETSTATIC, initClassName, "LOCK_STORE", lockStore);
-        this.mv.visitLdcInsn(lockName);
-        this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_STORE, "getLockFromMap", String.format("(L%s;)L%s;",
-                STRING_VALUE, LOCK_VALUE), false);
-        this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_VALUE, "unlock", "()V", false);
+        this.mv.visitFieldInsn(GETSTATIC, initClassName, LOCK_FIELD_PREFIX + relatedLock.lockId,
+                String.format("L%s;", LOCK_VALUE));
+        String unlockMethod = relatedLock.readOnly ? "unlockShared" : "unlock";
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_VALUE, unlockMethod, "()V", false);
 
         this.mv.visitJumpInsn(GOTO, gotoLabel);
     }
@@ -1027,8 +1030,7 @@ public class JvmTerminatorGen {
         }
         this.mv.visitFieldInsn(GETFIELD, STRAND, "wdChannels", String.format("L%s;", WD_CHANNELS));
         this.mv.visitLdcInsn(ins.channel.value);
-        this.mv.visitMethodInsn(INVOKEVIRTUAL, WD_CHANNELS, "getWorkerDataChannel", String.format("(L%s;)L%s;",
-                STRING_VALUE, WORKER_DATA_CHANNEL), false);
+        this.loadWorkerDataChannel(ins.isAsyncOnly, true, localVarOffset);
         this.loadVar(ins.data.variableDcl);
         JvmInstructionGen.addBoxInsn(this.mv, ins.data.variableDcl.type);
         this.mv.visitVarInsn(ALOAD, localVarOffset);
@@ -1046,6 +1048,22 @@ public class JvmTerminatorGen {
         }
     }
 
+    private void loadWorkerDataChannel(boolean isAsyncOnly, boolean isSend, int localVarOffset) {
+
+        if (!isAsyncOnly) {
+            this.mv.visitMethodInsn(INVOKEVIRTUAL, WD_CHANNELS, "getWorkerDataChannel",
+                    String.format("(L%s;)L%s;", STRING_VALUE, WORKER_DATA_CHANNEL), false);
+            return;
+        }
+
+        // Channels which only carry async sends are lock-free, hence they are bound to the sending and the
+        // receiving strand.
+        this.mv.visitVarInsn(ALOAD, localVarOffset);
+        this.mv.visitInsn(isSend ? ICONST_1 : ICONST_0);
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, WD_CHANNELS, "getAsyncWorkerDataChannel",
+                String.format("(L%s;L%s;Z)L%s;", STRING_VALUE, STRAND, WORKER_DATA_CHANNEL), false);
+    }
+
     private void genWorkerReceiveIns(BIRTerminator.WorkerReceive ins, String funcName, int localVarOffset) {
 
         this.mv.visitVarInsn(ALOAD, localVarOffset);
@@ -1054,8 +1072,7 @@ public class JvmTerminatorGen {
         }
         this.mv.visitFieldInsn(GETFIELD, STRAND, "wdChannels", String.format("L%s;", WD_CHANNELS));
         this.mv.visitLdcInsn(ins.workerName.value);
-        this.mv.visitMethodInsn(INVOKEVIRTUAL, WD_CHANNELS, "getWorkerDataChannel", String.format("(L%s;)L%s;",
-                STRING_VALUE, WORKER_DATA_CHANNEL), false);
+        this.loadWorkerDataChannel(ins.isAsyncOnly, false, localVarOffset);
 
         this.mv.visitVarInsn(ALOAD, localVarOffset);
         this.mv.visitMethodInsn(INVOKEVIRTUAL, WORKER_DATA_CHANNEL, "tryTakeData", String.format("(L%s;)L%s;",
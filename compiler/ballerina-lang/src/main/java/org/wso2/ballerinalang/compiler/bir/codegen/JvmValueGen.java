@@ -812,6 +812,12 @@ class JvmValueGen {
         }
     }
 
+    private static int getHashSetCapacity(int fieldCount) {
+
+        // Size the set so that adding all the record fields does not trigger a rehash.
+        return (int) (fieldCount / 0.75f) + 1;
+    }
+
     private String getFieldIsPresentFlagName(String fieldName) {
 
         return String.format("%s$isPresent", fieldName);
@@ -975,7 +981,8 @@ class JvmValueGen {
         int entrySetVarIndex = 1;
         mv.visitTypeInsn(NEW, LINKED_HASH_SET);
         mv.visitInsn(DUP);
-        mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_SET, "<init>", "()V", false);
+        mv.visitLdcInsn(getHashSetCapacity(fields.size()));
+        mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_SET, "<init>", "(I)V", false);
         mv.visitVarInsn(ASTORE, entrySetVarIndex);
 
         for (BField optionalField : fields.values()) {
@@ -1091,7 +1098,8 @@ class JvmValueGen {
         int valuesVarIndex = 1;
         mv.visitTypeInsn(NEW, ARRAY_LIST);
         mv.visitInsn(DUP);
-        mv.visitMethodInsn(INVOKESPECIAL, ARRAY_LIST, "<init>", "()V", false);
+        mv.visitLdcInsn(fields.size());
+        mv.visitMethodInsn(INVOKESPECIAL, ARRAY_LIST, "<init>", "(I)V", false);
         mv.visitVarInsn(ASTORE, valuesVarIndex);
 
         for (BField optionalField : fields.values()) {
@@ -1272,7 +1280,8 @@ class JvmValueGen {
         int keysVarIndex = 1;
         mv.visitTypeInsn(NEW, LINKED_HASH_SET);
         mv.visitInsn(DUP);
-        mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_SET, "<init>", "()V", false);
+        mv.visitLdcInsn(getHashSetCapacity(fields.size()));
+        mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_SET, "<init>", "(I)V", false);
         mv.visitVarInsn(ASTORE, keysVarIndex);
 
         for (BField optionalField : fields.values()) {
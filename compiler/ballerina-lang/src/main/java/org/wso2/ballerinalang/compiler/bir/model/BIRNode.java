@@ -491,6 +491,7 @@ public abstract class BIRNode {
         public String name;
         public boolean channelInSameStrand;
         public boolean send;
+        public boolean asyncOnly;
 
         public ChannelDetails(String name, boolean channelInSameStrand, boolean send) {
             this.name = name;
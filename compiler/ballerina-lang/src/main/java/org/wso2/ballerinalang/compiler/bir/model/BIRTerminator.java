@@ -236,6 +236,9 @@ public abstract class BIRTerminator extends BIRAbstractInstruction implements BI
 
         public Integer lockId = -1;
 
+        // Set when the locked region only reads variables, so that the lock can be shared with other readers.
+        public boolean readOnly = false;
+
         public Lock(DiagnosticPos pos, BIRBasicBlock lockedBB) {
             super(pos, InstructionKind.LOCK);
             this.lockedBB = lockedBB;
@@ -373,6 +376,8 @@ public abstract class BIRTerminator extends BIRAbstractInstruction implements BI
     public static class WorkerReceive extends BIRTerminator {
         public Name workerName;
         public boolean isSameStrand;
+        // Whether the channel is only used by async sends, without any sync send or flush over it.
+        public boolean isAsyncOnly;
 
         public WorkerReceive(DiagnosticPos pos, Name workerName, BIROperand lhsOp,
                              boolean isSameStrand, BIRBasicBlock thenBB) {
@@ -401,6 +406,8 @@ public abstract class BIRTerminator extends BIRAbstractInstruction implements BI
         public BIROperand data;
         public boolean isSameStrand;
         public boolean isSync;
+        // Whether the channel is only used by async sends, without any sync send or flush over it.
+        public boolean isAsyncOnly;
 
         public WorkerSend(DiagnosticPos pos, Name workerName, BIROperand data, boolean isSameStrand, boolean isSync,
                           BIROperand lhsOp, BIRBasicBlock thenBB) {
@@ -18,11 +18,17 @@
 package org.wso2.ballerinalang.compiler.bir.optimizer;
 
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
 import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -156,6 +162,73 @@ public class BIRLockOptimizer extends BIRVisitor {
         return false;
     }
 
+    /**
+     * Checks whether the region guarded by the given lock only reads values. Such a region can share the lock with
+     * other readers. The check is conservative: calls, nested locks, stores and assignments to global variables all
+     * make the region a writer.
+     *
+     * @param lock lock to check
+     * @return true if the locked region does not mutate any state
+     */
+    private boolean isReadOnlyRegion(BIRTerminator.Lock lock) {
+        Set<BIRNode.BIRBasicBlock> visited = new HashSet<>();
+        Deque<BIRNode.BIRBasicBlock> toVisit = new ArrayDeque<>();
+        toVisit.push(lock.lockedBB);
+        while (!toVisit.isEmpty()) {
+            BIRNode.BIRBasicBlock basicBlock = toVisit.pop();
+            if (!visited.add(basicBlock)) {
+                continue;
+            }
+
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                if (!isReadOnlyInstruction(instruction)) {
+                    return false;
+                }
+            }
+
+            BIRTerminator terminator = basicBlock.terminator;
+            if (terminator instanceof BIRTerminator.GOTO) {
+                toVisit.push(((BIRTerminator.GOTO) terminator).targetBB);
+            } else if (terminator instanceof BIRTerminator.Branch) {
+                toVisit.push(((BIRTerminator.Branch) terminator).trueBB);
+                toVisit.push(((BIRTerminator.Branch) terminator).falseBB);
+            } else if (!(terminator instanceof BIRTerminator.Unlock) ||
+                    ((BIRTerminator.Unlock) terminator).relatedLock != lock) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isReadOnlyInstruction(BIRNonTerminator instruction) {
+        if (isGlobalVar(instruction.lhsOp)) {
+            return false;
+        }
+
+        switch (instruction.kind) {
+            case MAP_LOAD:
+            case ARRAY_LOAD:
+            case OBJECT_LOAD:
+            case STRING_LOAD:
+                // A filling read may add a member to the container.
+                return instruction instanceof BIRNonTerminator.FieldAccess &&
+                        !((BIRNonTerminator.FieldAccess) instruction).fillingRead;
+            case MOVE:
+            case CONST_LOAD:
+            case TYPE_CAST:
+            case IS_LIKE:
+            case TYPE_TEST:
+                return true;
+            default:
+                return instruction instanceof BIRNonTerminator.BinaryOp ||
+                        instruction instanceof BIRNonTerminator.UnaryOP;
+        }
+    }
+
+    private boolean isGlobalVar(BIROperand operand) {
+        return operand != null && operand.variableDcl.kind == VarKind.GLOBAL;
+    }
+
     @Override
     public void visit(BIRNode.BIRPackage birPackage) {
         birPackage.typeDefs.forEach(tDef -> tDef.accept(this));
@@ -205,6 +278,7 @@ public class BIRLockOptimizer extends BIRVisitor {
     @Override
     public void visit(BIRTerminator.Lock lock) {
         lockList.add(lock);
+        lock.readOnly = isReadOnlyRegion(lock);
     }
 
     @Override
@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.ChannelDetails;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Identify worker channels which are only used by async sends. Such a channel has a single sender and a single
+ * receiver which never wait on each other, hence the runtime can use a lock-free channel for it.
+ * <p>
+ * A channel is identified by its name, which is not unique across functions. Therefore a channel is considered
+ * async only if no sync send or flush over a channel of the same name exists in the module.
+ * <p>
+ * The runtime binds each lock-free channel to one sender strand and one receiver strand, since a named worker may
+ * run more than once against the same channels. The default worker of a function runs on the strand of its caller,
+ * which runs every call of the function, hence channels to or from the default worker always use the locked channel.
+ *
+ * @since 2.0.0
+ */
+public class BIRWorkerChannelOptimizer {
+
+    private List<BIRTerminator.WorkerSend> sends = new ArrayList<>();
+    private List<BIRTerminator.WorkerReceive> receives = new ArrayList<>();
+    private List<ChannelDetails> channels = new ArrayList<>();
+    private Set<String> lockedChannels = new HashSet<>();
+
+    public void optimizeNode(BIRNode.BIRPackage birPackage) {
+        birPackage.typeDefs.forEach(typeDef -> typeDef.attachedFuncs.forEach(this::collectChannels));
+        birPackage.functions.forEach(this::collectChannels);
+
+        for (BIRTerminator.WorkerSend send : sends) {
+            send.isAsyncOnly = !lockedChannels.contains(send.channel.value);
+        }
+        for (BIRTerminator.WorkerReceive receive : receives) {
+            receive.isAsyncOnly = !lockedChannels.contains(receive.workerName.value);
+        }
+        for (ChannelDetails channel : channels) {
+            channel.asyncOnly = !lockedChannels.contains(channel.name);
+        }
+
+        sends.clear();
+        receives.clear();
+        channels.clear();
+        lockedChannels.clear();
+    }
+
+    private void collectChannels(BIRNode.BIRFunction birFunction) {
+        for (ChannelDetails channel : birFunction.workerChannels) {
+            if (channel != null) {
+                channels.add(channel);
+                if (channel.channelInSameStrand) {
+                    lockedChannels.add(channel.name);
+                }
+            }
+        }
+
+        for (BIRNode.BIRBasicBlock basicBlock : birFunction.basicBlocks) {
+            BIRTerminator terminator = basicBlock.terminator;
+            if (terminator == null) {
+                continue;
+            }
+
+            switch (terminator.kind) {
+                case WK_SEND:
+                    BIRTerminator.WorkerSend send = (BIRTerminator.WorkerSend) terminator;
+                    sends.add(send);
+                    if (send.isSync || send.isSameStrand) {
+                        lockedChannels.add(send.channel.value);
+                    }
+                    break;
+                case WK_RECEIVE:
+                    BIRTerminator.WorkerReceive receive = (BIRTerminator.WorkerReceive) terminator;
+                    receives.add(receive);
+                    if (receive.isSameStrand) {
+                        lockedChannels.add(receive.workerName.value);
+                    }
+                    break;
+                case FLUSH:
+                    for (ChannelDetails channel : ((BIRTerminator.Flush) terminator).channels) {
+                        lockedChannels.add(channel.name);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+}
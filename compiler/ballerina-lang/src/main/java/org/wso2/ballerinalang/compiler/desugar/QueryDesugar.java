@@ -18,6 +18,7 @@ package org.wso2.ballerinalang.compiler.desugar;
 
 import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.tree.NodeKind;
+import org.ballerinalang.model.tree.OperatorKind;
 import org.ballerinalang.model.tree.expressions.RecordLiteralNode;
 import org.ballerinalang.model.tree.statements.VariableDefinitionNode;
 import org.ballerinalang.model.tree.types.TypeNode;
@@ -34,6 +35,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStreamType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BTableType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BTypedescType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
@@ -170,8 +172,10 @@ import org.wso2.ballerinalang.util.Lists;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Class responsible for desugar query pipeline into actual Ballerina code.
@@ -184,6 +188,8 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_CREATE_NESTED_FROM_FUNCTION = new Name("createNestedFromFunction");
     private static final Name QUERY_CREATE_LET_FUNCTION = new Name("createLetFunction");
     private static final Name QUERY_CREATE_JOIN_FUNCTION = new Name("createJoinFunction");
+    private static final Name QUERY_CREATE_HASH_JOIN_FUNCTION = new Name("createHashJoinFunction");
+    private static final Name QUERY_CREATE_TABLE_JOIN_FUNCTION = new Name("createTableJoinFunction");
     private static final Name QUERY_CREATE_FILTER_FUNCTION = new Name("createFilterFunction");
     private static final Name QUERY_CREATE_SELECT_FUNCTION = new Name("createSelectFunction");
     private static final Name QUERY_CREATE_DO_FUNCTION = new Name("createDoFunction");
@@ -234,6 +240,9 @@ public class QueryDesugar extends BLangNodeVisitor {
      * @return desugared query expression.
      */
     BLangStatementExpression desugar(BLangQueryExpr queryExpr, SymbolEnv env) {
+        if (isFusible(queryExpr)) {
+            return desugarToLoop(queryExpr, env);
+        }
         List<BLangNode> clauses = queryExpr.getQueryClauses();
         DiagnosticPos pos = clauses.get(0).pos;
         BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
@@ -267,6 +276,229 @@ public class QueryDesugar extends BLangNodeVisitor {
         return streamStmtExpr;
     }
 
+    /**
+     * Desugar a query expression, which only filters and maps the members of a list, mapping or table into a list,
+     * to a single loop instead of a stream pipeline. This avoids creating a frame and invoking a function pointer per
+     * clause for each member.
+     * <pre>
+     * T[] $streamElement$0 = [];
+     * foreach var x in collection {
+     *     int y = x * 2;                   // let clause
+     *     if (y > 10) {                    // where clause
+     *         $streamElement$0[$streamElement$0.length()] = select-expr;
+     *     }
+     * }
+     * </pre>
+     *
+     * @param queryExpr query expression to be desugared.
+     * @param env       symbol env.
+     * @return desugared query expression.
+     */
+    private BLangStatementExpression desugarToLoop(BLangQueryExpr queryExpr, SymbolEnv env) {
+        this.env = env;
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        DiagnosticPos pos = fromClause.pos;
+        BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
+
+        // T[] $streamElement$0 = [];
+        BArrayType resultType = (BArrayType) queryExpr.type;
+        String name = getNewVarName();
+        BVarSymbol resultSymbol = new BVarSymbol(0, names.fromString(name), env.scope.owner.pkgID, resultType,
+                env.scope.owner);
+        BLangSimpleVariable resultVariable = ASTBuilderUtil.createVariable(pos, name, resultType,
+                ASTBuilderUtil.createEmptyArrayLiteral(pos, resultType), resultSymbol);
+        queryBlock.addStatement(ASTBuilderUtil.createVariableDef(pos, resultVariable));
+
+        // foreach var x in collection { ... }
+        BLangForeach foreach = (BLangForeach) TreeBuilder.createForeachNode();
+        foreach.pos = pos;
+        foreach.collection = fromClause.collection;
+        foreach.variableDefinitionNode = fromClause.variableDefinitionNode;
+        foreach.varType = fromClause.varType;
+        foreach.resultType = fromClause.resultType;
+        foreach.nillableResultType = fromClause.nillableResultType;
+        foreach.isDeclaredWithVar = fromClause.isDeclaredWithVar;
+        foreach.body = ASTBuilderUtil.createBlockStmt(pos);
+        queryBlock.addStatement(foreach);
+
+        BLangBlockStmt loopBlock = foreach.body;
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+            switch (clause.getKind()) {
+                case LET_CLAUSE:
+                    for (BLangLetVariable letVariable : ((BLangLetClause) clause).letVarDeclarations) {
+                        loopBlock.addStatement((BLangStatement) letVariable.definitionNode);
+                    }
+                    break;
+                case WHERE:
+                    BLangWhereClause whereClause = (BLangWhereClause) clause;
+                    BLangIf ifNode = ASTBuilderUtil.createIfStmt(whereClause.pos, loopBlock);
+                    ifNode.expr = whereClause.expression;
+                    ifNode.body = ASTBuilderUtil.createBlockStmt(whereClause.pos);
+                    loopBlock = ifNode.body;
+                    break;
+                case SELECT:
+                    // $streamElement$0[$streamElement$0.length()] = select-expr;
+                    BLangSelectClause selectClause = (BLangSelectClause) clause;
+                    BLangIndexBasedAccess memberAccess = ASTBuilderUtil.createIndexAccessExpr(
+                            ASTBuilderUtil.createVariableRef(selectClause.pos, resultSymbol),
+                            desugar.createLengthInvocation(selectClause.pos,
+                                    ASTBuilderUtil.createVariableRef(selectClause.pos, resultSymbol)));
+                    memberAccess.pos = selectClause.pos;
+                    memberAccess.type = resultType.eType;
+                    memberAccess.lhsVar = true;
+                    loopBlock.addStatement(ASTBuilderUtil.createAssignmentStmt(selectClause.pos, memberAccess,
+                            desugar.addConversionExprIfRequired(selectClause.expression, resultType.eType)));
+                    break;
+            }
+        }
+
+        BLangStatementExpression stmtExpr = ASTBuilderUtil.createStatementExpression(queryBlock,
+                ASTBuilderUtil.createVariableRef(pos, resultSymbol));
+        stmtExpr.type = resultType;
+        return stmtExpr;
+    }
+
+    /**
+     * Checks whether a query expression can be desugared to a single loop. The query has to produce a list from a
+     * list, mapping or table using only let, where and select clauses. The expressions of the clauses have to be free
+     * of checked expressions, functions and nested queries, which depend on the per clause functions of the pipeline.
+     *
+     * @param queryExpr query expression.
+     * @return true if the query expression can be desugared to a loop.
+     */
+    private boolean isFusible(BLangQueryExpr queryExpr) {
+        if (queryExpr.isStream || queryExpr.isTable || queryExpr.type.tag != TypeTags.ARRAY) {
+            return false;
+        }
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        switch (((BLangFromClause) clauses.get(0)).collection.type.tag) {
+            case TypeTags.ARRAY:
+            case TypeTags.TUPLE:
+            case TypeTags.MAP:
+            case TypeTags.RECORD:
+            case TypeTags.TABLE:
+                break;
+            default:
+                return false;
+        }
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+            switch (clause.getKind()) {
+                case LET_CLAUSE:
+                    for (BLangLetVariable letVariable : ((BLangLetClause) clause).letVarDeclarations) {
+                        if (letVariable.definitionNode.getKind() != NodeKind.VARIABLE_DEF ||
+                                !isFusibleExpr(((BLangSimpleVariableDef) letVariable.definitionNode).var.expr)) {
+                            return false;
+                        }
+                    }
+                    break;
+                case WHERE:
+                    if (!isFusibleExpr(((BLangWhereClause) clause).expression)) {
+                        return false;
+                    }
+                    break;
+                case SELECT:
+                    if (!isFusibleExpr(((BLangSelectClause) clause).expression)) {
+                        return false;
+                    }
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isFusibleExpr(BLangExpression expr) {
+        return isFusibleExpr(expr, new HashSet<>());
+    }
+
+    /**
+     * Checks whether an expression is built only out of the expression kinds which can be evaluated outside the per
+     * clause functions of the pipeline, while collecting the names of the variables it refers to.
+     *
+     * @param expr        expression to be checked.
+     * @param varRefNames set to which the names of the referred variables are added.
+     * @return true if the expression is fusible.
+     */
+    private boolean isFusibleExpr(BLangExpression expr, Set<String> varRefNames) {
+        if (expr == null) {
+            return true;
+        }
+        switch (expr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+            case CONSTANT_REF:
+                return true;
+            case SIMPLE_VARIABLE_REF:
+                varRefNames.add(((BLangSimpleVarRef) expr).variableName.value);
+                return true;
+            case GROUP_EXPR:
+                return isFusibleExpr(((BLangGroupExpr) expr).expression, varRefNames);
+            case UNARY_EXPR:
+                return isFusibleExpr(((BLangUnaryExpr) expr).expr, varRefNames);
+            case BINARY_EXPR:
+                BLangBinaryExpr binaryExpr = (BLangBinaryExpr) expr;
+                return isFusibleExpr(binaryExpr.lhsExpr, varRefNames) &&
+                        isFusibleExpr(binaryExpr.rhsExpr, varRefNames);
+            case ELVIS_EXPR:
+                BLangElvisExpr elvisExpr = (BLangElvisExpr) expr;
+                return isFusibleExpr(elvisExpr.lhsExpr, varRefNames) && isFusibleExpr(elvisExpr.rhsExpr, varRefNames);
+            case TERNARY_EXPR:
+                BLangTernaryExpr ternaryExpr = (BLangTernaryExpr) expr;
+                return isFusibleExpr(ternaryExpr.expr, varRefNames) &&
+                        isFusibleExpr(ternaryExpr.thenExpr, varRefNames) &&
+                        isFusibleExpr(ternaryExpr.elseExpr, varRefNames);
+            case TYPE_TEST_EXPR:
+                return isFusibleExpr(((BLangTypeTestExpr) expr).expr, varRefNames);
+            case TYPE_CONVERSION_EXPR:
+                return isFusibleExpr(((BLangTypeConversionExpr) expr).expr, varRefNames);
+            case FIELD_BASED_ACCESS_EXPR:
+                return isFusibleExpr(((BLangFieldBasedAccess) expr).expr, varRefNames);
+            case INDEX_BASED_ACCESS_EXPR:
+                BLangIndexBasedAccess indexBasedAccess = (BLangIndexBasedAccess) expr;
+                return isFusibleExpr(indexBasedAccess.expr, varRefNames) &&
+                        isFusibleExpr(indexBasedAccess.indexExpr, varRefNames);
+            case NAMED_ARGS_EXPR:
+                return isFusibleExpr(((BLangNamedArgsExpression) expr).expr, varRefNames);
+            case REST_ARGS_EXPR:
+                return isFusibleExpr(((BLangRestArgsExpression) expr).expr, varRefNames);
+            case INVOCATION:
+                BLangInvocation invocation = (BLangInvocation) expr;
+                return !invocation.async && isFusibleExpr(invocation.expr, varRefNames) &&
+                        isFusibleExprs(invocation.argExprs, varRefNames);
+            case LIST_CONSTRUCTOR_EXPR:
+                return isFusibleExprs(((BLangListConstructorExpr) expr).exprs, varRefNames);
+            case STRING_TEMPLATE_LITERAL:
+                return isFusibleExprs(((BLangStringTemplateLiteral) expr).exprs, varRefNames);
+            case RECORD_LITERAL_EXPR:
+                for (RecordLiteralNode.RecordField field : ((BLangRecordLiteral) expr).fields) {
+                    if (field.isKeyValueField()) {
+                        BLangRecordKeyValueField keyValueField = (BLangRecordKeyValueField) field;
+                        if ((keyValueField.key.computedKey && !isFusibleExpr(keyValueField.key.expr, varRefNames)) ||
+                                !isFusibleExpr(keyValueField.valueExpr, varRefNames)) {
+                            return false;
+                        }
+                    } else if (field instanceof BLangRecordSpreadOperatorField &&
+                            !isFusibleExpr(((BLangRecordSpreadOperatorField) field).expr, varRefNames)) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private boolean isFusibleExprs(List<BLangExpression> exprs, Set<String> varRefNames) {
+        for (BLangExpression expr : exprs) {
+            if (!isFusibleExpr(expr, varRefNames)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Desugar query action.
      *
@@ -302,7 +534,8 @@ public class QueryDesugar extends BLangNodeVisitor {
                 initFromClause.collection, resultType);
         BLangVariableReference initFrom = addInputFunction(block, initFromClause);
         addStreamFunction(block, initPipeline, initFrom);
-        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+        for (int i = 1; i < clauses.size(); i++) {
+            BLangNode clause = clauses.get(i);
             switch (clause.getKind()) {
                 case FROM:
                     BLangFromClause fromClause = (BLangFromClause) clause;
@@ -313,6 +546,13 @@ public class QueryDesugar extends BLangNodeVisitor {
                     break;
                 case JOIN:
                     BLangJoinClause joinClause = (BLangJoinClause) clause;
+                    BLangVariableReference keyedJoinFunc = addKeyedJoinFunction(block, clauses, i, resultType);
+                    if (keyedJoinFunc != null) {
+                        addStreamFunction(block, initPipeline, keyedJoinFunc);
+                        // The on clause is evaluated by the keyed join itself.
+                        i++;
+                        break;
+                    }
                     BLangVariableReference joinPipeline = addPipeline(block, joinClause.pos,
                             joinClause.collection, resultType);
                     BLangVariableReference joinInputFunc = addInputFunction(block, joinClause);
@@ -400,6 +640,18 @@ public class QueryDesugar extends BLangNodeVisitor {
      * @return variableReference to created from _StreamFunction.
      */
     BLangVariableReference addInputFunction(BLangBlockStmt blockStmt, BLangInputClause inputClause) {
+        BLangLambdaFunction lambda = createInputLambda(inputClause);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_INPUT_FUNCTION, Lists.of(lambda), inputClause.pos);
+    }
+
+    /**
+     * Create the lambda of the input function of a fromClause/joinClause, which binds the value in the frame to the
+     * variables of the clause.
+     *
+     * @param inputClause to be desugared.
+     * @return created lambda function.
+     */
+    private BLangLambdaFunction createInputLambda(BLangInputClause inputClause) {
         DiagnosticPos pos = inputClause.pos;
         // function(_Frame frame) returns _Frame|error? { return frame; }
         BLangLambdaFunction lambda = createPassthroughLambda(pos);
@@ -429,7 +681,7 @@ public class QueryDesugar extends BLangNodeVisitor {
         //      return frame;
         // }
         lambda.accept(this);
-        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_INPUT_FUNCTION, Lists.of(lambda), pos);
+        return lambda;
     }
 
     /**
@@ -473,6 +725,111 @@ public class QueryDesugar extends BLangNodeVisitor {
                 Lists.of(joinPipeline), joinPipeline.pos);
     }
 
+    /**
+     * Desugar a joinClause, which is followed by an onClause checking a key of the outer frame and a key of the joined
+     * frame for equality, to below and return a reference to created join _StreamFunction. Joins on a key field of
+     * a table look up the rows through the key field index of the table, other joins group the joined frames by
+     * their key once instead of iterating the joined pipeline for each outer frame.
+     * _StreamFunction joinFunc = createHashJoinFunction(joinPipeline,
+     *      function(_Frame frame) returns any|error? { return outerKey; },
+     *      function(_Frame frame) returns any|error? { return joinedKey; });
+     * _StreamFunction joinFunc = createTableJoinFunction(table, "keyField", inputFunc,
+     *      function(_Frame frame) returns any|error? { return outerKey; });
+     *
+     * @param blockStmt  parent block to write to.
+     * @param clauses    list of query clauses.
+     * @param joinIndex  index of the joinClause in the clauses.
+     * @param resultType result type of the query output.
+     * @return variableReference to created join _StreamFunction, or null if the join cannot be keyed.
+     */
+    private BLangVariableReference addKeyedJoinFunction(BLangBlockStmt blockStmt, List<BLangNode> clauses,
+                                                        int joinIndex, BType resultType) {
+        BLangJoinClause joinClause = (BLangJoinClause) clauses.get(joinIndex);
+        if (joinClause.isOuterJoin() || joinIndex + 1 == clauses.size() ||
+                clauses.get(joinIndex + 1).getKind() != NodeKind.ON) {
+            return null;
+        }
+        BLangExpression onExpr = ((BLangOnClause) clauses.get(joinIndex + 1)).expression;
+        if (onExpr.getKind() != NodeKind.BINARY_EXPR) {
+            return null;
+        }
+        BLangBinaryExpr equalityExpr = (BLangBinaryExpr) onExpr;
+        if (equalityExpr.opKind != OperatorKind.EQUALS && equalityExpr.opKind != OperatorKind.EQUAL) {
+            return null;
+        }
+        Set<String> lhsVarRefNames = new HashSet<>();
+        Set<String> rhsVarRefNames = new HashSet<>();
+        if (!isFusibleExpr(equalityExpr.lhsExpr, lhsVarRefNames) ||
+                !isFusibleExpr(equalityExpr.rhsExpr, rhsVarRefNames)) {
+            return null;
+        }
+        BLangVariable joinVariable = (BLangVariable) joinClause.variableDefinitionNode.getVariable();
+        Set<String> joinVarNames = new HashSet<>();
+        for (BVarSymbol symbol : getIntroducedSymbols(joinVariable)) {
+            joinVarNames.add(symbol.name.value);
+        }
+        BLangExpression outerKey;
+        BLangExpression joinedKey;
+        if (isJoinedKey(rhsVarRefNames, joinVarNames) && Collections.disjoint(lhsVarRefNames, joinVarNames)) {
+            outerKey = equalityExpr.lhsExpr;
+            joinedKey = equalityExpr.rhsExpr;
+        } else if (isJoinedKey(lhsVarRefNames, joinVarNames) && Collections.disjoint(rhsVarRefNames, joinVarNames)) {
+            outerKey = equalityExpr.rhsExpr;
+            joinedKey = equalityExpr.lhsExpr;
+        } else {
+            return null;
+        }
+        // Keys are grouped by their string representation, which is only unique for values of these types.
+        if (outerKey.type.tag != joinedKey.type.tag || (outerKey.type.tag != TypeTags.INT &&
+                outerKey.type.tag != TypeTags.STRING && outerKey.type.tag != TypeTags.BOOLEAN)) {
+            return null;
+        }
+
+        DiagnosticPos pos = joinClause.pos;
+        BLangExpression collection = joinClause.collection;
+        if (collection.type.tag == TypeTags.TABLE && joinVariable.getKind() == NodeKind.VARIABLE &&
+                joinedKey.getKind() == NodeKind.FIELD_BASED_ACCESS_EXPR) {
+            List<String> keyFieldNames = ((BTableType) collection.type).fieldNameList;
+            BLangFieldBasedAccess keyFieldAccess = (BLangFieldBasedAccess) joinedKey;
+            if (keyFieldNames != null && keyFieldNames.contains(keyFieldAccess.field.value) &&
+                    keyFieldAccess.expr.getKind() == NodeKind.SIMPLE_VARIABLE_REF) {
+                BLangLiteral keyField = ASTBuilderUtil.createLiteral(pos, symTable.stringType,
+                        keyFieldAccess.field.value);
+                BLangLambdaFunction inputLambda = createInputLambda(joinClause);
+                BLangLambdaFunction keyLambda = createKeyLambda(pos, outerKey);
+                return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_TABLE_JOIN_FUNCTION,
+                        Lists.of(collection, keyField, inputLambda, keyLambda), pos);
+            }
+        }
+        BLangVariableReference joinPipeline = addPipeline(blockStmt, pos, collection, resultType);
+        BLangVariableReference joinInputFunc = addInputFunction(blockStmt, joinClause);
+        addStreamFunction(blockStmt, joinPipeline, joinInputFunc);
+        BLangLambdaFunction outerKeyLambda = createKeyLambda(pos, outerKey);
+        BLangLambdaFunction joinedKeyLambda = createKeyLambda(pos, joinedKey);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_HASH_JOIN_FUNCTION,
+                Lists.of(joinPipeline, outerKeyLambda, joinedKeyLambda), pos);
+    }
+
+    private boolean isJoinedKey(Set<String> varRefNames, Set<String> joinVarNames) {
+        return !varRefNames.isEmpty() && joinVarNames.containsAll(varRefNames);
+    }
+
+    /**
+     * Create and return a lambda `function(_Frame frame) returns any|error? { return keyExpr; }`.
+     *
+     * @param pos     of the lambda.
+     * @param keyExpr key expression to be evaluated against the frame.
+     * @return created lambda function.
+     */
+    private BLangLambdaFunction createKeyLambda(DiagnosticPos pos, BLangExpression keyExpr) {
+        BLangReturn returnNode = (BLangReturn) TreeBuilder.createReturnNode();
+        returnNode.expr = keyExpr;
+        returnNode.pos = pos;
+        BLangLambdaFunction lambda = createLambdaFunction(pos, getAnyErrorNilTypeNode(), returnNode, false);
+        lambda.accept(this);
+        return lambda;
+    }
+
     /**
      * Desugar letClause to below and return a reference to created let _StreamFunction.
      * _StreamFunction ysLet = createLetFunction(function(_Frame frame) returns _Frame|error? {
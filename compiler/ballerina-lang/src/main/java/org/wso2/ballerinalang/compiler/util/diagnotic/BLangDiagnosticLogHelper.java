@@ -55,20 +55,21 @@ public class BLangDiagnosticLogHelper implements DiagnosticLog {
         this.nonConsoleDLog = new ErrorCountingBLangDiagnosticLog();
     }
 
-    public void error(DiagnosticPos pos, DiagnosticCode code, Object... args) {
+    public synchronized void error(DiagnosticPos pos, DiagnosticCode code, Object... args) {
         this.currentLog.error(pos, code, args);
     }
 
-    public void warning(DiagnosticPos pos, DiagnosticCode code, Object... args) {
+    public synchronized void warning(DiagnosticPos pos, DiagnosticCode code, Object... args) {
         this.currentLog.warning(pos, code, args);
     }
 
-    public void note(DiagnosticPos pos, DiagnosticCode code, Object... args) {
+    public synchronized void note(DiagnosticPos pos, DiagnosticCode code, Object... args) {
         this.currentLog.note(pos, code, args);
     }
 
     @Override
-    public void logDiagnostic(Diagnostic.Kind kind, Diagnostic.DiagnosticPosition pos, CharSequence message) {
+    public synchronized void logDiagnostic(Diagnostic.Kind kind, Diagnostic.DiagnosticPosition pos,
+                                           CharSequence message) {
         this.currentLog.reportDiagnostic(new BDiagnostic(kind, (DiagnosticPos) pos, message.toString()));
     }
 
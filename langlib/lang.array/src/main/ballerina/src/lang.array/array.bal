@@ -161,6 +161,15 @@ public function reverse(Type[] arr) returns Type[] = external;
 # + return - `arr` with its members sorted
 public function sort(Type[] arr, function(Type val1, Type val2) returns int func) returns Type[] = external;
 
+# Sorts an array by a key extracted from each member.
+# The key function is called exactly once per member, and members with equal keys
+# keep their original relative order.
+#
+# + arr - the array to be sorted
+# + key - function returning the key of a member; all keys must be of the same basic type
+# + return - `arr` with its members sorted in ascending order of their keys
+public function sortBy(Type[] arr, function(Type val) returns int|float|string key) returns Type[] = external;
+
 // Stack-like methods (JavaScript, Perl)
 // panic on fixed-length array
 // compile-time error if known to be fixed-length
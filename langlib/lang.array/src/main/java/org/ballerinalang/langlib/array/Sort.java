@@ -19,7 +19,6 @@
 package org.ballerinalang.langlib.array;
 
 import org.ballerinalang.jvm.scheduling.Strand;
-import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.ArrayValueImpl;
 import org.ballerinalang.jvm.values.FPValue;
@@ -46,13 +45,39 @@ public class Sort {
 
     public static ArrayValue sort(Strand strand, ArrayValue arr, FPValue<Object, Long> func) {
         checkIsArrayOnlyOperation(arr.getType(), "sort()");
-        ArrayValue aux = new ArrayValueImpl((BArrayType) arr.getType());
-        mergesort(arr, aux, 0, arr.size() - 1, strand, func);
+        int size = arr.size();
+        Object[] members = new Object[size];
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            members[i] = arr.get(i);
+            order[i] = i;
+        }
+        mergesort(order, new int[size], 0, size - 1, members, strand, func);
+        reorder(arr, order, members);
         return arr;
     }
 
+    /**
+     * Moves the members of the array to the given order, within the backing array if the array is an
+     * {@code ArrayValueImpl}.
+     *
+     * @param arr     array to be reordered
+     * @param order   member indexes in their new order
+     * @param members members of the array in their original order
+     */
+    static void reorder(ArrayValue arr, int[] order, Object[] members) {
+        if (arr instanceof ArrayValueImpl) {
+            ((ArrayValueImpl) arr).reorder(order);
+            return;
+        }
+        for (int i = 0; i < order.length; i++) {
+            arr.add(i, members[order[i]]);
+        }
+    }
+
     // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
-    private static void mergesort(ArrayValue input, ArrayValue aux, int lo, int hi, Strand strand,
+    // Sorts the member indexes instead of the members, so that the array is rearranged only once at the end.
+    private static void mergesort(int[] order, int[] aux, int lo, int hi, Object[] members, Strand strand,
                                   FPValue<Object, Long> comparator) {
         if (hi <= lo) {
             return;
@@ -60,31 +85,34 @@ public class Sort {
 
         int mid = lo + (hi - lo) / 2;
 
-        mergesort(input, aux, lo, mid, strand, comparator);
-        mergesort(input, aux, mid + 1, hi, strand, comparator);
+        mergesort(order, aux, lo, mid, members, strand, comparator);
+        mergesort(order, aux, mid + 1, hi, members, strand, comparator);
 
-        merge(input, aux, lo, mid, hi, strand, comparator);
+        // The halves are already in order, skip the comparisons of the merge.
+        if (compare(members[order[mid + 1]], members[order[mid]], strand, comparator) >= 0) {
+            return;
+        }
+        merge(order, aux, lo, mid, hi, members, strand, comparator);
     }
 
-    private static void merge(ArrayValue input, ArrayValue aux, int lo, int mid, int hi, Strand strand,
+    private static void merge(int[] order, int[] aux, int lo, int mid, int hi, Object[] members, Strand strand,
                               FPValue<Object, Long> comparator) {
-        int elemTypeTag = input.getElementType().getTag();
-
-        for (int i = lo; i <= hi; i++) {
-            aux.add(i, input.get(i));
-        }
+        System.arraycopy(order, lo, aux, lo, hi - lo + 1);
 
         for (int i = lo, j = mid + 1, k = lo; k <= hi; k++) {
             if (i > mid) {
-                input.add(k, aux.get(j++));
+                order[k] = aux[j++];
             } else if (j > hi) {
-                input.add(k, aux.get(i++));
-            } else if (comparator.call(new Object[]{strand, aux.get(j), true, aux.get(i), true}) < 0) {
-                input.add(k, aux.get(j++));
+                order[k] = aux[i++];
+            } else if (compare(members[aux[j]], members[aux[i]], strand, comparator) < 0) {
+                order[k] = aux[j++];
             } else {
-                input.add(k, aux.get(i++));
+                order[k] = aux[i++];
             }
         }
     }
 
+    private static long compare(Object val1, Object val2, Strand strand, FPValue<Object, Long> comparator) {
+        return comparator.call(new Object[]{strand, val1, true, val2, true});
+    }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.array;
+
+import org.ballerinalang.jvm.BallerinaErrors;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.FPValue;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static org.ballerinalang.jvm.util.BLangConstants.ARRAY_LANG_LIB;
+import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.OPERATION_NOT_SUPPORTED_IDENTIFIER;
+import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.getModulePrefixedReason;
+import static org.ballerinalang.jvm.values.utils.ArrayUtils.checkIsArrayOnlyOperation;
+import static org.ballerinalang.util.BLangCompilerConstants.ARRAY_VERSION;
+
+/**
+ * Native implementation of lang.array:sortBy((any|error)[], function).
+ * <p>
+ * The key function is called once per member, after which the members are ordered by their keys without calling
+ * back into Ballerina, in parallel for large arrays.
+ *
+ * @since 2.0.0
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "lang.array", version = ARRAY_VERSION, functionName = "sortBy",
+        args = {@Argument(name = "arr", type = TypeKind.ARRAY), @Argument(name = "key", type = TypeKind.FUNCTION)},
+        returnType = {@ReturnType(type = TypeKind.ARRAY)},
+        isPublic = true
+)
+public class SortBy {
+
+    // Below this size the fork-join overhead of a parallel sort outweighs its gain.
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+    public static ArrayValue sortBy(Strand strand, ArrayValue arr, FPValue<Object, Object> key) {
+        checkIsArrayOnlyOperation(arr.getType(), "sortBy()");
+        int size = arr.size();
+        Object[] members = new Object[size];
+        Object[] keys = new Object[size];
+        for (int i = 0; i < size; i++) {
+            members[i] = arr.get(i);
+            keys[i] = key.call(new Object[]{strand, members[i], true});
+        }
+
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        // Both sorts are stable, hence members with equal keys keep their relative order.
+        Comparator<Integer> comparator = getKeyComparator(keys);
+        if (size < PARALLEL_SORT_THRESHOLD) {
+            Arrays.sort(order, comparator);
+        } else {
+            Arrays.parallelSort(order, comparator);
+        }
+
+        int[] newOrder = new int[size];
+        for (int i = 0; i < size; i++) {
+            newOrder[i] = order[i];
+        }
+        Sort.reorder(arr, newOrder, members);
+        return arr;
+    }
+
+    private static Comparator<Integer> getKeyComparator(Object[] keys) {
+        if (keys.length == 0 || keys[0] instanceof Long) {
+            long[] intKeys = new long[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                intKeys[i] = (Long) checkKeyType(keys[i], Long.class);
+            }
+            return (i, j) -> Long.compare(intKeys[i], intKeys[j]);
+        } else if (keys[0] instanceof Double) {
+            double[] floatKeys = new double[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                floatKeys[i] = (Double) checkKeyType(keys[i], Double.class);
+            }
+            return (i, j) -> Double.compare(floatKeys[i], floatKeys[j]);
+        }
+        String[] stringKeys = new String[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            stringKeys[i] = ((BString) checkKeyType(keys[i], BString.class)).getValue();
+        }
+        return (i, j) -> stringKeys[i].compareTo(stringKeys[j]);
+    }
+
+    private static Object checkKeyType(Object key, Class<?> keyType) {
+        if (!keyType.isInstance(key)) {
+            throw BallerinaErrors.createError(getModulePrefixedReason(ARRAY_LANG_LIB,
+                                                                      OPERATION_NOT_SUPPORTED_IDENTIFIER),
+                                              "sortBy() not supported on keys of different types");
+        }
+        return key;
+    }
+}
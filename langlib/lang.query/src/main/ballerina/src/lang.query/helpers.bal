@@ -42,6 +42,18 @@ public function createJoinFunction(_StreamPipeline joinedPipeline)
     return new _JoinFunction(joinedPipeline);
 }
 
+public function createHashJoinFunction(_StreamPipeline joinedPipeline,
+        function(_Frame _frame) returns any|error? lhsKeyFunc, function(_Frame _frame) returns any|error? rhsKeyFunc)
+        returns _StreamFunction {
+    return new _HashJoinFunction(joinedPipeline, lhsKeyFunc, rhsKeyFunc);
+}
+
+public function createTableJoinFunction(table<map<Type>> joinedTable, string keyField,
+        function(_Frame _frame) returns _Frame|error? inputFunc, function(_Frame _frame) returns any|error? keyFunc)
+        returns _StreamFunction {
+    return new _TableJoinFunction(joinedTable, keyField, inputFunc, keyFunc);
+}
+
 public function createFilterFunction(function(_Frame _frame) returns boolean filterFunc)
         returns _StreamFunction {
     return new _FilterFunction(filterFunc);
@@ -135,6 +147,8 @@ public function consumeStream(stream<Type, error?> strm) returns error? {
     }
 }
 
+function getRowsByKeyField(table<map<any|error>> tbl, string keyField, any key) returns map<any|error>[] = external;
+
 // TODO: This for debugging purposes, remove once completed.
 public function print(any|error? data) = external;
 
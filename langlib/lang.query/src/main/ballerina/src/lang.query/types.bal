@@ -21,6 +21,7 @@ import ballerina/lang.'string as lang_string;
 import ballerina/lang.'xml as lang_xml;
 import ballerina/lang.'stream as lang_stream;
 import ballerina/lang.'table as lang_table;
+import ballerina/lang.'value as lang_value;
 
 # A type parameter that is a subtype of `any|error`.
 # Has the special semantic that when used in a declaration
@@ -361,6 +362,198 @@ public type _JoinFunction object {
     }
 };
 
+public type _HashJoinFunction object {
+    *_StreamFunction;
+
+    _StreamPipeline pipelineToJoin;
+    function(_Frame _frame) returns any|error? lhsKeyFunc;
+    function(_Frame _frame) returns any|error? rhsKeyFunc;
+    map<_Frame[]>? index;
+    _Frame|error? currentFrame;
+    _Frame[] matches;
+    int matchIndex;
+
+    public function __init(_StreamPipeline pipelineToJoin, function(_Frame _frame) returns any|error? lhsKeyFunc,
+            function(_Frame _frame) returns any|error? rhsKeyFunc) {
+        self.pipelineToJoin = pipelineToJoin;
+        self.lhsKeyFunc = lhsKeyFunc;
+        self.rhsKeyFunc = rhsKeyFunc;
+        self.prevFunc = ();
+        self.index = ();
+        self.currentFrame = ();
+        self.matches = [];
+        self.matchIndex = 0;
+    }
+
+    # Desugared function to do;
+    # from var ... in listA join var ... in listB on keyA == keyB
+    # the frames of listB are grouped by keyB once, and each frame of listA
+    # is merged with the frames in the group of its keyA.
+    # + return - merged two frames { ...frameA, ...frameB }
+    public function process() returns _Frame|error? {
+        _StreamFunction pf = <_StreamFunction> self.prevFunc;
+        map<_Frame[]>|error index = self._getIndex();
+        if (index is error) {
+            return index;
+        }
+        _Frame|error? cf = self.currentFrame;
+        if (cf is ()) {
+            cf = self._nextFrame(pf, index);
+        }
+        while (cf is _Frame) {
+            if (self.matchIndex < self.matches.length()) {
+                _Frame f = self.matches[self.matchIndex];
+                self.matchIndex += 1;
+                _Frame jf = {...f, ...cf};
+                return jf;
+            }
+            cf = self._nextFrame(pf, index);
+        }
+        return cf;
+    }
+
+    public function reset() {
+        // Reset the state of currentFrame, the index is kept as the joined collection does not change.
+        self.currentFrame = ();
+        self.matches = [];
+        self.matchIndex = 0;
+        _StreamFunction? pf = self.prevFunc;
+        if (pf is _StreamFunction) {
+            pf.reset();
+        }
+    }
+
+    function _nextFrame(_StreamFunction pf, map<_Frame[]> index) returns _Frame|error? {
+        function(_Frame _frame) returns any|error? lhsKeyFunc = self.lhsKeyFunc;
+        _Frame|error? cf = pf.process();
+        self.currentFrame = cf;
+        self.matches = [];
+        self.matchIndex = 0;
+        if (cf is _Frame) {
+            any|error? key = lhsKeyFunc(cf);
+            if (key is error) {
+                return key;
+            }
+            _Frame[]? matches = index[lang_value:toString(key)];
+            if (matches is _Frame[]) {
+                self.matches = matches;
+            }
+        }
+        return cf;
+    }
+
+    function _getIndex() returns map<_Frame[]>|error {
+        map<_Frame[]>? index = self.index;
+        if (index is map<_Frame[]>) {
+            return index;
+        }
+        // Keys are limited to int, string and boolean values of the same type by the compiler,
+        // hence equal string representations mean equal keys.
+        map<_Frame[]> newIndex = {};
+        _StreamPipeline j = self.pipelineToJoin;
+        function(_Frame _frame) returns any|error? rhsKeyFunc = self.rhsKeyFunc;
+        _Frame|error? f = j.next();
+        while (f is _Frame) {
+            any|error? key = rhsKeyFunc(f);
+            if (key is error) {
+                return key;
+            }
+            string k = lang_value:toString(key);
+            _Frame[]? frames = newIndex[k];
+            if (frames is _Frame[]) {
+                frames.push(f);
+            } else {
+                newIndex[k] = [f];
+            }
+            f = j.next();
+        }
+        if (f is error) {
+            return f;
+        }
+        self.index = newIndex;
+        return newIndex;
+    }
+};
+
+public type _TableJoinFunction object {
+    *_StreamFunction;
+
+    table<map<any|error>> tableToJoin;
+    string keyField;
+    function(_Frame _frame) returns _Frame|error? inputFunc;
+    function(_Frame _frame) returns any|error? keyFunc;
+    _Frame|error? currentFrame;
+    map<any|error>[] matches;
+    int matchIndex;
+
+    public function __init(table<map<any|error>> tableToJoin, string keyField,
+            function(_Frame _frame) returns _Frame|error? inputFunc,
+            function(_Frame _frame) returns any|error? keyFunc) {
+        self.tableToJoin = tableToJoin;
+        self.keyField = keyField;
+        self.inputFunc = inputFunc;
+        self.keyFunc = keyFunc;
+        self.prevFunc = ();
+        self.currentFrame = ();
+        self.matches = [];
+        self.matchIndex = 0;
+    }
+
+    # Desugared function to do;
+    # from var ... in listA join var row in tableB on keyA == row.keyField
+    # the rows of tableB are looked up through its key field index for the keyA of each frame of listA.
+    # + return - merged two frames { ...frameA, ...frameB }
+    public function process() returns _Frame|error? {
+        _StreamFunction pf = <_StreamFunction> self.prevFunc;
+        function(_Frame _frame) returns _Frame|error? inputFunc = self.inputFunc;
+        _Frame|error? cf = self.currentFrame;
+        if (cf is ()) {
+            cf = self._nextFrame(pf);
+        }
+        while (cf is _Frame) {
+            if (self.matchIndex < self.matches.length()) {
+                _Frame rowFrame = {value: self.matches[self.matchIndex]};
+                self.matchIndex += 1;
+                _Frame|error? f = inputFunc(rowFrame);
+                if (f is _Frame) {
+                    _Frame jf = {...f, ...cf};
+                    return jf;
+                }
+                return f;
+            }
+            cf = self._nextFrame(pf);
+        }
+        return cf;
+    }
+
+    public function reset() {
+        // Reset the state of currentFrame
+        self.currentFrame = ();
+        self.matches = [];
+        self.matchIndex = 0;
+        _StreamFunction? pf = self.prevFunc;
+        if (pf is _StreamFunction) {
+            pf.reset();
+        }
+    }
+
+    function _nextFrame(_StreamFunction pf) returns _Frame|error? {
+        function(_Frame _frame) returns any|error? keyFunc = self.keyFunc;
+        _Frame|error? cf = pf.process();
+        self.currentFrame = cf;
+        self.matches = [];
+        self.matchIndex = 0;
+        if (cf is _Frame) {
+            any|error? key = keyFunc(cf);
+            if (key is error) {
+                return key;
+            }
+            self.matches = getRowsByKeyField(self.tableToJoin, self.keyField, key);
+        }
+        return cf;
+    }
+};
+
 public type _FilterFunction object {
     *_StreamFunction;
 
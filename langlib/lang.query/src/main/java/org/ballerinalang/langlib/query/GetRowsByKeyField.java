@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BTableType;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.TableValueImpl;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+import static org.ballerinalang.util.BLangCompilerConstants.QUERY_VERSION;
+
+/**
+ * Returns the rows of a keyed table whose given key field is equal to a value, using the key field index of the
+ * table instead of iterating it.
+ *
+ * @since 2.0.0
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "lang.query", version = QUERY_VERSION,
+        functionName = "getRowsByKeyField",
+        args = {@Argument(name = "tbl", type = TypeKind.TABLE), @Argument(name = "keyField", type = TypeKind.STRING),
+                @Argument(name = "key", type = TypeKind.ANY)},
+        returnType = {@ReturnType(type = TypeKind.ARRAY, elementType = TypeKind.MAP)}
+)
+public class GetRowsByKeyField {
+
+    public static ArrayValue getRowsByKeyField(Strand strand, TableValueImpl tbl, BString keyField, Object key) {
+        Object[] rows = tbl.getByKeyField(keyField.getValue(), key).toArray();
+        return new ArrayValueImpl(rows, new BArrayType(((BTableType) tbl.getType()).getConstrainedType()));
+    }
+}
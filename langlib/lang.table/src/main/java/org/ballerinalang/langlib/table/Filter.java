@@ -50,22 +50,30 @@ public class Filter {
         BType newTableType = tbl.getType();
         TableValueImpl newTable = new TableValueImpl((BTableType) newTableType);
         int size = tbl.size();
+        Object[] keys = tbl.getKeys();
+        Object[] values = tbl.values().toArray();
         AtomicInteger index = new AtomicInteger(-1);
 
         BRuntime.getCurrentRuntime()
                 .invokeFunctionPointerAsyncIteratively(func, size,
                         () -> new Object[]{strand,
-                                tbl.get(tbl.getKeys()[index.incrementAndGet()]), true},
+                                values[index.incrementAndGet()], true},
                         result -> {
                             if ((Boolean) result) {
-                                Object key = tbl.getKeys()[index.get()];
-                                Object value = tbl.get(key);
-                                newTable.put(key, value);
+                                putRow(newTable, keys, index.get(), values[index.get()]);
                             }
                         }, () -> newTable);
         return newTable;
     }
 
+    static void putRow(TableValueImpl newTable, Object[] keys, int index, Object value) {
+        if (keys.length == 0) {
+            newTable.add(value);
+        } else {
+            newTable.put(keys[index], value);
+        }
+    }
+
     public static TableValueImpl filter_bstring(Strand strand, TableValueImpl tbl, FPValue<Object, Boolean> func) {
         return filter(strand, tbl, func);
     }
@@ -43,11 +43,12 @@ import static org.ballerinalang.util.BLangCompilerConstants.TABLE_VERSION;
 public class Foreach {
     public static void forEach(Strand strand, TableValueImpl tbl, FPValue<Object, Object> func) {
         int size = tbl.size();
+        Object[] values = tbl.values().toArray();
         AtomicInteger index = new AtomicInteger(-1);
         BRuntime.getCurrentRuntime()
                 .invokeFunctionPointerAsyncIteratively(func, size,
                         () -> new Object[]{strand,
-                                tbl.get(tbl.getKeys()[index.incrementAndGet()]), true},
+                                values[index.incrementAndGet()], true},
                         result -> {
                         }, () -> null);
     }
@@ -55,13 +55,14 @@ public class Map {
 
         TableValueImpl newTable = new TableValueImpl(newTableType);
         int size = tbl.size();
+        Object[] keys = tbl.getKeys();
+        Object[] values = tbl.values().toArray();
         AtomicInteger index = new AtomicInteger(-1);
         BRuntime.getCurrentRuntime()
                 .invokeFunctionPointerAsyncIteratively(func, size,
                         () -> new Object[]{strand,
-                                tbl.get(tbl.getKeys()[index.incrementAndGet()]), true},
-                        result -> newTable
-                                .put(tbl.getKeys()[index.get()], result),
+                                values[index.incrementAndGet()], true},
+                        result -> Filter.putRow(newTable, keys, index.get(), result),
                         () -> newTable);
         return newTable;
     }
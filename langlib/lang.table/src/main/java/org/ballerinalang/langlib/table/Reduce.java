@@ -47,13 +47,14 @@ import static org.ballerinalang.util.BLangCompilerConstants.TABLE_VERSION;
 public class Reduce {
 
     public static Object reduce(Strand strand, TableValueImpl tbl, FPValue<Object, Object> func, Object initial) {
-        int size = tbl.values().size();
+        Object[] values = tbl.values().toArray();
+        int size = values.length;
         AtomicReference<Object> accum = new AtomicReference<>(initial);
         AtomicInteger index = new AtomicInteger(-1);
         BRuntime.getCurrentRuntime()
                 .invokeFunctionPointerAsyncIteratively(func, size,
                         () -> new Object[]{strand, accum.get(), true,
-                                tbl.get(tbl.getKeys()[index.incrementAndGet()]), true},
+                                values[index.incrementAndGet()], true},
                         accum::set, accum::get);
         return accum.get();
     }
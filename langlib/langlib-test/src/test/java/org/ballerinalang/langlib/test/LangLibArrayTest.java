@@ -227,6 +227,19 @@ public class LangLibArrayTest {
         }
     }
 
+    @Test
+    public void testSortBy() {
+        BRunUtil.invoke(compileResult, "testSortBy");
+    }
+
+    @Test(expectedExceptions = BLangRuntimeException.class,
+            expectedExceptionsMessageRegExp = "error: \\{ballerina/lang.array\\}OperationNotSupported " +
+                    "message=sortBy\\(\\) not supported on keys of different types.*")
+    public void testSortByWithMixedKeys() {
+        BRunUtil.invoke(compileResult, "testSortByWithMixedKeys");
+        Assert.fail();
+    }
+
     @Test
     public void testReduce() {
         BValue[] returns = BRunUtil.invoke(compileResult, "testReduce");
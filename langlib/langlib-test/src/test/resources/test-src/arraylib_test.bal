@@ -375,6 +375,57 @@ function testSort2() returns int[] {
     return sorted;
 }
 
+type Employee record {|
+    string name;
+    int age;
+    float salary;
+|};
+
+function testSortBy() {
+    Employee[] employees = [
+        {name: "Mike", age: 34, salary: 2500.5},
+        {name: "Anne", age: 29, salary: 3100.0},
+        {name: "John", age: 34, salary: 1800.25},
+        {name: "Bella", age: 22, salary: 2500.5}
+    ];
+
+    Employee[] byAge = employees.sortBy(function (Employee e) returns int|float|string {
+        return e.age;
+    });
+    assertTrue(byAge === employees);
+    // Members with equal keys must keep their original relative order.
+    assertValueEquality(["Bella", "Anne", "Mike", "John"], byAge.map(e => e.name));
+
+    Employee[] bySalary = employees.sortBy(function (Employee e) returns int|float|string {
+        return e.salary;
+    });
+    assertValueEquality(["John", "Bella", "Mike", "Anne"], bySalary.map(e => e.name));
+
+    Employee[] byName = employees.sortBy(function (Employee e) returns int|float|string {
+        return e.name;
+    });
+    assertValueEquality(["Anne", "Bella", "John", "Mike"], byName.map(e => e.name));
+
+    int[] numbers = [];
+    foreach int i in 0 ..< 10000 {
+        numbers.push((i * 7919) % 10007);
+    }
+    int[] sorted = numbers.sortBy(function (int n) returns int|float|string {
+        return -n;
+    });
+    assertValueEquality(10000, sorted.length());
+    foreach int i in 1 ..< sorted.length() {
+        assertTrue(sorted[i - 1] >= sorted[i]);
+    }
+}
+
+function testSortByWithMixedKeys() {
+    int[] arr = [3, 1, 2];
+    _ = arr.sortBy(function (int n) returns int|float|string {
+        return n == 2 ? "two" : n;
+    });
+}
+
 function testPush() {
     testBooleanPush();
     testBytePush();
@@ -0,0 +1,206 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/java;
+
+# Represents configurations for the `cache:ConcurrentCache` object.
+#
+# + capacity - Maximum number of entries allowed in the cache
+# + concurrencyLevel - Expected number of concurrent writers. The cache is split into this many independently locked
+#                      segments (rounded up to a power of two)
+# + defaultMaxAgeInSeconds - The default value in seconds which all the cache entries are valid.
+#                            '-1' means, the entries are valid forever. This will be overwritten by the the
+#                            `maxAgeInSeconds` property set when inserting item to the cache
+public type ConcurrentCacheConfig record {|
+    int capacity = 100;
+    int concurrencyLevel = 16;
+    int defaultMaxAgeInSeconds = -1;
+|};
+
+# Represents the statistics of a `cache:ConcurrentCache` object.
+#
+# + hitCount - Number of lookups which found a live entry
+# + missCount - Number of lookups which did not find a live entry
+# + evictionCount - Number of entries evicted due to the capacity of the cache
+public type CacheStats record {|
+    int hitCount;
+    int missCount;
+    int evictionCount;
+|};
+
+# The `cache:ConcurrentCache` object is a natively implemented `cache:AbstractCache`, which can be used by many
+# strands at once. The entries are spread over independently locked segments. The capacity bounds the whole cache
+# and once it is exceeded, the least recently used entries of a segment are evicted, so the eviction order is LRU
+# within a segment but not across segments. Lookups do not acquire any lock. Expired entries are not visible to any
+# of the functions and are removed when they are looked up or while inserting new entries, so no cleanup task is
+# required. It is not recommended to insert `()` as the value of the cache since it doesn't make any sense to cache a
+# nil.
+public type ConcurrentCache object {
+
+    *AbstractCache;
+
+    # Called when a new `cache:ConcurrentCache` object is created.
+    #
+    # + cacheConfig - Configurations for the `cache:ConcurrentCache` object
+    public function __init(ConcurrentCacheConfig cacheConfig = {}) {
+        // Cache capacity must be a positive value.
+        if (cacheConfig.capacity <= 0) {
+            panic prepareError("Capacity must be greater than 0.");
+        }
+        if (cacheConfig.concurrencyLevel <= 0) {
+            panic prepareError("Concurrency level must be greater than 0.");
+        }
+        if (cacheConfig.defaultMaxAgeInSeconds != -1 && cacheConfig.defaultMaxAgeInSeconds <= 0) {
+            panic prepareError("Default max age should be greater than 0 or -1 for indicate forever valid.");
+        }
+        externInit(self, cacheConfig.capacity, cacheConfig.concurrencyLevel, cacheConfig.defaultMaxAgeInSeconds);
+    }
+
+    # Adds the given key value pair to the cache. If the cache previously contained a value associated with the
+    # provided key, the old value wil be replaced by the newly-provided value.
+    #
+    # + key - Key of the value to be cached
+    # + value - Value to be cached. Value should not be `()`
+    # + maxAgeInSeconds - The time in seconds for which the cache entry is valid. If the value is '-1', the entry is
+    #                     valid forever.
+    # + return - `()` if successfully added to the cache or `Error` if a `()` value is inserted to the cache.
+    public function put(string key, any value, int maxAgeInSeconds = -1) returns Error? {
+        if (value is ()) {
+            return prepareErrorWithDebugLog("Unsupported cache value '()' for the key: " + key + ".");
+        }
+        externPut(self, key, value, maxAgeInSeconds);
+    }
+
+    # Returns the cached value associated with the provided key.
+    #
+    # + key - Key of the cached value, which should be retrieved
+    # + return - The cached value associated with the provided key or an `Error` if the provided cache key is not
+    #            exisiting in the cache or if the entry has expired.
+    public function get(string key) returns any|Error {
+        any value = externGet(self, key);
+        if (value is ()) {
+            return prepareErrorWithDebugLog("Cache entry from the given key: " + key + ", is not available.");
+        }
+        return value;
+    }
+
+    # Discards a cached value from the cache.
+    #
+    # + key - Key of the cache value, which needs to be discarded from the cache
+    # + return - `()` if successfully discarded the value or an `Error` if the provided cache key is not present in the
+    #            cache
+    public function invalidate(string key) returns Error? {
+        if (!externInvalidate(self, key)) {
+            return prepareErrorWithDebugLog("Cache entry from the given key: " + key + ", is not available.");
+        }
+    }
+
+    # Discards all the cached values from the cache.
+    #
+    # + return - `()` if successfully discarded all the values from the cache
+    public function invalidateAll() returns Error? {
+        externInvalidateAll(self);
+    }
+
+    # Checks whether the given key has an associated cached value. Use `get` instead of `hasKey` followed by `get`,
+    # since the entry may get evicted or expire in between.
+    #
+    # + key - The key to be checked in the cache
+    # + return - `true` if a cached value is available for the provided key or `false` if there is no cached value
+    #            associated for the given key
+    public function hasKey(string key) returns boolean {
+        return externHasKey(self, key);
+    }
+
+    # Returns a list of all the keys from the cache.
+    #
+    # + return - Array of all the keys from the cache
+    public function keys() returns string[] {
+        return externKeys(self);
+    }
+
+    # Returns the size of the cache.
+    #
+    # + return - The size of the cache
+    public function size() returns int {
+        return externSize(self);
+    }
+
+    # Returns the capacity of the cache.
+    #
+    # + return - The capacity of the cache
+    public function capacity() returns int {
+        return externCapacity(self);
+    }
+
+    # Returns the hit, miss and eviction counts of the cache.
+    #
+    # + return - The statistics of the cache
+    public function stats() returns CacheStats {
+        return externGetStats(self);
+    }
+};
+
+function externInit(ConcurrentCache cache, int capacity, int concurrencyLevel, int defaultMaxAgeInSeconds) =
+                    @java:Method {
+    name: "externInit",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ConcurrentCacheUtils"
+} external;
+
+function externPut(ConcurrentCache cache, string key, any value, int maxAgeInSeconds) = @java:Method {
+    name: "externPut",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ConcurrentCacheUtils"
+} external;
+
+function externGet(ConcurrentCache cache, string key) returns any = @java:Method {
+    name: "externGet",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ConcurrentCacheUtils"
+} external;
+
+function externInvalidate(ConcurrentCache cache, string key) returns boolean = @java:Method {
+    name: "externInvalidate",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ConcurrentCacheUtils"
+} external;
+
+function externInvalidateAll(ConcurrentCache cache) = @java:Method {
+    name: "externInvalidateAll",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ConcurrentCacheUtils"
+} external;
+
+function externHasKey(ConcurrentCache cache, string key) returns boolean = @java:Method {
+    name: "externHasKey",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ConcurrentCacheUtils"
+} external;
+
+function externKeys(ConcurrentCache cache) returns string[] = @java:Method {
+    name: "externKeys",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ConcurrentCacheUtils"
+} external;
+
+function externSize(ConcurrentCache cache) returns int = @java:Method {
+    name: "externSize",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ConcurrentCacheUtils"
+} external;
+
+function externCapacity(ConcurrentCache cache) returns int = @java:Method {
+    name: "externCapacity",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ConcurrentCacheUtils"
+} external;
+
+function externGetStats(ConcurrentCache cache) returns CacheStats = @java:Method {
+    name: "externGetStats",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ConcurrentCacheUtils"
+} external;
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import org.ballerinalang.jvm.BallerinaValues;
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.api.BString;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.ballerinalang.jvm.util.BLangConstants.BALLERINA_BUILTIN_PKG_PREFIX;
+
+/**
+ * Extern methods of the `cache:ConcurrentCache` object.
+ *
+ * @since 2.0.0
+ */
+public class ConcurrentCacheUtils {
+
+    private static final BPackage CACHE_PACKAGE_ID = new BPackage(BALLERINA_BUILTIN_PKG_PREFIX, "cache", "2.0.0");
+    private static final String CACHE_STATS_RECORD = "CacheStats";
+    private static final String NATIVE_CACHE = "ShardedLruCache";
+
+    private ConcurrentCacheUtils() {
+    }
+
+    public static void externInit(ObjectValue cache, long capacity, long concurrencyLevel,
+                                  long defaultMaxAgeInSeconds) {
+        long defaultMaxAgeNanos = defaultMaxAgeInSeconds > 0 ? TimeUnit.SECONDS.toNanos(defaultMaxAgeInSeconds) : -1;
+        cache.addNativeData(NATIVE_CACHE, new ShardedLruCache((int) capacity, (int) concurrencyLevel,
+                                                              defaultMaxAgeNanos));
+    }
+
+    public static void externPut(ObjectValue cache, BString key, Object value, long maxAgeInSeconds) {
+        long maxAgeNanos = maxAgeInSeconds > 0 ? TimeUnit.SECONDS.toNanos(maxAgeInSeconds) : -1;
+        getNativeCache(cache).put(key.getValue(), value, maxAgeNanos);
+    }
+
+    public static Object externGet(ObjectValue cache, BString key) {
+        return getNativeCache(cache).get(key.getValue());
+    }
+
+    public static boolean externInvalidate(ObjectValue cache, BString key) {
+        return getNativeCache(cache).remove(key.getValue());
+    }
+
+    public static void externInvalidateAll(ObjectValue cache) {
+        getNativeCache(cache).clear();
+    }
+
+    public static boolean externHasKey(ObjectValue cache, BString key) {
+        return getNativeCache(cache).containsKey(key.getValue());
+    }
+
+    public static ArrayValue externKeys(ObjectValue cache) {
+        List<String> keys = getNativeCache(cache).keys();
+        BString[] keyArray = new BString[keys.size()];
+        for (int i = 0; i < keyArray.length; i++) {
+            keyArray[i] = StringUtils.fromString(keys.get(i));
+        }
+        return new ArrayValueImpl(keyArray);
+    }
+
+    public static long externSize(ObjectValue cache) {
+        return getNativeCache(cache).size();
+    }
+
+    public static long externCapacity(ObjectValue cache) {
+        return getNativeCache(cache).capacity();
+    }
+
+    public static MapValue<BString, Object> externGetStats(ObjectValue cache) {
+        ShardedLruCache nativeCache = getNativeCache(cache);
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("hitCount", nativeCache.getHitCount());
+        stats.put("missCount", nativeCache.getMissCount());
+        stats.put("evictionCount", nativeCache.getEvictionCount());
+        return BallerinaValues.createRecordValue(CACHE_PACKAGE_ID, CACHE_STATS_RECORD, stats);
+    }
+
+    private static ShardedLruCache getNativeCache(ObjectValue cache) {
+        return (ShardedLruCache) cache.getNativeData(NATIVE_CACHE);
+    }
+}
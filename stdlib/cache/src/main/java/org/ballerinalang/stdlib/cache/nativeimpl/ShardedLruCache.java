@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A size bounded LRU cache which is split into independently locked segments.
+ * <p>
+ * Lookups go straight to the concurrent map of the segment and never block. The recency order of a segment is only
+ * updated by a lookup if the segment lock is free at that moment, so under contention the eviction order is an
+ * approximation of LRU. Expired entries are removed lazily when they are looked up and a few entries from the least
+ * recently used end of the segment are inspected on every insertion, hence no periodic full sweep is required.
+ * <p>
+ * The capacity bounds the whole cache. Once an insertion takes the cache over its capacity, the least recently used
+ * entries of the segment of the new entry are evicted first, followed by those of the other segments if the segment
+ * has nothing else left to evict. The eviction order is therefore LRU within a segment, but not across segments.
+ *
+ * @since 2.0.0
+ */
+public class ShardedLruCache {
+
+    private static final int EXPIRY_SCAN_LIMIT = 4;
+    private static final long NO_EXPIRY = -1;
+
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final int capacity;
+    private final long defaultMaxAgeNanos;
+    private final AtomicInteger count = new AtomicInteger();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Creates a cache.
+     *
+     * @param capacity           maximum number of entries in the cache
+     * @param concurrencyLevel   expected number of concurrent writers, which is rounded up to a power of two to get
+     *                           the number of segments
+     * @param defaultMaxAgeNanos age after which entries expire when a max age is not given at insertion, or -1 if
+     *                           the entries should never expire
+     */
+    public ShardedLruCache(int capacity, int concurrencyLevel, long defaultMaxAgeNanos) {
+        int segmentCount = 1;
+        while (segmentCount < concurrencyLevel && segmentCount < capacity) {
+            segmentCount <<= 1;
+        }
+        this.segments = new Segment[segmentCount];
+        this.segmentMask = segmentCount - 1;
+        for (int i = 0; i < segmentCount; i++) {
+            this.segments[i] = new Segment();
+        }
+        this.capacity = capacity;
+        this.defaultMaxAgeNanos = defaultMaxAgeNanos;
+    }
+
+    /**
+     * Returns the value associated with the given key.
+     *
+     * @param key key of the entry
+     * @return the value, or null if there is no live entry for the key
+     */
+    public Object get(String key) {
+        Segment segment = segmentFor(key);
+        Node node = segment.map.get(key);
+        if (node == null) {
+            missCount.increment();
+            return null;
+        }
+        if (node.isExpired(System.nanoTime())) {
+            segment.remove(key, node);
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        segment.recordAccess(node);
+        return node.value;
+    }
+
+    /**
+     * Adds or replaces the value associated with the given key.
+     *
+     * @param key        key of the entry
+     * @param value      value of the entry
+     * @param maxAgeNanos age after which the entry expires, or -1 to use the default max age of the cache
+     */
+    public void put(String key, Object value, long maxAgeNanos) {
+        long now = System.nanoTime();
+        long maxAge = maxAgeNanos > 0 ? maxAgeNanos : defaultMaxAgeNanos;
+        long expTime = maxAge > 0 ? now + maxAge : NO_EXPIRY;
+        int index = segmentIndex(key);
+        segments[index].put(key, value, expTime, now);
+        if (count.get() > capacity) {
+            evictExcess(index);
+        }
+    }
+
+    /**
+     * Removes the entry associated with the given key.
+     *
+     * @param key key of the entry
+     * @return true if an entry was removed
+     */
+    public boolean remove(String key) {
+        Segment segment = segmentFor(key);
+        Node node = segment.map.get(key);
+        return node != null && segment.remove(key, node);
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Checks whether there is a live entry for the given key. Unlike {@link #get(String)}, this does not affect the
+     * recency order or the statistics of the cache.
+     *
+     * @param key key of the entry
+     * @return true if there is an entry for the key, which has not expired
+     */
+    public boolean containsKey(String key) {
+        Node node = segmentFor(key).map.get(key);
+        return node != null && !node.isExpired(System.nanoTime());
+    }
+
+    /**
+     * Returns the keys of the entries which have not expired.
+     *
+     * @return the keys of the live entries
+     */
+    public List<String> keys() {
+        long now = System.nanoTime();
+        List<String> keys = new ArrayList<>(count.get());
+        for (Segment segment : segments) {
+            for (Node node : segment.map.values()) {
+                if (!node.isExpired(now)) {
+                    keys.add(node.key);
+                }
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the number of entries which have not expired.
+     *
+     * @return the number of live entries
+     */
+    public int size() {
+        long now = System.nanoTime();
+        int size = 0;
+        for (Segment segment : segments) {
+            for (Node node : segment.map.values()) {
+                if (!node.isExpired(now)) {
+                    size++;
+                }
+            }
+        }
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    private Segment segmentFor(String key) {
+        return segments[segmentIndex(key)];
+    }
+
+    private int segmentIndex(String key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & segmentMask;
+    }
+
+    /**
+     * Evicts entries until the cache is within its capacity, starting from the segment at the given index. Only one
+     * segment lock is held at a time.
+     */
+    private void evictExcess(int startIndex) {
+        for (int i = 0; i < segments.length && count.get() > capacity; i++) {
+            segments[(startIndex + i) & segmentMask].evictExcess();
+        }
+    }
+
+    /**
+     * An entry of the cache, which is also a node of the recency list of its segment.
+     */
+    private static class Node {
+        final String key;
+        final Object value;
+        final long expTime;
+
+        // Guarded by the segment lock.
+        Node prev;
+        Node next;
+
+        Node(String key, Object value, long expTime) {
+            this.key = key;
+            this.value = value;
+            this.expTime = expTime;
+        }
+
+        boolean isExpired(long now) {
+            long exp = expTime;
+            return exp != NO_EXPIRY && exp - now < 0;
+        }
+    }
+
+    /**
+     * A part of the cache with its own lock and recency list. The most recently used node is at the head.
+     */
+    private class Segment {
+        final ConcurrentHashMap<String, Node> map = new ConcurrentHashMap<>();
+        final ReentrantLock lock = new ReentrantLock();
+        Node head;
+        Node tail;
+
+        void recordAccess(Node node) {
+            if (head == node || !lock.tryLock()) {
+                return;
+            }
+            try {
+                // The node might have been removed after the lookup.
+                if (map.get(node.key) == node) {
+                    unlink(node);
+                    linkFirst(node);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void put(String key, Object value, long expTime, long now) {
+            lock.lock();
+            try {
+                // An existing node is replaced rather than updated, so that a reader which found the old node expired
+                // can only remove that node and never the new value.
+                Node node = new Node(key, value, expTime);
+                Node existing = map.put(key, node);
+                if (existing != null) {
+                    unlink(existing);
+                    linkFirst(node);
+                    return;
+                }
+                count.incrementAndGet();
+                linkFirst(node);
+                removeExpired(now);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void evictExcess() {
+            lock.lock();
+            try {
+                while (count.get() > capacity && tail != null) {
+                    Node eldest = tail;
+                    unlink(eldest);
+                    map.remove(eldest.key);
+                    count.decrementAndGet();
+                    evictionCount.increment();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean remove(String key, Node node) {
+            lock.lock();
+            try {
+                if (!map.remove(key, node)) {
+                    return false;
+                }
+                unlink(node);
+                count.decrementAndGet();
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                count.addAndGet(-map.size());
+                map.clear();
+                head = null;
+                tail = null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void removeExpired(long now) {
+            Node node = tail;
+            for (int i = 0; i < EXPIRY_SCAN_LIMIT && node != null; i++) {
+                Node prev = node.prev;
+                if (node.isExpired(now)) {
+                    unlink(node);
+                    map.remove(node.key);
+                    count.decrementAndGet();
+                }
+                node = prev;
+            }
+        }
+
+        private void linkFirst(Node node) {
+            node.prev = null;
+            node.next = head;
+            if (head != null) {
+                head.prev = node;
+            }
+            head = node;
+            if (tail == null) {
+                tail = node;
+            }
+        }
+
+        private void unlink(Node node) {
+            Node prev = node.prev;
+            Node next = node.next;
+            if (prev != null) {
+                prev.next = next;
+            } else if (head == node) {
+                head = next;
+            }
+            if (next != null) {
+                next.prev = prev;
+            } else if (tail == node) {
+                tail = prev;
+            }
+            node.prev = null;
+            node.next = null;
+        }
+    }
+}
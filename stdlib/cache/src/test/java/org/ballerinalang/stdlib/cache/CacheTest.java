@@ -285,6 +285,62 @@ public class CacheTest {
         BRunUtil.invoke(compileResult, "testCreateCacheWithNegativeDefaultMaxAge");
     }
 
+    @Test
+    public void testConcurrentCachePutAndGet() {
+        BValue[] args = new BValue[2];
+        args[0] = new BString("Hello");
+        args[1] = new BString("Ballerina");
+        BValue[] returns = BRunUtil.invoke(compileResult, "testConcurrentCachePutAndGet", args);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 1);
+        Assert.assertEquals(returns[1].stringValue(), "Ballerina");
+    }
+
+    @Test
+    public void testConcurrentCacheEviction() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testConcurrentCacheEviction");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 3);
+        Assert.assertFalse(((BBoolean) returns[1]).booleanValue());
+        Assert.assertEquals(((BInteger) returns[2]).intValue(), 1);
+    }
+
+    @Test
+    public void testConcurrentCacheExpiry() {
+        BValue[] args = new BValue[2];
+        args[0] = new BString("Hello");
+        args[1] = new BString("Ballerina");
+        BValue[] returns = BRunUtil.invoke(compileResult, "testConcurrentCacheExpiry", args);
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 1);
+    }
+
+    @Test
+    public void testConcurrentCacheInvalidate() {
+        BValue[] args = new BValue[2];
+        args[0] = new BString("Hello");
+        args[1] = new BString("Ballerina");
+        BValue[] returns = BRunUtil.invoke(compileResult, "testConcurrentCacheInvalidate", args);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 0);
+        Assert.assertTrue(((BBoolean) returns[1]).booleanValue());
+    }
+
+    @Test
+    public void testConcurrentCacheCapacityAcrossSegments() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testConcurrentCacheCapacityAcrossSegments");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 4);
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 4);
+    }
+
+    @Test
+    public void testConcurrentCacheExpiredEntriesAreHidden() {
+        BValue[] args = new BValue[2];
+        args[0] = new BString("Hello");
+        args[1] = new BString("Ballerina");
+        BValue[] returns = BRunUtil.invoke(compileResult, "testConcurrentCacheExpiredEntriesAreHidden", args);
+        Assert.assertFalse(((BBoolean) returns[0]).booleanValue());
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 0);
+        Assert.assertEquals(((BInteger) returns[2]).intValue(), 0);
+    }
+
     private String[] removeEmptyValues(String[] arr) {
         List<String> list = new ArrayList<>(Arrays.asList(arr));
         list.removeAll(Arrays.asList("", null));
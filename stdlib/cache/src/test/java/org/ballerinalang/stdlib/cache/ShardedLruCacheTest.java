@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache;
+
+import org.ballerinalang.stdlib.cache.nativeimpl.ShardedLruCache;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for {@link ShardedLruCache}.
+ */
+public class ShardedLruCacheTest {
+
+    @Test(description = "Test that a reader removing an expired entry never removes a value put in its place")
+    public void testRefreshWhileExpiredEntryIsRemoved() throws InterruptedException {
+        ShardedLruCache cache = new ShardedLruCache(16, 4, -1);
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Thread reader = new Thread(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    cache.get("key");
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+        try {
+            for (int i = 0; i < 100000; i++) {
+                // The first value has expired by the time the readers see it, the second one never expires.
+                cache.put("key", "expired", 1);
+                cache.put("key", "fresh", TimeUnit.HOURS.toNanos(1));
+                Assert.assertEquals(cache.get("key"), "fresh", "iteration " + i);
+            }
+        } finally {
+            for (Thread reader : readers) {
+                reader.interrupt();
+                reader.join();
+            }
+        }
+    }
+}
@@ -293,3 +293,53 @@ function testCreateCacheWithNegativeDefaultMaxAge() {
     };
     cache:Cache c = new(config);
 }
+
+function testConcurrentCachePutAndGet(string key, string value) returns [int, any|cache:Error] {
+    cache:ConcurrentCache cache = new({ capacity: 10 });
+    checkpanic cache.put(key, "Random value");
+    checkpanic cache.put(key, value);
+    return [cache.size(), cache.get(key)];
+}
+
+function testConcurrentCacheEviction() returns [int, boolean, int] {
+    cache:ConcurrentCache cache = new({ capacity: 3, concurrencyLevel: 1 });
+    checkpanic cache.put("A", "1");
+    checkpanic cache.put("B", "2");
+    checkpanic cache.put("C", "3");
+    any|cache:Error result = cache.get("A");
+    checkpanic cache.put("D", "4");
+    return [cache.size(), cache.hasKey("B"), cache.stats().evictionCount];
+}
+
+function testConcurrentCacheExpiry(string key, string value) returns [boolean, int] {
+    cache:ConcurrentCache cache = new({ capacity: 10 });
+    checkpanic cache.put(key, value, 1);
+    runtime:sleep(2000);
+    any|cache:Error result = cache.get(key);
+    return [result is cache:Error, cache.stats().missCount];
+}
+
+function testConcurrentCacheInvalidate(string key, string value) returns [int, boolean] {
+    cache:ConcurrentCache cache = new({ capacity: 10 });
+    checkpanic cache.put(key, value);
+    checkpanic cache.invalidate(key);
+    cache:Error? result = cache.invalidate(key);
+    return [cache.size(), result is cache:Error];
+}
+
+function testConcurrentCacheCapacityAcrossSegments() returns [int, int] {
+    cache:ConcurrentCache cache = new({ capacity: 4, concurrencyLevel: 16 });
+    int i = 0;
+    while (i < 20) {
+        checkpanic cache.put(i.toString(), i);
+        i = i + 1;
+    }
+    return [cache.size(), cache.keys().length()];
+}
+
+function testConcurrentCacheExpiredEntriesAreHidden(string key, string value) returns [boolean, int, int] {
+    cache:ConcurrentCache cache = new({ capacity: 10 });
+    checkpanic cache.put(key, value, 1);
+    runtime:sleep(2000);
+    return [cache.hasKey(key), cache.size(), cache.keys().length()];
+}
@@ -94,6 +94,23 @@ public type Client client object {
         }
     }
 
+    # Executes a batch of parameterized DDL or DML sql queries provided by the user, and returns the summary of each
+    # execution. Consecutive queries with the same SQL text are sent to the database as a single batch.
+    #
+    # + sqlQueries - The queries such as INSERT, DELETE, UPDATE, etc as `ParameterizedString` with the values of the
+    #                params of each query
+    # + return - Summary of the sql update queries as `ExecuteResult[]` in the order of the given queries or returns
+    #            `Error` if any error occured when executing the batch, in which case none of the queries is applied
+    public remote function batchExecute(@untainted sql:ParameterizedString[] sqlQueries)
+    returns sql:ExecuteResult[]|sql:Error {
+        if (self.clientActive) {
+            return nativeBatchExecute(self, sqlQueries);
+        } else {
+            return sql:ApplicationError( message = "JDBC Client is already closed,"
+                + " hence further operations are not allowed");
+        }
+    }
+
     # Close the JDBC client.
     #
     # + return - Possible error during closing the client
@@ -141,6 +158,11 @@ returns sql:ExecuteResult|sql:Error? = @java:Method {
     class: "org.ballerinalang.sql.utils.ExecuteUtils"
 } external;
 
+function nativeBatchExecute(Client sqlClient, sql:ParameterizedString[] sqlQueries)
+returns sql:ExecuteResult[]|sql:Error = @java:Method {
+    class: "org.ballerinalang.sql.utils.ExecuteUtils"
+} external;
+
 function close(Client jdbcClient) returns sql:Error? = @java:Method {
     class: "org.ballerinalang.jdbc.NativeImpl"
 } external;
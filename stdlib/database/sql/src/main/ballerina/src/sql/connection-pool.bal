@@ -30,11 +30,20 @@ import ballerina/java;
 # + minIdleConnections - The minimum number of idle connections that pool tries to maintain in the pool. Default
 #                        is the same as maxOpenConnections and it can be changed through the configuration
 #                        API with the key `b7a.sql.pool.minIdleConnections`.
+# + statementCacheSize - The maximum number of prepared statements the JDBC driver caches per connection. This is
+#                        supported for the MySQL and PostgreSQL drivers, and other drivers can be configured through
+#                        their db options. Default value is 0, which leaves the driver defaults as they are, and it can
+#                        be changed through the configuration API with the key `b7a.sql.pool.statementCacheSize`.
+# + fetchSize - The number of rows fetched from the database at a time when streaming the results of a query. Default
+#               value is 0, which leaves it to the driver, and it can be changed through the configuration API with
+#               the key `b7a.sql.pool.fetchSize`.
 public type ConnectionPool record {|
     int maxOpenConnections = config:getAsInt("b7a.sql.pool.maxOpenConnections", 15);
     decimal maxConnectionLifeTimeInSeconds = <decimal>config:getAsFloat("b7a.sql.pool.maxConnectionLifeTimeInSeconds",
         1800.0);
     int minIdleConnections = config:getAsInt("b7a.sql.pool.minIdleConnections", 15);
+    int statementCacheSize = config:getAsInt("b7a.sql.pool.statementCacheSize", 0);
+    int fetchSize = config:getAsInt("b7a.sql.pool.fetchSize", 0);
 |};
 
 // This is a container object that holds the global pool config and initializes the internal map of connection pools
@@ -50,6 +50,7 @@ public final class Constants {
     public static final String STATEMENT_NATIVE_DATA_FIELD = "Statement";
     public static final String COLUMN_DEFINITIONS_DATA_FIELD = "ColumnDefinition";
     public static final String RECORD_TYPE_DATA_FIELD = "recordType";
+    public static final String BUFFERED_RESULTS_DATA_FIELD = "BufferedResults";
 
     public static final BString TIMEZONE_UTC = StringUtils.fromString("UTC");
 
@@ -68,6 +69,8 @@ public final class Constants {
         public static final BString MAX_CONNECTION_LIFE_TIME_SECONDS = StringUtils.fromString(
                 "maxConnectionLifeTimeInSeconds");
         public static final BString MIN_IDLE_CONNECTIONS = StringUtils.fromString("minIdleConnections");
+        public static final BString STATEMENT_CACHE_SIZE = StringUtils.fromString("statementCacheSize");
+        public static final BString FETCH_SIZE = StringUtils.fromString("fetchSize");
     }
 
     /**
@@ -41,10 +41,14 @@ import java.util.concurrent.locks.ReentrantLock;
  */
 public class SQLDatasource {
 
+    private static final String MYSQL_URL_PREFIX = "jdbc:mysql:";
+    private static final String POSTGRESQL_URL_PREFIX = "jdbc:postgresql:";
+
     private HikariDataSource hikariDataSource;
     private AtomicInteger clientCounter = new AtomicInteger(0);
     private Lock mutex = new ReentrantLock();
     private boolean poolShutdown = false;
+    private int fetchSize = 0;
 
     private SQLDatasource(SQLDatasourceParams sqlDatasourceParams) {
         buildDataSource(sqlDatasourceParams);
@@ -106,6 +110,10 @@ public class SQLDatasource {
         return hikariDataSource.getConnection();
     }
 
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
     private void closeConnectionPool() {
         hikariDataSource.close();
         poolShutdown = true;
@@ -179,6 +187,13 @@ public class SQLDatasource {
                 if (minIdleConnections > 0) {
                     config.setMinimumIdle(minIdleConnections);
                 }
+                int statementCacheSize = sqlDatasourceParams.connectionPool
+                        .getIntValue(Constants.ConnectionPool.STATEMENT_CACHE_SIZE).intValue();
+                if (statementCacheSize > 0) {
+                    addStatementCacheProperties(config, sqlDatasourceParams.url, statementCacheSize);
+                }
+                fetchSize = sqlDatasourceParams.connectionPool
+                        .getIntValue(Constants.ConnectionPool.FETCH_SIZE).intValue();
             }
             if (sqlDatasourceParams.options != null) {
                 MapValue<BString, Object> optionMap = (MapValue<BString, Object>) sqlDatasourceParams.options;
@@ -207,6 +222,23 @@ public class SQLDatasource {
         }
     }
 
+    /**
+     * Enables the statement cache of the JDBC driver. Statements are cached by the driver on the physical connection,
+     * so they are released with it and the pool keeps tracking the statements handed out through its connections.
+     * Drivers without a known statement cache are left as they are, and can be configured through the db options.
+     */
+    private static void addStatementCacheProperties(HikariConfig config, String url, int statementCacheSize) {
+        if (url == null) {
+            return;
+        }
+        if (url.startsWith(MYSQL_URL_PREFIX)) {
+            config.addDataSourceProperty("cachePrepStmts", true);
+            config.addDataSourceProperty("prepStmtCacheSize", statementCacheSize);
+        } else if (url.startsWith(POSTGRESQL_URL_PREFIX)) {
+            config.addDataSourceProperty("preparedStatementCacheQueries", statementCacheSize);
+        }
+    }
+
     /**
      * This class encapsulates the parameters required for the initialization of {@code SQLDatasource} class.
      */
@@ -17,7 +17,12 @@
  */
 package org.ballerinalang.sql.utils;
 
+import org.ballerinalang.jvm.BRuntime;
 import org.ballerinalang.jvm.BallerinaValues;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.ErrorValue;
 import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.jvm.values.api.BString;
@@ -33,8 +38,10 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
@@ -46,6 +53,10 @@ import java.util.Map;
 public class ExecuteUtils {
 
     public static Object nativeExecute(ObjectValue client, MapValue<BString, Object> paramSQLString) {
+        return BRuntime.executeBlocking(() -> execute(client, paramSQLString), ExecuteUtils::getExecuteError);
+    }
+
+    private static Object execute(ObjectValue client, MapValue<BString, Object> paramSQLString) {
         Object dbClient = client.getNativeData(Constants.DATABASE_CLIENT);
         if (dbClient != null) {
             SQLDatasource sqlDatasource = (SQLDatasource) dbClient;
@@ -66,11 +77,7 @@ public class ExecuteUtils {
                         lastInsertedId = getGeneratedKeys(resultSet);
                     }
                 }
-                Map<String, Object> resultFields = new HashMap<>();
-                resultFields.put(Constants.AFFECTED_ROW_COUNT_FIELD, count);
-                resultFields.put(Constants.LAST_INSERTED_ID_FIELD, lastInsertedId);
-                return BallerinaValues.createRecordValue(Constants.SQL_PACKAGE_ID,
-                        Constants.EXCUTE_RESULT_RECORD, resultFields);
+                return createExecuteResult(count, lastInsertedId);
             } catch (SQLException e) {
                 return ErrorGenerator.getSQLDatabaseError(e,
                         "Error while executing sql query: " + sqlQuery + ". ");
@@ -86,6 +93,117 @@ public class ExecuteUtils {
         }
     }
 
+    public static Object nativeBatchExecute(ObjectValue client, ArrayValue paramSQLStrings) {
+        return BRuntime.executeBlocking(() -> batchExecute(client, paramSQLStrings), ExecuteUtils::getExecuteError);
+    }
+
+    private static ErrorValue getExecuteError(Throwable throwable) {
+        String message = throwable.getMessage();
+        if (message == null) {
+            message = throwable.getClass().getName();
+        }
+        return ErrorGenerator.getSQLApplicationError("Error while executing sql query. " + message);
+    }
+
+    /**
+     * Executes the given parameterized queries using JDBC batches. Consecutive queries with the same SQL text are
+     * sent to the database as a single batch of the same prepared statement. All the batches are run on one
+     * connection within a single transaction, which is rolled back if any of the batches fails.
+     */
+    private static Object batchExecute(ObjectValue client, ArrayValue paramSQLStrings) {
+        Object dbClient = client.getNativeData(Constants.DATABASE_CLIENT);
+        if (dbClient == null) {
+            return ErrorGenerator.getSQLApplicationError(
+                    "Client is not properly initialized!");
+        }
+        SQLDatasource sqlDatasource = (SQLDatasource) dbClient;
+        List<Object> executeResults = new ArrayList<>(paramSQLStrings.size());
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        String sqlQuery = null;
+        boolean autoCommit = true;
+        try {
+            connection = sqlDatasource.getSQLConnection();
+            autoCommit = connection.getAutoCommit();
+            if (autoCommit) {
+                connection.setAutoCommit(false);
+            }
+            int batchStart = 0;
+            while (batchStart < paramSQLStrings.size()) {
+                MapValue<BString, Object> paramSQLString = (MapValue<BString, Object>) paramSQLStrings.get(batchStart);
+                sqlQuery = Utils.getSqlQuery(paramSQLString);
+                statement = connection.prepareStatement(sqlQuery, Statement.RETURN_GENERATED_KEYS);
+                int batchEnd = batchStart;
+                while (batchEnd < paramSQLStrings.size()) {
+                    paramSQLString = (MapValue<BString, Object>) paramSQLStrings.get(batchEnd);
+                    if (batchEnd > batchStart && !sqlQuery.equals(Utils.getSqlQuery(paramSQLString))) {
+                        break;
+                    }
+                    Utils.setParams(connection, statement, paramSQLString);
+                    statement.addBatch();
+                    batchEnd++;
+                }
+                int[] counts = statement.executeBatch();
+                List<Object> generatedKeys = new ArrayList<>();
+                if (!isDdlStatement(sqlQuery)) {
+                    resultSet = statement.getGeneratedKeys();
+                    while (resultSet.next()) {
+                        generatedKeys.add(getGeneratedKeys(resultSet));
+                    }
+                    resultSet.close();
+                    resultSet = null;
+                }
+                for (int i = 0; i < counts.length; i++) {
+                    executeResults.add(createExecuteResult(counts[i],
+                            i < generatedKeys.size() ? generatedKeys.get(i) : null));
+                }
+                statement.close();
+                statement = null;
+                batchStart = batchEnd;
+            }
+            if (autoCommit) {
+                connection.commit();
+            }
+            return new ArrayValueImpl(executeResults.toArray(), new BArrayType(
+                    BallerinaValues.createRecordValue(Constants.SQL_PACKAGE_ID, Constants.EXCUTE_RESULT_RECORD)
+                            .getType()));
+        } catch (SQLException e) {
+            rollback(connection, autoCommit);
+            return ErrorGenerator.getSQLDatabaseError(e,
+                    "Error while executing batch of sql query: " + sqlQuery + ". ");
+        } catch (ApplicationError | IOException e) {
+            rollback(connection, autoCommit);
+            return ErrorGenerator.getSQLApplicationError("Error while executing batch of sql query: "
+                    + sqlQuery + ". " + e.getMessage());
+        } finally {
+            if (connection != null && autoCommit) {
+                try {
+                    connection.setAutoCommit(true);
+                } catch (SQLException ignored) {
+                }
+            }
+            Utils.closeResources(resultSet, statement, connection);
+        }
+    }
+
+    private static void rollback(Connection connection, boolean autoCommit) {
+        if (connection != null && autoCommit) {
+            try {
+                connection.rollback();
+            } catch (SQLException ignored) {
+            }
+        }
+    }
+
+    private static MapValue<BString, Object> createExecuteResult(int count, Object lastInsertedId) {
+        Map<String, Object> resultFields = new HashMap<>();
+        resultFields.put(Constants.AFFECTED_ROW_COUNT_FIELD, count);
+        resultFields.put(Constants.LAST_INSERTED_ID_FIELD, lastInsertedId);
+        return BallerinaValues.createRecordValue(Constants.SQL_PACKAGE_ID,
+                Constants.EXCUTE_RESULT_RECORD, resultFields);
+    }
+
     private static Object getGeneratedKeys(ResultSet rs) throws SQLException {
         ResultSetMetaData metaData = rs.getMetaData();
         int columnCount = metaData.getColumnCount();
@@ -17,6 +17,7 @@
  */
 package org.ballerinalang.sql.utils;
 
+import org.ballerinalang.jvm.BRuntime;
 import org.ballerinalang.jvm.BallerinaValues;
 import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BField;
@@ -62,6 +63,25 @@ public class QueryUtils {
 
     public static StreamValue nativeQuery(ObjectValue client, MapValue<BString, Object> paramSQLString,
                                           Object recordType) {
+        // A failed offloaded query becomes the result of the extern call, so it is turned into an error stream.
+        Object result = BRuntime.executeBlocking(() -> query(client, paramSQLString, recordType),
+                throwable -> getErrorStream(recordType, getQueryError(throwable)));
+        if (result instanceof ErrorValue) {
+            return getErrorStream(recordType, (ErrorValue) result);
+        }
+        return (StreamValue) result;
+    }
+
+    private static ErrorValue getQueryError(Throwable throwable) {
+        String message = throwable.getMessage();
+        if (message == null) {
+            message = throwable.getClass().getName();
+        }
+        return ErrorGenerator.getSQLApplicationError("Error while executing sql query. " + message);
+    }
+
+    private static StreamValue query(ObjectValue client, MapValue<BString, Object> paramSQLString,
+                                     Object recordType) {
         Object dbClient = client.getNativeData(Constants.DATABASE_CLIENT);
         if (dbClient != null) {
             SQLDatasource sqlDatasource = (SQLDatasource) dbClient;
@@ -73,6 +93,9 @@ public class QueryUtils {
                 sqlQuery = Utils.getSqlQuery(paramSQLString);
                 connection = sqlDatasource.getSQLConnection();
                 statement = connection.prepareStatement(sqlQuery);
+                if (sqlDatasource.getFetchSize() > 0) {
+                    statement.setFetchSize(sqlDatasource.getFetchSize());
+                }
                 Utils.setParams(connection, statement, paramSQLString);
                 resultSet = statement.executeQuery();
                 List<ColumnDefinition> columnDefinitions;
@@ -18,6 +18,7 @@
 package org.ballerinalang.sql.utils;
 
 
+import org.ballerinalang.jvm.BRuntime;
 import org.ballerinalang.jvm.JSONParser;
 import org.ballerinalang.jvm.StringUtils;
 import org.ballerinalang.jvm.types.BArrayType;
@@ -25,6 +26,7 @@ import org.ballerinalang.jvm.types.BStructureType;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.ballerinalang.jvm.values.ErrorValue;
 import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.MapValueImpl;
 import org.ballerinalang.jvm.values.ObjectValue;
@@ -48,7 +50,9 @@ import java.sql.Timestamp;
 import java.sql.Types;
 import java.time.OffsetDateTime;
 import java.time.OffsetTime;
+import java.util.ArrayDeque;
 import java.util.Calendar;
+import java.util.Deque;
 import java.util.List;
 import java.util.TimeZone;
 
@@ -58,10 +62,55 @@ import java.util.TimeZone;
  * @since 1.2.0
  */
 public class RecordItertorUtils {
+
+    private static final int DEFAULT_BATCH_SIZE = 100;
+
     private static Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone(Constants.TIMEZONE_UTC.getValue()));
 
     public static Object nextResult(ObjectValue recordIterator) {
+        Deque<Object> bufferedResults = (Deque<Object>) recordIterator
+                .getNativeData(Constants.BUFFERED_RESULTS_DATA_FIELD);
+        if (bufferedResults != null && !bufferedResults.isEmpty()) {
+            return bufferedResults.poll();
+        }
+        return BRuntime.executeBlocking(() -> fetchResults(recordIterator), RecordItertorUtils::getIterationError);
+    }
+
+    /**
+     * Reads the next batch of rows from the result set, so that a blocking call is made once per batch rather than
+     * once per row. The first row is returned and the rest are buffered in the iterator. A failure is buffered after
+     * the rows which were read before it.
+     */
+    private static Object fetchResults(ObjectValue recordIterator) {
         ResultSet resultSet = (ResultSet) recordIterator.getNativeData(Constants.RESULT_SET_NATIVE_DATA_FIELD);
+        Deque<Object> bufferedResults = (Deque<Object>) recordIterator
+                .getNativeData(Constants.BUFFERED_RESULTS_DATA_FIELD);
+        if (bufferedResults == null) {
+            bufferedResults = new ArrayDeque<>();
+            recordIterator.addNativeData(Constants.BUFFERED_RESULTS_DATA_FIELD, bufferedResults);
+        }
+        try {
+            int batchSize = resultSet.getFetchSize() > 0 ? resultSet.getFetchSize() : DEFAULT_BATCH_SIZE;
+            for (int i = 0; i < batchSize; i++) {
+                Object result = next(recordIterator, resultSet);
+                if (result == null) {
+                    break;
+                }
+                bufferedResults.add(result);
+                if (result instanceof ErrorValue) {
+                    break;
+                }
+            }
+        } catch (SQLException e) {
+            bufferedResults.add(ErrorGenerator.getSQLDatabaseError(e, "Error when iterating the SQL result"));
+        } catch (Throwable throwable) {
+            // Such as the result set having been closed, in which case it is no longer in the native data.
+            bufferedResults.add(getIterationError(throwable));
+        }
+        return bufferedResults.poll();
+    }
+
+    private static Object next(ObjectValue recordIterator, ResultSet resultSet) {
         try {
             if (resultSet.next()) {
                 BStructureType streamConstraint = (BStructureType) recordIterator.
@@ -84,11 +133,15 @@ public class RecordItertorUtils {
             return ErrorGenerator.getSQLApplicationError("Error when iterating the SQL result. "
                     + e.getMessage());
         } catch (Throwable throwable) {
-            return ErrorGenerator.getSQLApplicationError("Error when iterating through the " +
-                    "SQL result. " + throwable.getMessage());
+            return getIterationError(throwable);
         }
     }
 
+    private static ErrorValue getIterationError(Throwable throwable) {
+        return ErrorGenerator.getSQLApplicationError("Error when iterating through the " +
+                "SQL result. " + throwable.getMessage());
+    }
+
     private static Object getResult(ResultSet resultSet, int columnIndex, ColumnDefinition columnDefinition)
             throws SQLException, ApplicationError, IOException {
         int sqlType = columnDefinition.getSqlType();
@@ -258,4 +258,31 @@ public class ExecuteTest {
         Assert.assertEquals(((BByte) executionResult.get(Constants.AFFECTED_ROW_COUNT_FIELD)).intValue(), 1);
         Assert.assertEquals(((BInteger) resultCount.get("countVal")).intValue(), 1);
     }
+
+    @Test
+    public void testBatchInsert() {
+        BValue[] returnVal = BRunUtil.invokeFunction(result, "testBatchInsert", args);
+        SQLDBUtils.assertNotError(returnVal[0]);
+        Assert.assertTrue(returnVal[0] instanceof BValueArray);
+        BValueArray result = (BValueArray) returnVal[0];
+        BValueArray executionResults = (BValueArray) result.getRefValue(0);
+        Assert.assertEquals(executionResults.size(), 3);
+        for (int i = 0; i < executionResults.size(); i++) {
+            BMap executionResult = (BMap) executionResults.getRefValue(i);
+            Assert.assertEquals(((BByte) executionResult.get(Constants.AFFECTED_ROW_COUNT_FIELD)).intValue(), 1);
+        }
+        BMap resultCount = (BMap) result.getRefValue(1);
+        Assert.assertEquals(((BInteger) resultCount.get("countVal")).intValue(), 3);
+    }
+
+    @Test
+    public void testBatchInsertWithError() {
+        BValue[] returnVal = BRunUtil.invokeFunction(result, "testBatchInsertWithError", args);
+        SQLDBUtils.assertNotError(returnVal[0]);
+        Assert.assertTrue(returnVal[0] instanceof BValueArray);
+        BValueArray result = (BValueArray) returnVal[0];
+        Assert.assertTrue(result.getRefValue(0) instanceof BError);
+        BMap resultCount = (BMap) result.getRefValue(1);
+        Assert.assertEquals(((BInteger) resultCount.get("countVal")).intValue(), 0);
+    }
 }
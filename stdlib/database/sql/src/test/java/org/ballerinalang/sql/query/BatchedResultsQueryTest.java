@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.sql.query;
+
+import org.ballerinalang.model.values.BError;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.model.values.BValueArray;
+import org.ballerinalang.sql.utils.SQLDBUtils;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.sql.SQLException;
+
+/**
+ * This test class verifies streaming query results which span several batches of rows. The sql tests run with the
+ * blocking extern calls offloaded, so that both the query and the batches of rows are read off the strand threads.
+ *
+ * @since 2.0.0
+ */
+public class BatchedResultsQueryTest {
+    private CompileResult result;
+    private static final String DB_NAME = "TEST_SQL_BATCHED_RESULTS";
+    private static final String URL = SQLDBUtils.URL_PREFIX + DB_NAME;
+    private static final int ROW_COUNT = 250;
+    private BValue[] args = {new BString(URL), new BString(SQLDBUtils.DB_USER), new BString(SQLDBUtils.DB_PASSWORD)};
+
+    @BeforeClass
+    public void setup() throws SQLException {
+        result = BCompileUtil.compile(SQLDBUtils.getMockModuleDir(), "query");
+        SQLDBUtils.initHsqlDatabase(DB_NAME, SQLDBUtils.getSQLResourceDir("query",
+                "batched-results-test-data.sql"));
+    }
+
+    @Test
+    public void testQueryMultipleBatches() {
+        BValue[] batchArgs = {args[0], args[1], args[2], new BInteger(ROW_COUNT)};
+        BValue[] returnVal = BRunUtil.invokeFunction(result, "testQueryMultipleBatches", batchArgs);
+        SQLDBUtils.assertNotError(returnVal[0]);
+        BValueArray counts = (BValueArray) returnVal[0];
+        Assert.assertEquals(((BInteger) counts.getRefValue(0)).intValue(), ROW_COUNT);
+        Assert.assertEquals(((BInteger) counts.getRefValue(1)).intValue(), ROW_COUNT);
+    }
+
+    @Test
+    public void testQueryMissingTable() {
+        BValue[] returnVal = BRunUtil.invokeFunction(result, "testQueryMissingTable", args);
+        Assert.assertEquals(returnVal[0].getType().getTag(), TypeTags.ERROR);
+        Assert.assertTrue(((BMap) ((BError) returnVal[0]).getDetails()).get(SQLDBUtils.SQL_ERROR_MESSAGE)
+                .stringValue().contains("Error while executing sql query: SELECT * FROM MissingTable"));
+    }
+}
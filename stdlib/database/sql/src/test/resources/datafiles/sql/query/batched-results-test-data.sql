@@ -0,0 +1,5 @@
+CREATE TABLE BatchedRows (
+   id INT NOT NULL,
+   PRIMARY KEY (id)
+);
+/
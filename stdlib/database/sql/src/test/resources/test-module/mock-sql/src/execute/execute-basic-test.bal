@@ -234,3 +234,39 @@ returns @tainted [sql:ExecuteResult?, ResultCount?]|error? {
     check dbClient.close();
     return [result, resultCount];
 }
+
+function testBatchInsert(string jdbcURL, string user, string password)
+returns @tainted [sql:ExecuteResult[], ResultCount?]|error? {
+    mockclient:Client dbClient = check new (url = jdbcURL, user = user, password = password,
+        connectionPool = {statementCacheSize: 10});
+    sql:ParameterizedString[] sqlQueries = [];
+    foreach int i in 0 ..< 3 {
+        sqlQueries.push({parts: ["Insert into NumericTypes (int_type) values (", ")"], insertions: [40]});
+    }
+    sql:ExecuteResult[] result = check dbClient->batchExecute(sqlQueries);
+    ResultCount? resultCount = check getIntTypeCount(dbClient, 40);
+    check dbClient.close();
+    return [result, resultCount];
+}
+
+function testBatchInsertWithError(string jdbcURL, string user, string password)
+returns @tainted [sql:ExecuteResult[]|sql:Error, ResultCount?]|error? {
+    mockclient:Client dbClient = check new (url = jdbcURL, user = user, password = password);
+    sql:ParameterizedString[] sqlQueries = [
+        {parts: ["Insert into NumericTypes (int_type) values (", ")"], insertions: [41]},
+        {parts: ["Insert into NumericTypes (int_type) values ('This is wrong type')"], insertions: []}
+    ];
+    sql:ExecuteResult[]|sql:Error result = dbClient->batchExecute(sqlQueries);
+    ResultCount? resultCount = check getIntTypeCount(dbClient, 41);
+    check dbClient.close();
+    return [result, resultCount];
+}
+
+function getIntTypeCount(mockclient:Client dbClient, int intType) returns @tainted ResultCount?|error {
+    stream<record{}, error> queryResult = dbClient->query(string `SELECT count(*) as countval from NumericTypes
+        where int_type = ${intType}`, ResultCount);
+    stream<ResultCount, sql:Error> streamData = <stream<ResultCount, sql:Error>>queryResult;
+    record {|ResultCount value;|}? data = check streamData.next();
+    check streamData.close();
+    return data?.value;
+}
@@ -0,0 +1,57 @@
+// Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import mockclient;
+import ballerina/sql;
+
+type BatchedRow record {
+    int id;
+};
+
+function testQueryMultipleBatches(string url, string user, string password, int rowCount)
+returns @tainted [int, int]|error {
+    mockclient:Client dbClient = check new (url = url, user = user, password = password);
+    foreach int i in 1 ... rowCount {
+        sql:ParameterizedString insertQuery = {parts: ["INSERT INTO BatchedRows (id) VALUES (", ")"],
+            insertions: [i]};
+        sql:ExecuteResult? insertResult = check dbClient->execute(insertQuery);
+    }
+    stream<record{}, error> streamResult = dbClient->query("SELECT * FROM BatchedRows ORDER BY id", BatchedRow);
+    stream<BatchedRow, sql:Error> streamData = <stream<BatchedRow, sql:Error>>streamResult;
+    int count = 0;
+    int lastId = 0;
+    error? e = streamData.forEach(function(BatchedRow row) {
+        count += 1;
+        if (row.id == lastId + 1) {
+            lastId = row.id;
+        }
+    });
+    check dbClient.close();
+    if (e is error) {
+        return e;
+    }
+    return [count, lastId];
+}
+
+function testQueryMissingTable(string url, string user, string password) returns @tainted error? {
+    mockclient:Client dbClient = check new (url = url, user = user, password = password);
+    stream<record{}, error> streamData = dbClient->query("SELECT * FROM MissingTable");
+    record {|record {} value;|}|error? data = streamData.next();
+    check dbClient.close();
+    if (data is error) {
+        return data;
+    }
+    return ();
+}
@@ -0,0 +1,952 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.ballerinalang.net.grpc;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.WireFormat;
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.api.BMap;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.jvm.values.api.BValueCreator;
+import org.ballerinalang.net.grpc.exception.StatusRuntimeException;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Encodes and decodes the values of one field of a proto message.
+ * <p>
+ * A codec is built once per field, with the field name, the tag and the conversion of the value resolved from the
+ * field descriptor. Encoding and decoding a message then only dispatches on the codec of each field.
+ *
+ * @since 2.0.0
+ */
+abstract class FieldCodec {
+
+    /**
+     * Marks a field which is not set in the record of a message that is created without an input.
+     */
+    static final Object NO_DEFAULT = new Object();
+
+    private static final String GOOGLE_PROTOBUF_ANY_TYPE_URL = "google.protobuf.Any.type_url";
+    private static final int NO_TAG = -1;
+
+    private static final BArrayType stringArrayType = new BArrayType(BTypes.typeString);
+    private static final BArrayType booleanArrayType = new BArrayType(BTypes.typeBoolean);
+    private static final BArrayType intArrayType = new BArrayType(BTypes.typeInt);
+    private static final BArrayType floatArrayType = new BArrayType(BTypes.typeFloat);
+
+    final BString name;
+    final int number;
+    final int tag;
+    final int packedTag;
+    final boolean repeated;
+    final int tagSize;
+    private final Descriptors.FieldDescriptor.Type type;
+
+    FieldCodec(Descriptors.FieldDescriptor fieldDescriptor, boolean packable) {
+        this.name = StringUtils.fromString(fieldDescriptor.getName());
+        this.number = fieldDescriptor.getNumber();
+        this.type = fieldDescriptor.getType();
+        this.tag = (number << 3) | MessageUtils.getFieldWireType(type);
+        this.repeated = fieldDescriptor.isRepeated();
+        // Parsers have to accept both the packed and the unpacked encoding of repeated scalar fields.
+        this.packedTag = repeated && packable ? (number << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED : NO_TAG;
+        this.tagSize = CodedOutputStream.computeTagSize(number);
+    }
+
+    static FieldCodec create(Descriptors.FieldDescriptor fieldDescriptor) {
+        switch (fieldDescriptor.getType()) {
+            case DOUBLE:
+                return new DoubleCodec(fieldDescriptor);
+            case FLOAT:
+                return new FloatCodec(fieldDescriptor);
+            case INT64:
+                return new Int64Codec(fieldDescriptor);
+            case UINT64:
+                return new UInt64Codec(fieldDescriptor);
+            case INT32:
+                return new Int32Codec(fieldDescriptor);
+            case FIXED64:
+                return new Fixed64Codec(fieldDescriptor);
+            case FIXED32:
+                return new Fixed32Codec(fieldDescriptor);
+            case BOOL:
+                return new BoolCodec(fieldDescriptor);
+            case STRING:
+                return new StringCodec(fieldDescriptor);
+            case ENUM:
+                return new EnumCodec(fieldDescriptor);
+            case BYTES:
+                return new BytesCodec(fieldDescriptor);
+            case MESSAGE:
+                return new MessageFieldCodec(fieldDescriptor);
+            default:
+                return new UnsupportedCodec(fieldDescriptor);
+        }
+    }
+
+    /**
+     * Reads a value of this field and sets it in the record, or appends it if the field is repeated.
+     *
+     * @param input      input positioned after the tag of the field
+     * @param record     record of the enclosing message
+     * @param recordType type of the record
+     * @throws IOException if the value cannot be read
+     */
+    abstract void read(CodedInputStream input, BMap<BString, Object> record, BRecordType recordType)
+            throws IOException;
+
+    /**
+     * Reads a packed run of values of this repeated field and appends them to the record.
+     *
+     * @param input  input positioned after the tag of the field
+     * @param record record of the enclosing message
+     * @throws IOException if the values cannot be read
+     */
+    void readPacked(CodedInputStream input, BMap<BString, Object> record) throws IOException {
+        throw unsupportedType("Error while decoding request message. Field type is not supported : ");
+    }
+
+    /**
+     * Reads the value of a message which is represented by a single Ballerina value instead of a record.
+     *
+     * @param input input positioned after the tag of the field
+     * @return Ballerina value, or null if the field does not hold the value of the message
+     * @throws IOException if the value cannot be read
+     */
+    abstract Object readValue(CodedInputStream input) throws IOException;
+
+    /**
+     * Returns the value to set in the record of a message which is created without an input.
+     *
+     * @return default value, or {@link #NO_DEFAULT} if the field is not set
+     */
+    Object getDefaultValue() {
+        return NO_DEFAULT;
+    }
+
+    /**
+     * Returns the value of a message which is represented by a single Ballerina value and created without an input.
+     *
+     * @return default value
+     */
+    Object getDefaultWrappedValue() {
+        throw unsupportedType("Error while decoding request message. Field type is not supported : ");
+    }
+
+    /**
+     * Returns whether a message, which is represented by a single Ballerina value, is written as this field.
+     *
+     * @param bMessage Ballerina value of the message
+     * @return true if the value is written as this field
+     */
+    abstract boolean isWrappedValue(Object bMessage);
+
+    /**
+     * Computes the serialized size of the value of this field, including the tags.
+     *
+     * @param value Ballerina value of the field, or an array of them if the field is repeated
+     * @param sizes sizes of the nested messages, which are recorded in the order they are written
+     * @return serialized size
+     */
+    abstract int computeSize(Object value, MessageSizes sizes);
+
+    /**
+     * Writes the value of this field, including the tags.
+     *
+     * @param output output stream
+     * @param value  Ballerina value of the field, or an array of them if the field is repeated
+     * @param sizes  sizes of the nested messages, recorded by {@link #computeSize(Object, MessageSizes)}
+     * @throws IOException if the value cannot be written
+     */
+    abstract void write(CodedOutputStream output, Object value, MessageSizes sizes) throws IOException;
+
+    StatusRuntimeException unsupportedType(String message) {
+        return Status.Code.INTERNAL.toStatus().withDescription(message + type).asRuntimeException();
+    }
+
+    /**
+     * Base of the codecs of scalar fields, which are kept in typed arrays when repeated.
+     */
+    private abstract static class ScalarCodec extends FieldCodec {
+
+        private final BArrayType arrayType;
+
+        ScalarCodec(Descriptors.FieldDescriptor fieldDescriptor, BArrayType arrayType, boolean packable) {
+            super(fieldDescriptor, packable);
+            this.arrayType = arrayType;
+        }
+
+        @Override
+        void read(CodedInputStream input, BMap<BString, Object> record, BRecordType recordType) throws IOException {
+            if (repeated) {
+                append(getArray(record), input);
+            } else {
+                record.put(name, readValue(input));
+            }
+        }
+
+        @Override
+        void readPacked(CodedInputStream input, BMap<BString, Object> record) throws IOException {
+            ArrayValue array = getArray(record);
+            int oldLimit = input.pushLimit(input.readRawVarint32());
+            while (input.getBytesUntilLimit() > 0) {
+                append(array, input);
+            }
+            input.popLimit(oldLimit);
+        }
+
+        @Override
+        int computeSize(Object value, MessageSizes sizes) {
+            if (value instanceof ArrayValue) {
+                ArrayValue array = (ArrayValue) value;
+                int size = 0;
+                for (int i = 0; i < array.size(); i++) {
+                    size += elementSize(array, i);
+                }
+                return size;
+            }
+            return valueSize(value);
+        }
+
+        @Override
+        void write(CodedOutputStream output, Object value, MessageSizes sizes) throws IOException {
+            if (value instanceof ArrayValue) {
+                ArrayValue array = (ArrayValue) value;
+                for (int i = 0; i < array.size(); i++) {
+                    writeElement(output, array, i);
+                }
+            } else {
+                writeValue(output, value);
+            }
+        }
+
+        private ArrayValue getArray(BMap<BString, Object> record) {
+            Object array = record.get(name);
+            if (array == null) {
+                array = BValueCreator.createArrayValue(arrayType);
+                record.put(name, array);
+            }
+            return (ArrayValue) array;
+        }
+
+        abstract void append(ArrayValue array, CodedInputStream input) throws IOException;
+
+        abstract int valueSize(Object value);
+
+        abstract int elementSize(ArrayValue array, int index);
+
+        abstract void writeValue(CodedOutputStream output, Object value) throws IOException;
+
+        abstract void writeElement(CodedOutputStream output, ArrayValue array, int index) throws IOException;
+    }
+
+    private static final class DoubleCodec extends ScalarCodec {
+
+        DoubleCodec(Descriptors.FieldDescriptor fieldDescriptor) {
+            super(fieldDescriptor, floatArrayType, true);
+        }
+
+        @Override
+        Object readValue(CodedInputStream input) throws IOException {
+            return input.readDouble();
+        }
+
+        @Override
+        void append(ArrayValue array, CodedInputStream input) throws IOException {
+            array.add(array.size(), input.readDouble());
+        }
+
+        @Override
+        Object getDefaultWrappedValue() {
+            return (double) 0;
+        }
+
+        @Override
+        boolean isWrappedValue(Object bMessage) {
+            return bMessage instanceof Double;
+        }
+
+        @Override
+        int valueSize(Object value) {
+            return CodedOutputStream.computeDoubleSize(number, (double) value);
+        }
+
+        @Override
+        int elementSize(ArrayValue array, int index) {
+            return CodedOutputStream.computeDoubleSize(number, array.getFloat(index));
+        }
+
+        @Override
+        void writeValue(CodedOutputStream output, Object value) throws IOException {
+            output.writeDouble(number, (double) value);
+        }
+
+        @Override
+        void writeElement(CodedOutputStream output, ArrayValue array, int index) throws IOException {
+            output.writeDouble(number, array.getFloat(index));
+        }
+    }
+
+    private static final class FloatCodec extends ScalarCodec {
+
+        FloatCodec(Descriptors.FieldDescriptor fieldDescriptor) {
+            super(fieldDescriptor, floatArrayType, true);
+        }
+
+        @Override
+        Object readValue(CodedInputStream input) throws IOException {
+            return toDouble(input.readFloat());
+        }
+
+        @Override
+        void append(ArrayValue array, CodedInputStream input) throws IOException {
+            array.add(array.size(), toDouble(input.readFloat()));
+        }
+
+        @Override
+        Object getDefaultWrappedValue() {
+            return (double) 0;
+        }
+
+        @Override
+        boolean isWrappedValue(Object bMessage) {
+            return bMessage instanceof Double;
+        }
+
+        @Override
+        int valueSize(Object value) {
+            return CodedOutputStream.computeFloatSize(number, (float) (double) value);
+        }
+
+        @Override
+        int elementSize(ArrayValue array, int index) {
+            return CodedOutputStream.computeFloatSize(number, (float) array.getFloat(index));
+        }
+
+        @Override
+        void writeValue(CodedOutputStream output, Object value) throws IOException {
+            output.writeFloat(number, (float) (double) value);
+        }
+
+        @Override
+        void writeElement(CodedOutputStream output, ArrayValue array, int index) throws IOException {
+            output.writeFloat(number, (float) array.getFloat(index));
+        }
+
+        // Converted through the decimal form, so that a float such as 0.1 is read as the float value 0.1 rather than
+        // as the closest double to the binary value of the float.
+        private static double toDouble(float value) {
+            return Double.parseDouble(String.valueOf(value));
+        }
+    }
+
+    private static final class Int64Codec extends ScalarCodec {
+
+        Int64Codec(Descriptors.FieldDescriptor fieldDescriptor) {
+            super(fieldDescriptor, intArrayType, true);
+        }
+
+        @Override
+        Object readValue(CodedInputStream input) throws IOException {
+            return input.readInt64();
+        }
+
+        @Override
+        void append(ArrayValue array, CodedInputStream input) throws IOException {
+            array.add(array.size(), input.readInt64());
+        }
+
+        @Override
+        Object getDefaultWrappedValue() {
+            return (long) 0;
+        }
+
+        @Override
+        boolean isWrappedValue(Object bMessage) {
+            return bMessage instanceof Long;
+        }
+
+        @Override
+        int valueSize(Object value) {
+            return CodedOutputStream.computeInt64Size(number, (long) value);
+        }
+
+        @Override
+        int elementSize(ArrayValue array, int index) {
+            return CodedOutputStream.computeInt64Size(number, array.getInt(index));
+        }
+
+        @Override
+        void writeValue(CodedOutputStream output, Object value) throws IOException {
+            output.writeInt64(number, (long) value);
+        }
+
+        @Override
+        void writeElement(CodedOutputStream output, ArrayValue array, int index) throws IOException {
+            output.writeInt64(number, array.getInt(index));
+        }
+    }
+
+    private static final class UInt64Codec extends ScalarCodec {
+
+        UInt64Codec(Descriptors.FieldDescriptor fieldDescriptor) {
+            super(fieldDescriptor, intArrayType, true);
+        }
+
+        @Override
+        Object readValue(CodedInputStream input) throws IOException {
+            return input.readUInt64();
+        }
+
+        @Override
+        void append(ArrayValue array, CodedInputStream input) throws IOException {
+            array.add(array.size(), input.readUInt64());
+        }
+
+        @Override
+        Object getDefaultWrappedValue() {
+            return (long) 0;
+        }
+
+        @Override
+        boolean isWrappedValue(Object bMessage) {
+            return bMessage instanceof Long;
+        }
+
+        @Override
+        int valueSize(Object value) {
+            return CodedOutputStream.computeUInt64Size(number, (long) value);
+        }
+
+        @Override
+        int elementSize(ArrayValue array, int index) {
+            return CodedOutputStream.computeUInt64Size(number, array.getInt(index));
+        }
+
+        @Override
+        void writeValue(CodedOutputStream output, Object value) throws IOException {
+            output.writeUInt64(number, (long) value);
+        }
+
+        @Override
+        void writeElement(CodedOutputStream output, ArrayValue array, int index) throws IOException {
+            output.writeUInt64(number, array.getInt(index));
+        }
+    }
+
+    private static final class Int32Codec extends ScalarCodec {
+
+        Int32Codec(Descriptors.FieldDescriptor fieldDescriptor) {
+            super(fieldDescriptor, intArrayType, true);
+        }
+
+        @Override
+        Object readValue(CodedInputStream input) throws IOException {
+            return (long) input.readInt32();
+        }
+
+        @Override
+        void append(ArrayValue array, CodedInputStream input) throws IOException {
+            array.add(array.size(), (long) input.readInt32());
+        }
+
+        @Override
+        Object getDefaultWrappedValue() {
+            return (long) 0;
+        }
+
+        @Override
+        boolean isWrappedValue(Object bMessage) {
+            return bMessage instanceof Long;
+        }
+
+        @Override
+        int valueSize(Object value) {
+            return CodedOutputStream.computeInt32Size(number, getIntValue(value));
+        }
+
+        @Override
+        int elementSize(ArrayValue array, int index) {
+            return CodedOutputStream.computeInt32Size(number, (int) array.getInt(index));
+        }
+
+        @Override
+        void writeValue(CodedOutputStream output, Object value) throws IOException {
+            output.writeInt32(number, getIntValue(value));
+        }
+
+        @Override
+        void writeElement(CodedOutputStream output, ArrayValue array, int index) throws IOException {
+            output.writeInt32(number, (int) array.getInt(index));
+        }
+    }
+
+    private static final class Fixed64Codec extends ScalarCodec {
+
+        Fixed64Codec(Descriptors.FieldDescriptor fieldDescriptor) {
+            super(fieldDescriptor, intArrayType, true);
+        }
+
+        @Override
+        Object readValue(CodedInputStream input) throws IOException {
+            return input.readFixed64();
+        }
+
+        @Override
+        void append(ArrayValue array, CodedInputStream input) throws IOException {
+            array.add(array.size(), input.readFixed64());
+        }
+
+        @Override
+        Object getDefaultWrappedValue() {
+            return (long) 0;
+        }
+
+        @Override
+        boolean isWrappedValue(Object bMessage) {
+            return bMessage instanceof Long;
+        }
+
+        @Override
+        int valueSize(Object value) {
+            return CodedOutputStream.computeFixed64Size(number, (long) value);
+        }
+
+        @Override
+        int elementSize(ArrayValue array, int index) {
+            return CodedOutputStream.computeFixed64Size(number, array.getInt(index));
+        }
+
+        @Override
+        void writeValue(CodedOutputStream output, Object value) throws IOException {
+            output.writeFixed64(number, (long) value);
+        }
+
+        @Override
+        void writeElement(CodedOutputStream output, ArrayValue array, int index) throws IOException {
+            output.writeFixed64(number, array.getInt(index));
+        }
+    }
+
+    private static final class Fixed32Codec extends ScalarCodec {
+
+        Fixed32Codec(Descriptors.FieldDescriptor fieldDescriptor) {
+            super(fieldDescriptor, intArrayType, true);
+        }
+
+        @Override
+        Object readValue(CodedInputStream input) throws IOException {
+            return (long) input.readFixed32();
+        }
+
+        @Override
+        void append(ArrayValue array, CodedInputStream input) throws IOException {
+            array.add(array.size(), (long) input.readFixed32());
+        }
+
+        @Override
+        Object getDefaultWrappedValue() {
+            return (long) 0;
+        }
+
+        @Override
+        boolean isWrappedValue(Object bMessage) {
+            return bMessage instanceof Long;
+        }
+
+        @Override
+        int valueSize(Object value) {
+            return CodedOutputStream.computeFixed32Size(number, getIntValue(value));
+        }
+
+        @Override
+        int elementSize(ArrayValue array, int index) {
+            return CodedOutputStream.computeFixed32Size(number, (int) array.getInt(index));
+        }
+
+        @Override
+        void writeValue(CodedOutputStream output, Object value) throws IOException {
+            output.writeFixed32(number, getIntValue(value));
+        }
+
+        @Override
+        void writeElement(CodedOutputStream output, ArrayValue array, int index) throws IOException {
+            output.writeFixed32(number, (int) array.getInt(index));
+        }
+    }
+
+    private static final class BoolCodec extends ScalarCodec {
+
+        BoolCodec(Descriptors.FieldDescriptor fieldDescriptor) {
+            super(fieldDescriptor, booleanArrayType, true);
+        }
+
+        @Override
+        Object readValue(CodedInputStream input) throws IOException {
+            return input.readBool();
+        }
+
+        @Override
+        void append(ArrayValue array, CodedInputStream input) throws IOException {
+            array.add(array.size(), input.readBool());
+        }
+
+        @Override
+        Object getDefaultWrappedValue() {
+            return Boolean.FALSE;
+        }
+
+        @Override
+        boolean isWrappedValue(Object bMessage) {
+            return bMessage instanceof Boolean;
+        }
+
+        @Override
+        int valueSize(Object value) {
+            return CodedOutputStream.computeBoolSize(number, (boolean) value);
+        }
+
+        @Override
+        int elementSize(ArrayValue array, int index) {
+            return CodedOutputStream.computeBoolSize(number, array.getBoolean(index));
+        }
+
+        @Override
+        void writeValue(CodedOutputStream output, Object value) throws IOException {
+            output.writeBool(number, (boolean) value);
+        }
+
+        @Override
+        void writeElement(CodedOutputStream output, ArrayValue array, int index) throws IOException {
+            output.writeBool(number, array.getBoolean(index));
+        }
+    }
+
+    private static final class StringCodec extends ScalarCodec {
+
+        private final boolean isAnyTypeUrl;
+
+        StringCodec(Descriptors.FieldDescriptor fieldDescriptor) {
+            super(fieldDescriptor, stringArrayType, false);
+            this.isAnyTypeUrl = fieldDescriptor.getFullName().equals(GOOGLE_PROTOBUF_ANY_TYPE_URL);
+        }
+
+        @Override
+        void read(CodedInputStream input, BMap<BString, Object> record, BRecordType recordType) throws IOException {
+            if (repeated) {
+                super.read(input, record, recordType);
+            } else {
+                record.put(name, StringUtils.fromString(input.readStringRequireUtf8()));
+            }
+        }
+
+        @Override
+        Object readValue(CodedInputStream input) throws IOException {
+            String value = input.readStringRequireUtf8();
+            return isAnyTypeUrl ? null : StringUtils.fromString(value);
+        }
+
+        @Override
+        void append(ArrayValue array, CodedInputStream input) throws IOException {
+            array.add(array.size(), StringUtils.fromString(input.readStringRequireUtf8()));
+        }
+
+        @Override
+        Object getDefaultWrappedValue() {
+            return StringUtils.fromString("");
+        }
+
+        @Override
+        boolean isWrappedValue(Object bMessage) {
+            return bMessage instanceof BString && !isAnyTypeUrl;
+        }
+
+        @Override
+        int valueSize(Object value) {
+            return CodedOutputStream.computeStringSize(number, ((BString) value).getValue());
+        }
+
+        @Override
+        int elementSize(ArrayValue array, int index) {
+            return CodedOutputStream.computeStringSize(number, array.getBString(index).getValue());
+        }
+
+        @Override
+        void writeValue(CodedOutputStream output, Object value) throws IOException {
+            output.writeString(number, ((BString) value).getValue());
+        }
+
+        @Override
+        void writeElement(CodedOutputStream output, ArrayValue array, int index) throws IOException {
+            output.writeString(number, array.getBString(index).getValue());
+        }
+    }
+
+    private static final class EnumCodec extends ScalarCodec {
+
+        private final Map<Integer, BString> names = new HashMap<>();
+        private final Map<String, Integer> numbers = new HashMap<>();
+        private final BString defaultName;
+
+        EnumCodec(Descriptors.FieldDescriptor fieldDescriptor) {
+            super(fieldDescriptor, stringArrayType, true);
+            Descriptors.EnumDescriptor enumType = fieldDescriptor.getEnumType();
+            for (Descriptors.EnumValueDescriptor value : enumType.getValues()) {
+                // With aliases, a number is read as the first name declared for it.
+                names.putIfAbsent(value.getNumber(), StringUtils.fromString(value.toString()));
+                numbers.put(value.getName(), value.getNumber());
+            }
+            this.defaultName = names.get(0);
+        }
+
+        @Override
+        Object readValue(CodedInputStream input) throws IOException {
+            return getName(input.readEnum());
+        }
+
+        @Override
+        void append(ArrayValue array, CodedInputStream input) throws IOException {
+            array.add(array.size(), getName(input.readEnum()));
+        }
+
+        @Override
+        Object getDefaultValue() {
+            return repeated ? NO_DEFAULT : defaultName;
+        }
+
+        @Override
+        boolean isWrappedValue(Object bMessage) {
+            return false;
+        }
+
+        @Override
+        int valueSize(Object value) {
+            return CodedOutputStream.computeEnumSize(number, getNumber((BString) value));
+        }
+
+        @Override
+        int elementSize(ArrayValue array, int index) {
+            return CodedOutputStream.computeEnumSize(number, getNumber(array.getBString(index)));
+        }
+
+        @Override
+        void writeValue(CodedOutputStream output, Object value) throws IOException {
+            output.writeEnum(number, getNumber((BString) value));
+        }
+
+        @Override
+        void writeElement(CodedOutputStream output, ArrayValue array, int index) throws IOException {
+            output.writeEnum(number, getNumber(array.getBString(index)));
+        }
+
+        private BString getName(int enumNumber) {
+            BString enumName = names.get(enumNumber);
+            if (enumName == null) {
+                throw Status.Code.INTERNAL.toStatus().withDescription("Error while decoding request message. " +
+                        "Enum value is not defined : " + enumNumber).asRuntimeException();
+            }
+            return enumName;
+        }
+
+        private int getNumber(BString enumName) {
+            Integer enumNumber = numbers.get(enumName.getValue());
+            if (enumNumber == null) {
+                throw Status.Code.INTERNAL.toStatus().withDescription("Error while writing output stream. " +
+                        "Enum value is not defined : " + enumName.getValue()).asRuntimeException();
+            }
+            return enumNumber;
+        }
+    }
+
+    private static final class BytesCodec extends FieldCodec {
+
+        BytesCodec(Descriptors.FieldDescriptor fieldDescriptor) {
+            super(fieldDescriptor, false);
+        }
+
+        @Override
+        void read(CodedInputStream input, BMap<BString, Object> record, BRecordType recordType) throws IOException {
+            record.put(name, readValue(input));
+        }
+
+        @Override
+        Object readValue(CodedInputStream input) throws IOException {
+            return BValueCreator.createArrayValue(input.readByteArray());
+        }
+
+        @Override
+        boolean isWrappedValue(Object bMessage) {
+            return bMessage instanceof ArrayValue;
+        }
+
+        @Override
+        int computeSize(Object value, MessageSizes sizes) {
+            if (value instanceof ArrayValue) {
+                int length = ((ArrayValue) value).size();
+                return tagSize + CodedOutputStream.computeUInt32SizeNoTag(length) + length;
+            }
+            return 0;
+        }
+
+        @Override
+        void write(CodedOutputStream output, Object value, MessageSizes sizes) throws IOException {
+            if (value instanceof ArrayValue) {
+                output.writeByteArray(number, ((ArrayValue) value).getBytes());
+            }
+        }
+    }
+
+    private static final class MessageFieldCodec extends FieldCodec {
+
+        private final Descriptors.Descriptor messageType;
+        // Resolved on first use, as a message type may contain fields of its own type.
+        private MessageCodec codec;
+
+        MessageFieldCodec(Descriptors.FieldDescriptor fieldDescriptor) {
+            super(fieldDescriptor, false);
+            this.messageType = fieldDescriptor.getMessageType();
+        }
+
+        @Override
+        void read(CodedInputStream input, BMap<BString, Object> record, BRecordType recordType) throws IOException {
+            BType fieldType = recordType.getFields().get(name.getValue()).getFieldType();
+            int oldLimit = input.pushLimit(input.readRawVarint32());
+            if (repeated) {
+                ArrayValue array = (ArrayValue) record.get(name);
+                if (array == null || array.size() == 0) {
+                    array = (ArrayValue) BValueCreator.createArrayValue((BArrayType) fieldType);
+                    record.put(name, array);
+                }
+                array.add(array.size(), getCodec().decode(((BArrayType) fieldType).getElementType(), input));
+            } else {
+                record.put(name, getCodec().decode(fieldType, input));
+            }
+            input.popLimit(oldLimit);
+        }
+
+        @Override
+        Object readValue(CodedInputStream input) {
+            throw Status.Code.INTERNAL.toStatus().withDescription("Error while decoding request message. record " +
+                    "type is not supported : " + Descriptors.FieldDescriptor.Type.MESSAGE).asRuntimeException();
+        }
+
+        @Override
+        Object getDefaultValue() {
+            return repeated ? NO_DEFAULT : null;
+        }
+
+        @Override
+        boolean isWrappedValue(Object bMessage) {
+            return false;
+        }
+
+        @Override
+        int computeSize(Object value, MessageSizes sizes) {
+            if (value instanceof ArrayValue) {
+                ArrayValue array = (ArrayValue) value;
+                int size = 0;
+                for (int i = 0; i < array.size(); i++) {
+                    size += computeMessageSize(array.getRefValue(i), sizes);
+                }
+                return size;
+            }
+            return computeMessageSize(value, sizes);
+        }
+
+        @Override
+        void write(CodedOutputStream output, Object value, MessageSizes sizes) throws IOException {
+            if (value instanceof ArrayValue) {
+                ArrayValue array = (ArrayValue) value;
+                for (int i = 0; i < array.size(); i++) {
+                    writeMessage(output, array.getRefValue(i), sizes);
+                }
+            } else {
+                writeMessage(output, value, sizes);
+            }
+        }
+
+        private int computeMessageSize(Object message, MessageSizes sizes) {
+            int index = sizes.reserve();
+            int size = getCodec().computeSize(message, sizes);
+            sizes.set(index, size);
+            return tagSize + CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+        }
+
+        private void writeMessage(CodedOutputStream output, Object message, MessageSizes sizes) throws IOException {
+            output.writeTag(number, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            output.writeUInt32NoTag(sizes.next());
+            getCodec().writeTo(message, output, sizes);
+        }
+
+        private MessageCodec getCodec() {
+            MessageCodec messageCodec = codec;
+            if (messageCodec == null) {
+                messageCodec = MessageRegistry.getInstance().getMessageCodec(messageType);
+                codec = messageCodec;
+            }
+            return messageCodec;
+        }
+    }
+
+    private static final class UnsupportedCodec extends FieldCodec {
+
+        UnsupportedCodec(Descriptors.FieldDescriptor fieldDescriptor) {
+            super(fieldDescriptor, false);
+        }
+
+        @Override
+        void read(CodedInputStream input, BMap<BString, Object> record, BRecordType recordType) {
+            throw unsupportedType("Error while decoding request message. Field type is not supported : ");
+        }
+
+        @Override
+        Object readValue(CodedInputStream input) {
+            throw unsupportedType("Error while decoding request message. Field type is not supported : ");
+        }
+
+        @Override
+        boolean isWrappedValue(Object bMessage) {
+            return false;
+        }
+
+        @Override
+        int computeSize(Object value, MessageSizes sizes) {
+            throw unsupportedType("Error while calculating the serialized type. Field type is not supported : ");
+        }
+
+        @Override
+        void write(CodedOutputStream output, Object value, MessageSizes sizes) {
+            throw unsupportedType("Error while writing output stream. Field type is not supported : ");
+        }
+    }
+
+    private static int getIntValue(Object value) {
+        if (value instanceof Long) {
+            return ((Long) value).intValue();
+        }
+        return (int) value;
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.ballerinalang.net.grpc;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Descriptors;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.api.BMap;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.jvm.values.api.BValueCreator;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes and decodes the messages of one proto message type.
+ * <p>
+ * The codec is built once from the message descriptor, with a {@link FieldCodec} for each field, and is cached in the
+ * {@link MessageRegistry}. Encoding writes the fields of a record directly to the output, and decoding reads each
+ * field into the record by looking up its codec by field number.
+ *
+ * @since 2.0.0
+ */
+public class MessageCodec {
+
+    // Field numbers up to this are looked up in an array, the rest in a map.
+    private static final int MAX_INDEXED_FIELD_NUMBER = 256;
+
+    private final Descriptors.Descriptor descriptor;
+    private final FieldCodec[] fields;
+    private final FieldCodec[] fieldsByNumber;
+    private final Map<Integer, FieldCodec> fieldsByLargeNumber = new HashMap<>();
+
+    MessageCodec(Descriptors.Descriptor descriptor) {
+        this.descriptor = descriptor;
+        List<Descriptors.FieldDescriptor> fieldDescriptors = descriptor.getFields();
+        this.fields = new FieldCodec[fieldDescriptors.size()];
+        int maxIndexedNumber = 0;
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = FieldCodec.create(fieldDescriptors.get(i));
+            if (fields[i].number <= MAX_INDEXED_FIELD_NUMBER) {
+                maxIndexedNumber = Math.max(maxIndexedNumber, fields[i].number);
+            }
+        }
+        this.fieldsByNumber = new FieldCodec[maxIndexedNumber + 1];
+        for (FieldCodec field : fields) {
+            if (field.number <= MAX_INDEXED_FIELD_NUMBER) {
+                fieldsByNumber[field.number] = field;
+            } else {
+                fieldsByLargeNumber.put(field.number, field);
+            }
+        }
+    }
+
+    public Descriptors.Descriptor getDescriptor() {
+        return descriptor;
+    }
+
+    /**
+     * Decodes a message into a value of the given type.
+     *
+     * @param bType type of the message; a record type, or the type of the single value of a wrapper message
+     * @param input input limited to the message, or null to create the default value of the message
+     * @return Ballerina value of the message
+     * @throws IOException if the message cannot be read
+     */
+    Object decode(BType bType, CodedInputStream input) throws IOException {
+        BType messageType = getNonNullableType(bType);
+        if (messageType.getTag() == TypeTags.RECORD_TYPE_TAG) {
+            return decodeRecord((BRecordType) messageType, input);
+        }
+
+        Object bMessage = null;
+        if (input == null) {
+            // The value can only be assigned to one scalar field, so there should be one field here.
+            for (FieldCodec field : fields) {
+                bMessage = field.getDefaultWrappedValue();
+            }
+            return bMessage;
+        }
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            FieldCodec field = getField(tag >>> 3);
+            if (field != null && field.tag == tag) {
+                Object value = field.readValue(input);
+                if (value != null) {
+                    bMessage = value;
+                }
+            } else {
+                input.skipField(tag);
+            }
+        }
+        return bMessage;
+    }
+
+    private BMap<BString, Object> decodeRecord(BRecordType recordType, CodedInputStream input) throws IOException {
+        BMap<BString, Object> record = BValueCreator.createRecordValue(recordType.getPackage(), recordType.getName());
+        if (input == null) {
+            for (FieldCodec field : fields) {
+                Object defaultValue = field.getDefaultValue();
+                if (defaultValue != FieldCodec.NO_DEFAULT) {
+                    record.put(field.name, defaultValue);
+                }
+            }
+            return record;
+        }
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            FieldCodec field = getField(tag >>> 3);
+            if (field == null) {
+                input.skipField(tag);
+            } else if (field.tag == tag) {
+                field.read(input, record, recordType);
+            } else if (field.packedTag == tag) {
+                field.readPacked(input, record);
+            } else {
+                input.skipField(tag);
+            }
+        }
+        return record;
+    }
+
+    /**
+     * Computes the serialized size of a message.
+     *
+     * @param bMessage Ballerina value of the message
+     * @param sizes    sizes of the nested messages, which are recorded in the order they are written
+     * @return serialized size
+     */
+    @SuppressWarnings("unchecked")
+    int computeSize(Object bMessage, MessageSizes sizes) {
+        if (bMessage == null) {
+            return 0;
+        }
+        int size = 0;
+        if (bMessage instanceof MapValue) {
+            MapValue<BString, Object> record = (MapValue<BString, Object>) bMessage;
+            for (FieldCodec field : fields) {
+                Object value = record.get(field.name);
+                if (value != null || record.containsKey(field.name)) {
+                    size += field.computeSize(value, sizes);
+                }
+            }
+        } else {
+            for (FieldCodec field : fields) {
+                if (field.isWrappedValue(bMessage)) {
+                    size += field.computeSize(bMessage, sizes);
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Writes a message.
+     *
+     * @param bMessage Ballerina value of the message
+     * @param output   output stream
+     * @param sizes    sizes of the nested messages, recorded by {@link #computeSize(Object, MessageSizes)}
+     * @throws IOException if the message cannot be written
+     */
+    @SuppressWarnings("unchecked")
+    void writeTo(Object bMessage, CodedOutputStream output, MessageSizes sizes) throws IOException {
+        if (bMessage == null) {
+            return;
+        }
+        if (bMessage instanceof MapValue) {
+            MapValue<BString, Object> record = (MapValue<BString, Object>) bMessage;
+            for (FieldCodec field : fields) {
+                Object value = record.get(field.name);
+                if (value != null || record.containsKey(field.name)) {
+                    field.write(output, value, sizes);
+                }
+            }
+        } else {
+            for (FieldCodec field : fields) {
+                if (field.isWrappedValue(bMessage)) {
+                    field.write(output, bMessage, sizes);
+                }
+            }
+        }
+    }
+
+    private FieldCodec getField(int number) {
+        if (number < fieldsByNumber.length) {
+            return fieldsByNumber[number];
+        }
+        return fieldsByLargeNumber.get(number);
+    }
+
+    private static BType getNonNullableType(BType bType) {
+        if (!(bType instanceof BUnionType) || !((BUnionType) bType).isNullable()) {
+            return bType;
+        }
+        List<BType> memberTypes = ((BUnionType) bType).getMemberTypes();
+        if (memberTypes.size() != 2) {
+            throw Status.Code.INTERNAL.toStatus().withDescription("Error while decoding request " +
+                    "message. Field type is not a valid optional field type : " +
+                    bType.getName()).asRuntimeException();
+        }
+        for (BType memberType : memberTypes) {
+            if (memberType.getTag() != TypeTags.NULL_TAG) {
+                return memberType;
+            }
+        }
+        return bType;
+    }
+}
@@ -20,16 +20,18 @@ import com.google.protobuf.Descriptors;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Proto Message Registry.
- * Contains message descriptor against message name.
+ * Contains message descriptor against message name, and the codec built for each message descriptor.
  *
  * @since 1.0.0
  */
 public class MessageRegistry {
 
     private Map<String, Descriptors.Descriptor> messageDescriptors = new HashMap<>();
+    private Map<Descriptors.Descriptor, MessageCodec> messageCodecs = new ConcurrentHashMap<>();
 
     private static volatile MessageRegistry messageRegistry = new MessageRegistry();
 
@@ -47,6 +49,21 @@ public class MessageRegistry {
         return messageDescriptors.get(messageName);
     }
 
+    /**
+     * Returns the codec of a message type, building it on first use.
+     *
+     * @param messageDescriptor descriptor of the message type
+     * @return message codec
+     */
+    public MessageCodec getMessageCodec(Descriptors.Descriptor messageDescriptor) {
+        MessageCodec messageCodec = messageCodecs.get(messageDescriptor);
+        if (messageCodec == null) {
+            // Codecs of nested message types are resolved lazily, so building one never re-enters this map.
+            messageCodec = messageCodecs.computeIfAbsent(messageDescriptor, MessageCodec::new);
+        }
+        return messageCodec;
+    }
+
     public Map<String, Descriptors.Descriptor> getMessageDescriptorMap() {
         return Collections.unmodifiableMap(messageDescriptors);
     }
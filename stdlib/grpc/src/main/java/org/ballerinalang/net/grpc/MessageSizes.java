@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.ballerinalang.net.grpc;
+
+import java.util.Arrays;
+
+/**
+ * Serialized sizes of the nested messages of a message, in the order in which they are written.
+ * <p>
+ * The length of a nested message is written before its content, so the size is needed both when the size of the
+ * enclosing message is computed and when it is written. Recording each size once, in the same depth first order the
+ * writer visits the nested messages, avoids computing it again at every enclosing level.
+ *
+ * @since 2.0.0
+ */
+class MessageSizes {
+
+    private int[] sizes;
+    private int count;
+    private int position;
+
+    /**
+     * Reserves a slot for the size of a nested message, before the sizes of the messages nested in it are computed.
+     *
+     * @return index of the slot
+     */
+    int reserve() {
+        if (sizes == null) {
+            sizes = new int[8];
+        } else if (count == sizes.length) {
+            sizes = Arrays.copyOf(sizes, count * 2);
+        }
+        return count++;
+    }
+
+    void set(int index, int size) {
+        sizes[index] = size;
+    }
+
+    /**
+     * Returns the size of the next nested message to be written.
+     *
+     * @return serialized size
+     */
+    int next() {
+        return sizes[position++];
+    }
+
+    void rewind() {
+        position = 0;
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.net.grpc;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.DescriptorProtos;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.StringValue;
+import com.google.protobuf.UnknownFieldSet;
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.ValueCreator;
+import org.ballerinalang.jvm.values.api.BString;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test class for the message codecs.
+ *
+ * @since 2.0.0
+ */
+public class MessageCodecTest {
+
+    private static final BPackage TEST_PACKAGE = new BPackage("grpctest", "codec", "1.0.0");
+
+    private final Map<String, BRecordType> recordTypes = new HashMap<>();
+    private Descriptors.FileDescriptor fileDescriptor;
+
+    @BeforeClass
+    public void setup() throws Descriptors.DescriptorValidationException {
+        fileDescriptor = Descriptors.FileDescriptor.buildFrom(
+                DescriptorProtos.FileDescriptorProto.newBuilder().setName("codec.proto").setSyntax("proto3")
+                        .addEnumType(DescriptorProtos.EnumDescriptorProto.newBuilder().setName("Color")
+                                .addValue(enumValue("RED", 0))
+                                .addValue(enumValue("GREEN", 1))
+                                .addValue(enumValue("BLUE", 2)))
+                        .addMessageType(DescriptorProtos.DescriptorProto.newBuilder().setName("Numbers")
+                                .addField(repeated(field("ints", 1,
+                                        DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64)))
+                                .addField(repeated(field("values", 2,
+                                        DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE)))
+                                .addField(field("small", 3, DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32))
+                                .addField(field("fixed", 4, DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED32))
+                                .addField(repeated(field("colors", 5,
+                                        DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM).setTypeName(".Color"))))
+                        .addMessageType(DescriptorProtos.DescriptorProto.newBuilder().setName("Node")
+                                .addField(field("name", 1, DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING))
+                                .addField(field("child", 2, DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE)
+                                        .setTypeName(".Node"))
+                                .addField(repeated(field("children", 3,
+                                        DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE).setTypeName(".Node"))))
+                        .build(), new Descriptors.FileDescriptor[0]);
+
+        BRecordType numbersType = new BRecordType("Numbers", TEST_PACKAGE, 0, true, 0);
+        Map<String, BField> numbersFields = new LinkedHashMap<>();
+        numbersFields.put("ints", new BField(new BArrayType(BTypes.typeInt), "ints", 0));
+        numbersFields.put("values", new BField(new BArrayType(BTypes.typeFloat), "values", 0));
+        numbersFields.put("small", new BField(BTypes.typeInt, "small", 0));
+        numbersFields.put("fixed", new BField(BTypes.typeInt, "fixed", 0));
+        numbersFields.put("colors", new BField(new BArrayType(BTypes.typeString), "colors", 0));
+        numbersType.setFields(numbersFields);
+        recordTypes.put(numbersType.getName(), numbersType);
+
+        BRecordType nodeType = new BRecordType("Node", TEST_PACKAGE, 0, true, 0);
+        Map<String, BField> nodeFields = new LinkedHashMap<>();
+        nodeFields.put("name", new BField(BTypes.typeString, "name", 0));
+        nodeFields.put("child", new BField(new BUnionType(Arrays.asList(nodeType, BTypes.typeNull)), "child", 0));
+        nodeFields.put("children", new BField(new BArrayType(nodeType), "children", 0));
+        nodeType.setFields(nodeFields);
+        recordTypes.put(nodeType.getName(), nodeType);
+
+        ValueCreator.addValueCreator(TEST_PACKAGE.getOrg(), TEST_PACKAGE.getName(), TEST_PACKAGE.getVersion(),
+                new ValueCreator() {
+                    @Override
+                    public MapValue<BString, Object> createRecordValue(String recordTypeName) {
+                        return new MapValueImpl<>(recordTypes.get(recordTypeName));
+                    }
+
+                    @Override
+                    public ObjectValue createObjectValue(String objectTypeName, Scheduler scheduler, Strand parent,
+                                                         Map<String, Object> properties, Object[] args) {
+                        throw new UnsupportedOperationException();
+                    }
+                });
+    }
+
+    @Test(description = "Test case for encoding a record with nested and repeated fields")
+    public void testEncodeRecord() throws Exception {
+        Descriptors.FileDescriptor fileDescriptor = Descriptors.FileDescriptor.buildFrom(
+                DescriptorProtos.FileDescriptorProto.newBuilder().setName("order.proto").setSyntax("proto3")
+                        .addMessageType(DescriptorProtos.DescriptorProto.newBuilder().setName("Item")
+                                .addField(field("id", 1, DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64))
+                                .addField(field("price", 2, DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE)))
+                        .addMessageType(DescriptorProtos.DescriptorProto.newBuilder().setName("Order")
+                                .addField(field("name", 1, DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING))
+                                .addField(field("tags", 2, DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING)
+                                        .setLabel(DescriptorProtos.FieldDescriptorProto.Label.LABEL_REPEATED))
+                                .addField(field("items", 3, DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE)
+                                        .setLabel(DescriptorProtos.FieldDescriptorProto.Label.LABEL_REPEATED)
+                                        .setTypeName(".Item"))
+                                .addField(field("main", 4, DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE)
+                                        .setTypeName(".Item")))
+                        .build(), new Descriptors.FileDescriptor[0]);
+        Descriptors.Descriptor orderDescriptor = fileDescriptor.findMessageTypeByName("Order");
+
+        MapValueImpl<BString, Object> order = new MapValueImpl<>();
+        order.put(StringUtils.fromString("name"), StringUtils.fromString("order"));
+        order.put(StringUtils.fromString("tags"), new ArrayValueImpl(new BString[]{StringUtils.fromString("a"),
+                StringUtils.fromString("b")}));
+        order.put(StringUtils.fromString("items"), new ArrayValueImpl(new Object[]{item(1, 1.5), item(2, 2.5)},
+                new BArrayType(BTypes.typeAnydata)));
+        order.put(StringUtils.fromString("main"), item(3, 0));
+
+        Message message = new Message(orderDescriptor, order);
+        byte[] bytes = message.toByteArray();
+        Assert.assertEquals(message.getSerializedSize(), bytes.length);
+
+        DynamicMessage parsed = DynamicMessage.parseFrom(orderDescriptor, bytes);
+        Assert.assertEquals(parsed.getField(orderDescriptor.findFieldByName("name")), "order");
+        Assert.assertEquals(parsed.getRepeatedFieldCount(orderDescriptor.findFieldByName("tags")), 2);
+        List<?> items = (List<?>) parsed.getField(orderDescriptor.findFieldByName("items"));
+        Assert.assertEquals(items.size(), 2);
+        Descriptors.Descriptor itemDescriptor = fileDescriptor.findMessageTypeByName("Item");
+        DynamicMessage secondItem = (DynamicMessage) items.get(1);
+        Assert.assertEquals(secondItem.getField(itemDescriptor.findFieldByName("id")), 2L);
+        Assert.assertEquals(secondItem.getField(itemDescriptor.findFieldByName("price")), 2.5);
+        DynamicMessage main = (DynamicMessage) parsed.getField(orderDescriptor.findFieldByName("main"));
+        Assert.assertEquals(main.getField(itemDescriptor.findFieldByName("id")), 3L);
+        Assert.assertEquals(main.getField(itemDescriptor.findFieldByName("price")), 0.0);
+    }
+
+    @Test(description = "Test case for decoding a wrapper message with unknown fields")
+    public void testDecodeWrapperMessage() throws Exception {
+        MessageCodec codec = MessageRegistry.getInstance().getMessageCodec(StringValue.getDescriptor());
+        Assert.assertSame(MessageRegistry.getInstance().getMessageCodec(StringValue.getDescriptor()), codec);
+
+        byte[] bytes = StringValue.newBuilder().setValue("hello")
+                .setUnknownFields(UnknownFieldSet.newBuilder()
+                        .addField(5, UnknownFieldSet.Field.newBuilder().addVarint(7).build()).build())
+                .build().toByteArray();
+        Object value = codec.decode(BTypes.typeString, CodedInputStream.newInstance(bytes));
+        Assert.assertEquals(((BString) value).getValue(), "hello");
+        Assert.assertEquals(((BString) codec.decode(BTypes.typeString, null)).getValue(), "");
+
+        Message message = new Message(StringValue.getDescriptor(), value);
+        Assert.assertEquals(StringValue.parseFrom(message.toByteArray()).getValue(), "hello");
+    }
+
+    @Test(description = "Test case for decoding packed repeated scalar fields")
+    public void testDecodePackedRepeatedScalars() throws Exception {
+        Descriptors.Descriptor descriptor = fileDescriptor.findMessageTypeByName("Numbers");
+        // Repeated scalar fields of proto3 messages are packed by default.
+        byte[] bytes = DynamicMessage.newBuilder(descriptor)
+                .addRepeatedField(descriptor.findFieldByName("ints"), 1L)
+                .addRepeatedField(descriptor.findFieldByName("ints"), 300L)
+                .addRepeatedField(descriptor.findFieldByName("values"), 1.5)
+                .addRepeatedField(descriptor.findFieldByName("values"), -2.5)
+                .build().toByteArray();
+
+        MapValue<BString, Object> numbers = decodeRecord(descriptor, bytes);
+        ArrayValue ints = (ArrayValue) numbers.get(StringUtils.fromString("ints"));
+        Assert.assertEquals(ints.size(), 2);
+        Assert.assertEquals(ints.getInt(0), 1L);
+        Assert.assertEquals(ints.getInt(1), 300L);
+        ArrayValue values = (ArrayValue) numbers.get(StringUtils.fromString("values"));
+        Assert.assertEquals(values.size(), 2);
+        Assert.assertEquals(values.getFloat(0), 1.5);
+        Assert.assertEquals(values.getFloat(1), -2.5);
+    }
+
+    @Test(description = "Test case for decoding int32 and fixed32 fields as int")
+    public void testDecodeInt32AndFixed32() throws Exception {
+        Descriptors.Descriptor descriptor = fileDescriptor.findMessageTypeByName("Numbers");
+        byte[] bytes = DynamicMessage.newBuilder(descriptor)
+                .setField(descriptor.findFieldByName("small"), -5)
+                .setField(descriptor.findFieldByName("fixed"), 70000)
+                .build().toByteArray();
+
+        MapValue<BString, Object> numbers = decodeRecord(descriptor, bytes);
+        Assert.assertEquals(numbers.get(StringUtils.fromString("small")), -5L);
+        Assert.assertEquals(numbers.get(StringUtils.fromString("fixed")), 70000L);
+    }
+
+    @Test(description = "Test case for skipping unknown fields of a record message")
+    public void testDecodeRecordWithUnknownFields() throws Exception {
+        Descriptors.Descriptor descriptor = fileDescriptor.findMessageTypeByName("Numbers");
+        byte[] bytes = DynamicMessage.newBuilder(descriptor)
+                .setField(descriptor.findFieldByName("small"), 7)
+                .setUnknownFields(UnknownFieldSet.newBuilder()
+                        .addField(15, UnknownFieldSet.Field.newBuilder().addVarint(42).build())
+                        .addField(300, UnknownFieldSet.Field.newBuilder()
+                                .addLengthDelimited(ByteString.copyFromUtf8("skipped")).build())
+                        .addField(16, UnknownFieldSet.Field.newBuilder().addFixed64(9L).build())
+                        .build())
+                .build().toByteArray();
+
+        MapValue<BString, Object> numbers = decodeRecord(descriptor, bytes);
+        Assert.assertEquals(numbers.get(StringUtils.fromString("small")), 7L);
+        Assert.assertEquals(numbers.size(), 1);
+    }
+
+    @Test(description = "Test case for encoding and decoding repeated enum fields")
+    public void testRepeatedEnums() throws Exception {
+        Descriptors.Descriptor descriptor = fileDescriptor.findMessageTypeByName("Numbers");
+        MapValueImpl<BString, Object> numbers = new MapValueImpl<>();
+        numbers.put(StringUtils.fromString("colors"), new ArrayValueImpl(new BString[]{
+                StringUtils.fromString("GREEN"), StringUtils.fromString("RED"), StringUtils.fromString("BLUE")}));
+        byte[] bytes = new Message(descriptor, numbers).toByteArray();
+
+        DynamicMessage parsed = DynamicMessage.parseFrom(descriptor, bytes);
+        Descriptors.FieldDescriptor colorsField = descriptor.findFieldByName("colors");
+        Assert.assertEquals(parsed.getRepeatedFieldCount(colorsField), 3);
+        Assert.assertEquals(((Descriptors.EnumValueDescriptor) parsed.getRepeatedField(colorsField, 2)).getName(),
+                "BLUE");
+
+        ArrayValue colors = (ArrayValue) decodeRecord(descriptor, bytes).get(StringUtils.fromString("colors"));
+        Assert.assertEquals(colors.size(), 3);
+        Assert.assertEquals(colors.getBString(0).getValue(), "GREEN");
+        Assert.assertEquals(colors.getBString(1).getValue(), "RED");
+        Assert.assertEquals(colors.getBString(2).getValue(), "BLUE");
+    }
+
+    @Test(description = "Test case for encoding and decoding a self-recursive message type")
+    public void testSelfRecursiveMessage() throws Exception {
+        Descriptors.Descriptor descriptor = fileDescriptor.findMessageTypeByName("Node");
+        MapValueImpl<BString, Object> leaf = node("leaf");
+        MapValueImpl<BString, Object> second = node("second");
+        second.put(StringUtils.fromString("child"), leaf);
+        MapValueImpl<BString, Object> root = node("root");
+        root.put(StringUtils.fromString("child"), node("child"));
+        root.put(StringUtils.fromString("children"), new ArrayValueImpl(new Object[]{node("first"), second},
+                new BArrayType(recordTypes.get("Node"))));
+        Message message = new Message(descriptor, root);
+        byte[] bytes = message.toByteArray();
+        Assert.assertEquals(message.getSerializedSize(), bytes.length);
+
+        DynamicMessage parsed = DynamicMessage.parseFrom(descriptor, bytes);
+        DynamicMessage parsedSecond = (DynamicMessage) parsed.getRepeatedField(
+                descriptor.findFieldByName("children"), 1);
+        DynamicMessage parsedLeaf = (DynamicMessage) parsedSecond.getField(descriptor.findFieldByName("child"));
+        Assert.assertEquals(parsedLeaf.getField(descriptor.findFieldByName("name")), "leaf");
+
+        MapValue<BString, Object> decoded = decodeRecord(descriptor, bytes);
+        Assert.assertEquals(getName(decoded.get(StringUtils.fromString("child"))), "child");
+        ArrayValue children = (ArrayValue) decoded.get(StringUtils.fromString("children"));
+        Assert.assertEquals(children.size(), 2);
+        Assert.assertEquals(getName(children.getRefValue(0)), "first");
+        MapValue<?, ?> decodedSecond = (MapValue<?, ?>) children.getRefValue(1);
+        Assert.assertEquals(getName(decodedSecond.get(StringUtils.fromString("child"))), "leaf");
+    }
+
+    @SuppressWarnings("unchecked")
+    private MapValue<BString, Object> decodeRecord(Descriptors.Descriptor descriptor, byte[] bytes)
+            throws IOException {
+        BType recordType = recordTypes.get(descriptor.getName());
+        return (MapValue<BString, Object>) MessageRegistry.getInstance().getMessageCodec(descriptor)
+                .decode(recordType, CodedInputStream.newInstance(bytes));
+    }
+
+    private static String getName(Object node) {
+        return ((BString) ((MapValue<?, ?>) node).get(StringUtils.fromString("name"))).getValue();
+    }
+
+    private static MapValueImpl<BString, Object> node(String name) {
+        MapValueImpl<BString, Object> node = new MapValueImpl<>();
+        node.put(StringUtils.fromString("name"), StringUtils.fromString(name));
+        return node;
+    }
+
+    private static DescriptorProtos.EnumValueDescriptorProto.Builder enumValue(String name, int number) {
+        return DescriptorProtos.EnumValueDescriptorProto.newBuilder().setName(name).setNumber(number);
+    }
+
+    private static DescriptorProtos.FieldDescriptorProto.Builder repeated(
+            DescriptorProtos.FieldDescriptorProto.Builder field) {
+        return field.setLabel(DescriptorProtos.FieldDescriptorProto.Label.LABEL_REPEATED);
+    }
+
+    private static DescriptorProtos.FieldDescriptorProto.Builder field(String name, int number,
+                                                                        DescriptorProtos.FieldDescriptorProto.Type
+                                                                                type) {
+        return DescriptorProtos.FieldDescriptorProto.newBuilder().setName(name).setNumber(number).setType(type)
+                .setLabel(DescriptorProtos.FieldDescriptorProto.Label.LABEL_OPTIONAL);
+    }
+
+    private static MapValueImpl<BString, Object> item(long id, double price) {
+        MapValueImpl<BString, Object> item = new MapValueImpl<>();
+        item.put(StringUtils.fromString("id"), id);
+        item.put(StringUtils.fromString("price"), price);
+        return item;
+    }
+}
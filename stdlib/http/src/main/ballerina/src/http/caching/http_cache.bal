@@ -27,7 +27,7 @@ import ballerina/log;
 # + isShared - Specifies whether the HTTP caching layer should behave as a public cache or a private cache
 public type HttpCache object {
 
-    public cache:Cache cache;
+    public cache:AbstractCache cache;
     public CachingPolicy policy = CACHE_CONTROL_AND_VALIDATORS;
     public boolean isShared = false;
 
@@ -35,11 +35,10 @@ public type HttpCache object {
     #
     # + cacheConfig - The configurations for the HTTP cache
     public function __init(CacheConfig cacheConfig) {
-        cache:CacheConfig config = {
-            capacity: cacheConfig.capacity,
-            evictionFactor: cacheConfig.evictionFactor
+        cache:ConcurrentCacheConfig config = {
+            capacity: cacheConfig.capacity
         };
-        self.cache = new cache:Cache(config);
+        self.cache = new cache:ConcurrentCache(config);
         self.policy = cacheConfig.policy;
         self.isShared = cacheConfig.isShared;
     }
@@ -98,13 +97,16 @@ public type HttpCache object {
         return self.cache.hasKey(key);
     }
 
-    function get(string key) returns Response {
-        Response[] cacheEntry = <Response[]> self.cache.get(key);
-        return cacheEntry[cacheEntry.length() - 1];
+    function get(string key) returns Response? {
+        var cacheEntry = self.cache.get(key);
+        if (cacheEntry is Response[] && cacheEntry.length() > 0) {
+            return cacheEntry[cacheEntry.length() - 1];
+        }
+        return ();
     }
 
     function getAll(string key) returns Response[]|() {
-        var cacheEntry = trap <Response[]> self.cache.get(key);
+        var cacheEntry = self.cache.get(key);
         if (cacheEntry is Response[]) {
             return cacheEntry;
         }
@@ -170,9 +172,10 @@ function isCacheableStatusCode(int statusCode) returns boolean {
            statusCode == STATUS_NOT_IMPLEMENTED;
 }
 
-function addEntry(cache:Cache cache, string key, Response inboundResponse) {
-    if (cache.hasKey(key)) {
-        Response[] existingResponses = <Response[]>cache.get(key);
+function addEntry(cache:AbstractCache cache, string key, Response inboundResponse) {
+    // The entry may get evicted or expire concurrently, hence the result of `get` is checked instead of `hasKey`.
+    var existingResponses = cache.get(key);
+    if (existingResponses is Response[]) {
         existingResponses[existingResponses.length()] = inboundResponse;
     } else {
         Response[] cachedResponses = [inboundResponse];
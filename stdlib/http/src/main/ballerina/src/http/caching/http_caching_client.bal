@@ -55,7 +55,8 @@ public const RFC_7234 = "RFC_7234";
 # + isShared - Specifies whether the HTTP caching layer should behave as a public cache or a private cache
 # + capacity - The capacity of the cache
 # + evictionFactor - The fraction of entries to be removed when the cache is full. The value should be
-#                    between 0 (exclusive) and 1 (inclusive).
+#                    between 0 (exclusive) and 1 (inclusive). This is no longer used since the HTTP cache evicts the
+#                    least recently used entries one at a time.
 # + policy - Gives the user some control over the caching behaviour. By default, this is set to
 #            `CACHE_CONTROL_AND_VALIDATORS`. The default behaviour is to allow caching only when the `cache-control`
 #            header and either the `etag` or `last-modified` header are present.
@@ -333,8 +334,9 @@ function getCachedResponse(HttpCache cache, HttpClient httpClient, @tainted Requ
     time:Time currentT = time:currentTime();
     req.parseCacheControlHeader();
 
-    if (cache.hasKey(getCacheKey(httpMethod, path))) {
-        Response cachedResponse = cache.get(getCacheKey(httpMethod, path));
+    // The entry may get evicted or expire concurrently, hence the result of `get` is checked instead of `hasKey`.
+    Response? cachedResponse = cache.get(getCacheKey(httpMethod, path));
+    if (cachedResponse is Response) {
         // Based on https://tools.ietf.org/html/rfc7234#section-4
         log:printDebug(function() returns string {
             return "Cached response found for: '" + httpMethod + " " + path + "'";
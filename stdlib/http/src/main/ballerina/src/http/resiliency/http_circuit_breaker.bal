@@ -14,6 +14,7 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/java;
 import ballerina/log;
 import ballerina/time;
 
@@ -37,16 +38,17 @@ public const CB_HALF_OPEN_STATE = "HALF_OPEN";
 # will trip and move to the `OPEN` state.
 public const CB_CLOSED_STATE = "CLOSED";
 
-# Maintains the health of the Circuit Breaker.
+# Maintains the health of the Circuit Breaker. The request counts of the `RollingWindow` are kept natively, in
+# striped counters which are updated without locking.
 #
 # + lastRequestSuccess - Whether last request is success or not
 # + totalRequestCount - Total request count received within the `RollingWindow`
-# + lastUsedBucketId - ID of the last bucket used in Circuit Breaker calculations
+# + lastUsedBucketId - Deprecated and always `0`. The buckets of the `RollingWindow` are kept natively
 # + startTime - Circuit Breaker start time
 # + lastRequestTime - The time that the last request received
 # + lastErrorTime - The time that the last error occurred
 # + lastForcedOpenTime - The time that circuit forcefully opened at last
-# + totalBuckets - The discrete time buckets into which the time window is divided
+# + totalBuckets - Deprecated and always empty. The buckets of the `RollingWindow` are kept natively
 public type CircuitHealth record {|
     boolean lastRequestSuccess = false;
     int totalRequestCount = 0;
@@ -150,6 +152,8 @@ public type CircuitBreakerClient client object {
         self.circuitBreakerInferredConfig = circuitBreakerInferredConfig;
         self.httpClient = httpClient;
         self.circuitHealth = circuitHealth;
+        externInitCircuitHealth(circuitHealth, circuitHealth.startTime.time, rollingWindow.timeWindowInMillis,
+                                rollingWindow.bucketSizeInMillis);
     }
 
     # The POST remote function implementation of the Circuit Breaker. This wraps the `CircuitBreakerClient.post()`
@@ -442,47 +446,39 @@ public type CircuitBreakerClient client object {
 # + return - State of the circuit
 function updateCircuitState(CircuitHealth circuitHealth, CircuitState currentStateValue,
                             CircuitBreakerInferredConfig circuitBreakerInferredConfig) returns CircuitState {
-    lock {
-        CircuitState currentState = currentStateValue;
-        prepareRollingWindow(circuitHealth, circuitBreakerInferredConfig);
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        updateLastUsedBucketId(currentBucketId, circuitHealth);
-        circuitHealth.lastRequestTime = time:currentTime();
-        int totalRequestsCount = getTotalRequestsCount(circuitHealth);
-        circuitHealth.totalRequestCount = totalRequestsCount;
-        if (totalRequestsCount >= circuitBreakerInferredConfig.rollingWindow.requestVolumeThreshold) {
-            if (currentState == CB_OPEN_STATE) {
-                currentState = switchCircuitStateOpenToHalfOpenOnResetTime(circuitBreakerInferredConfig,
-                                                                                    circuitHealth, currentState);
-            } else if (currentState == CB_HALF_OPEN_STATE) {
-                if (!circuitHealth.lastRequestSuccess) {
-                    // If the trial run has failed, trip the circuit again
-                    currentState = CB_OPEN_STATE;
-                    log:printInfo("CircuitBreaker trial run has failed. Circuit switched from HALF_OPEN to OPEN state.")
-                    ;
-                } else {
-                    // If the trial run was successful reset the circuit
-                    currentState = CB_CLOSED_STATE;
-                    log:printInfo(
-                        "CircuitBreaker trial run  was successful. Circuit switched from HALF_OPEN to CLOSE state.");
-                }
+    CircuitState currentState = currentStateValue;
+    circuitHealth.lastRequestTime = time:currentTime();
+    int totalRequestsCount = externGetTotalRequestsCount(circuitHealth);
+    circuitHealth.totalRequestCount = totalRequestsCount;
+    if (totalRequestsCount >= circuitBreakerInferredConfig.rollingWindow.requestVolumeThreshold) {
+        if (currentState == CB_OPEN_STATE) {
+            currentState = switchCircuitStateOpenToHalfOpenOnResetTime(circuitBreakerInferredConfig,
+                                                                                circuitHealth, currentState);
+        } else if (currentState == CB_HALF_OPEN_STATE) {
+            if (!circuitHealth.lastRequestSuccess) {
+                // If the trial run has failed, trip the circuit again
+                currentState = CB_OPEN_STATE;
+                log:printInfo("CircuitBreaker trial run has failed. Circuit switched from HALF_OPEN to OPEN state.");
             } else {
-                float currentFailureRate = getCurrentFailureRatio(circuitHealth);
-
-                if (currentFailureRate > circuitBreakerInferredConfig.failureThreshold) {
-                    currentState = CB_OPEN_STATE;
-                    log:printInfo("CircuitBreaker failure threshold exceeded. Circuit tripped from CLOSE to OPEN state."
-                    );
-                }
+                // If the trial run was successful reset the circuit
+                currentState = CB_CLOSED_STATE;
+                log:printInfo(
+                    "CircuitBreaker trial run  was successful. Circuit switched from HALF_OPEN to CLOSE state.");
             }
         } else {
-            currentState = switchCircuitStateOpenToHalfOpenOnResetTime(circuitBreakerInferredConfig,
-                                                                                    circuitHealth, currentState);
+            float currentFailureRate = externGetCurrentFailureRatio(circuitHealth);
+
+            if (currentFailureRate > circuitBreakerInferredConfig.failureThreshold) {
+                currentState = CB_OPEN_STATE;
+                log:printInfo("CircuitBreaker failure threshold exceeded. Circuit tripped from CLOSE to OPEN state.");
+            }
         }
-        Bucket bucket = <Bucket> circuitHealth.totalBuckets[currentBucketId];
-        bucket.totalCount += 1;
-        return currentState;
+    } else {
+        currentState = switchCircuitStateOpenToHalfOpenOnResetTime(circuitBreakerInferredConfig,
+                                                                                circuitHealth, currentState);
     }
+    externRecordRequest(circuitHealth);
+    return currentState;
 }
 
 function updateCircuitHealthAndRespond(Response|ClientError serviceResponse, CircuitHealth circuitHealth,
@@ -501,41 +497,14 @@ function updateCircuitHealthAndRespond(Response|ClientError serviceResponse, Cir
 
 function updateCircuitHealthFailure(CircuitHealth circuitHealth,
                                     CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-    lock {
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        circuitHealth.lastRequestSuccess = false;
-        updateLastUsedBucketId(currentBucketId, circuitHealth);
-        Bucket bucket = <Bucket> circuitHealth.totalBuckets[currentBucketId];
-        bucket.failureCount += 1;
-        time:Time lastUpdated = time:currentTime();
-        circuitHealth.lastErrorTime = lastUpdated;
-        Bucket?[] buckets = circuitHealth.totalBuckets;
-        if (buckets is Bucket[]) {
-            //TODO:Get this verified
-            time:Time? lastUpdatedTime = buckets[currentBucketId]?.lastUpdatedTime;
-            if (lastUpdatedTime is time:Time) {
-                lastUpdatedTime = lastUpdated;
-            }
-        }
-    }
+    circuitHealth.lastRequestSuccess = false;
+    circuitHealth.lastErrorTime = time:currentTime();
+    externRecordFailure(circuitHealth);
 }
 
 function updateCircuitHealthSuccess(CircuitHealth circuitHealth,
                                     CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-    lock {
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        time:Time lastUpdated = time:currentTime();
-        updateLastUsedBucketId(currentBucketId, circuitHealth);
-        circuitHealth.lastRequestSuccess = true;
-        Bucket?[] buckets = circuitHealth.totalBuckets;
-        if (buckets is Bucket[]) {
-            //TODO:Get this verified
-            time:Time? lastUpdatedTime = buckets[currentBucketId]?.lastUpdatedTime;
-            if (lastUpdatedTime is time:Time) {
-                lastUpdatedTime = lastUpdated;
-            }
-        }
-    }
+    circuitHealth.lastRequestSuccess = true;
 }
 
 // Handles open circuit state.
@@ -544,7 +513,7 @@ function handleOpenCircuit(CircuitHealth circuitHealth, CircuitBreakerInferredCo
     time:Time effectiveErrorTime = getEffectiveErrorTime(circuitHealth);
     int timeDif = time:currentTime().time - effectiveErrorTime.time;
     int timeRemaining = circuitBreakerInferredConfig.resetTimeInMillis - timeDif;
-    updateRejectedRequestCount(circuitHealth, circuitBreakerInferredConfig);
+    externRecordRejection(circuitHealth);
     string errorMessage = "Upstream service unavailable. Requests to upstream service will be suspended for "
         + timeRemaining.toString() + " milliseconds.";
     UpstreamServiceUnavailableError httpConnectorErr = error(UPSTREAM_SERVICE_UNAVAILABLE, message = errorMessage);
@@ -562,76 +531,6 @@ function validateCircuitBreakerConfiguration(CircuitBreakerConfig circuitBreaker
     }
 }
 
-# Calculates a failure at a given point.
-#
-# + circuitHealth - Circuit Breaker health status
-# + return - Current failure ratio
-function getCurrentFailureRatio(CircuitHealth circuitHealth) returns float {
-    int totalCount = 0;
-    int totalFailures = 0;
-
-    foreach var optBucket in circuitHealth.totalBuckets {
-        var bucket = <Bucket>optBucket;
-        totalCount =  totalCount + bucket.failureCount +
-                                        (bucket.totalCount - (bucket.failureCount + bucket.rejectedCount));
-        totalFailures = totalFailures + bucket.failureCount;
-    }
-    float ratio = 0.0;
-    if (totalCount > 0) {
-        ratio = <float> totalFailures / totalCount;
-    }
-    return ratio;
-}
-
-# Calculates the total requests count within a `RollingWindow`.
-#
-# + circuitHealth - Circuit Breaker health status
-# + return - Total requests count
-function getTotalRequestsCount(CircuitHealth circuitHealth) returns int {
-    int totalCount = 0;
-
-    foreach var bucket in circuitHealth.totalBuckets {
-        Bucket temp = <Bucket>bucket;
-        totalCount  =  totalCount + temp.totalCount;
-    }
-    return totalCount;
-}
-
-# Calculates the current bucket ID.
-#
-# + circuitHealth - Circuit Breaker health status
-# + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
-# + return - Current bucket id
-function getCurrentBucketId(CircuitHealth circuitHealth, CircuitBreakerInferredConfig circuitBreakerInferredConfig)
-             returns int {
-    int elapsedTime = (time:currentTime().time - circuitHealth.startTime.time) % circuitBreakerInferredConfig.
-        rollingWindow.timeWindowInMillis;
-    int currentBucketId = ((elapsedTime / circuitBreakerInferredConfig.rollingWindow.bucketSizeInMillis) + 1)
-        % circuitBreakerInferredConfig.noOfBuckets;
-    return currentBucketId;
-}
-
-# Updates the rejected requests count.
-#
-# + circuitHealth - Circuit Breaker health status
-# + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
-function updateRejectedRequestCount(CircuitHealth circuitHealth,
-                                                CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-
-    int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-    updateLastUsedBucketId(currentBucketId, circuitHealth);
-    Bucket bucket = <Bucket>circuitHealth.totalBuckets[currentBucketId];
-    bucket.rejectedCount += 1;
-}
-
-# Resets the bucket values to the default ones.
-#
-# + circuitHealth - - Circuit Breaker health status.
-# + bucketId - - Id of the bucket should reset.
-function resetBucketStats(CircuitHealth circuitHealth, int bucketId) {
-    circuitHealth.totalBuckets[bucketId] = {};
-}
-
 function getEffectiveErrorTime(CircuitHealth circuitHealth) returns time:Time {
     time:Time? lastErrorTime = circuitHealth?.lastErrorTime;
     time:Time? lastForcedOpenTime = circuitHealth?.lastForcedOpenTime;
@@ -643,79 +542,6 @@ function getEffectiveErrorTime(CircuitHealth circuitHealth) returns time:Time {
     return time:currentTime();
 }
 
-# Populates the `RollingWindow` statistics to handle circuit breaking within the `RollingWindow` time frame.
-#
-# + circuitHealth - Circuit Breaker health status
-# + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
-function prepareRollingWindow(CircuitHealth circuitHealth, CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-
-    int currentTime = time:currentTime().time;
-    time:Time? lastRequestTime = circuitHealth?.lastRequestTime;
-    //TODO:Get this logic verified
-    int idleTime = 0;
-    if (lastRequestTime is time:Time) {
-        idleTime = currentTime - lastRequestTime.time;
-    }
-    RollingWindow rollingWindow = circuitBreakerInferredConfig.rollingWindow;
-    // If the time duration between two requests greater than timeWindowInMillis values, reset the buckets to default.
-    if (idleTime > rollingWindow.timeWindowInMillis) {
-        reInitializeBuckets(circuitHealth);
-    } else {
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        int lastUsedBucketId = circuitHealth.lastUsedBucketId;
-        // Check whether subsequent requests received within same bucket(sub time window). If the idle time is greater
-        // than bucketSizeInMillis means subsequent calls are received time exceeding the rolling window. if we need to
-        // reset the buckets to default.
-        if (currentBucketId == circuitHealth.lastUsedBucketId && idleTime > rollingWindow.bucketSizeInMillis) {
-            reInitializeBuckets(circuitHealth);
-        // If the current bucket (sub time window) is less than last updated bucket. Stats of the current bucket to
-        // zeroth bucket and Last bucket to last used bucket needs to be reset to default.
-        } else if (currentBucketId < lastUsedBucketId) {
-            int index = currentBucketId;
-            while (index >= 0) {
-                resetBucketStats(circuitHealth, index);
-                index -= 1;
-            }
-            int lastIndex = (circuitHealth.totalBuckets.length()) - 1;
-            while (lastIndex > currentBucketId) {
-                resetBucketStats(circuitHealth, lastIndex);
-                lastIndex -= 1;
-            }
-        } else {
-            // If the current bucket (sub time window) is greater than last updated bucket. Stats of current bucket to
-            // last used bucket needs to be reset without resetting last used bucket stat.
-            while (currentBucketId > lastUsedBucketId && idleTime > rollingWindow.bucketSizeInMillis) {
-                resetBucketStats(circuitHealth, currentBucketId);
-                currentBucketId -= 1;
-            }
-        }
-    }
-}
-
-# Reinitializes the Buckets to the default state.
-#
-# + circuitHealth - Circuit Breaker health status
-function reInitializeBuckets(CircuitHealth circuitHealth) {
-    Bucket?[] bucketArray = [];
-    int bucketIndex = 0;
-    while (bucketIndex < circuitHealth.totalBuckets.length()) {
-        bucketArray[bucketIndex] = {};
-        bucketIndex += 1;
-    }
-    circuitHealth.totalBuckets = bucketArray;
-}
-
-# Updates the `lastUsedBucketId` in `CircuitHealth`.
-#
-# + bucketId - Possition of the currrently used bucket
-# + circuitHealth - Circuit Breaker health status
-function updateLastUsedBucketId(int bucketId, CircuitHealth circuitHealth) {
-    if (bucketId != circuitHealth.lastUsedBucketId) {
-        resetBucketStats(circuitHealth, bucketId);
-        circuitHealth.lastUsedBucketId = bucketId;
-    }
-}
-
 # Switches circuit state from open to half open state when reset time exceeded.
 #
 # + circuitBreakerInferredConfig -  Configurations derived from `CircuitBreakerConfig`
@@ -735,3 +561,34 @@ function switchCircuitStateOpenToHalfOpenOnResetTime(CircuitBreakerInferredConfi
     }
     return currentCircuitState;
 }
+
+function externInitCircuitHealth(CircuitHealth circuitHealth, int startTime, int timeWindowInMillis,
+                                 int bucketSizeInMillis) = @java:Method {
+    class: "org.ballerinalang.net.http.resiliency.ExternCircuitBreaker",
+    name: "initCircuitHealth"
+} external;
+
+function externGetTotalRequestsCount(CircuitHealth circuitHealth) returns int = @java:Method {
+    class: "org.ballerinalang.net.http.resiliency.ExternCircuitBreaker",
+    name: "getTotalRequestCount"
+} external;
+
+function externGetCurrentFailureRatio(CircuitHealth circuitHealth) returns float = @java:Method {
+    class: "org.ballerinalang.net.http.resiliency.ExternCircuitBreaker",
+    name: "getFailureRatio"
+} external;
+
+function externRecordRequest(CircuitHealth circuitHealth) = @java:Method {
+    class: "org.ballerinalang.net.http.resiliency.ExternCircuitBreaker",
+    name: "recordRequest"
+} external;
+
+function externRecordFailure(CircuitHealth circuitHealth) = @java:Method {
+    class: "org.ballerinalang.net.http.resiliency.ExternCircuitBreaker",
+    name: "recordFailure"
+} external;
+
+function externRecordRejection(CircuitHealth circuitHealth) = @java:Method {
+    class: "org.ballerinalang.net.http.resiliency.ExternCircuitBreaker",
+    name: "recordRejection"
+} external;
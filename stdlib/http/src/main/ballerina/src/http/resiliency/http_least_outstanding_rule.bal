@@ -0,0 +1,69 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/java;
+
+# Implementation of the least outstanding requests load balancing strategy. The client with the fewest requests in
+# flight is chosen, which favours the clients that respond faster. The request counts are kept natively and updated
+# without locking.
+public type LoadBalancerLeastOutstandingRule object {
+
+    public function __init() {
+        externInitLeastOutstandingRule(self);
+    }
+
+    # Provides an HTTP client, which has the fewest outstanding requests. A request is counted against the chosen
+    # client until it is released with `releaseClient()`.
+    #
+    # + loadBalanceCallerActionsArray - Array of HTTP clients, which needs to be load balanced
+    # + return - Chosen `http:Client` from the algorithm or else an `http:ClientError` for a failure in
+    #            the algorithm implementation
+    public function getNextClient(Client?[] loadBalanceCallerActionsArray) returns Client|ClientError {
+        int nextIndex = externAcquireLeastOutstanding(self, loadBalanceCallerActionsArray.length());
+        return <Client>loadBalanceCallerActionsArray[nextIndex];
+    }
+
+    # Marks a request sent through a client, which was chosen by `getNextClient()`, as completed.
+    #
+    # + loadBalanceCallerActionsArray - Array of HTTP clients, which are load balanced
+    # + httpClient - The client through which the request was sent
+    public function releaseClient(Client?[] loadBalanceCallerActionsArray, Client httpClient) {
+        int index = 0;
+        foreach var lbClient in loadBalanceCallerActionsArray {
+            if (lbClient === httpClient) {
+                externReleaseLeastOutstanding(self, index);
+                return;
+            }
+            index += 1;
+        }
+    }
+};
+
+function externInitLeastOutstandingRule(LoadBalancerLeastOutstandingRule lbRule) = @java:Method {
+    class: "org.ballerinalang.net.http.resiliency.ExternLoadBalancer",
+    name: "initLeastOutstandingRule"
+} external;
+
+function externAcquireLeastOutstanding(LoadBalancerLeastOutstandingRule lbRule, int noOfClients) returns int =
+@java:Method {
+    class: "org.ballerinalang.net.http.resiliency.ExternLoadBalancer",
+    name: "acquireLeastOutstanding"
+} external;
+
+function externReleaseLeastOutstanding(LoadBalancerLeastOutstandingRule lbRule, int index) = @java:Method {
+    class: "org.ballerinalang.net.http.resiliency.ExternLoadBalancer",
+    name: "releaseLeastOutstanding"
+} external;
@@ -14,7 +14,10 @@
 // specific language governing permissions and limitations
 // under the License.
 
-# Implementation of round robin load balancing strategy.
+import ballerina/java;
+
+# Implementation of round robin load balancing strategy. The index is read and advanced natively in a single step,
+# so that concurrent requests do not contend on a lock.
 #
 # + index - Keep tracks the current point of the Client[]
 public type LoadBalancerRoundRobinRule object {
@@ -27,16 +30,12 @@ public type LoadBalancerRoundRobinRule object {
     # + return - Chosen `http:Client` from the algorithm or else an `http:ClientError` for a failure in
     #            the algorithm implementation
     public function getNextClient(Client?[] loadBalanceCallerActionsArray) returns Client|ClientError {
-        Client httpClient = <Client>loadBalanceCallerActionsArray[self.index];
-        lock {
-            if (self.index == ((loadBalanceCallerActionsArray.length()) - 1)) {
-                httpClient = <Client>loadBalanceCallerActionsArray[self.index];
-                self.index = 0;
-            } else {
-                httpClient = <Client>loadBalanceCallerActionsArray[self.index];
-                self.index += 1;
-            }
-        }
-        return httpClient;
+        int nextIndex = externNextRoundRobinIndex(self, loadBalanceCallerActionsArray.length());
+        return <Client>loadBalanceCallerActionsArray[nextIndex];
     }
 };
+
+function externNextRoundRobinIndex(LoadBalancerRoundRobinRule lbRule, int noOfClients) returns int = @java:Method {
+    class: "org.ballerinalang.net.http.resiliency.ExternLoadBalancer",
+    name: "nextRoundRobinIndex"
+} external;
@@ -0,0 +1,67 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/java;
+
+# Implementation of the weighted round robin load balancing strategy. Clients are chosen in proportion to their
+# weights, interleaved so that a heavier client does not receive a run of consecutive requests. The order is computed
+# once and the position in it is advanced natively without locking.
+#
+# + weights - The weight of each client, in the order of the load balance targets
+public type LoadBalancerWeightedRule object {
+
+    public int[] weights;
+
+    # Creates a weighted round robin rule. Weights which add up to more than 16384, once divided by their greatest
+    # common divisor, are scaled down proportionally.
+    #
+    # + weights - The weight of each client, in the order of the load balance targets. Weights should not be
+    #             negative and at least one of them should be positive.
+    public function __init(int[] weights) {
+        self.weights = weights.clone();
+        ClientError? err = externInitWeightedRule(self, self.weights);
+        if (err is ClientError) {
+            panic err;
+        }
+    }
+
+    # Provides an HTTP client, which is chosen according to the weighted round robin algorithm.
+    #
+    # + loadBalanceCallerActionsArray - Array of HTTP clients, which needs to be load balanced
+    # + return - Chosen `http:Client` from the algorithm or else an `http:ClientError` if the number of
+    #            weights does not match the number of clients
+    public function getNextClient(Client?[] loadBalanceCallerActionsArray) returns Client|ClientError {
+        if (self.weights.length() != loadBalanceCallerActionsArray.length()) {
+            string message = "Load balancer weights do not match the clients. Expected "
+                + loadBalanceCallerActionsArray.length().toString() + " weights, found "
+                + self.weights.length().toString();
+            GenericClientError err = error(GENERIC_CLIENT_ERROR, message = message);
+            return err;
+        }
+        return <Client>loadBalanceCallerActionsArray[externNextWeightedIndex(self)];
+    }
+};
+
+function externInitWeightedRule(LoadBalancerWeightedRule lbRule, int[] weights) returns ClientError? =
+@java:Method {
+    class: "org.ballerinalang.net.http.resiliency.ExternLoadBalancer",
+    name: "initWeightedRule"
+} external;
+
+function externNextWeightedIndex(LoadBalancerWeightedRule lbRule) returns int = @java:Method {
+    class: "org.ballerinalang.net.http.resiliency.ExternLoadBalancer",
+    name: "nextWeightedIndex"
+} external;
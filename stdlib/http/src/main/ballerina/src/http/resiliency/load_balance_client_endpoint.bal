@@ -260,10 +260,15 @@ function performLoadBalanceAction(LoadBalanceClient lb, string path, Request req
         var loadBalanceClient = lb.lbRule.getNextClient(lb.loadBalanceClientsArray);
         if (loadBalanceClient is Client) {
             var serviceResponse = invokeEndpoint(path, request, requestAction, loadBalanceClient);
+            if (serviceResponse is HttpFuture) {
+                // The request is still in flight, so it is counted against the client until its response arrives.
+                var futureResponse = loadBalanceClient->getResponse(serviceResponse);
+                releaseLoadBalancedClient(lb, loadBalanceClient);
+                return getInvalidTypeError();
+            }
+            releaseLoadBalancedClient(lb, loadBalanceClient);
             if (serviceResponse is Response) {
                 return serviceResponse;
-            } else if (serviceResponse is HttpFuture) {
-                return getInvalidTypeError();
             } else {
                 if (lb.failover) {
                     loadBalancerInRequest = check createFailoverRequest(loadBalancerInRequest, requestEntity);
@@ -281,6 +286,14 @@ function performLoadBalanceAction(LoadBalanceClient lb, string path, Request req
     return populateGenericLoadBalanceActionError(loadBalanceActionErrorData);
 }
 
+// Marks the request sent through the given client as completed, for the rules which track in-flight requests.
+function releaseLoadBalancedClient(LoadBalanceClient lb, Client loadBalanceClient) {
+    LoadBalancerRule lbRule = lb.lbRule;
+    if (lbRule is LoadBalancerLeastOutstandingRule) {
+        lbRule.releaseClient(lb.loadBalanceClientsArray, loadBalanceClient);
+    }
+}
+
 // Populates generic error specific to Load Balance connector by including all the errors returned from endpoints.
 function populateGenericLoadBalanceActionError(LoadBalanceActionErrorData loadBalanceActionErrorData)
                                                     returns ClientError {
@@ -322,7 +335,7 @@ function populateGenericLoadBalanceActionError(LoadBalanceActionErrorData loadBa
 # | cookieConfig - Copied from CommonClientConfiguration    |
 #
 # + targets - The upstream HTTP endpoints among which the incoming HTTP traffic load should be distributed
-# + lbRule - LoadBalancing rule
+# + lbRule - LoadBalancing rule. Round robin is used if a rule is not given
 # + failover - Configuration for load balancer whether to fail over in case of a failure
 public type LoadBalanceClientConfiguration record {|
     *CommonClientConfiguration;
@@ -390,6 +390,11 @@ public class HttpConstants {
     public static final int POOL_CONFIG_INDEX = 1;
     public static final BString USER_DEFINED_POOL_CONFIG = StringUtils.fromString("poolConfig");
 
+    //Resiliency native data
+    public static final String CIRCUIT_HEALTH = "CircuitHealth";
+    public static final String LOAD_BALANCER_STATE = "LoadBalancerState";
+    public static final BString ROUND_ROBIN_INDEX = StringUtils.fromString("index");
+
     //FollowRedirect field names
     public static final String FOLLOW_REDIRECT_STRUCT_REFERENCE = "followRedirects";
     public static final String FOLLOW_REDIRECT_ENABLED = "enabled";
@@ -257,7 +257,8 @@ public class HttpDispatcher {
     }
 
     private static Object getRecordEntity(ObjectValue inRequestEntity, BType entityBodyType) {
-        Object result = getRecord(entityBodyType, getBJsonValue(inRequestEntity));
+        Object result = EntityBodyHandler.constructJsonDataSource(inRequestEntity, entityBodyType,
+                                                                  HttpDispatcher::getRecord);
         if (result instanceof ErrorValue) {
             throw (ErrorValue) result;
         }
@@ -280,18 +281,6 @@ public class HttpDispatcher {
         }
     }
 
-    /**
-     * Given an inbound request entity construct the ballerina json.
-     *
-     * @param inRequestEntity Represents inbound request entity
-     * @return a ballerina json value
-     */
-    private static Object getBJsonValue(ObjectValue inRequestEntity) {
-        Object bjson = EntityBodyHandler.constructJsonDataSource(inRequestEntity);
-        EntityBodyHandler.addJsonMessageDataSource(inRequestEntity, bjson);
-        return bjson;
-    }
-
     public static boolean shouldDiffer(HttpResource httpResource) {
         return (httpResource != null && httpResource.getSignatureParams().getEntityBody() != null);
     }
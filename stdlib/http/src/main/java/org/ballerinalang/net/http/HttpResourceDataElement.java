@@ -167,24 +167,31 @@ public class HttpResourceDataElement implements DataElement<HttpResource, HttpCa
     }
 
     private void validateConsumes(HttpResource resource, HttpCarbonMessage cMsg) {
-        String contentMediaType = extractContentMediaType(cMsg.getHeader(HttpHeaderNames.CONTENT_TYPE.toString()));
+        if (isConsumable(resource, cMsg)) {
+            return;
+        }
+        cMsg.setHttpStatusCode(415);
+        throw new BallerinaException();
+    }
+
+    static boolean isConsumable(HttpResource resource, HttpCarbonMessage cMsg) {
         List<String> consumesList = resource.getConsumes();
 
         if (consumesList == null) {
-            return;
+            return true;
         }
+        String contentMediaType = extractContentMediaType(cMsg.getHeader(HttpHeaderNames.CONTENT_TYPE.toString()));
         //when Content-Type header is not set, treat it as "application/octet-stream"
         contentMediaType = (contentMediaType != null ? contentMediaType : HttpConstants.VALUE_ATTRIBUTE);
         for (String consumeType : consumesList) {
             if (contentMediaType.equalsIgnoreCase(consumeType.trim())) {
-                return;
+                return true;
             }
         }
-        cMsg.setHttpStatusCode(415);
-        throw new BallerinaException();
+        return false;
     }
 
-    private String extractContentMediaType(String header) {
+    private static String extractContentMediaType(String header) {
         if (header == null) {
             return null;
         }
@@ -195,15 +202,22 @@ public class HttpResourceDataElement implements DataElement<HttpResource, HttpCa
     }
 
     private void validateProduces(HttpResource resource, HttpCarbonMessage cMsg) {
-        List<String> acceptMediaTypes = extractAcceptMediaTypes(cMsg.getHeader(HttpHeaderNames.ACCEPT.toString()));
-        List<String> producesList = resource.getProduces();
-
-        if (producesList == null || acceptMediaTypes == null) {
+        if (isProducible(resource, cMsg)) {
             return;
         }
+        cMsg.setHttpStatusCode(406);
+        throw new BallerinaException();
+    }
+
+    static boolean isProducible(HttpResource resource, HttpCarbonMessage cMsg) {
+        List<String> producesList = resource.getProduces();
+        if (producesList == null) {
+            return true;
+        }
+        List<String> acceptMediaTypes = extractAcceptMediaTypes(cMsg.getHeader(HttpHeaderNames.ACCEPT.toString()));
         //If Accept header field is not present, then it is assumed that the client accepts all media types.
-        if (acceptMediaTypes.contains("*/*")) {
-            return;
+        if (acceptMediaTypes == null || acceptMediaTypes.contains("*/*")) {
+            return true;
         }
         if (acceptMediaTypes.stream().anyMatch(mediaType -> mediaType.contains("/*"))) {
             List<String> subTypeWildCardMediaTypes = acceptMediaTypes.stream()
@@ -212,7 +226,7 @@ public class HttpResourceDataElement implements DataElement<HttpResource, HttpCa
                     .collect(Collectors.toList());
             for (String token : resource.getProducesSubTypes()) {
                 if (subTypeWildCardMediaTypes.contains(token)) {
-                    return;
+                    return true;
                 }
             }
         }
@@ -220,14 +234,13 @@ public class HttpResourceDataElement implements DataElement<HttpResource, HttpCa
                 .filter(mediaType -> !mediaType.contains("/*")).collect(Collectors.toList());
         for (String produceType : producesList) {
             if (noWildCardMediaTypes.stream().anyMatch(produceType::equalsIgnoreCase)) {
-                return;
+                return true;
             }
         }
-        cMsg.setHttpStatusCode(406);
-        throw new BallerinaException();
+        return false;
     }
 
-    private List<String> extractAcceptMediaTypes(String header) {
+    private static List<String> extractAcceptMediaTypes(String header) {
         if (header == null) {
             return null;
         }
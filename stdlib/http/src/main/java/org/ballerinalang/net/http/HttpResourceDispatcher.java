@@ -36,6 +36,14 @@ public class HttpResourceDispatcher {
         String method = inboundRequest.getHttpMethod();
         String subPath = (String) inboundRequest.getProperty(HttpConstants.SUB_PATH);
         subPath = sanitizeSubPath(subPath);
+        HttpResourceTrie resourceTrie = service.getResourceTrie();
+        if (resourceTrie != null) {
+            HttpResource resource = resourceTrie.dispatch(subPath, inboundRequest);
+            if (resource != null) {
+                inboundRequest.setProperty(HttpConstants.RESOURCES_CORS, resource.getCorsHeaders());
+                return resource;
+            }
+        }
         HttpResourceArguments resourceArgumentValues = new HttpResourceArguments();
         try {
             HttpResource resource = service.getUriTemplate().matches(subPath, resourceArgumentValues, inboundRequest);
@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http;
+
+import org.wso2.transport.http.netty.message.HttpCarbonMessage;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Precompiled resource dispatch table of a HTTP service.
+ * <p>
+ * Resource paths are compiled once at service registration into a trie keyed by literal path segments, with at most
+ * one path param slot per node and a method table at each node that ends a resource path. A request is walked
+ * segment by segment, preferring the literal child over the path param slot, which is the same order the
+ * {@link org.ballerinalang.net.uri.URITemplate} tree uses.
+ * <p>
+ * The trie only answers requests it can resolve exactly as the template tree would. Services using wildcards, dot
+ * suffix expressions or other template features are not compiled at all, and any request the trie cannot resolve
+ * definitively (unknown path, method or media type mismatch, ambiguous backtracking) falls back to the template tree,
+ * which also produces the relevant error response.
+ *
+ * @since 2.0.0
+ */
+public class HttpResourceTrie {
+
+    private static final int MISS = 0;
+    private static final int HIT = 1;
+    private static final int ABORT = 2;
+    private static final String[] NO_VALUES = new String[0];
+
+    private final TrieNode root = new TrieNode(null);
+    private int maxParamCount;
+
+    private HttpResourceTrie() {
+    }
+
+    /**
+     * Compiles the given resources into a dispatch trie.
+     *
+     * @param resources resources of the service
+     * @return the compiled trie or null if any of the resource paths cannot be represented by the trie
+     */
+    public static HttpResourceTrie build(List<HttpResource> resources) {
+        HttpResourceTrie trie = new HttpResourceTrie();
+        for (HttpResource resource : resources) {
+            if (!trie.add(resource)) {
+                return null;
+            }
+        }
+        if (!trie.root.freeze(new String[0][], new HashSet<>())) {
+            return null;
+        }
+        return trie;
+    }
+
+    /**
+     * Finds the resource for the given request sub path. When a resource is found the resolved path params are set
+     * to the inbound message.
+     *
+     * @param subPath        sanitized request sub path
+     * @param inboundMessage inbound request
+     * @return the matching resource or null if the request should be dispatched by the template tree
+     */
+    public HttpResource dispatch(String subPath, HttpCarbonMessage inboundMessage) {
+        if (subPath.isEmpty() || subPath.charAt(0) != '/') {
+            return null;
+        }
+        Cursor cursor = new Cursor(subPath, inboundMessage,
+                                   maxParamCount == 0 ? NO_VALUES : new String[maxParamCount]);
+        if (walk(root, cursor, 1, 0) != HIT) {
+            return null;
+        }
+        HttpResourceArguments arguments = new HttpResourceArguments();
+        String[][] paramNames = cursor.leaf.paramNames;
+        try {
+            for (int i = 0; i < paramNames.length; i++) {
+                String value = decode(cursor.values[i]);
+                for (String name : paramNames[i]) {
+                    arguments.getMap().put(name, value);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // Let the template tree report the malformed path param.
+            return null;
+        }
+        inboundMessage.setProperty(HttpConstants.RESOURCE_ARGS, arguments);
+        return cursor.resource;
+    }
+
+    private boolean add(HttpResource resource) {
+        String path = resource.getPath();
+        TrieNode node = root;
+        if (!"/".equals(path)) {
+            if (path.startsWith("*")) {
+                return false;
+            }
+            int start = path.startsWith("/") ? 1 : 0;
+            int end = path.endsWith("/") ? path.length() - 1 : path.length();
+            if (start >= end) {
+                return false;
+            }
+            int paramCount = 0;
+            for (String segment : path.substring(start, end).split("/", -1)) {
+                if (segment.isEmpty() || segment.indexOf('*') >= 0) {
+                    return false;
+                }
+                String paramName = getParamName(segment);
+                if (paramName != null) {
+                    if (node.param == null) {
+                        node.param = new TrieNode(new LinkedHashSet<>());
+                    }
+                    node.param.names.add(paramName);
+                    node = node.param;
+                    paramCount++;
+                } else if (segment.indexOf('{') >= 0 || segment.indexOf('}') >= 0) {
+                    return false;
+                } else {
+                    node = node.literals.computeIfAbsent(segment, key -> new TrieNode(null));
+                }
+            }
+            maxParamCount = Math.max(maxParamCount, paramCount);
+        }
+        return node.addResource(resource);
+    }
+
+    private static String getParamName(String segment) {
+        int length = segment.length();
+        if (length < 3 || segment.charAt(0) != '{' || segment.charAt(length - 1) != '}') {
+            return null;
+        }
+        for (int i = 1; i < length - 1; i++) {
+            char ch = segment.charAt(i);
+            // Multi variable expressions and prefix modifiers are left to the template tree.
+            if (!((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || (ch >= '0' && ch <= '9') || ch == '.'
+                    || ch == '-' || ch == '_')) {
+                return null;
+            }
+        }
+        return segment.substring(1, length - 1);
+    }
+
+    private static int walk(TrieNode node, Cursor cursor, int from, int paramIndex) {
+        String path = cursor.path;
+        int length = path.length();
+        if (from >= length) {
+            if (node.methods == null) {
+                return MISS;
+            }
+            HttpResource resource = node.select(cursor.inboundMessage);
+            if (resource == null) {
+                return ABORT;
+            }
+            cursor.leaf = node;
+            cursor.resource = resource;
+            return HIT;
+        }
+        int end = path.indexOf('/', from);
+        if (end < 0) {
+            end = length;
+        }
+        if (end == from || end == length - 1) {
+            return ABORT;
+        }
+        String segment = path.substring(from, end);
+        int next = end + 1;
+
+        TrieNode literal = node.literals.get(segment);
+        if (literal != null) {
+            int bindings = cursor.bindings;
+            int result = walk(literal, cursor, next, paramIndex);
+            if (result != MISS) {
+                return result;
+            }
+            if (node.param != null && cursor.bindings != bindings) {
+                // The template tree keeps stale bindings while backtracking, which may change its outcome.
+                return ABORT;
+            }
+        }
+        if (node.hasPrefixLiteral(segment)) {
+            // The template tree also matches literals as prefixes of a segment.
+            return ABORT;
+        }
+        if (node.param == null) {
+            return MISS;
+        }
+        cursor.values[paramIndex] = segment;
+        cursor.bindings++;
+        return walk(node.param, cursor, next, paramIndex + 1);
+    }
+
+    private static String decode(String value) {
+        if (value.indexOf('%') < 0) {
+            return value;
+        }
+        try {
+            return URLDecoder.decode(value.replaceAll("\\+", "%2B"), "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * Node of the dispatch trie.
+     */
+    private static class TrieNode {
+
+        private final Map<String, TrieNode> literals = new HashMap<>();
+        private final Set<String> names;
+        private TrieNode param;
+        private Map<String, HttpResource> methods;
+        private HttpResource defaultResource;
+        private String[][] paramNames;
+
+        private TrieNode(Set<String> names) {
+            this.names = names;
+        }
+
+        private boolean addResource(HttpResource resource) {
+            if (methods == null) {
+                methods = new HashMap<>();
+            }
+            List<String> resourceMethods = resource.getMethods();
+            if (resourceMethods == null) {
+                if (defaultResource != null) {
+                    return false;
+                }
+                defaultResource = resource;
+                return true;
+            }
+            for (String method : resourceMethods) {
+                if (methods.putIfAbsent(method, resource) != null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private HttpResource select(HttpCarbonMessage inboundMessage) {
+            HttpResource resource = methods.get(inboundMessage.getHttpMethod());
+            if (resource == null) {
+                resource = defaultResource;
+            }
+            if (resource == null || !HttpResourceDataElement.isConsumable(resource, inboundMessage)
+                    || !HttpResourceDataElement.isProducible(resource, inboundMessage)) {
+                return null;
+            }
+            return resource;
+        }
+
+        private boolean hasPrefixLiteral(String segment) {
+            for (String literal : literals.keySet()) {
+                if (literal.length() < segment.length() && segment.startsWith(literal)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean freeze(String[][] pathParamNames, Set<String> seenNames) {
+            this.paramNames = pathParamNames;
+            for (TrieNode child : literals.values()) {
+                if (!child.freeze(pathParamNames, seenNames)) {
+                    return false;
+                }
+            }
+            if (param == null) {
+                return true;
+            }
+            for (String name : param.names) {
+                // A repeated name along a path makes the template tree compare values, leave it to the tree.
+                if (!seenNames.add(name)) {
+                    return false;
+                }
+            }
+            String[][] childParamNames = new String[pathParamNames.length + 1][];
+            System.arraycopy(pathParamNames, 0, childParamNames, 0, pathParamNames.length);
+            childParamNames[pathParamNames.length] = param.names.toArray(new String[0]);
+            boolean frozen = param.freeze(childParamNames, seenNames);
+            seenNames.removeAll(param.names);
+            return frozen;
+        }
+    }
+
+    /**
+     * Per request state of a trie walk.
+     */
+    private static class Cursor {
+
+        private final String path;
+        private final HttpCarbonMessage inboundMessage;
+        private final String[] values;
+        private int bindings;
+        private TrieNode leaf;
+        private HttpResource resource;
+
+        private Cursor(String path, HttpCarbonMessage inboundMessage, String[] values) {
+            this.path = path;
+            this.inboundMessage = inboundMessage;
+            this.values = values;
+        }
+    }
+}
@@ -72,6 +72,7 @@ public class HttpService implements Cloneable {
     private String basePath;
     private CorsHeaders corsHeaders;
     private URITemplate<HttpResource, HttpCarbonMessage> uriTemplate;
+    private HttpResourceTrie resourceTrie;
     private boolean keepAlive = true; //default behavior
     private MapValue<BString, Object> compression;
     private String hostName;
@@ -130,6 +131,14 @@ public class HttpService implements Cloneable {
         this.resources = resources;
     }
 
+    public HttpResourceTrie getResourceTrie() {
+        return resourceTrie;
+    }
+
+    public void setResourceTrie(HttpResourceTrie resourceTrie) {
+        this.resourceTrie = resourceTrie;
+    }
+
     public List<String> getAllAllowedMethods() {
         return allAllowedMethods;
     }
@@ -278,6 +287,7 @@ public class HttpService implements Cloneable {
             }
         }
         httpService.setResources(httpResources);
+        httpService.setResourceTrie(HttpResourceTrie.build(httpResources));
         httpService.setUpgradeToWebSocketResources(upgradeToWebSocketResources);
     }
 
@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.net.http.resiliency;
+
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.api.BString;
+
+import static org.ballerinalang.net.http.HttpConstants.CIRCUIT_HEALTH;
+
+/**
+ * Keeps the rolling window statistics of a circuit breaker as native data of its {@code CircuitHealth} record.
+ *
+ * @since 2.0.0
+ */
+public class ExternCircuitBreaker {
+
+    public static void initCircuitHealth(MapValue<BString, Object> circuitHealth, long startTime,
+                                         long timeWindowInMillis, long bucketSizeInMillis) {
+        circuitHealth.addNativeData(CIRCUIT_HEALTH,
+                                    new RollingWindowHealth(startTime, timeWindowInMillis, bucketSizeInMillis));
+    }
+
+    public static long getTotalRequestCount(MapValue<BString, Object> circuitHealth) {
+        return getRollingWindowHealth(circuitHealth).getTotalRequestCount(System.currentTimeMillis());
+    }
+
+    public static double getFailureRatio(MapValue<BString, Object> circuitHealth) {
+        return getRollingWindowHealth(circuitHealth).getFailureRatio(System.currentTimeMillis());
+    }
+
+    public static void recordRequest(MapValue<BString, Object> circuitHealth) {
+        getRollingWindowHealth(circuitHealth).recordRequest(System.currentTimeMillis());
+    }
+
+    public static void recordFailure(MapValue<BString, Object> circuitHealth) {
+        getRollingWindowHealth(circuitHealth).recordFailure(System.currentTimeMillis());
+    }
+
+    public static void recordRejection(MapValue<BString, Object> circuitHealth) {
+        getRollingWindowHealth(circuitHealth).recordRejection(System.currentTimeMillis());
+    }
+
+    private static RollingWindowHealth getRollingWindowHealth(MapValue<BString, Object> circuitHealth) {
+        return (RollingWindowHealth) circuitHealth.getNativeData(CIRCUIT_HEALTH);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.net.http.resiliency;
+
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.net.http.HttpErrorType;
+import org.ballerinalang.net.http.HttpUtil;
+
+import static org.ballerinalang.net.http.HttpConstants.LOAD_BALANCER_STATE;
+import static org.ballerinalang.net.http.HttpConstants.ROUND_ROBIN_INDEX;
+
+/**
+ * Keeps the state of the load balancing rules as native data of the rule objects, so that a client can be chosen
+ * without locking.
+ *
+ * @since 2.0.0
+ */
+public class ExternLoadBalancer {
+
+    /**
+     * Returns the {@code index} of a round robin rule and advances it to the next client. The field stays the source
+     * of truth, so a value assigned to it from Ballerina is honoured. The monitor is only held for the field access,
+     * whereas a Ballerina lock would yield the strand.
+     */
+    public static long nextRoundRobinIndex(ObjectValue lbRule, long noOfClients) {
+        synchronized (lbRule) {
+            long index = Math.floorMod(lbRule.getIntValue(ROUND_ROBIN_INDEX), noOfClients);
+            lbRule.set(ROUND_ROBIN_INDEX, (index + 1) % noOfClients);
+            return index;
+        }
+    }
+
+    public static void initLeastOutstandingRule(ObjectValue lbRule) {
+        lbRule.addNativeData(LOAD_BALANCER_STATE, new OutstandingRequests());
+    }
+
+    public static long acquireLeastOutstanding(ObjectValue lbRule, long noOfClients) {
+        return getOutstandingRequests(lbRule).acquire((int) noOfClients);
+    }
+
+    public static void releaseLeastOutstanding(ObjectValue lbRule, long index) {
+        getOutstandingRequests(lbRule).release((int) index);
+    }
+
+    public static Object initWeightedRule(ObjectValue lbRule, ArrayValue weights) {
+        try {
+            lbRule.addNativeData(LOAD_BALANCER_STATE, new WeightedSchedule(weights.getIntArray()));
+            return null;
+        } catch (IllegalArgumentException e) {
+            return HttpUtil.createHttpError(e.getMessage(), HttpErrorType.GENERIC_CLIENT_ERROR);
+        }
+    }
+
+    public static long nextWeightedIndex(ObjectValue lbRule) {
+        return ((WeightedSchedule) lbRule.getNativeData(LOAD_BALANCER_STATE)).next();
+    }
+
+    private static OutstandingRequests getOutstandingRequests(ObjectValue lbRule) {
+        return (OutstandingRequests) lbRule.getNativeData(LOAD_BALANCER_STATE);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.net.http.resiliency;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tracks the in-flight requests of each load balanced client, to choose the one with the fewest of them.
+ * <p>
+ * The scan starts from a rotating offset so that clients which are equally loaded are chosen in turn.
+ *
+ * @since 2.0.0
+ */
+public class OutstandingRequests {
+
+    private final AtomicReference<AtomicIntegerArray> counts = new AtomicReference<>(new AtomicIntegerArray(0));
+    private final AtomicLong offset = new AtomicLong();
+
+    /**
+     * Chooses the client with the fewest outstanding requests and counts a new request against it.
+     *
+     * @param noOfClients number of load balanced clients
+     * @return index of the chosen client
+     */
+    public int acquire(int noOfClients) {
+        AtomicIntegerArray requestCounts = getCounts(noOfClients);
+        int start = (int) Math.floorMod(offset.getAndIncrement(), (long) noOfClients);
+        int chosen = start;
+        int leastCount = requestCounts.get(start);
+        for (int i = 1; i < noOfClients && leastCount > 0; i++) {
+            int index = (start + i) % noOfClients;
+            int count = requestCounts.get(index);
+            if (count < leastCount) {
+                chosen = index;
+                leastCount = count;
+            }
+        }
+        requestCounts.incrementAndGet(chosen);
+        return chosen;
+    }
+
+    /**
+     * Marks a request to the given client as completed.
+     *
+     * @param index index of the client
+     */
+    public void release(int index) {
+        AtomicIntegerArray requestCounts = counts.get();
+        if (index < requestCounts.length()) {
+            requestCounts.decrementAndGet(index);
+        }
+    }
+
+    private AtomicIntegerArray getCounts(int noOfClients) {
+        AtomicIntegerArray requestCounts = counts.get();
+        while (requestCounts.length() != noOfClients) {
+            // The clients are only known once the first one is requested, and they do not change afterwards.
+            AtomicIntegerArray resized = new AtomicIntegerArray(noOfClients);
+            if (counts.compareAndSet(requestCounts, resized)) {
+                return resized;
+            }
+            requestCounts = counts.get();
+        }
+        return requestCounts;
+    }
+}
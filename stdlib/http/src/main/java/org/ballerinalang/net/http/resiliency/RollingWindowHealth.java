@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.net.http.resiliency;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request statistics of a circuit breaker, kept over a rolling window of time buckets without locking.
+ * <p>
+ * Each bucket is stamped with the time slot it counts. When a slot comes around again, its bucket is replaced with a
+ * fresh one instead of being cleared in place, and buckets of slots which have fallen out of the window are skipped
+ * when the statistics are summed. The counters of a bucket are {@link LongAdder}s, which stripe concurrent updates.
+ *
+ * @since 2.0.0
+ */
+public class RollingWindowHealth {
+
+    private final long startTime;
+    private final long bucketSizeInMillis;
+    private final int noOfBuckets;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    public RollingWindowHealth(long startTime, long timeWindowInMillis, long bucketSizeInMillis) {
+        this.startTime = startTime;
+        this.bucketSizeInMillis = bucketSizeInMillis;
+        this.noOfBuckets = (int) Math.max(1, timeWindowInMillis / bucketSizeInMillis);
+        this.buckets = new AtomicReferenceArray<>(noOfBuckets);
+        for (int i = 0; i < noOfBuckets; i++) {
+            buckets.set(i, new Bucket(Long.MIN_VALUE));
+        }
+    }
+
+    public void recordRequest(long currentTime) {
+        getCurrentBucket(currentTime).totalCount.increment();
+    }
+
+    public void recordFailure(long currentTime) {
+        getCurrentBucket(currentTime).failureCount.increment();
+    }
+
+    public void recordRejection(long currentTime) {
+        getCurrentBucket(currentTime).rejectedCount.increment();
+    }
+
+    /**
+     * Returns the number of requests received within the window ending at the given time.
+     *
+     * @param currentTime current time in milliseconds
+     * @return total request count
+     */
+    public long getTotalRequestCount(long currentTime) {
+        long slot = getSlot(currentTime);
+        long totalCount = 0;
+        for (int i = 0; i < noOfBuckets; i++) {
+            Bucket bucket = buckets.get(i);
+            if (isInWindow(bucket, slot)) {
+                totalCount += bucket.totalCount.sum();
+            }
+        }
+        return totalCount;
+    }
+
+    /**
+     * Returns the ratio of failed requests to the requests which were not rejected, within the window ending at the
+     * given time.
+     *
+     * @param currentTime current time in milliseconds
+     * @return failure ratio, or 0 if no request was sent within the window
+     */
+    public double getFailureRatio(long currentTime) {
+        long slot = getSlot(currentTime);
+        long sentCount = 0;
+        long failureCount = 0;
+        for (int i = 0; i < noOfBuckets; i++) {
+            Bucket bucket = buckets.get(i);
+            if (isInWindow(bucket, slot)) {
+                sentCount += bucket.totalCount.sum() - bucket.rejectedCount.sum();
+                failureCount += bucket.failureCount.sum();
+            }
+        }
+        return sentCount > 0 ? (double) failureCount / sentCount : 0.0;
+    }
+
+    private Bucket getCurrentBucket(long currentTime) {
+        long slot = getSlot(currentTime);
+        int index = (int) Math.floorMod(slot, (long) noOfBuckets);
+        Bucket bucket = buckets.get(index);
+        // A bucket stamped with a later slot means another thread has already moved on; count into it rather than
+        // going back in time.
+        while (bucket.slot < slot) {
+            Bucket nextBucket = new Bucket(slot);
+            if (buckets.compareAndSet(index, bucket, nextBucket)) {
+                return nextBucket;
+            }
+            bucket = buckets.get(index);
+        }
+        return bucket;
+    }
+
+    private long getSlot(long currentTime) {
+        return Math.floorDiv(currentTime - startTime, bucketSizeInMillis);
+    }
+
+    private boolean isInWindow(Bucket bucket, long slot) {
+        return bucket.slot > slot - noOfBuckets && bucket.slot <= slot;
+    }
+
+    private static class Bucket {
+
+        private final long slot;
+        private final LongAdder totalCount = new LongAdder();
+        private final LongAdder failureCount = new LongAdder();
+        private final LongAdder rejectedCount = new LongAdder();
+
+        private Bucket(long slot) {
+            this.slot = slot;
+        }
+    }
+}
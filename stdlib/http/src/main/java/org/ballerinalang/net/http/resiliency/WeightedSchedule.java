@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.net.http.resiliency;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A precomputed weighted round robin order of load balanced clients.
+ * <p>
+ * The order is built once with the smooth weighted round robin algorithm, which interleaves the clients instead of
+ * sending a run of requests to the heaviest one. Choosing a client is then a single atomic increment. The weights are
+ * reduced by their greatest common divisor, and scaled down to a bounded schedule length when they are still larger,
+ * so the schedule stays small however large the configured weights are.
+ *
+ * @since 2.0.0
+ */
+public class WeightedSchedule {
+
+    /**
+     * Maximum length of the schedule. Weights which add up to more are scaled down proportionally, with every
+     * positive weight kept at least 1.
+     */
+    static final int MAX_SCHEDULE_LENGTH = 16384;
+
+    private final int[] schedule;
+    private final AtomicLong position = new AtomicLong();
+
+    /**
+     * Builds the schedule for the given weights.
+     *
+     * @param weights weight of each client, none negative and at least one positive
+     * @throws IllegalArgumentException if the weights cannot be scheduled
+     */
+    public WeightedSchedule(long[] weights) {
+        int[] scheduledWeights = toScheduledWeights(weights);
+        int totalWeight = 0;
+        for (int weight : scheduledWeights) {
+            totalWeight += weight;
+        }
+
+        schedule = new int[totalWeight];
+        long[] currentWeights = new long[scheduledWeights.length];
+        for (int slot = 0; slot < schedule.length; slot++) {
+            int chosen = 0;
+            for (int i = 0; i < scheduledWeights.length; i++) {
+                currentWeights[i] += scheduledWeights[i];
+                if (currentWeights[i] > currentWeights[chosen]) {
+                    chosen = i;
+                }
+            }
+            currentWeights[chosen] -= totalWeight;
+            schedule[slot] = chosen;
+        }
+    }
+
+    /**
+     * Returns the index of the next client in the schedule.
+     *
+     * @return index of the chosen client
+     */
+    public int next() {
+        return schedule[(int) Math.floorMod(position.getAndIncrement(), (long) schedule.length)];
+    }
+
+    private static int[] toScheduledWeights(long[] weights) {
+        long divisor = 0;
+        int positiveWeights = 0;
+        double totalWeight = 0;
+        for (long weight : weights) {
+            if (weight < 0) {
+                throw new IllegalArgumentException("Invalid load balancer weight. Weights should not be negative, " +
+                                                           "found " + weight);
+            }
+            if (weight > 0) {
+                positiveWeights++;
+            }
+            divisor = gcd(divisor, weight);
+            totalWeight += weight;
+        }
+        if (positiveWeights == 0) {
+            throw new IllegalArgumentException("Invalid load balancer weights. At least one weight should be " +
+                                                       "positive.");
+        }
+        if (positiveWeights > MAX_SCHEDULE_LENGTH) {
+            throw new IllegalArgumentException("Invalid load balancer weights. At most " + MAX_SCHEDULE_LENGTH +
+                                                       " clients can have a positive weight, found " +
+                                                       positiveWeights);
+        }
+        // Summed in floating point, as the sum of the weights may not fit in a long.
+        boolean scaled = totalWeight / divisor > MAX_SCHEDULE_LENGTH;
+        int[] scheduledWeights = new int[weights.length];
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] == 0) {
+                continue;
+            }
+            scheduledWeights[i] = scaled ? (int) Math.max(1, Math.round(weights[i] / totalWeight * MAX_SCHEDULE_LENGTH))
+                    : (int) (weights[i] / divisor);
+        }
+        return scheduledWeights;
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+}
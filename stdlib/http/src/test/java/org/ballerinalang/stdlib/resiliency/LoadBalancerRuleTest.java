@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.resiliency;
+
+import org.ballerinalang.model.values.BError;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.ballerinalang.jvm.util.BLangConstants.ERROR_MESSAGE_FIELD_NAME;
+
+/**
+ * Test cases for the load balancing rules.
+ */
+public class LoadBalancerRuleTest {
+
+    private CompileResult compileResult;
+
+    @BeforeClass
+    public void setup() {
+        compileResult = BCompileUtil.compile("test-src/resiliency/load-balancer-rule-test.bal");
+    }
+
+    @Test(description = "Test choosing clients in turn")
+    public void testRoundRobinRule() {
+        BValue[] returnVals = BRunUtil.invoke(compileResult, "testRoundRobinRule");
+        Assert.assertEquals(returnVals[0].stringValue(), "abcabca");
+    }
+
+    @Test(description = "Test the round robin rule continuing from, and advancing, its index")
+    public void testRoundRobinRuleIndex() {
+        BValue[] returnVals = BRunUtil.invoke(compileResult, "testRoundRobinRuleIndex");
+        Assert.assertEquals(returnVals[0].stringValue(), "cabc");
+        Assert.assertEquals(((BInteger) returnVals[1]).intValue(), 0);
+    }
+
+    @Test(description = "Test choosing clients in proportion to their weights, interleaved")
+    public void testWeightedRule() {
+        BValue[] returnVals = BRunUtil.invoke(compileResult, "testWeightedRule");
+        Assert.assertEquals(returnVals[0].stringValue(), "aabacaaaabacaa");
+    }
+
+    @Test(description = "Test the weighted rule with fewer weights than clients")
+    public void testWeightedRuleWithMismatchedClients() {
+        BValue[] returnVals = BRunUtil.invoke(compileResult, "testWeightedRuleWithMismatchedClients");
+        Assert.assertTrue(returnVals[0] instanceof BError);
+        BMap<String, BValue> err = (BMap<String, BValue>) ((BError) returnVals[0]).getDetails();
+        String message = err.get(ERROR_MESSAGE_FIELD_NAME).stringValue();
+        Assert.assertEquals(message, "Load balancer weights do not match the clients. Expected 3 weights, found 2");
+    }
+
+    @Test(description = "Test the weighted rule with weights which add up to more than an int can hold")
+    public void testLargeWeights() {
+        BValue[] returnVals = BRunUtil.invoke(compileResult, "testLargeWeights");
+        Assert.assertEquals(returnVals[0].stringValue(), "acac");
+    }
+
+    @Test(description = "Test creating the weighted rule without a positive weight")
+    public void testInvalidWeights() {
+        BValue[] returnVals = BRunUtil.invoke(compileResult, "testInvalidWeights");
+        Assert.assertTrue(returnVals[0] instanceof BError);
+        BMap<String, BValue> err = (BMap<String, BValue>) ((BError) returnVals[0]).getDetails();
+        String message = err.get(ERROR_MESSAGE_FIELD_NAME).stringValue();
+        Assert.assertEquals(message, "Invalid load balancer weights. At least one weight should be positive.");
+    }
+
+    @Test(description = "Test choosing the client with the fewest requests in flight")
+    public void testLeastOutstandingRule() {
+        BValue[] returnVals = BRunUtil.invoke(compileResult, "testLeastOutstandingRule");
+        Assert.assertEquals(returnVals[0].stringValue(), "abcbc");
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.resiliency;
+
+import org.ballerinalang.net.http.resiliency.RollingWindowHealth;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Test cases for {@link RollingWindowHealth}, with a window of ten buckets of 100 milliseconds each.
+ */
+public class RollingWindowHealthTest {
+
+    private static final long START_TIME = 1000;
+    private static final long TIME_WINDOW = 1000;
+    private static final long BUCKET_SIZE = 100;
+
+    @Test(description = "Test counts within the window")
+    public void testCountsWithinWindow() {
+        RollingWindowHealth health = new RollingWindowHealth(START_TIME, TIME_WINDOW, BUCKET_SIZE);
+        for (int i = 0; i < 10; i++) {
+            health.recordRequest(START_TIME + i * BUCKET_SIZE);
+        }
+        health.recordFailure(START_TIME + 250);
+        health.recordFailure(START_TIME + 850);
+        health.recordRequest(START_TIME + 950);
+        health.recordRejection(START_TIME + 950);
+
+        Assert.assertEquals(health.getTotalRequestCount(START_TIME + 999), 11);
+        // The rejected request was never sent, so it is not part of the failure ratio.
+        Assert.assertEquals(health.getFailureRatio(START_TIME + 999), 0.2);
+    }
+
+    @Test(description = "Test a bucket being replaced when its slot comes around again")
+    public void testBucketRollover() {
+        RollingWindowHealth health = new RollingWindowHealth(START_TIME, TIME_WINDOW, BUCKET_SIZE);
+        health.recordRequest(START_TIME + 50);
+        health.recordRequest(START_TIME + 50);
+        health.recordFailure(START_TIME + 50);
+        health.recordRequest(START_TIME + 150);
+
+        Assert.assertEquals(health.getTotalRequestCount(START_TIME + 999), 3);
+        Assert.assertEquals(health.getFailureRatio(START_TIME + 999), 1.0 / 3);
+
+        // The first bucket has fallen out of the window, even before its slot is reused.
+        Assert.assertEquals(health.getTotalRequestCount(START_TIME + 1050), 1);
+        Assert.assertEquals(health.getFailureRatio(START_TIME + 1050), 0.0);
+
+        // Reusing the slot of the first bucket starts it afresh, without touching the second bucket.
+        health.recordRequest(START_TIME + 1050);
+        health.recordFailure(START_TIME + 1050);
+        Assert.assertEquals(health.getTotalRequestCount(START_TIME + 1099), 2);
+        Assert.assertEquals(health.getFailureRatio(START_TIME + 1099), 0.5);
+
+        // Once the second bucket falls out of the window, only the reused first bucket is counted.
+        Assert.assertEquals(health.getTotalRequestCount(START_TIME + 1150), 1);
+        Assert.assertEquals(health.getFailureRatio(START_TIME + 1150), 1.0);
+    }
+
+    @Test(description = "Test the whole window expiring after a period without requests")
+    public void testWindowExpiry() {
+        RollingWindowHealth health = new RollingWindowHealth(START_TIME, TIME_WINDOW, BUCKET_SIZE);
+        for (int i = 0; i < 10; i++) {
+            health.recordRequest(START_TIME + i * BUCKET_SIZE);
+            health.recordFailure(START_TIME + i * BUCKET_SIZE);
+        }
+        // Several windows later, every bucket is stale.
+        Assert.assertEquals(health.getTotalRequestCount(START_TIME + 5 * TIME_WINDOW), 0);
+        Assert.assertEquals(health.getFailureRatio(START_TIME + 5 * TIME_WINDOW), 0.0);
+
+        health.recordRequest(START_TIME + 5 * TIME_WINDOW + 320);
+        Assert.assertEquals(health.getTotalRequestCount(START_TIME + 5 * TIME_WINDOW + 320), 1);
+        Assert.assertEquals(health.getFailureRatio(START_TIME + 5 * TIME_WINDOW + 320), 0.0);
+    }
+
+    @Test(description = "Test concurrent requests rolling over the same bucket")
+    public void testConcurrentRollover() throws Exception {
+        int threads = 8;
+        int requestsPerThread = 1000;
+        RollingWindowHealth health = new RollingWindowHealth(START_TIME, TIME_WINDOW, BUCKET_SIZE);
+        health.recordRequest(START_TIME + 50);
+
+        // Every thread finds the stale bucket and races to replace it; no request may be lost in the race.
+        long rolledOverTime = START_TIME + TIME_WINDOW + 50;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < requestsPerThread; j++) {
+                    health.recordRequest(rolledOverTime);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        Assert.assertEquals(health.getTotalRequestCount(rolledOverTime), threads * requestsPerThread);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.resiliency;
+
+import org.ballerinalang.net.http.resiliency.WeightedSchedule;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for {@link WeightedSchedule}.
+ */
+public class WeightedScheduleTest {
+
+    @Test(description = "Test that weights with a common divisor give the same schedule as the reduced weights")
+    public void testReducedWeights() {
+        WeightedSchedule schedule = new WeightedSchedule(new long[]{500, 100, 100});
+        StringBuilder order = new StringBuilder();
+        for (int i = 0; i < 14; i++) {
+            order.append((char) ('a' + schedule.next()));
+        }
+        Assert.assertEquals(order.toString(), "aabacaaaabacaa");
+    }
+
+    @Test(description = "Test that large weights are scaled down instead of building a schedule as long as them")
+    public void testLargeWeights() {
+        WeightedSchedule schedule = new WeightedSchedule(new long[]{1000000000, 1});
+        // Scaled down to 16384 and 1, where the light client keeps a slot of its own.
+        Assert.assertEquals(countChosen(schedule, 2, 16385), new int[]{16384, 1});
+    }
+
+    @Test(description = "Test weights which add up to more than a long can hold")
+    public void testWeightsOverflowingLong() {
+        WeightedSchedule schedule = new WeightedSchedule(new long[]{Long.MAX_VALUE, Long.MAX_VALUE - 1, 0});
+        Assert.assertEquals(countChosen(schedule, 3, 16384), new int[]{8192, 8192, 0});
+    }
+
+    @Test(description = "Test rejecting a negative weight", expectedExceptions = IllegalArgumentException.class,
+          expectedExceptionsMessageRegExp = "Invalid load balancer weight. Weights should not be negative, found -1")
+    public void testNegativeWeight() {
+        new WeightedSchedule(new long[]{1, -1});
+    }
+
+    private static int[] countChosen(WeightedSchedule schedule, int noOfClients, int count) {
+        int[] chosen = new int[noOfClients];
+        for (int i = 0; i < count; i++) {
+            chosen[schedule.next()]++;
+        }
+        return chosen;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.services.dispatching;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import org.ballerinalang.jvm.JSONParser;
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.stdlib.utils.HTTPTestRequest;
+import org.ballerinalang.stdlib.utils.MessageUtils;
+import org.ballerinalang.stdlib.utils.Services;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.transport.http.netty.message.HttpCarbonMessage;
+import org.wso2.transport.http.netty.message.HttpMessageDataStreamer;
+
+/**
+ * Test class for resource dispatching through the precompiled resource trie.
+ */
+@SuppressWarnings("unchecked")
+public class UriTemplateTrieDispatcherTest {
+
+    private static final int TEST_EP_PORT = 9090;
+
+    @BeforeClass()
+    public void setup() {
+        BCompileUtil.compile("test-src/services/dispatching/uri-template-trie.bal");
+    }
+
+    @DataProvider(name = "dispatchPaths")
+    public Object[][] dispatchPaths() {
+        return new Object[][]{
+                {"/catalog/products", "GET", "products"},
+                {"/catalog/products/featured", "GET", "featured"},
+                {"/catalog/products/p100", "GET", "product p100"},
+                {"/catalog/products/p100/", "GET", "product p100"},
+                {"/catalog/products/featured/top", "GET", "slot top"},
+                {"/catalog/products/p100/reviews", "GET", "reviews p100"},
+                {"/catalog/products/p100/reviews/r7", "GET", "review p100 r7"},
+                {"/catalog/products/featured/reviews/r7", "GET", "review featured r7"},
+                {"/catalog/products/a%20b?sort=asc", "GET", "product a b"},
+                {"/catalog/orders/o1/items/i2", "GET", "order o1 item i2"},
+                {"/catalog/orders/o1/items/i2", "PUT", "order o1 item i2"},
+                {"/catalog/users/me", "GET", "current user"},
+                {"/catalog/users/u5", "GET", "user u5"},
+                {"/catalog/users/u5", "DELETE", "deleted u5"},
+                {"/catalog/stores/s9/stock", "GET", "stock s9"},
+                {"/catalog/health", "GET", "healthy"},
+                {"/catalog/health", "POST", "healthy"},
+                {"/legacy/items/i3", "GET", "item i3"},
+                {"/legacy/anything/else", "GET", "wildcard"}
+        };
+    }
+
+    @Test(description = "Test dispatching to literal and path param resources", dataProvider = "dispatchPaths")
+    public void testDispatching(String path, String method, String expected) {
+        HTTPTestRequest cMsg = MessageUtils.generateHTTPMessage(path, method);
+        HttpCarbonMessage response = Services.invoke(TEST_EP_PORT, cMsg);
+
+        Assert.assertNotNull(response, "Response message not found");
+        Object bJson = JSONParser.parse(new HttpMessageDataStreamer(response).getInputStream());
+        Assert.assertEquals(((MapValueImpl<BString, Object>) bJson).get(StringUtils.fromString("echo")).toString(),
+                            expected, "Resource dispatched to wrong template");
+    }
+
+    @Test(description = "Test dispatching with a matching consumes media type")
+    public void testDispatchingWithConsumes() {
+        HTTPTestRequest cMsg = MessageUtils.generateHTTPMessage("/catalog/products", "POST", "{}");
+        cMsg.setHeader(HttpHeaderNames.CONTENT_TYPE.toString(), "application/json");
+        HttpCarbonMessage response = Services.invoke(TEST_EP_PORT, cMsg);
+
+        Assert.assertNotNull(response, "Response message not found");
+        Object bJson = JSONParser.parse(new HttpMessageDataStreamer(response).getInputStream());
+        Assert.assertEquals(((MapValueImpl<BString, Object>) bJson).get(StringUtils.fromString("echo")).toString(),
+                            "create product", "Resource dispatched to wrong template");
+    }
+
+    @Test(description = "Test unsupported media type when the path and method match")
+    public void testUnsupportedMediaType() {
+        HTTPTestRequest cMsg = MessageUtils.generateHTTPMessage("/catalog/products", "POST", "Test");
+        cMsg.setHeader(HttpHeaderNames.CONTENT_TYPE.toString(), "text/plain");
+        HttpCarbonMessage response = Services.invoke(TEST_EP_PORT, cMsg);
+
+        Assert.assertNotNull(response, "Response message not found");
+        Assert.assertEquals(response.getHttpStatusCode(), 415, "Unsupported media type");
+    }
+
+    @Test(description = "Test method not allowed when only the path matches")
+    public void testMethodNotAllowed() {
+        HTTPTestRequest cMsg = MessageUtils.generateHTTPMessage("/catalog/users/me", "PUT");
+        HttpCarbonMessage response = Services.invoke(TEST_EP_PORT, cMsg);
+
+        Assert.assertNotNull(response, "Response message not found");
+        Assert.assertEquals(response.getHttpStatusCode(), 405, "Method not allowed");
+    }
+
+    @Test(description = "Test resource not found for unknown paths")
+    public void testResourceNotFound() {
+        HTTPTestRequest cMsg = MessageUtils.generateHTTPMessage("/catalog/products/p100/ratings", "GET");
+        HttpCarbonMessage response = Services.invoke(TEST_EP_PORT, cMsg);
+
+        Assert.assertNotNull(response, "Response message not found");
+        Assert.assertEquals(response.getHttpStatusCode(), 404, "Resource not found");
+    }
+}
@@ -0,0 +1,89 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+
+http:Client?[] lbClients = [new("http://localhost:8080/a"), new("http://localhost:8080/b"),
+                            new("http://localhost:8080/c")];
+
+function testRoundRobinRule() returns string {
+    http:LoadBalancerRoundRobinRule lbRule = new;
+    return selectClients(lbRule, 7);
+}
+
+function testRoundRobinRuleIndex() returns [string, int] {
+    http:LoadBalancerRoundRobinRule lbRule = new;
+    lbRule.index = 2;
+    string selected = selectClients(lbRule, 4);
+    return [selected, lbRule.index];
+}
+
+function testWeightedRule() returns string {
+    http:LoadBalancerWeightedRule lbRule = new([5, 1, 1]);
+    return selectClients(lbRule, 14);
+}
+
+function testWeightedRuleWithMismatchedClients() returns error? {
+    http:LoadBalancerWeightedRule lbRule = new([1, 1]);
+    var lbClient = lbRule.getNextClient(lbClients);
+    if (lbClient is error) {
+        return lbClient;
+    }
+    return ();
+}
+
+function testLargeWeights() returns string {
+    http:LoadBalancerWeightedRule lbRule = new([9223372036854775807, 1, 9223372036854775806]);
+    return selectClients(lbRule, 4);
+}
+
+function testInvalidWeights() returns error? {
+    var lbRule = trap new http:LoadBalancerWeightedRule([0, 0]);
+    if (lbRule is error) {
+        return lbRule;
+    }
+    return ();
+}
+
+function testLeastOutstandingRule() returns string {
+    http:LoadBalancerLeastOutstandingRule lbRule = new;
+    // Three requests in flight, one on each client
+    string selected = selectClients(lbRule, 3);
+    // Once a request completes, its client has the fewest requests in flight
+    http:Client clientB = <http:Client>lbClients[1];
+    lbRule.releaseClient(lbClients, clientB);
+    selected += selectClients(lbRule, 1);
+    http:Client clientC = <http:Client>lbClients[2];
+    lbRule.releaseClient(lbClients, clientC);
+    selected += selectClients(lbRule, 1);
+    return selected;
+}
+
+function selectClients(http:LoadBalancerRule lbRule, int count) returns string {
+    string selected = "";
+    int i = 0;
+    while (i < count) {
+        var lbClient = lbRule.getNextClient(lbClients);
+        if (lbClient is http:Client) {
+            string url = lbClient.url;
+            selected += url.substring(url.length() - 1, url.length());
+        } else {
+            panic lbClient;
+        }
+        i += 1;
+    }
+    return selected;
+}
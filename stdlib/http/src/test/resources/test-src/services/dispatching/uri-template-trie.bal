@@ -0,0 +1,149 @@
+import ballerina/http;
+
+listener http:MockListener testEP = new(9090);
+
+@http:ServiceConfig {
+    basePath:"/catalog"
+}
+service catalog on testEP {
+
+    @http:ResourceConfig {
+        methods:["GET"],
+        path:"/products"
+    }
+    resource function listProducts(http:Caller caller, http:Request req) {
+        json responseJson = {"echo":"products"};
+        checkpanic caller->respond(responseJson);
+    }
+
+    @http:ResourceConfig {
+        methods:["POST"],
+        path:"/products",
+        consumes:["application/json"]
+    }
+    resource function createProduct(http:Caller caller, http:Request req) {
+        json responseJson = {"echo":"create product"};
+        checkpanic caller->respond(responseJson);
+    }
+
+    @http:ResourceConfig {
+        methods:["GET"],
+        path:"/products/featured"
+    }
+    resource function featuredProducts(http:Caller caller, http:Request req) {
+        json responseJson = {"echo":"featured"};
+        checkpanic caller->respond(responseJson);
+    }
+
+    @http:ResourceConfig {
+        methods:["GET"],
+        path:"/products/{productId}"
+    }
+    resource function getProduct(http:Caller caller, http:Request req, string productId) {
+        json responseJson = {"echo":"product " + productId};
+        checkpanic caller->respond(<@untainted json> responseJson);
+    }
+
+    @http:ResourceConfig {
+        methods:["GET"],
+        path:"/products/featured/{slot}"
+    }
+    resource function featuredSlot(http:Caller caller, http:Request req, string slot) {
+        json responseJson = {"echo":"slot " + slot};
+        checkpanic caller->respond(<@untainted json> responseJson);
+    }
+
+    @http:ResourceConfig {
+        methods:["GET"],
+        path:"/products/{productId}/reviews"
+    }
+    resource function getReviews(http:Caller caller, http:Request req, string productId) {
+        json responseJson = {"echo":"reviews " + productId};
+        checkpanic caller->respond(<@untainted json> responseJson);
+    }
+
+    @http:ResourceConfig {
+        methods:["GET"],
+        path:"/products/{productId}/reviews/{reviewId}"
+    }
+    resource function getReview(http:Caller caller, http:Request req, string productId, string reviewId) {
+        json responseJson = {"echo":"review " + productId + " " + reviewId};
+        checkpanic caller->respond(<@untainted json> responseJson);
+    }
+
+    @http:ResourceConfig {
+        methods:["GET", "PUT"],
+        path:"/orders/{orderId}/items/{itemId}"
+    }
+    resource function getOrderItem(http:Caller caller, http:Request req, string orderId, string itemId) {
+        json responseJson = {"echo":"order " + orderId + " item " + itemId};
+        checkpanic caller->respond(<@untainted json> responseJson);
+    }
+
+    @http:ResourceConfig {
+        methods:["GET"],
+        path:"/users/me"
+    }
+    resource function currentUser(http:Caller caller, http:Request req) {
+        json responseJson = {"echo":"current user"};
+        checkpanic caller->respond(responseJson);
+    }
+
+    @http:ResourceConfig {
+        methods:["GET"],
+        path:"/users/{userId}"
+    }
+    resource function getUser(http:Caller caller, http:Request req, string userId) {
+        json responseJson = {"echo":"user " + userId};
+        checkpanic caller->respond(<@untainted json> responseJson);
+    }
+
+    @http:ResourceConfig {
+        methods:["DELETE"],
+        path:"/users/{userId}"
+    }
+    resource function deleteUser(http:Caller caller, http:Request req, string userId) {
+        json responseJson = {"echo":"deleted " + userId};
+        checkpanic caller->respond(<@untainted json> responseJson);
+    }
+
+    @http:ResourceConfig {
+        methods:["GET"],
+        path:"/stores/{storeId}/stock"
+    }
+    resource function stock(http:Caller caller, http:Request req, string storeId) {
+        json responseJson = {"echo":"stock " + storeId};
+        checkpanic caller->respond(<@untainted json> responseJson);
+    }
+
+    @http:ResourceConfig {
+        path:"/health"
+    }
+    resource function health(http:Caller caller, http:Request req) {
+        json responseJson = {"echo":"healthy"};
+        checkpanic caller->respond(responseJson);
+    }
+}
+
+@http:ServiceConfig {
+    basePath:"/legacy"
+}
+service legacy on testEP {
+
+    @http:ResourceConfig {
+        methods:["GET"],
+        path:"/items/{itemId}"
+    }
+    resource function getItem(http:Caller caller, http:Request req, string itemId) {
+        json responseJson = {"echo":"item " + itemId};
+        checkpanic caller->respond(<@untainted json> responseJson);
+    }
+
+    @http:ResourceConfig {
+        path:"/*"
+    }
+    resource function fallback(http:Caller caller, http:Request req) {
+        json responseJson = {"echo":"wildcard"};
+        checkpanic caller->respond(responseJson);
+    }
+}
@@ -91,3 +91,22 @@ public function openWritableCsvFile(@untainted string path,
     WritableCharacterChannel charChannel = new(byteChannel, charset);
     return new WritableCSVChannel(charChannel, fieldSeparator);
 }
+
+# Retrieves a stream of records from a given UTF-8 encoded CSV file. The columns of each CSV record are bound to the
+# fields of the given record type in the order the fields are declared. Large files are parsed in parallel.
+# ```ballerina
+# stream<record {}, io:Error> employees = check io:readCsvRecords("./files/employees.csv", Employee, skipHeaders = 1);
+# ```
+#
+# + path - File path, which describes the location of the CSV
+# + recordType - Record type with `int`, `float`, `decimal`, `boolean` or `string` fields, which are optionally nilable
+# + fieldSeparator - CSV record separator (i.e., comma or tab)
+# + skipHeaders - Number of headers, which should be skipped
+# + return - A stream of records of the given type or else an `io:Error` if the file could not be opened
+public function readCsvRecords(@untainted string path, typedesc<record {}> recordType,
+                               @untainted public Separator fieldSeparator = ",",
+                               @untainted public int skipHeaders = 0)
+    returns @tainted stream<record {}, Error>|Error = @java:Method {
+    name: "readCsvRecords",
+    class: "org.ballerinalang.stdlib.io.nativeimpl.CsvRecordStreamUtils"
+} external;
@@ -55,6 +55,19 @@ public type ReadableByteChannel object {
         return base64DecodeExtern(self);
     }
 
+# Copies the remaining content of the channel to a given `WritableByteChannel` without reading it into a `byte[]`.
+# A file is copied to another file by the OS without passing through the program. Otherwise, it is memory-mapped
+# while copying.
+# ```ballerina
+# int|io:Error copiedBytes = readableByteChannel.copyTo(writableByteChannel);
+# ```
+#
+# + destination - The channel to which the content should be written
+# + return - Number of bytes copied or else an `io:Error`
+    public function copyTo(WritableByteChannel destination) returns int|Error {
+        return byteCopyToExtern(self, destination);
+    }
+
 # Closes a given `ReadableByteChannel`.
 # ```ballerina
 # io:Error? err = readableByteChannel.close();
@@ -71,6 +84,12 @@ function byteReadExtern(ReadableByteChannel byteChannel, @untainted int nBytes)
     class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
 } external;
 
+function byteCopyToExtern(ReadableByteChannel byteChannel, WritableByteChannel destination)
+    returns int|Error = @java:Method {
+    name: "copyTo",
+    class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
+
 function base64EncodeExtern(ReadableByteChannel byteChannel) returns ReadableByteChannel|Error = @java:Method {
     name: "base64Encode",
     class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
@@ -64,6 +64,19 @@ public type ReadableCharacterChannel object {
         return readXmlExtern(self);
     }
 
+# Reads the elements matching the given path from the XML content of the channel as a stream. Each element is read
+# from the channel only when it is requested, and the rest of the content is skipped. Hence, large documents can be
+# processed without reading the whole document into memory.
+# ```ballerina
+# stream<xml, io:Error>|io:Error books = readableCharChannel.readXmlElements("catalog/book");
+# ```
+#
+# + path - The `/` separated element names starting from the root element, where `*` matches any name
+# + return - A stream of the matching elements or else an `io:Error`
+    public function readXmlElements(string path) returns @tainted stream<xml, Error>|Error {
+        return readXmlElementsExtern(self, path);
+    }
+
 # Closes a given character channel.
 # ```ballerina
 # io:Error? err = readableCharChannel.close();
@@ -97,6 +110,12 @@ function readXmlExtern(ReadableCharacterChannel characterChannel) returns @taint
     class: "org.ballerinalang.stdlib.io.nativeimpl.CharacterChannelUtils"
 } external;
 
+function readXmlElementsExtern(ReadableCharacterChannel characterChannel, string path) returns
+                               @tainted stream<xml, Error>|Error = @java:Method {
+    name: "readXmlElements",
+    class: "org.ballerinalang.stdlib.io.nativeimpl.XmlElementStreamUtils"
+} external;
+
 function closeReadableCharacterChannel(ReadableCharacterChannel characterChannel) returns Error? = @java:Method {
     name: "close",
     class: "org.ballerinalang.stdlib.io.nativeimpl.CharacterChannelUtils"
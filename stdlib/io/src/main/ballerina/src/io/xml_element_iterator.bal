@@ -0,0 +1,46 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/java;
+
+# Iterates through the XML elements, which were read by `ReadableCharacterChannel.readXmlElements`.
+type XmlElementIterator object {
+
+    public function next() returns record {|xml value;|}|Error? {
+        xml|Error? result = nextXmlElementExtern(self);
+        if (result is xml) {
+            record {|
+                xml value;
+            |} streamRecord = {value: result};
+            return streamRecord;
+        }
+        return result;
+    }
+
+    public function close() returns Error? {
+        return closeXmlElementIteratorExtern(self);
+    }
+};
+
+function nextXmlElementExtern(XmlElementIterator iterator) returns @tainted xml|Error? = @java:Method {
+    name: "nextElement",
+    class: "org.ballerinalang.stdlib.io.nativeimpl.XmlElementStreamUtils"
+} external;
+
+function closeXmlElementIteratorExtern(XmlElementIterator iterator) returns Error? = @java:Method {
+    name: "closeElementStream",
+    class: "org.ballerinalang.stdlib.io.nativeimpl.XmlElementStreamUtils"
+} external;
@@ -21,6 +21,7 @@ import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.utils.IOUtils;
 
 import java.io.IOException;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.WritableByteChannel;
 
@@ -31,11 +32,21 @@ import java.nio.channels.WritableByteChannel;
  */
 public class FileIOChannel extends Channel {
 
+    /**
+     * Maximum size of a file region mapped into memory at once while copying.
+     */
+    private static final long MAPPED_REGION_SIZE = 8L * 1024 * 1024;
+
     /**
      * Maintains the file channel implementation.
      */
     private FileChannel channel;
 
+    /**
+     * The file region which is mapped while it is being copied, if any.
+     */
+    private MappedByteBuffer mappedRegion;
+
     public FileIOChannel(FileChannel channel) {
         super(channel);
         this.channel = channel;
@@ -49,12 +60,82 @@ public class FileIOChannel extends Channel {
     @Override
     public void transfer(int position, int count, WritableByteChannel dstChannel) {
         try {
-            channel.transferTo(position, count, dstChannel);
+            long transferredBytes = 0;
+            while (transferredBytes < count) {
+                long bytes = channel.transferTo(position + transferredBytes, count - transferredBytes, dstChannel);
+                if (bytes <= 0) {
+                    break;
+                }
+                transferredBytes += bytes;
+            }
         } catch (IOException e) {
             throw IOUtils.createError("error occurred while transferring file: " + e.getMessage());
         }
     }
 
+    /**
+     * <p>
+     * Copies the remaining content of the file to the given channel.
+     * </p>
+     * <p>
+     * The content is transferred by the OS without passing through user space when the destination is also a file.
+     * Otherwise the file is mapped into memory region by region and the mapped regions are written to the
+     * destination.
+     * </p>
+     * {@inheritDoc}
+     */
+    @Override
+    public long copyTo(Channel destination) throws IOException {
+        long position = channel.position();
+        long size = channel.size();
+        long copiedBytes = 0;
+        if (destination instanceof FileIOChannel) {
+            FileChannel target = ((FileIOChannel) destination).channel;
+            while (position < size) {
+                long transferredBytes = channel.transferTo(position, size - position, target);
+                if (transferredBytes <= 0) {
+                    break;
+                }
+                position += transferredBytes;
+                copiedBytes += transferredBytes;
+            }
+        } else {
+            while (position < size) {
+                long regionSize = Math.min(MAPPED_REGION_SIZE, size - position);
+                mappedRegion = channel.map(FileChannel.MapMode.READ_ONLY, position, regionSize);
+                destination.writeAll(mappedRegion);
+                releaseMappedRegion();
+                position += regionSize;
+                copiedBytes += regionSize;
+            }
+        }
+        channel.position(position);
+        return copiedBytes;
+    }
+
+    /**
+     * Releases a region which is still mapped, when a copy did not complete, before closing the file.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        releaseMappedRegion();
+        super.close();
+    }
+
+    /**
+     * Unmaps the mapped region right away, rather than leaving the mapping in place until the buffer is garbage
+     * collected. The mapping keeps the address space, and on some platforms the file, in use.
+     */
+    private void releaseMappedRegion() {
+        MappedByteBuffer region = mappedRegion;
+        mappedRegion = null;
+        if (region != null) {
+            IOUtils.unmap(region);
+        }
+    }
+
     @Override
     public Channel getChannel() {
         throw new UnsupportedOperationException();
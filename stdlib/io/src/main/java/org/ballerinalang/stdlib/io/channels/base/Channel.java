@@ -22,10 +22,16 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
 import java.nio.channels.Channels;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
 import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * <p>
@@ -55,6 +61,17 @@ public abstract class Channel implements IOChannel {
      */
     private boolean readable;
 
+    /**
+     * Size of the off-heap buffer used when copying content between channels.
+     */
+    private static final int COPY_BUFFER_SIZE = 65536;
+
+    /**
+     * Bounds of the wait after a write which did not accept any bytes, doubled on each successive such write.
+     */
+    private static final long MIN_WRITE_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+    private static final long MAX_WRITE_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
     private static final Logger log = LoggerFactory.getLogger(Channel.class);
 
     /**
@@ -142,6 +159,73 @@ public abstract class Channel implements IOChannel {
         return byteChannel.write(content);
     }
 
+    /**
+     * <p>
+     * Writes the remaining content of the buffer to the channel.
+     * </p>
+     * <p>
+     * A channel in non-blocking mode may accept no bytes at all while it is full. Instead of retrying right away, the
+     * write is retried once the channel is selected as writable, or after a back off when it is not selectable.
+     * </p>
+     *
+     * @param content the buffer which holds the content.
+     * @return the number of bytes written.
+     * @throws IOException errors occur while writing to the channel.
+     */
+    public int writeAll(ByteBuffer content) throws IOException {
+        int writtenBytes = 0;
+        long backoffNanos = MIN_WRITE_BACKOFF_NANOS;
+        while (content.hasRemaining()) {
+            int bytes = write(content);
+            if (bytes > 0) {
+                writtenBytes += bytes;
+                backoffNanos = MIN_WRITE_BACKOFF_NANOS;
+            } else {
+                awaitWritable(backoffNanos);
+                backoffNanos = Math.min(backoffNanos * 2, MAX_WRITE_BACKOFF_NANOS);
+            }
+        }
+        return writtenBytes;
+    }
+
+    private void awaitWritable(long timeoutNanos) throws IOException {
+        if (byteChannel instanceof SelectableChannel && !((SelectableChannel) byteChannel).isBlocking()) {
+            try (Selector selector = Selector.open()) {
+                ((SelectableChannel) byteChannel).register(selector, SelectionKey.OP_WRITE);
+                selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(timeoutNanos)));
+            }
+        } else {
+            LockSupport.parkNanos(timeoutNanos);
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedIOException("interrupted while waiting for the channel to accept content");
+        }
+    }
+
+    /**
+     * <p>
+     * Copies the remaining content of this channel to the given channel.
+     * </p>
+     * <p>
+     * The content is moved through a direct buffer, hence it is never materialized on the heap.
+     * </p>
+     *
+     * @param destination the channel the content is written to.
+     * @return the number of bytes copied.
+     * @throws IOException errors occur while reading from or writing to the channels.
+     */
+    public long copyTo(Channel destination) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(COPY_BUFFER_SIZE);
+        long copiedBytes = 0;
+        while (!hasReachedEnd()) {
+            read(buffer);
+            buffer.flip();
+            copiedBytes += destination.writeAll(buffer);
+            buffer.clear();
+        }
+        return copiedBytes;
+    }
+
     /**
      * This will return {@link InputStream} from underlying {@link ByteChannel}.
      *
@@ -0,0 +1,389 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.csv;
+
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reads the delimited records of a UTF-8 encoded file as values of a record type.
+ * <p>
+ * The file is read in chunks which end on a record boundary. Chunks are tokenized and bound to records in parallel,
+ * while records are handed out in the order they appear in the file. Only a bounded number of chunks is read ahead,
+ * hence files of any size are read with a bounded amount of memory.
+ * <p>
+ * Chunks are parsed on an executor of this class rather than on a shared pool, so that reading a large file does not
+ * hold up unrelated tasks. Once a quote is found within an unquoted field, which is not valid RFC 4180, the quote
+ * parity of the following chunks is ambiguous and the rest of the file is parsed sequentially on the calling thread.
+ *
+ * @since 2.0.0
+ */
+public class CsvRecordReader implements Closeable {
+
+    private static final int CHUNK_SIZE = 4 * 1024 * 1024;
+    private static final int PARSER_THREADS = Runtime.getRuntime().availableProcessors();
+    private static final int MAX_PENDING_CHUNKS = PARSER_THREADS + 1;
+    private static final byte QUOTE = '"';
+    private static final byte LINE_FEED = '\n';
+    private static final byte[] BYTE_ORDER_MARK = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    private static final ExecutorService PARSER_EXECUTOR = createParserExecutor();
+
+    private final FileChannel channel;
+    private final RecordBinder binder;
+    private final byte separator;
+    private int headersToSkip;
+    private final Deque<Future<List<MapValue<BString, Object>>>> pendingChunks = new ArrayDeque<>();
+    private Iterator<MapValue<BString, Object>> currentChunk = Collections.emptyIterator();
+    private final int chunkSize;
+    private byte[] buffer;
+    private int bufferedBytes = 0;
+    private boolean reachedEnd = false;
+    private boolean firstChunk = true;
+    private boolean sequential = false;
+
+    public CsvRecordReader(FileChannel channel, BRecordType recordType, String separator, int headersToSkip)
+            throws BallerinaIOException {
+        this(channel, recordType, separator, headersToSkip, CHUNK_SIZE);
+    }
+
+    CsvRecordReader(FileChannel channel, BRecordType recordType, String separator, int headersToSkip, int chunkSize)
+            throws BallerinaIOException {
+        if (separator.length() != 1 || separator.charAt(0) > 0x7F || separator.charAt(0) == QUOTE ||
+                separator.charAt(0) == LINE_FEED) {
+            throw new BallerinaIOException("unsupported field separator '" + separator + "'");
+        }
+        this.channel = channel;
+        this.binder = new RecordBinder(recordType);
+        this.separator = (byte) separator.charAt(0);
+        this.headersToSkip = headersToSkip;
+        this.chunkSize = chunkSize;
+        this.buffer = new byte[chunkSize];
+    }
+
+    private static ExecutorService createParserExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(PARSER_THREADS, PARSER_THREADS, 60, TimeUnit.SECONDS,
+                                                             new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "csv-record-parser-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Returns the next record of the file.
+     *
+     * @return the next record or null if there are no more records
+     * @throws BallerinaIOException if the file could not be read or a record could not be bound
+     */
+    public MapValue<BString, Object> next() throws BallerinaIOException {
+        while (!currentChunk.hasNext()) {
+            readChunks();
+            Future<List<MapValue<BString, Object>>> chunk = pendingChunks.poll();
+            if (chunk == null) {
+                return null;
+            }
+            try {
+                currentChunk = chunk.get().iterator();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof BallerinaIOException) {
+                    throw (BallerinaIOException) cause;
+                }
+                throw new BallerinaIOException("error occurred while reading records: " + cause.getMessage(), cause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BallerinaIOException("interrupted while reading records", e);
+            }
+        }
+        return currentChunk.next();
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Future<List<MapValue<BString, Object>>> chunk : pendingChunks) {
+            chunk.cancel(false);
+        }
+        pendingChunks.clear();
+        currentChunk = Collections.emptyIterator();
+        channel.close();
+    }
+
+    private void readChunks() throws BallerinaIOException {
+        while (pendingChunks.size() < (sequential ? 1 : MAX_PENDING_CHUNKS) && !(reachedEnd && bufferedBytes == 0)) {
+            ByteBuffer chunkBuffer = readChunk();
+            byte[] chunk = chunkBuffer.array();
+            int chunkLength = chunkBuffer.limit();
+            int chunkOffset = 0;
+            if (firstChunk && startsWith(chunk, chunkLength, BYTE_ORDER_MARK)) {
+                chunkOffset = BYTE_ORDER_MARK.length;
+            }
+            int chunkHeaders = headersToSkip;
+            firstChunk = false;
+            headersToSkip = 0;
+
+            int offset = chunkOffset;
+            FutureTask<List<MapValue<BString, Object>>> task =
+                    new FutureTask<>(() -> parseChunk(chunk, offset, chunkLength, chunkHeaders));
+            pendingChunks.add(task);
+            if (sequential || (reachedEnd && pendingChunks.size() == 1)) {
+                // Parsing the only remaining chunk in another thread would only add a hand-off. Chunks after an
+                // ambiguous quote are parsed here, one at a time.
+                task.run();
+            } else {
+                PARSER_EXECUTOR.execute(task);
+            }
+        }
+    }
+
+    /**
+     * Reads the file until the buffer holds at least one complete record, and hands the complete records over as
+     * the current chunk. The trailing partial record is carried over to a new buffer.
+     *
+     * @return the chunk, which starts at the beginning of the wrapped array
+     */
+    private ByteBuffer readChunk() throws BallerinaIOException {
+        int scannedBytes = 0;
+        int recordEnd = -1;
+        // The chunk starts at the beginning of a record, hence at the beginning of a field.
+        boolean fieldStart = true;
+        boolean quoted = false;
+        boolean closedQuote = false;
+        while (true) {
+            if (!reachedEnd && bufferedBytes == buffer.length) {
+                // A single record does not fit in the buffer.
+                byte[] largerBuffer = new byte[buffer.length * 2];
+                System.arraycopy(buffer, 0, largerBuffer, 0, bufferedBytes);
+                buffer = largerBuffer;
+            }
+            fillBuffer();
+            if (firstChunk && scannedBytes == 0 && startsWith(buffer, bufferedBytes, BYTE_ORDER_MARK)) {
+                scannedBytes = BYTE_ORDER_MARK.length;
+            }
+            // Line feeds in quoted fields do not end a record. As in parseField, only a quote at the start of a field
+            // opens a quoted field, and a quote right after the closing quote is an escaped quote.
+            for (; scannedBytes < bufferedBytes; scannedBytes++) {
+                byte b = buffer[scannedBytes];
+                if (quoted) {
+                    if (b == QUOTE) {
+                        quoted = false;
+                        closedQuote = true;
+                    }
+                    continue;
+                }
+                if (b == QUOTE) {
+                    if (fieldStart || closedQuote) {
+                        quoted = true;
+                    } else {
+                        sequential = true;
+                    }
+                } else if (b == LINE_FEED) {
+                    recordEnd = scannedBytes;
+                }
+                fieldStart = b == separator || b == LINE_FEED;
+                closedQuote = false;
+            }
+            if (reachedEnd) {
+                ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, bufferedBytes);
+                buffer = new byte[chunkSize];
+                bufferedBytes = 0;
+                return chunk;
+            }
+            if (recordEnd >= 0 && bufferedBytes == buffer.length) {
+                int chunkLength = recordEnd + 1;
+                ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, chunkLength);
+                byte[] nextBuffer = new byte[Math.max(chunkSize, bufferedBytes - chunkLength)];
+                System.arraycopy(buffer, chunkLength, nextBuffer, 0, bufferedBytes - chunkLength);
+                buffer = nextBuffer;
+                bufferedBytes = bufferedBytes - chunkLength;
+                return chunk;
+            }
+        }
+    }
+
+    private void fillBuffer() throws BallerinaIOException {
+        ByteBuffer target = ByteBuffer.wrap(buffer, bufferedBytes, buffer.length - bufferedBytes);
+        try {
+            while (target.hasRemaining()) {
+                if (channel.read(target) < 0) {
+                    reachedEnd = true;
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new BallerinaIOException("error occurred while reading records: " + e.getMessage(), e);
+        }
+        bufferedBytes = target.position();
+    }
+
+    private List<MapValue<BString, Object>> parseChunk(byte[] chunk, int offset, int length, int headers)
+            throws BallerinaIOException {
+        List<MapValue<BString, Object>> records = new ArrayList<>();
+        int position = offset;
+        int headersToSkip = headers;
+        while (position < length) {
+            if (isEmptyLine(chunk, position, length)) {
+                position = skipLine(chunk, position, length);
+                continue;
+            }
+            MapValueImpl<BString, Object> record = headersToSkip > 0 ? null : binder.createRecord();
+            int column = 0;
+            while (true) {
+                position = parseField(chunk, position, length, record, column);
+                column++;
+                if (position < length && chunk[position] == separator) {
+                    position++;
+                    continue;
+                }
+                // Consume the line feed which ends the record.
+                position++;
+                break;
+            }
+            if (record == null) {
+                headersToSkip--;
+            } else {
+                binder.complete(record, column);
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Parses the field which starts at the given position and binds it to the record, unless it is a header.
+     *
+     * @return the position right after the field
+     */
+    private int parseField(byte[] chunk, int start, int length, MapValueImpl<BString, Object> record, int column)
+            throws BallerinaIOException {
+        int position = start;
+        if (position >= length || chunk[position] != QUOTE) {
+            while (position < length && chunk[position] != separator && chunk[position] != LINE_FEED) {
+                position++;
+            }
+            int end = position;
+            if (end > start && chunk[end - 1] == '\r') {
+                end--;
+            }
+            if (record != null) {
+                binder.bind(record, column, chunk, start, end - start);
+            }
+            return position;
+        }
+
+        position++;
+        int valueStart = position;
+        byte[] value = null;
+        int valueLength = 0;
+        while (true) {
+            if (position >= length) {
+                throw new BallerinaIOException("unterminated quoted field for the column " + (column + 1));
+            }
+            if (chunk[position] == QUOTE) {
+                if (position + 1 < length && chunk[position + 1] == QUOTE) {
+                    // Copy the value without the escape quote.
+                    int segmentLength = position + 1 - valueStart;
+                    value = appendSegment(value, valueLength, chunk, valueStart, segmentLength);
+                    valueLength += segmentLength;
+                    position += 2;
+                    valueStart = position;
+                    continue;
+                }
+                break;
+            }
+            position++;
+        }
+        if (record != null) {
+            if (value == null) {
+                binder.bind(record, column, chunk, valueStart, position - valueStart);
+            } else {
+                int segmentLength = position - valueStart;
+                value = appendSegment(value, valueLength, chunk, valueStart, segmentLength);
+                binder.bind(record, column, value, 0, valueLength + segmentLength);
+            }
+        }
+
+        // Skip the closing quote.
+        position++;
+        if (position < length && chunk[position] == '\r') {
+            position++;
+        }
+        if (position < length && chunk[position] != separator && chunk[position] != LINE_FEED) {
+            throw new BallerinaIOException("unexpected character after the quoted field for the column " +
+                                                   (column + 1));
+        }
+        return position;
+    }
+
+    private static byte[] appendSegment(byte[] value, int valueLength, byte[] chunk, int offset, int length) {
+        byte[] result = value;
+        if (result == null || result.length < valueLength + length) {
+            result = new byte[Math.max(valueLength + length, valueLength * 2)];
+            if (value != null) {
+                System.arraycopy(value, 0, result, 0, valueLength);
+            }
+        }
+        System.arraycopy(chunk, offset, result, valueLength, length);
+        return result;
+    }
+
+    private static boolean isEmptyLine(byte[] chunk, int position, int length) {
+        return chunk[position] == LINE_FEED ||
+                (chunk[position] == '\r' && (position + 1 == length || chunk[position + 1] == LINE_FEED));
+    }
+
+    private static int skipLine(byte[] chunk, int position, int length) {
+        return chunk[position] == LINE_FEED ? position + 1 : Math.min(position + 2, length);
+    }
+
+    private static boolean startsWith(byte[] bytes, int length, byte[] prefix) {
+        if (length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (bytes[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.csv;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.values.DecimalValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Binds the columns of delimited records to the fields of a record type, in the order the fields are declared.
+ * <p>
+ * Columns are converted straight from the bytes they were read into. Numeric and boolean columns never go through
+ * an intermediate string, except for float values which cannot be converted exactly on the fast path.
+ *
+ * @since 2.0.0
+ */
+class RecordBinder {
+
+    private static final double[] POWERS_OF_TEN = new double[23];
+    // Up to this many significant digits the mantissa of a float value is an exact double.
+    private static final int MAX_EXACT_FLOAT_DIGITS = 15;
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final BRecordType recordType;
+    private final String[] fieldNames;
+    private final BString[] fieldKeys;
+    private final int[] fieldTypeTags;
+    private final boolean[] nilableFields;
+
+    RecordBinder(BRecordType recordType) throws BallerinaIOException {
+        this.recordType = recordType;
+        Map<String, BField> fields = recordType.getFields();
+        this.fieldNames = new String[fields.size()];
+        this.fieldKeys = new BString[fields.size()];
+        this.fieldTypeTags = new int[fields.size()];
+        this.nilableFields = new boolean[fields.size()];
+        int index = 0;
+        for (BField field : fields.values()) {
+            BType fieldType = field.getFieldType();
+            fieldNames[index] = field.getFieldName();
+            fieldKeys[index] = StringUtils.fromString(field.getFieldName());
+            nilableFields[index] = fieldType.isNilable();
+            fieldTypeTags[index] = getFieldTypeTag(field.getFieldName(), fieldType);
+            index++;
+        }
+    }
+
+    private static int getFieldTypeTag(String fieldName, BType fieldType) throws BallerinaIOException {
+        BType type = fieldType;
+        if (type.getTag() == TypeTags.UNION_TAG) {
+            type = null;
+            for (BType memberType : ((BUnionType) fieldType).getMemberTypes()) {
+                if (memberType.getTag() == TypeTags.NULL_TAG) {
+                    continue;
+                }
+                if (type != null) {
+                    throw new BallerinaIOException("unsupported union type for the field '" + fieldName + "'");
+                }
+                type = memberType;
+            }
+            if (type == null) {
+                throw new BallerinaIOException("unsupported type '" + fieldType + "' for the field '" + fieldName
+                                                       + "'");
+            }
+        }
+        switch (type.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.BOOLEAN_TAG:
+                return type.getTag();
+            default:
+                throw new BallerinaIOException("type casting support only for int, float, decimal, boolean and "
+                                                       + "string. Invalid type for the field '" + fieldName + "'");
+        }
+    }
+
+    MapValueImpl<BString, Object> createRecord() {
+        return new MapValueImpl<>(recordType);
+    }
+
+    /**
+     * Binds a column to the field at the same position. An empty column is bound as nil if the field is nilable.
+     * Columns beyond the fields of the record type are ignored.
+     *
+     * @param record the record the column belongs to
+     * @param column position of the column in the delimited record
+     * @param bytes  buffer holding the column
+     * @param offset offset of the column in the buffer
+     * @param length length of the column in bytes
+     * @throws BallerinaIOException if the column cannot be converted to the type of the field
+     */
+    void bind(MapValueImpl<BString, Object> record, int column, byte[] bytes, int offset, int length)
+            throws BallerinaIOException {
+        if (column >= fieldKeys.length) {
+            return;
+        }
+        int fieldTypeTag = fieldTypeTags[column];
+        if (length == 0 && nilableFields[column]) {
+            record.put(fieldKeys[column], null);
+            return;
+        }
+        if (fieldTypeTag == TypeTags.STRING_TAG) {
+            record.put(fieldKeys[column], StringUtils.fromString(new String(bytes, offset, length,
+                                                                            StandardCharsets.UTF_8)));
+            return;
+        }
+
+        // Surrounding whitespace is not significant for non-string values.
+        while (length > 0 && isWhitespace(bytes[offset])) {
+            offset++;
+            length--;
+        }
+        while (length > 0 && isWhitespace(bytes[offset + length - 1])) {
+            length--;
+        }
+        if (length == 0) {
+            bindMissing(record, column);
+            return;
+        }
+
+        try {
+            switch (fieldTypeTag) {
+                case TypeTags.INT_TAG:
+                    record.put(fieldKeys[column], parseInt(bytes, offset, length));
+                    break;
+                case TypeTags.FLOAT_TAG:
+                    record.put(fieldKeys[column], parseFloat(bytes, offset, length));
+                    break;
+                case TypeTags.DECIMAL_TAG:
+                    record.put(fieldKeys[column], new DecimalValue(parseDecimal(bytes, offset, length)));
+                    break;
+                default:
+                    record.put(fieldKeys[column], parseBoolean(bytes, offset, length));
+                    break;
+            }
+        } catch (NumberFormatException e) {
+            throw new BallerinaIOException("invalid value '" + new String(bytes, offset, length,
+                                                                          StandardCharsets.UTF_8)
+                                                   + "' for the field '" + fieldNames[column] + "'");
+        }
+    }
+
+    /**
+     * Completes a record by setting the fields, which had no column in the delimited record, to nil.
+     *
+     * @param record  the record to complete
+     * @param columns number of columns in the delimited record
+     * @throws BallerinaIOException if a field without a column is not nilable
+     */
+    void complete(MapValueImpl<BString, Object> record, int columns) throws BallerinaIOException {
+        for (int column = columns; column < fieldKeys.length; column++) {
+            bindMissing(record, column);
+        }
+    }
+
+    private void bindMissing(MapValueImpl<BString, Object> record, int column) throws BallerinaIOException {
+        if (!nilableFields[column]) {
+            throw new BallerinaIOException("missing value for the field '" + fieldNames[column] + "'");
+        }
+        record.put(fieldKeys[column], null);
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    static long parseInt(byte[] bytes, int offset, int length) {
+        int index = offset;
+        int end = offset + length;
+        boolean negative = bytes[index] == '-';
+        if (negative || bytes[index] == '+') {
+            index++;
+            if (index == end) {
+                throw new NumberFormatException();
+            }
+        }
+        // Accumulate negatively, since the range of negative values is the larger one.
+        long value = 0;
+        for (; index < end; index++) {
+            int digit = bytes[index] - '0';
+            if (digit < 0 || digit > 9 || value < (Long.MIN_VALUE + digit) / 10) {
+                throw new NumberFormatException();
+            }
+            value = value * 10 - digit;
+        }
+        if (negative) {
+            return value;
+        }
+        if (value == Long.MIN_VALUE) {
+            throw new NumberFormatException();
+        }
+        return -value;
+    }
+
+    static double parseFloat(byte[] bytes, int offset, int length) {
+        int index = offset;
+        int end = offset + length;
+        boolean negative = bytes[index] == '-';
+        if (negative || bytes[index] == '+') {
+            index++;
+        }
+        long mantissa = 0;
+        int significantDigits = 0;
+        int fractionDigits = 0;
+        boolean hasDigits = false;
+        boolean hasPoint = false;
+        for (; index < end; index++) {
+            byte b = bytes[index];
+            if (b >= '0' && b <= '9') {
+                hasDigits = true;
+                if (mantissa != 0 || b != '0') {
+                    significantDigits++;
+                }
+                if (significantDigits > MAX_EXACT_FLOAT_DIGITS) {
+                    return parseFloatSlow(bytes, offset, length);
+                }
+                mantissa = mantissa * 10 + (b - '0');
+                if (hasPoint) {
+                    fractionDigits++;
+                }
+            } else if (b == '.' && !hasPoint) {
+                hasPoint = true;
+            } else {
+                // Exponents, NaN and Infinity.
+                return parseFloatSlow(bytes, offset, length);
+            }
+        }
+        if (!hasDigits || fractionDigits >= POWERS_OF_TEN.length) {
+            return parseFloatSlow(bytes, offset, length);
+        }
+        // Both operands are exact, hence the quotient is the correctly rounded value.
+        double value = mantissa / POWERS_OF_TEN[fractionDigits];
+        return negative ? -value : value;
+    }
+
+    private static double parseFloatSlow(byte[] bytes, int offset, int length) {
+        return Double.parseDouble(new String(bytes, offset, length, StandardCharsets.ISO_8859_1));
+    }
+
+    private static BigDecimal parseDecimal(byte[] bytes, int offset, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) bytes[offset + i];
+        }
+        return new BigDecimal(chars, 0, length, MathContext.DECIMAL128);
+    }
+
+    private static boolean parseBoolean(byte[] bytes, int offset, int length) {
+        if (matches(bytes, offset, length, "true")) {
+            return true;
+        }
+        if (matches(bytes, offset, length, "false")) {
+            return false;
+        }
+        throw new NumberFormatException();
+    }
+
+    private static boolean matches(byte[] bytes, int offset, int length, String value) {
+        if (length != value.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (Character.toLowerCase((char) bytes[offset + i]) != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
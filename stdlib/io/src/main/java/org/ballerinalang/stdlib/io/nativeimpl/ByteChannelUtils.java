@@ -125,6 +125,17 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         }
     }
 
+    public static Object copyTo(ObjectValue channel, ObjectValue destination) {
+        Channel sourceChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
+        Channel destinationChannel = (Channel) destination.getNativeData(BYTE_CHANNEL_NAME);
+        try {
+            return sourceChannel.copyTo(destinationChannel);
+        } catch (IOException e) {
+            log.error("Error occurred while copying the channel.", e);
+            return IOUtils.createError(e);
+        }
+    }
+
     public static Object openReadableFile(BString pathUrl) {
         Object channel;
         try {
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.nativeimpl;
+
+import org.ballerinalang.jvm.BRuntime;
+import org.ballerinalang.jvm.BallerinaValues;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BStreamType;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.StreamValue;
+import org.ballerinalang.jvm.values.TypedescValue;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.stdlib.io.csv.CsvRecordReader;
+import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
+import org.ballerinalang.stdlib.io.utils.IOConstants;
+import org.ballerinalang.stdlib.io.utils.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+
+import static org.ballerinalang.stdlib.io.utils.IOConstants.CSV_RECORD_READER_NAME;
+
+/**
+ * This class hold Java inter-ops bridging functions for io#readCsvRecords.
+ *
+ * @since 2.0.0
+ */
+public class CsvRecordStreamUtils {
+
+    private static final Logger log = LoggerFactory.getLogger(CsvRecordStreamUtils.class);
+    private static final String READ_ACCESS_MODE = "r";
+    private static final String CSV_RECORD_ITERATOR = "CsvRecordIterator";
+
+    private CsvRecordStreamUtils() {
+    }
+
+    public static Object readCsvRecords(BString path, TypedescValue recordType, BString fieldSeparator,
+                                        long skipHeaders) {
+        BRecordType streamConstraint = (BRecordType) recordType.getDescribingType();
+        FileChannel fileChannel = null;
+        try {
+            fileChannel = IOUtils.openFileChannelExtended(Paths.get(path.getValue()), READ_ACCESS_MODE);
+            CsvRecordReader reader = new CsvRecordReader(fileChannel, streamConstraint, fieldSeparator.getValue(),
+                                                         (int) skipHeaders);
+            ObjectValue iterator = BallerinaValues.createObjectValue(IOConstants.IO_PACKAGE_ID, CSV_RECORD_ITERATOR);
+            iterator.addNativeData(CSV_RECORD_READER_NAME, reader);
+            return new StreamValue(new BStreamType(streamConstraint), iterator);
+        } catch (BallerinaIOException e) {
+            closeQuietly(fileChannel);
+            return IOUtils.createError(e);
+        } catch (ErrorValue e) {
+            closeQuietly(fileChannel);
+            return e;
+        }
+    }
+
+    public static Object nextRecord(ObjectValue iterator) {
+        CsvRecordReader reader = (CsvRecordReader) iterator.getNativeData(CSV_RECORD_READER_NAME);
+        return BRuntime.executeBlocking(() -> {
+            try {
+                return reader.next();
+            } catch (BallerinaIOException e) {
+                log.error("error occurred while reading a CSV record", e);
+                return IOUtils.createError(e);
+            }
+        });
+    }
+
+    public static Object closeRecordStream(ObjectValue iterator) {
+        CsvRecordReader reader = (CsvRecordReader) iterator.getNativeData(CSV_RECORD_READER_NAME);
+        try {
+            reader.close();
+        } catch (IOException e) {
+            return IOUtils.createError(e);
+        }
+        return null;
+    }
+
+    private static void closeQuietly(FileChannel fileChannel) {
+        if (fileChannel == null) {
+            return;
+        }
+        try {
+            fileChannel.close();
+        } catch (IOException e) {
+            log.error("error occurred while closing the file channel", e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.nativeimpl;
+
+import org.ballerinalang.jvm.BRuntime;
+import org.ballerinalang.jvm.BallerinaValues;
+import org.ballerinalang.jvm.XMLElementStreamReader;
+import org.ballerinalang.jvm.types.BStreamType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.StreamValue;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.stdlib.io.channels.base.CharacterChannel;
+import org.ballerinalang.stdlib.io.readers.CharacterChannelReader;
+import org.ballerinalang.stdlib.io.utils.IOConstants;
+import org.ballerinalang.stdlib.io.utils.IOUtils;
+
+import static org.ballerinalang.stdlib.io.utils.IOConstants.CHARACTER_CHANNEL_NAME;
+import static org.ballerinalang.stdlib.io.utils.IOConstants.XML_ELEMENT_READER_NAME;
+
+/**
+ * This class hold Java inter-ops bridging functions for io#ReadableCharacterChannel#readXmlElements.
+ *
+ * @since 2.0.0
+ */
+public class XmlElementStreamUtils {
+
+    private static final String XML_ELEMENT_ITERATOR = "XmlElementIterator";
+
+    private XmlElementStreamUtils() {
+    }
+
+    public static Object readXmlElements(ObjectValue channel, BString path) {
+        CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
+        try {
+            XMLElementStreamReader reader = new XMLElementStreamReader(new CharacterChannelReader(charChannel),
+                                                                       path.getValue());
+            ObjectValue iterator = BallerinaValues.createObjectValue(IOConstants.IO_PACKAGE_ID, XML_ELEMENT_ITERATOR);
+            iterator.addNativeData(XML_ELEMENT_READER_NAME, reader);
+            return new StreamValue(new BStreamType(BTypes.typeXML), iterator);
+        } catch (ErrorValue e) {
+            return IOUtils.createError(e.getMessage());
+        }
+    }
+
+    public static Object nextElement(ObjectValue iterator) {
+        XMLElementStreamReader reader = (XMLElementStreamReader) iterator.getNativeData(XML_ELEMENT_READER_NAME);
+        return BRuntime.executeBlocking(() -> {
+            try {
+                return reader.next();
+            } catch (ErrorValue e) {
+                return IOUtils.createError(e.getMessage());
+            }
+        });
+    }
+
+    public static Object closeElementStream(ObjectValue iterator) {
+        XMLElementStreamReader reader = (XMLElementStreamReader) iterator.getNativeData(XML_ELEMENT_READER_NAME);
+        try {
+            reader.close();
+        } catch (ErrorValue e) {
+            return IOUtils.createError(e.getMessage());
+        }
+        return null;
+    }
+}
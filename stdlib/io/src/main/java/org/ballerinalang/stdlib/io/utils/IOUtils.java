@@ -28,9 +28,14 @@ import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.channels.base.CharacterChannel;
 import org.ballerinalang.stdlib.io.channels.base.DelimitedRecordChannel;
 import org.ballerinalang.stdlib.io.csv.Format;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.file.AccessDeniedException;
@@ -54,6 +59,8 @@ import static org.ballerinalang.stdlib.io.utils.IOConstants.IO_PACKAGE_ID;
  */
 public class IOUtils {
 
+    private static final Logger log = LoggerFactory.getLogger(IOUtils.class);
+
     private IOUtils() {
     }
 
@@ -286,4 +293,40 @@ public class IOUtils {
         CharacterChannel characterChannel = new CharacterChannel(fileIOChannel, Charset.forName(encoding).name());
         return new DelimitedRecordChannel(characterChannel, format);
     }
+
+    /**
+     * <p>
+     * Unmaps a buffer mapped from a file, without waiting for it to be garbage collected.
+     * </p>
+     * <p>
+     * There is no public API to release a mapping, hence this goes through the buffer cleaner: through
+     * {@code Unsafe.invokeCleaner} from Java 9 onwards and through the cleaner of the buffer itself on Java 8. If
+     * neither is accessible, the mapping is left to be released when the buffer is collected. The buffer must not be
+     * used once it is unmapped.
+     * </p>
+     *
+     * @param buffer the mapped buffer.
+     */
+    public static void unmap(MappedByteBuffer buffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner;
+            try {
+                invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            } catch (NoSuchMethodException e) {
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null) {
+                    cleaner.getClass().getMethod("clean").invoke(cleaner);
+                }
+                return;
+            }
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            invokeCleaner.invoke(theUnsafe.get(null), buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("Unable to unmap the buffer, it will be released once it is garbage collected.", e);
+        }
+    }
 }
@@ -229,6 +229,31 @@ public class IOTest {
         BRunUtil.invoke(bytesInputOutputProgramFile, "closeWritableChannel");
     }
 
+    @Test(description = "Test 'copyTo' function of a file channel in ballerina/io package")
+    public void testCopyFileChannel() throws URISyntaxException, IOException {
+        String resourceToRead = "datafiles/io/text/fileThatExceeds2MB.txt";
+        String sourceToWrite = currentDirectoryPath + "/copiedFile.txt";
+
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)), new BString(sourceToWrite) };
+        BValue[] returns = BRunUtil.invoke(bytesInputOutputProgramFile, "testCopyToFile", args);
+
+        byte[] expectedContent = Files.readAllBytes(Paths.get(getAbsoluteFilePath(resourceToRead)));
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), expectedContent.length);
+        Assert.assertEquals(Files.readAllBytes(Paths.get(sourceToWrite)), expectedContent);
+    }
+
+    @Test(description = "Test 'copyTo' function of a byte array channel in ballerina/io package")
+    public void testCopyBytesChannel() throws IOException {
+        byte[] content = "The quick brown fox jumps over the lazy dog".getBytes(StandardCharsets.UTF_8);
+        String sourceToWrite = currentDirectoryPath + "/copiedBytesFile.txt";
+
+        BValue[] args = { new BValueArray(content), new BString(sourceToWrite) };
+        BValue[] returns = BRunUtil.invoke(bytesInputOutputProgramFile, "testCopyBytesToFile", args);
+
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), content.length);
+        Assert.assertEquals(Files.readAllBytes(Paths.get(sourceToWrite)), content);
+    }
+
     @Test(description = "Test 'writeCharacters' function in ballerina/io package")
     public void testWriteCharacters() {
         String content = "The quick brown fox jumps over the lazy dog";
@@ -386,6 +411,36 @@ public class IOTest {
         BRunUtil.invoke(characterInputOutputProgramFile, "closeReadableChannel");
     }
 
+    @Test(description = "Test 'readXmlElements' function in ballerina/io package")
+    public void testXmlElementStream() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/text/cd_catalog.xml";
+
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)), new BString("UTF-8") };
+        BRunUtil.invoke(characterInputOutputProgramFile, "initReadableChannel", args);
+
+        BValue[] returns = BRunUtil.invoke(characterInputOutputProgramFile, "readXmlElements",
+                                           new BValue[]{ new BString("CATALOG/CD/TITLE") });
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 26);
+        Assert.assertEquals(returns[1].stringValue(), "<TITLE>Empire Burlesque</TITLE>");
+
+        BRunUtil.invoke(characterInputOutputProgramFile, "closeReadableChannel");
+    }
+
+    @Test(description = "Test 'readXmlElements' function with a path matching any element name")
+    public void testXmlElementStreamWithAnyName() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/text/cd_catalog.xml";
+
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)), new BString("UTF-8") };
+        BRunUtil.invoke(characterInputOutputProgramFile, "initReadableChannel", args);
+
+        BValue[] returns = BRunUtil.invoke(characterInputOutputProgramFile, "readXmlElements",
+                                           new BValue[]{ new BString("/*/CD") });
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 26);
+        Assert.assertTrue(returns[1].stringValue().startsWith("<CD><TITLE>Empire Burlesque</TITLE>"));
+
+        BRunUtil.invoke(characterInputOutputProgramFile, "closeReadableChannel");
+    }
+
     @Test(description = "Test function to convert string to json")
     public void convertStringToJsonTest() throws URISyntaxException {
         String content = "{\n" + "  \"test\": { \"name\": \"Foo\" }\n" + "}";
@@ -18,6 +18,7 @@
 package org.ballerinalang.stdlib.io.bytes;
 
 import org.ballerinalang.stdlib.io.MockByteChannel;
+import org.ballerinalang.stdlib.io.channels.FileIOChannel;
 import org.ballerinalang.stdlib.io.channels.base.Buffer;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.util.TestUtil;
@@ -33,6 +34,11 @@ import java.io.InputStreamReader;
 import java.net.URISyntaxException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.stream.Collectors;
 
 /**
@@ -106,6 +112,10 @@ public class BytesInputOutputBufferTest {
         return totalNumberOfBytesWritten;
     }
 
+    private byte[] readResource(String resourcePath) throws IOException, URISyntaxException {
+        return Files.readAllBytes(Paths.get(getClass().getClassLoader().getResource(resourcePath).toURI()));
+    }
+
     @Test(description = "Reads files into multiple iterations")
     public void multiReadFile() throws IOException, URISyntaxException {
         int initialReadLimit = 3;
@@ -278,4 +288,116 @@ public class BytesInputOutputBufferTest {
         channel.close();
         channel.getInputStream();
     }
+
+    @Test(description = "Copy a file to another file through the file channels")
+    public void copyFileToFile() throws IOException, URISyntaxException {
+        String sourceFile = "datafiles/io/text/fileThatExceeds2MB.txt";
+        Path destinationFile = Paths.get(currentDirectoryPath + "copyFileToFile.txt");
+        Files.deleteIfExists(destinationFile);
+        Channel source = new FileIOChannel((FileChannel) TestUtil.openForReading(sourceFile));
+        Channel destination = new FileIOChannel(
+                (FileChannel) TestUtil.openForReadingAndWriting(destinationFile.toString()));
+        long copiedBytes = source.copyTo(destination);
+        source.close();
+        destination.close();
+
+        byte[] expectedContent = readResource(sourceFile);
+        Assert.assertEquals(copiedBytes, expectedContent.length);
+        Assert.assertEquals(Files.readAllBytes(destinationFile), expectedContent);
+    }
+
+    @Test(description = "Copy a memory-mapped file to a channel which is not a file")
+    public void copyFileToChannel() throws IOException, URISyntaxException {
+        String sourceFile = "datafiles/io/text/fileThatExceeds2MB.txt";
+        Path destinationFile = Paths.get(currentDirectoryPath + "copyFileToChannel.txt");
+        Files.deleteIfExists(destinationFile);
+        Channel source = new FileIOChannel((FileChannel) TestUtil.openForReading(sourceFile));
+        Channel destination = new MockByteChannel(TestUtil.openForReadingAndWriting(destinationFile.toString()));
+        // Skip the first bytes to copy from the middle of the file.
+        read(3, source);
+        long copiedBytes = source.copyTo(destination);
+        source.close();
+        destination.close();
+
+        byte[] sourceContent = readResource(sourceFile);
+        Assert.assertEquals(copiedBytes, sourceContent.length - 3);
+        Assert.assertEquals(Files.readAllBytes(destinationFile),
+                            Arrays.copyOfRange(sourceContent, 3, sourceContent.length));
+    }
+
+    @Test(description = "Copy a channel which is not a file to another channel")
+    public void copyChannelToChannel() throws IOException, URISyntaxException {
+        Path destinationFile = Paths.get(currentDirectoryPath + "copyChannelToChannel.txt");
+        Files.deleteIfExists(destinationFile);
+        Channel source = new MockByteChannel(TestUtil.openForReading("datafiles/io/text/6charfile.txt"));
+        Channel destination = new MockByteChannel(TestUtil.openForReadingAndWriting(destinationFile.toString()));
+        long copiedBytes = source.copyTo(destination);
+        source.close();
+        destination.close();
+
+        Assert.assertEquals(copiedBytes, 6);
+        Assert.assertTrue(source.hasReachedEnd());
+        Assert.assertEquals(new String(Files.readAllBytes(destinationFile)), "123456");
+    }
+
+    @Test(description = "Copy a memory-mapped file to a channel which intermittently accepts no bytes")
+    public void copyFileToThrottledChannel() throws IOException, URISyntaxException {
+        String sourceFile = "datafiles/io/text/fileThatExceeds2MB.txt";
+        Path destinationFile = Paths.get(currentDirectoryPath + "copyFileToThrottledChannel.txt");
+        Files.deleteIfExists(destinationFile);
+        Channel source = new FileIOChannel((FileChannel) TestUtil.openForReading(sourceFile));
+        Channel destination = new MockByteChannel(
+                new ThrottledByteChannel(TestUtil.openForReadingAndWriting(destinationFile.toString())));
+        long copiedBytes = source.copyTo(destination);
+        source.close();
+        destination.close();
+
+        byte[] expectedContent = readResource(sourceFile);
+        Assert.assertEquals(copiedBytes, expectedContent.length);
+        Assert.assertEquals(Files.readAllBytes(destinationFile), expectedContent);
+    }
+
+    /**
+     * Accepts no bytes on every other write, like a full non-blocking channel, and a limited number of bytes
+     * otherwise.
+     */
+    private static class ThrottledByteChannel implements ByteChannel {
+
+        private static final int MAX_WRITE_SIZE = 65536;
+
+        private final ByteChannel channel;
+        private boolean full = false;
+
+        private ThrottledByteChannel(ByteChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return channel.read(dst);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            full = !full;
+            if (full) {
+                return 0;
+            }
+            ByteBuffer chunk = src.duplicate();
+            chunk.limit(chunk.position() + Math.min(chunk.remaining(), MAX_WRITE_SIZE));
+            int writtenBytes = channel.write(chunk);
+            src.position(src.position() + writtenBytes);
+            return writtenBytes;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
 }
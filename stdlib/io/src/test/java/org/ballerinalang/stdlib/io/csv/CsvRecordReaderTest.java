@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.csv;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for {@link CsvRecordReader}, with chunks small enough for records to span chunk boundaries.
+ */
+public class CsvRecordReaderTest {
+
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString NAME = StringUtils.fromString("name");
+
+    private BRecordType recordType;
+    private Path csvFile;
+
+    @BeforeClass
+    public void setup() {
+        recordType = new BRecordType("Row", new BPackage("$anon", "."), 0, true, 0);
+        Map<String, BField> fields = new LinkedHashMap<>();
+        fields.put("id", new BField(BTypes.typeInt, "id", 0));
+        fields.put("name", new BField(BTypes.typeString, "name", 0));
+        recordType.setFields(fields);
+    }
+
+    @AfterClass
+    public void cleanup() throws IOException {
+        if (csvFile != null) {
+            Files.deleteIfExists(csvFile);
+        }
+    }
+
+    @Test(description = "Test records and quoted line feeds on every chunk boundary")
+    public void testRecordsAcrossChunkBoundaries() throws IOException, BallerinaIOException {
+        List<String> names = new ArrayList<>();
+        StringBuilder content = new StringBuilder("id,name\r\n");
+        for (int i = 0; i < 200; i++) {
+            String name = i % 3 == 0 ? "line " + i + "\nand \"\"quoted\"\", line" : "name " + i;
+            names.add(name.replace("\"\"", "\""));
+            content.append(i).append(',').append(i % 3 == 0 ? "\"" + name + "\"" : name).append("\r\n");
+        }
+        csvFile = writeFile(content.toString());
+
+        // Every chunk size moves the chunk boundaries, until each position of a record has been on a boundary.
+        for (int chunkSize = 8; chunkSize <= 64; chunkSize++) {
+            List<MapValue<BString, Object>> records = readAll(chunkSize);
+            Assert.assertEquals(records.size(), names.size(), "chunk size " + chunkSize);
+            for (int i = 0; i < records.size(); i++) {
+                Assert.assertEquals(records.get(i).get(ID), (long) i, "chunk size " + chunkSize);
+                Assert.assertEquals(records.get(i).get(NAME).toString(), names.get(i), "chunk size " + chunkSize);
+            }
+        }
+    }
+
+    @Test(description = "Test a quote within an unquoted field, which falls back to sequential parsing")
+    public void testQuoteInUnquotedField() throws IOException, BallerinaIOException {
+        StringBuilder content = new StringBuilder("id,name\n");
+        content.append("0,6\" tall\n");
+        for (int i = 1; i < 100; i++) {
+            content.append(i).append(",\"name\n").append(i).append("\"\n");
+        }
+        csvFile = writeFile(content.toString());
+
+        for (int chunkSize = 8; chunkSize <= 32; chunkSize++) {
+            List<MapValue<BString, Object>> records = readAll(chunkSize);
+            Assert.assertEquals(records.size(), 100, "chunk size " + chunkSize);
+            Assert.assertEquals(records.get(0).get(NAME).toString(), "6\" tall");
+            for (int i = 1; i < records.size(); i++) {
+                Assert.assertEquals(records.get(i).get(ID), (long) i, "chunk size " + chunkSize);
+                Assert.assertEquals(records.get(i).get(NAME).toString(), "name\n" + i, "chunk size " + chunkSize);
+            }
+        }
+    }
+
+    private List<MapValue<BString, Object>> readAll(int chunkSize) throws IOException, BallerinaIOException {
+        List<MapValue<BString, Object>> records = new ArrayList<>();
+        FileChannel channel = FileChannel.open(csvFile, StandardOpenOption.READ);
+        try (CsvRecordReader reader = new CsvRecordReader(channel, recordType, ",", 1, chunkSize)) {
+            MapValue<BString, Object> record;
+            while ((record = reader.next()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    private Path writeFile(String content) throws IOException {
+        if (csvFile != null) {
+            Files.deleteIfExists(csvFile);
+        }
+        Path file = Files.createTempFile("records", ".csv");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
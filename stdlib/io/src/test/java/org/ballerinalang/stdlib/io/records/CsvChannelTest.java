@@ -20,6 +20,7 @@ package org.ballerinalang.stdlib.io.records;
 
 import org.ballerinalang.model.values.BBoolean;
 import org.ballerinalang.model.values.BError;
+import org.ballerinalang.model.values.BFloat;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
@@ -437,6 +438,27 @@ public class CsvChannelTest {
 //        }
 //    }
 
+    @Test(description = "Test reading CSV records as a stream of typed records")
+    public void readCsvRecordStream() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/records/sample6.csv";
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)) };
+        BValue[] result = BRunUtil.invoke(csvInputOutputProgramFile, "readCsvRecordStream", args);
+        BValueArray values = (BValueArray) result[0];
+        Assert.assertEquals(values.getRefValue(0).stringValue(), "Person1Person2Person3");
+        Assert.assertEquals(values.getRefValue(1).stringValue(), "EngMrk-1");
+        Assert.assertEquals(((BInteger) values.getRefValue(2)).intValue(), 9);
+        Assert.assertEquals(((BFloat) values.getRefValue(3)).floatValue(), 10.5);
+    }
+
+    @Test(description = "Test reading CSV records which cannot be bound to the record type")
+    public void readInvalidCsvRecordStream() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/records/sample6.csv";
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)) };
+        BValue[] result = BRunUtil.invoke(csvInputOutputProgramFile, "readInvalidCsvRecordStream", args);
+        Assert.assertTrue(result[0] instanceof BError);
+        Assert.assertTrue(((BError) result[0]).stringValue().contains("invalid value 'ID' for the field 'id'"));
+    }
+
     private String getAbsoluteFilePath(String relativePath) throws URISyntaxException {
         URL fileResource = BCompileUtil.class.getClassLoader().getResource(relativePath);
         String pathValue = "";
@@ -79,3 +79,21 @@ function testBase64EncodeByteChannel(io:ReadableByteChannel contentToBeEncoded)
 function testBase64DecodeByteChannel(io:ReadableByteChannel contentToBeDecoded) returns io:ReadableByteChannel|io:Error {
     return contentToBeDecoded.base64Decode();
 }
+
+function testCopyToFile(string sourcePath, string destinationPath) returns @tainted int|io:Error {
+    io:ReadableByteChannel source = check io:openReadableFile(sourcePath);
+    io:WritableByteChannel destination = check io:openWritableFile(destinationPath);
+    int|io:Error copiedBytes = source.copyTo(destination);
+    check source.close();
+    check destination.close();
+    return copiedBytes;
+}
+
+function testCopyBytesToFile(byte[] content, string destinationPath) returns @tainted int|io:Error {
+    io:ReadableByteChannel source = check io:createReadableChannel(content);
+    io:WritableByteChannel destination = check io:openWritableFile(destinationPath);
+    int|io:Error copiedBytes = source.copyTo(destination);
+    check source.close();
+    check destination.close();
+    return copiedBytes;
+}
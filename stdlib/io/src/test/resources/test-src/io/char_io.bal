@@ -130,6 +130,27 @@ function readXml() returns @tainted xml|error {
     return e;
 }
 
+function readXmlElements(string path) returns @tainted [int, string]|error {
+    var rCha = rch;
+    if (rCha is io:ReadableCharacterChannel) {
+        stream<xml, io:Error> elements = check rCha.readXmlElements(path);
+        int count = 0;
+        string first = "";
+        error? e = elements.forEach(function (xml element) {
+            if (count == 0) {
+                first = element.toString();
+            }
+            count += 1;
+        });
+        if (e is error) {
+            return e;
+        }
+        return [count, first];
+    }
+    io:GenericError e = error(io:GENERIC_ERROR, message = "Character channel not initialized properly");
+    return e;
+}
+
 function writeJson(json content) {
     var wCha = wch;
     if(wCha is io:WritableCharacterChannel){
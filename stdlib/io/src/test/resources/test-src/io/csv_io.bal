@@ -181,3 +181,31 @@ function hasNextRecord() returns boolean? {
 //    }
 //    return keys;
 //}
+
+function readCsvRecordStream(string filePath) returns @tainted [string, string, int, float]|error {
+    stream<record {}, io:Error> perDiems = check io:readCsvRecords(filePath, PerDiem, skipHeaders = 1);
+    string names = "";
+    string departments = "";
+    int beverageAllowance = 0;
+    float total = 0.0;
+    error? e = perDiems.forEach(function (record {} rec) {
+        PerDiem perDiem = <PerDiem> rec;
+        names = names + perDiem.name;
+        departments = departments + (perDiem.department ?: "-1");
+        beverageAllowance = beverageAllowance + (perDiem.beverageAllowance ?: 0);
+        total = total + (perDiem.total ?: 0.0);
+    });
+    if (e is error) {
+        return e;
+    }
+    return [names, departments, beverageAllowance, total];
+}
+
+function readInvalidCsvRecordStream(string filePath) returns @tainted error? {
+    stream<record {}, io:Error> employees = check io:readCsvRecords(filePath, PerDiem);
+    record {|record {} value;|}|io:Error? next = employees.next();
+    while (next is record {|record {} value;|}) {
+        next = employees.next();
+    }
+    return next;
+}
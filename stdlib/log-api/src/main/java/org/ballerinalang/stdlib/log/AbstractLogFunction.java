@@ -26,9 +26,17 @@ import org.ballerinalang.logging.util.BLogLevel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.logging.LogManager;
+import java.util.stream.Stream;
 
 /**
  * Base class for the other log functions, containing a getter to retrieve the correct logger, given a package name.
@@ -39,17 +47,41 @@ public abstract class AbstractLogFunction {
 
     protected static final BLogManager LOG_MANAGER = (BLogManager) LogManager.getLogManager();
 
+    private static final String LOG_API_PACKAGE = AbstractLogFunction.class.getPackage().getName() + ".";
+    private static final String LOG_MODULE_PATH = "ballerina/log";
+    private static final String THREAD_CLASS = Thread.class.getName();
+
     private static final Logger ballerinaRootLogger = LoggerFactory.getLogger(BLogManager.BALLERINA_ROOT_LOGGER_NAME);
 
+    private static final Map<String, Logger> MODULE_LOGGERS = new ConcurrentHashMap<>();
+
+    // Walks the call stack with java.lang.StackWalker, which is looked up reflectively so that the module still runs
+    // on Java 8. Null if StackWalker is not available.
+    private static final MethodHandle STACK_WALK = lookupStackWalk();
+    private static final MethodHandle FRAME_CLASS_NAME = lookupFrameClassName();
+
     protected static Logger getLogger(String pkg) {
         if (".".equals(pkg) || pkg == null) {
             return ballerinaRootLogger;
         } else {
-            // TODO: Refactor this later
-            return LoggerFactory.getLogger(ballerinaRootLogger.getName() + "." + pkg);
+            return MODULE_LOGGERS.computeIfAbsent(pkg,
+                    modulePath -> LoggerFactory.getLogger(ballerinaRootLogger.getName() + "." + modulePath));
         }
     }
 
+    /**
+     * Checks whether the given log level is enabled for the module, which is resolved only if module log levels
+     * are configured.
+     *
+     * @param logLevel log level
+     * @param pckg     supplier of the module path
+     * @return true if the log level is enabled
+     */
+    static boolean isLogLevelEnabled(BLogLevel logLevel, Supplier<String> pckg) {
+        String pkg = LOG_MANAGER.isModuleLogLevelEnabled() ? pckg.get() : ".";
+        return LOG_MANAGER.getPackageLogLevel(pkg).value() <= logLevel.value();
+    }
+
     /**
      * Execute logging provided message.
      *
@@ -77,16 +109,95 @@ public abstract class AbstractLogFunction {
                 return msg;
             }
         };
-        consumer.accept(pckg, logMessage.get());
+        if (isLoggerEnabled(getLogger(pckg), logLevel)) {
+            consumer.accept(pckg, logMessage.get());
+        }
         ObserveUtils.logMessageToActiveSpan(strand, logLevel.name(), logMessage, logLevel == BLogLevel.ERROR);
     }
 
+    private static boolean isLoggerEnabled(Logger logger, BLogLevel logLevel) {
+        switch (logLevel) {
+            case ERROR:
+                return logger.isErrorEnabled();
+            case WARN:
+                return logger.isWarnEnabled();
+            case INFO:
+                return logger.isInfoEnabled();
+            case DEBUG:
+                return logger.isDebugEnabled();
+            case TRACE:
+                return logger.isTraceEnabled();
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Returns the path of the Ballerina module which called the log function, i.e. the first caller outside this
+     * package and the log module itself. The stack is walked lazily with {@code StackWalker} where it is available,
+     * so only the frames up to the caller are materialized.
+     *
+     * @return module path of the caller
+     */
     static String getPackagePath() {
-        String className = Thread.currentThread().getStackTrace()[4].getClassName();
+        if (STACK_WALK == null) {
+            for (StackTraceElement element : Thread.currentThread().getStackTrace()) {
+                String modulePath = getCallerModulePath(element.getClassName());
+                if (modulePath != null) {
+                    return modulePath;
+                }
+            }
+            return ".";
+        }
+        Function<Stream<?>, String> callerFinder = frames -> frames
+                .map(AbstractLogFunction::getFrameClassName)
+                .map(AbstractLogFunction::getCallerModulePath)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(".");
+        try {
+            return (String) STACK_WALK.invoke(callerFinder);
+        } catch (Throwable e) {
+            return ".";
+        }
+    }
+
+    private static String getCallerModulePath(String className) {
+        if (className.startsWith(LOG_API_PACKAGE) || className.startsWith(THREAD_CLASS)) {
+            return null;
+        }
         String[] pkgData = className.split("\\.");
-        if (pkgData.length > 1) {
-            return pkgData[0] + "/" + pkgData[1];
+        String modulePath = pkgData.length > 1 ? pkgData[0] + "/" + pkgData[1] : ".";
+        return LOG_MODULE_PATH.equals(modulePath) ? null : modulePath;
+    }
+
+    private static String getFrameClassName(Object frame) {
+        try {
+            return (String) FRAME_CLASS_NAME.invoke(frame);
+        } catch (Throwable e) {
+            return THREAD_CLASS;
+        }
+    }
+
+    private static MethodHandle lookupStackWalk() {
+        try {
+            Class<?> stackWalkerClass = Class.forName("java.lang.StackWalker");
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Object stackWalker = lookup.findStatic(stackWalkerClass, "getInstance",
+                    MethodType.methodType(stackWalkerClass)).invoke();
+            return lookup.findVirtual(stackWalkerClass, "walk", MethodType.methodType(Object.class, Function.class))
+                    .bindTo(stackWalker);
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle lookupFrameClassName() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(Class.forName("java.lang.StackWalker$StackFrame"),
+                    "getClassName", MethodType.methodType(String.class));
+        } catch (Throwable e) {
+            return null;
         }
-        return ".";
     }
 }
@@ -21,6 +21,8 @@ package org.ballerinalang.stdlib.log;
 import org.ballerinalang.jvm.scheduling.Scheduler;
 import org.ballerinalang.logging.util.BLogLevel;
 
+import java.util.function.Supplier;
+
 /**
  * Native function implementations of the log-api module.
  *
@@ -29,78 +31,69 @@ import org.ballerinalang.logging.util.BLogLevel;
 public class Utils extends AbstractLogFunction {
 
     public static void printDebug(Object msg) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.DEBUG.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.DEBUG.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.DEBUG, getPackagePath(),
-                    (pkg, message) -> {
-                        getLogger(pkg).debug(message);
+        ModulePath pkg = new ModulePath();
+        if (isLogLevelEnabled(BLogLevel.DEBUG, pkg)) {
+            logMessage(Scheduler.getStrand(), msg, BLogLevel.DEBUG, pkg.get(),
+                    (module, message) -> {
+                        getLogger(module).debug(message);
                     });
         }
     }
 
     public static void printError(Object msg, Object err) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.ERROR.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.ERROR.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.ERROR, getPackagePath(),
-                    (pkg, message) -> {
+        ModulePath pkg = new ModulePath();
+        if (isLogLevelEnabled(BLogLevel.ERROR, pkg)) {
+            logMessage(Scheduler.getStrand(), msg, BLogLevel.ERROR, pkg.get(),
+                    (module, message) -> {
                         String errorMsg = (err == null) ? "" : " : " + err.toString();
-                        getLogger(pkg).error(message + errorMsg);
+                        getLogger(module).error(message + errorMsg);
                     });
         }
     }
 
     public static void printInfo(Object msg) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.INFO.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.INFO.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.INFO, getPackagePath(),
-                    (pkg, message) -> {
-                        getLogger(pkg).info(message);
+        ModulePath pkg = new ModulePath();
+        if (isLogLevelEnabled(BLogLevel.INFO, pkg)) {
+            logMessage(Scheduler.getStrand(), msg, BLogLevel.INFO, pkg.get(),
+                    (module, message) -> {
+                        getLogger(module).info(message);
                     });
         }
     }
 
     public static void printTrace(Object msg) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.TRACE.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.TRACE.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.TRACE, getPackagePath(),
-                    (pkg, message) -> {
-                        getLogger(pkg).trace(message);
+        ModulePath pkg = new ModulePath();
+        if (isLogLevelEnabled(BLogLevel.TRACE, pkg)) {
+            logMessage(Scheduler.getStrand(), msg, BLogLevel.TRACE, pkg.get(),
+                    (module, message) -> {
+                        getLogger(module).trace(message);
                     });
         }
     }
 
     public static void printWarn(Object msg) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.WARN.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.WARN.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.WARN, getPackagePath(),
-                    (pkg, message) -> {
-                        getLogger(pkg).warn(message);
+        ModulePath pkg = new ModulePath();
+        if (isLogLevelEnabled(BLogLevel.WARN, pkg)) {
+            logMessage(Scheduler.getStrand(), msg, BLogLevel.WARN, pkg.get(),
+                    (module, message) -> {
+                        getLogger(module).warn(message);
                     });
         }
     }
+
+    /**
+     * Resolves the module path of the caller at most once per log call.
+     */
+    private static class ModulePath implements Supplier<String> {
+
+        private String path;
+
+        @Override
+        public String get() {
+            if (path == null) {
+                path = getPackagePath();
+            }
+            return path;
+        }
+    }
 }
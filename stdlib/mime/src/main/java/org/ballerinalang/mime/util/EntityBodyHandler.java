@@ -21,6 +21,7 @@ package org.ballerinalang.mime.util;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import org.ballerinalang.jvm.BallerinaErrors;
 import org.ballerinalang.jvm.BallerinaValues;
+import org.ballerinalang.jvm.JSONByteParser;
 import org.ballerinalang.jvm.JSONParser;
 import org.ballerinalang.jvm.StringUtils;
 import org.ballerinalang.jvm.XMLFactory;
@@ -44,7 +45,9 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
@@ -54,6 +57,7 @@ import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.BiFunction;
 
 import static org.ballerinalang.mime.util.MimeConstants.BODY_PARTS;
 import static org.ballerinalang.mime.util.MimeConstants.CHARSET;
@@ -210,20 +214,69 @@ public class EntityBodyHandler {
      */
     public static Object constructJsonDataSource(ObjectValue entity, InputStream inputStream) {
         Object jsonData;
-        String contentTypeValue = HeaderUtil.getHeaderValue(entity, HttpHeaderNames.CONTENT_TYPE.toString());
-        if (isNotNullAndEmpty(contentTypeValue)) {
-            String charsetValue = MimeUtil.getContentTypeParamValue(contentTypeValue, CHARSET);
-            if (isNotNullAndEmpty(charsetValue)) {
-                jsonData = JSONParser.parse(inputStream, charsetValue);
-            } else {
-                jsonData = JSONParser.parse(inputStream);
-            }
+        String charsetValue = getCharset(entity);
+        if (isUtf8(charsetValue)) {
+            jsonData = JSONByteParser.parse(ByteBuffer.wrap(readBytes(inputStream)));
+        } else if (isNotNullAndEmpty(charsetValue)) {
+            jsonData = JSONParser.parse(inputStream, charsetValue);
         } else {
             jsonData = JSONParser.parse(inputStream);
         }
         return jsonData;
     }
 
+    /**
+     * Construct a value of the given type from the JSON content of the underneath byte channel which is associated
+     * with the entity object. UTF-8 content is bound directly to the target type without building the intermediate
+     * json. The raw content is kept as the message data source of the entity, so that it can be read again.
+     *
+     * @param entityObj  Represent an entity object
+     * @param targetType Represent the type to bind the content to
+     * @param converter  Function which converts a json value to the target type, used when the content cannot be
+     *                   bound directly
+     * @return the value of the target type or the result of the converter
+     */
+    public static Object constructJsonDataSource(ObjectValue entityObj, BType targetType,
+                                                 BiFunction<BType, Object, Object> converter) {
+        String charsetValue = getCharset(entityObj);
+        if (!isUtf8(charsetValue)) {
+            Object jsonData = constructJsonDataSource(entityObj);
+            addJsonMessageDataSource(entityObj, jsonData);
+            return converter.apply(targetType, jsonData);
+        }
+        byte[] content;
+        try {
+            content = constructBlobDataSource(entityObj).getBytes();
+        } catch (IOException e) {
+            throw BallerinaErrors.createError(e.getMessage());
+        }
+        addMessageDataSource(entityObj, new ArrayValueImpl(content));
+        return JSONByteParser.parse(ByteBuffer.wrap(content), targetType, converter);
+    }
+
+    private static String getCharset(ObjectValue entity) {
+        String contentTypeValue = HeaderUtil.getHeaderValue(entity, HttpHeaderNames.CONTENT_TYPE.toString());
+        if (isNotNullAndEmpty(contentTypeValue)) {
+            return MimeUtil.getContentTypeParamValue(contentTypeValue, CHARSET);
+        }
+        return null;
+    }
+
+    private static boolean isUtf8(String charsetValue) {
+        if (isNotNullAndEmpty(charsetValue)) {
+            return StandardCharsets.UTF_8.name().equalsIgnoreCase(charsetValue);
+        }
+        return StandardCharsets.UTF_8.equals(Charset.defaultCharset());
+    }
+
+    private static byte[] readBytes(InputStream inputStream) {
+        try {
+            return MimeUtil.getByteArray(inputStream);
+        } catch (IOException e) {
+            throw BallerinaErrors.createError("Error in parsing JSON data: " + e.getMessage());
+        }
+    }
+
     /**
      * Construct XML data source from the underneath byte channel which is associated with the entity object.
      *
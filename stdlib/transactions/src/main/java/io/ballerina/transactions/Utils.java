@@ -110,7 +110,7 @@ public class Utils {
         // Register committed and aborted function handler if exists.
         TransactionResourceManager transactionResourceManager = TransactionResourceManager.getInstance();
         transactionResourceManager.registerParticipation(transactionLocalContext.getGlobalTransactionId(),
-                transactionBlockId.getValue(), fpCommitted, fpAborted, strand);
+                transactionBlockId.getValue(), fpCommitted, fpAborted, strand, true);
         MapValue<BString, Object> trxContext = BallerinaValues.createRecordValue(TRANSACTION_PACKAGE_ID,
                                                                                  STRUCT_TYPE_TRANSACTION_CONTEXT);
         Object[] trxContextData = new Object[] {
@@ -47,4 +47,13 @@ public class ModuleTest {
         BInteger calculatedValue = (BInteger) result[0];
         Assert.assertEquals(calculatedValue.intValue(), 12);
     }
+
+    @Test(description = "Test modules with a diamond shaped dependency graph, whose code is generated in parallel")
+    public void testModuleDependencyGraph() {
+        CompileResult result = BCompileUtil.compile("test-src/jvm/ModuleDependencyProject", "app");
+        Assert.assertEquals(result.getErrorCount(), 0);
+        BValue[] returns = BRunUtil.invoke(result, "testDiamondImports", new BValue[] { new BInteger(2) });
+        Assert.assertTrue(returns[0] instanceof BInteger);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 12);
+    }
 }
@@ -276,6 +276,12 @@ public class LocksInMainTest {
         BValue[] returns = BRunUtil.invoke(parallelCompileResult, "testLockWIthInvokableRecursiveAccessGlobal");
     }
 
+    @Test(description = "Test for lock statements which only read global variables running along with writers")
+    public void testReadOnlyLocksWithWriters() {
+        BValue[] returns = BRunUtil.invoke(parallelCompileResult, "testReadOnlyLocksWithWriters");
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
     @Test(description = "Test for parallel run when invocations are imported and contains global var dependencies")
     public void testParallelRunWithImportInvocationDependencies() {
         CompileResult importInvocationDependencies = BCompileUtil.compile("test-src/lock/locks-in-imports-test",
@@ -139,6 +139,51 @@ public class JoinClauseTest {
         Assert.assertEquals(deptPerson2.get("dept").stringValue(), "Eng");
     }
 
+    @Test(description = "Test equi join clause with multiple matches for a key")
+    public void testJoinClauseWithDuplicateKeys() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithDuplicateKeys");
+        Assert.assertNotNull(values);
+
+        Assert.assertEquals(values.length, 5, "Expected events are not received");
+
+        Assert.assertEquals(((BMap<String, BValue>) values[0]).get("dept").stringValue(), "HR");
+        Assert.assertEquals(((BMap<String, BValue>) values[1]).get("dept").stringValue(), "Finance");
+        Assert.assertEquals(((BMap<String, BValue>) values[2]).get("fname").stringValue(), "Ranjan");
+        Assert.assertEquals(((BMap<String, BValue>) values[2]).get("dept").stringValue(), "Operations");
+        Assert.assertEquals(((BMap<String, BValue>) values[3]).get("fname").stringValue(), "John");
+        Assert.assertEquals(((BMap<String, BValue>) values[3]).get("dept").stringValue(), "HR");
+        Assert.assertEquals(((BMap<String, BValue>) values[4]).get("dept").stringValue(), "Finance");
+    }
+
+    @Test(description = "Test equi join clause with string keys")
+    public void testJoinClauseWithStringKeys() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithStringKeys");
+        Assert.assertNotNull(values);
+
+        Assert.assertEquals(values.length, 1, "Expected events are not received");
+
+        BMap<String, BValue> deptPerson = (BMap<String, BValue>) values[0];
+        Assert.assertEquals(deptPerson.get("fname").stringValue(), "Alex");
+        Assert.assertEquals(deptPerson.get("lname").stringValue(), "George");
+        Assert.assertEquals(deptPerson.get("dept").stringValue(), "Alex");
+    }
+
+    @Test(description = "Test equi join clause on the key field of a table")
+    public void testJoinClauseWithKeyedTable() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithKeyedTable");
+        Assert.assertNotNull(values);
+
+        Assert.assertEquals(values.length, 2, "Expected events are not received");
+
+        BMap<String, BValue> deptPerson1 = (BMap<String, BValue>) values[0];
+        BMap<String, BValue> deptPerson2 = (BMap<String, BValue>) values[1];
+
+        Assert.assertEquals(deptPerson1.get("fname").stringValue(), "Alex");
+        Assert.assertEquals(deptPerson1.get("dept").stringValue(), "HR");
+        Assert.assertEquals(deptPerson2.get("fname").stringValue(), "Ranjan");
+        Assert.assertEquals(deptPerson2.get("dept").stringValue(), "Operations");
+    }
+
     @Test(description = "Test negative scenarios for query expr with join clause")
     public void testNegativeScenarios() {
         Assert.assertEquals(negativeResult.getErrorCount(), 3);
@@ -333,4 +333,22 @@ public class ClosedRecordIterationTest {
         Assert.assertEquals(((BInteger) grades.get("physics")).intValue(), 75);
         Assert.assertEquals(((BInteger) grades.get("chemistry")).intValue(), 65);
     }
+
+    @Test(description = "Test case for iterating a closed record with many primitive typed fields")
+    public void testIterationOnWideClosedRecord() {
+        BValue[] returns = BRunUtil.invoke(result, "testIterationOnWideClosedRecord");
+        String[] expectedFields = new String[]{"id", "f1", "f2", "f3", "f4", "i1", "i2", "i3", "i4", "b1", "b2", "b3",
+                "b4", "name"};
+
+        BValueArray fields = (BValueArray) returns[0];
+        Assert.assertEquals(fields.size(), expectedFields.length);
+        for (int i = 0; i < fields.size(); i++) {
+            Assert.assertEquals(fields.getString(i), expectedFields[i]);
+        }
+
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 111);
+        Assert.assertEquals(((BFloat) returns[2]).floatValue(), 12.0);
+        Assert.assertEquals(((BInteger) returns[3]).intValue(), 2);
+        Assert.assertEquals(((BInteger) returns[4]).intValue(), expectedFields.length);
+    }
 }
@@ -17,6 +17,7 @@
 */
 package org.ballerinalang.test.types.xml;
 
+import org.ballerinalang.model.values.BBoolean;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.model.values.BXML;
@@ -203,6 +204,16 @@ public class XMLAccessTest {
         Assert.assertEquals(returns[6].stringValue(), "<fname>Kamal</fname><fname>Nimal</fname><fname>Sunil</fname>");
     }
 
+    @Test
+    public void testXMLNavigationOnReadOnlyXML() {
+        BValue[] returns = BRunUtil.invoke(navigation, "testXMLNavigationOnReadOnlyXML");
+        Assert.assertEquals(returns[0].stringValue(),
+                "<person><name>Kamal</name></person><person><name>Nimal</name></person>");
+        Assert.assertEquals(returns[1].stringValue(), "<name>Kamal</name><name>Nimal</name>");
+        Assert.assertEquals(returns[2].stringValue(), "<name>Kamal</name><name>Nimal</name>");
+        Assert.assertTrue(((BBoolean) returns[3]).booleanValue());
+    }
+
     @Test
     public void testXMLNavigationExpressionWithQuotedIdentifiers() {
         BValue[] returns = BRunUtil.invoke(navigation, "testXMLNavigationExpressionWithQuotedIdentifiers");
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.worker;
+
+import org.ballerinalang.model.values.BError;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tests for worker channels which are only used by async sends.
+ */
+public class AsyncChannelWorkerTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        this.result = BCompileUtil.compile("test-src/workers/async-channel-workers.bal");
+        Assert.assertEquals(result.getErrorCount(), 0, Arrays.asList(result.getDiagnostics()).toString());
+    }
+
+    @Test
+    public void testFanOutFanIn() {
+        BValue[] returns = BRunUtil.invoke(result, "testFanOutFanIn");
+        // Each invocation returns (i + i) + (2i + 2i) = 6i, for i in [0, 500).
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 6 * (499 * 500 / 2));
+    }
+
+    @Test
+    public void testMessageOrder() {
+        BValue[] returns = BRunUtil.invoke(result, "testMessageOrder");
+        Assert.assertEquals(returns[0].stringValue(), "abcd");
+    }
+
+    @Test
+    public void testReceiveAfterSenderPanic() {
+        BValue[] returns = BRunUtil.invoke(result, "testReceiveAfterSenderPanic");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 5);
+        Assert.assertEquals(((BError) returns[1]).getReason(), "err from panic");
+    }
+
+    @Test
+    public void testWorkersOutlivingCalls() {
+        BValue[] returns = BRunUtil.invoke(result, "testWorkersOutlivingCalls");
+        // Workers of earlier calls may still be running, so the receiver may be paired with the sender of another
+        // call. Both of its messages come from the same sender either way.
+        long sum = ((BInteger) returns[0]).intValue();
+        Assert.assertEquals(sum % 2, 0);
+        Assert.assertTrue(sum <= 1000, String.valueOf(sum));
+    }
+
+    @Test
+    public void testSyncSend() {
+        BValue[] returns = BRunUtil.invoke(result, "testSyncSend");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 7);
+    }
+
+    @Test
+    public void testSendToDefaultWorker() {
+        BValue[] returns = BRunUtil.invoke(result, "testSendToDefaultWorker");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 9);
+    }
+
+    @Test
+    public void testAsyncChannelSelection() {
+        BIRNode.BIRPackage birPackage = ((BLangPackage) result.getAST()).symbol.bir;
+        Map<String, Boolean> sends = new HashMap<>();
+        Map<String, Boolean> receives = new HashMap<>();
+        for (BIRNode.BIRFunction function : birPackage.functions) {
+            for (BIRNode.BIRBasicBlock basicBlock : function.basicBlocks) {
+                BIRTerminator terminator = basicBlock.terminator;
+                if (terminator != null && terminator.kind == InstructionKind.WK_SEND) {
+                    BIRTerminator.WorkerSend send = (BIRTerminator.WorkerSend) terminator;
+                    sends.put(send.channel.value, send.isAsyncOnly);
+                } else if (terminator != null && terminator.kind == InstructionKind.WK_RECEIVE) {
+                    BIRTerminator.WorkerReceive receive = (BIRTerminator.WorkerReceive) terminator;
+                    receives.put(receive.workerName.value, receive.isAsyncOnly);
+                }
+            }
+        }
+
+        for (String channel : new String[]{"splitter->left", "left->joiner", "w1->w2", "pairSender->pairReceiver"}) {
+            Assert.assertEquals(sends.get(channel), Boolean.TRUE, channel);
+            Assert.assertEquals(receives.get(channel), Boolean.TRUE, channel);
+        }
+        for (String channel : new String[]{"syncSender->syncReceiver", "toDefault->function"}) {
+            Assert.assertEquals(sends.get(channel), Boolean.FALSE, channel);
+            Assert.assertEquals(receives.get(channel), Boolean.FALSE, channel);
+        }
+    }
+}
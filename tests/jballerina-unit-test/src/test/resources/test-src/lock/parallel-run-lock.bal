@@ -194,3 +194,52 @@ function testLockWIthInvokableRecursiveAccessGlobal() {
         panic error("Invalid Value");
     }
 }
+
+int readX = 0;
+int readY = 0;
+
+function testReadOnlyLocksWithWriters() returns boolean {
+    @strand{thread:"any"}
+    worker w1 returns boolean {
+        int n = 0;
+        while (n < 1000) {
+            lock {
+                readX += 1;
+                readY += 1;
+            }
+            n += 1;
+        }
+        return true;
+    }
+
+    @strand{thread:"any"}
+    worker w2 returns boolean {
+        return readInLock();
+    }
+
+    @strand{thread:"any"}
+    worker w3 returns boolean {
+        return readInLock();
+    }
+
+    record {boolean w1; boolean w2; boolean w3;} results = wait {w1, w2, w3};
+    return results.w1 && results.w2 && results.w3 && readX == 1000 && readY == 1000;
+}
+
+function readInLock() returns boolean {
+    boolean consistent = true;
+    int n = 0;
+    while (n < 1000) {
+        int x = 0;
+        int y = 0;
+        lock {
+            x = readX;
+            y = readY;
+        }
+        if (x != y) {
+            consistent = false;
+        }
+        n += 1;
+    }
+    return consistent;
+}
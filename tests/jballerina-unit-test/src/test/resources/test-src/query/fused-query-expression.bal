@@ -0,0 +1,81 @@
+type Person record {|
+    string name;
+    int age;
+|};
+
+type Employee record {|
+    readonly int id;
+    string name;
+    float salary;
+|};
+
+function testListQueryWithLetAndWhereClauses() returns boolean {
+    int[] numbers = [1, 2, 3, 4, 5, 6, 7, 8, 9, 10];
+    int[] result = from var n in numbers
+                   let int square = n * n
+                   where square > 10
+                   where n % 2 == 0
+                   select square + 1;
+    return result == [17, 37, 65, 101];
+}
+
+function testMapQuery() returns boolean {
+    map<int> ages = {alice: 30, bob: 17, carol: 45};
+    int[] adults = from var age in ages
+                   where age >= 18
+                   select age;
+    return adults == [30, 45];
+}
+
+function testTableQuery() returns boolean {
+    table<Employee> employees = table key(id) [
+        {id: 1, name: "Anne", salary: 1200.0},
+        {id: 2, name: "Bob", salary: 800.0},
+        {id: 3, name: "Charles", salary: 1500.0}
+    ];
+    string[] names = from var employee in employees
+                     where employee.salary > 1000.0
+                     select employee.name;
+    return names == ["Anne", "Charles"];
+}
+
+function testQueryWithTypeNarrowingWhereClause() returns boolean {
+    (int|string)[] values = [1, "two", 3, "four"];
+    string[] strings = from var value in values
+                       where value is string
+                       select value.toUpperAscii();
+    return strings == ["TWO", "FOUR"];
+}
+
+function testQueryWithRecordSelect() returns boolean {
+    string[] names = ["Alex", "Ranjan"];
+    Person[] persons = from var name in names
+                       let int age = name.length() * 10
+                       select {name: name, age: age};
+    return persons == [{name: "Alex", age: 40}, {name: "Ranjan", age: 60}];
+}
+
+function testQueryWithBindingPattern() returns boolean {
+    [string, int][] entries = [["a", 1], ["b", 2], ["c", 3]];
+    string[] keys = from var [key, count] in entries
+                    where count != 2
+                    select key + count.toString();
+    return keys == ["a1", "c3"];
+}
+
+function testEmptyQueryResult() returns boolean {
+    int[] numbers = [1, 2, 3];
+    int[] result = from var n in numbers
+                   where n > 3
+                   select n;
+    return result.length() == 0;
+}
+
+function testQueryWithLimitClause() returns boolean {
+    int[] numbers = [1, 2, 3, 4, 5];
+    int[] result = from var n in numbers
+                   where n > 2
+                   select n
+                   limit 2;
+    return result == [3, 4];
+}
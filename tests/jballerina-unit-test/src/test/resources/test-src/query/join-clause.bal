@@ -15,6 +15,11 @@ type Person record {|
    string lname;
 |};
 
+type KeyedDepartment record {|
+   readonly int id;
+   string name;
+|};
+
 type DeptPersonValue record {|
     DeptPerson value;
 |};
@@ -203,3 +208,78 @@ function testSimpleOuterJoinClause() returns DeptPerson[]{
 
     return deptPersonList;
 }
+
+function testJoinClauseWithDuplicateKeys() returns DeptPerson[]{
+    Person p1 = {id: 1, fname: "Alex", lname: "George"};
+    Person p2 = {id: 2, fname: "Ranjan", lname: "Fonseka"};
+    Person p3 = {id: 1, fname: "John", lname: "David"};
+
+    Department d1 = {id: 1, name:"HR"};
+    Department d2 = {id: 2, name:"Operations"};
+    Department d3 = {id: 1, name:"Finance"};
+    Department d4 = {id: 3, name:"Eng"};
+
+    Person[] personList = [p1, p2, p3];
+    Department[] deptList = [d1, d2, d3, d4];
+
+    DeptPerson[] deptPersonList =
+       from var person in personList
+       join var dept in deptList
+       on dept.id equals person.id
+       select {
+           fname : person.fname,
+           lname : person.lname,
+           dept : dept.name
+       };
+
+    return deptPersonList;
+}
+
+function testJoinClauseWithStringKeys() returns DeptPerson[]{
+    Person p1 = {id: 1, fname: "Alex", lname: "George"};
+    Person p2 = {id: 2, fname: "Ranjan", lname: "Fonseka"};
+
+    Department d1 = {id: 1, name:"Alex"};
+    Department d2 = {id: 2, name:"Operations"};
+
+    Person[] personList = [p1, p2];
+    Department[] deptList = [d1, d2];
+
+    DeptPerson[] deptPersonList =
+       from var person in personList
+       join var dept in deptList
+       on person.fname equals dept.name
+       select {
+           fname : person.fname,
+           lname : person.lname,
+           dept : dept.name
+       };
+
+    return deptPersonList;
+}
+
+function testJoinClauseWithKeyedTable() returns DeptPerson[]{
+    Person p1 = {id: 1, fname: "Alex", lname: "George"};
+    Person p2 = {id: 2, fname: "Ranjan", lname: "Fonseka"};
+    Person p3 = {id: 4, fname: "John", lname: "David"};
+
+    table<KeyedDepartment> key(id) deptTable = table [
+        {id: 1, name:"HR"},
+        {id: 2, name:"Operations"},
+        {id: 3, name:"Eng"}
+    ];
+
+    Person[] personList = [p1, p2, p3];
+
+    DeptPerson[] deptPersonList =
+       from var person in personList
+       join var dept in deptTable
+       on person.id equals dept.id
+       select {
+           fname : person.fname,
+           lname : person.lname,
+           dept : dept.name
+       };
+
+    return deptPersonList;
+}
@@ -308,3 +308,39 @@ function testMutability() returns ClosedGrades {
 
     return grades;
 }
+
+type ClosedReading record {|
+    int id;
+    float f1 = 1.5;
+    float f2 = 2.5;
+    float f3 = 3.5;
+    float f4 = 4.5;
+    int i1 = 10;
+    int i2 = 20;
+    int i3 = 30;
+    int i4 = 40;
+    boolean b1 = true;
+    boolean b2 = false;
+    boolean b3 = true;
+    boolean b4 = false;
+    string name?;
+|};
+
+function testIterationOnWideClosedRecord() returns [string[], int, float, int, int] {
+    ClosedReading r = { id: 7, i4: 44, name: "sensor" };
+    string[] fields = r.keys();
+
+    int intTotal = 0;
+    float floatTotal = 0.0;
+    int trueCount = 0;
+    foreach var v in r {
+        if (v is int) {
+            intTotal += v;
+        } else if (v is float) {
+            floatTotal += v;
+        } else if (v is boolean && v) {
+            trueCount += 1;
+        }
+    }
+    return [fields, intTotal, floatTotal, trueCount, r.entries().length()];
+}
@@ -128,3 +128,12 @@ function testXMLNavigationExpressionWithQuotedIdentifiers() returns [xml, xml] {
 
     return [x/<'object>, x/<ns0:'object>];
 }
+
+function testXMLNavigationOnReadOnlyXML() returns [xml, xml, xml, boolean] {
+    xml x = xml `<root><person><name>Kamal</name></person><person><name>Nimal</name></person></root>`;
+    xml & readonly ro = x.cloneReadOnly();
+    xml children = ro/*;
+    xml names = ro/<person>/<name>;
+    xml descendants = ro/**/<name>;
+    return [children, names, descendants, children is readonly];
+}
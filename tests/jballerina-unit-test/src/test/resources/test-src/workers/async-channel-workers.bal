@@ -0,0 +1,153 @@
+// Channels between named workers in this file are async only, unless they are used by a sync send. Channels to or
+// from the default worker of a function are never async only.
+
+function fanOutFanIn(int seed) returns int {
+    @strand{thread:"any"}
+    worker splitter {
+        int a = seed;
+        int b = seed * 2;
+        a -> left;
+        b -> right;
+        a -> left;
+        b -> right;
+    }
+
+    @strand{thread:"any"}
+    worker left {
+        int x = <- splitter;
+        int y = <- splitter;
+        int sum = x + y;
+        sum -> joiner;
+    }
+
+    @strand{thread:"any"}
+    worker right {
+        int x = <- splitter;
+        int y = <- splitter;
+        int sum = x + y;
+        sum -> joiner;
+    }
+
+    @strand{thread:"any"}
+    worker joiner returns int {
+        int x = <- left;
+        int y = <- right;
+        return x + y;
+    }
+
+    return wait joiner;
+}
+
+function testFanOutFanIn() returns int {
+    int total = 0;
+    int i = 0;
+    while (i < 500) {
+        total = total + fanOutFanIn(i);
+        i = i + 1;
+    }
+    return total;
+}
+
+function testMessageOrder() returns string {
+    @strand{thread:"any"}
+    worker w1 {
+        string a = "a";
+        string b = "b";
+        string c = "c";
+        string d = "d";
+        a -> w2;
+        b -> w2;
+        c -> w2;
+        d -> w2;
+    }
+
+    @strand{thread:"any"}
+    worker w2 returns string {
+        string s1 = <- w1;
+        string s2 = <- w1;
+        string s3 = <- w1;
+        string s4 = <- w1;
+        return s1 + s2 + s3 + s4;
+    }
+
+    return wait w2;
+}
+
+function testReceiveAfterSenderPanic() returns [int, error|int] {
+    @strand{thread:"any"}
+    worker w1 {
+        int i = 5;
+        i -> w2;
+        if (true) {
+            error err = error("err from panic");
+            panic err;
+        }
+        i -> w2;
+    }
+
+    @strand{thread:"any"}
+    worker w2 returns [int, error|int] {
+        int first = <- w1;
+        error|int second = trap <- w1;
+        return [first, second];
+    }
+
+    return wait w2;
+}
+
+function sumWithUnwaitedWorkers(int seed, boolean waitForResult) returns int {
+    @strand{thread:"any"}
+    worker pairSender {
+        int a = seed;
+        a -> pairReceiver;
+        a -> pairReceiver;
+    }
+
+    @strand{thread:"any"}
+    worker pairReceiver returns int {
+        int x = <- pairSender;
+        int y = <- pairSender;
+        return x + y;
+    }
+
+    if (waitForResult) {
+        return wait pairReceiver;
+    }
+    return 0;
+}
+
+function testWorkersOutlivingCalls() returns int {
+    int i = 0;
+    while (i < 500) {
+        int ignored = sumWithUnwaitedWorkers(i, false);
+        i = i + 1;
+    }
+    return sumWithUnwaitedWorkers(500, true);
+}
+
+function testSyncSend() returns int {
+    @strand{thread:"any"}
+    worker syncSender {
+        int a = 7;
+        error? result = a ->> syncReceiver;
+    }
+
+    @strand{thread:"any"}
+    worker syncReceiver returns int {
+        int x = <- syncSender;
+        return x;
+    }
+
+    return wait syncReceiver;
+}
+
+function testSendToDefaultWorker() returns int {
+    @strand{thread:"any"}
+    worker toDefault {
+        int a = 9;
+        a -> function;
+    }
+
+    int x = <- toDefault;
+    return x;
+}